@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -131,8 +132,12 @@ public final class MessageEndpointInvocationHandler
 
         } else { //the rest are considered methods for message delivery
 
+            // Messages delivered between beforeDelivery and afterDelivery
+            // are a batch sharing the invocation and transaction.
+            final boolean bracketed = beforeDeliveryCalled;
+
             //RA did not call beforeDelivery, handle it here
-            if (!beforeDeliveryCalled) {
+            if (!bracketed) {
                 JavaEETransactionManager txManager =
                         ConnectorRuntime.getRuntime().getTransactionManager();
                 boolean txImported = (txManager.getTransaction() != null);
@@ -162,10 +167,9 @@ public final class MessageEndpointInvocationHandler
                 //assume that if the RA didn't call beforeDelivery, it
                 //would not call afterDelivery.  o.w. it will be hard to
                 //to determine when to pair the afterDelivery call.
-                if (!beforeDeliveryCalled) {
+                if (!bracketed) {
                     listener_.afterMessageDelivery();
                 }
-                beforeDeliveryCalled = false;
             }
         }
         return returnValue;
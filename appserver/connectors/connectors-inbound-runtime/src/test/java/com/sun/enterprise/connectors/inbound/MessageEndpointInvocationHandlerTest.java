@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.enterprise.connectors.inbound;
+
+import com.sun.appserv.connectors.internal.api.ResourceHandle;
+import com.sun.enterprise.deployment.runtime.BeanPoolDescriptor;
+
+import jakarta.resource.spi.endpoint.MessageEndpoint;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.glassfish.ejb.api.MessageBeanListener;
+import org.glassfish.ejb.api.MessageBeanProtocolManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MessageEndpointInvocationHandlerTest {
+
+    private static final Method BEFORE_DELIVERY;
+    private static final Method AFTER_DELIVERY;
+    private static final Method ON_MESSAGE;
+    static {
+        try {
+            BEFORE_DELIVERY = MessageEndpoint.class.getMethod("beforeDelivery", Method.class);
+            AFTER_DELIVERY = MessageEndpoint.class.getMethod("afterDelivery");
+            ON_MESSAGE = Listener.class.getMethod("onMessage", String.class);
+        } catch (NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final List<String> events = new ArrayList<>();
+    private MessageEndpointInvocationHandler handler;
+
+    @BeforeEach
+    public void createHandler() {
+        handler = new MessageEndpointInvocationHandler(new RecordingListener(), new ProtocolManager());
+    }
+
+    @Test
+    public void bracketedBatchSharesTheDelivery() throws Throwable {
+        handler.invoke(null, BEFORE_DELIVERY, new Object[] {ON_MESSAGE});
+        assertEquals("a", handler.invoke(null, ON_MESSAGE, new Object[] {"a"}));
+        assertEquals("b", handler.invoke(null, ON_MESSAGE, new Object[] {"b"}));
+        assertEquals("c", handler.invoke(null, ON_MESSAGE, new Object[] {"c"}));
+        handler.invoke(null, AFTER_DELIVERY, null);
+
+        assertEquals(List.of("before onMessage", "deliver a", "deliver b", "deliver c", "after"), events);
+    }
+
+    @Test
+    public void everyBracketIsANewDelivery() throws Throwable {
+        for (String message : List.of("a", "b")) {
+            handler.invoke(null, BEFORE_DELIVERY, new Object[] {ON_MESSAGE});
+            handler.invoke(null, ON_MESSAGE, new Object[] {message});
+            handler.invoke(null, AFTER_DELIVERY, null);
+        }
+
+        assertEquals(List.of("before onMessage", "deliver a", "after", "before onMessage", "deliver b", "after"), events);
+    }
+
+    @Test
+    public void failedMessageDoesNotEndTheBatch() throws Throwable {
+        handler.invoke(null, BEFORE_DELIVERY, new Object[] {ON_MESSAGE});
+        assertThrows(IllegalStateException.class, () -> handler.invoke(null, ON_MESSAGE, new Object[] {"fail"}));
+        handler.invoke(null, ON_MESSAGE, new Object[] {"b"});
+        handler.invoke(null, AFTER_DELIVERY, null);
+
+        assertEquals(List.of("before onMessage", "deliver fail", "deliver b", "after"), events);
+    }
+
+    public interface Listener {
+        String onMessage(String message);
+    }
+
+    private class RecordingListener implements MessageBeanListener {
+
+        @Override
+        public void beforeMessageDelivery(Method method, boolean txImported) {
+            events.add("before " + method.getName());
+        }
+
+        @Override
+        public Object deliverMessage(Object[] params) throws Throwable {
+            events.add("deliver " + params[0]);
+            if ("fail".equals(params[0])) {
+                throw new IllegalStateException("fail");
+            }
+            return params[0];
+        }
+
+        @Override
+        public void afterMessageDelivery() {
+            events.add("after");
+        }
+
+        @Override
+        public ResourceHandle getResourceHandle() {
+            return null;
+        }
+
+        @Override
+        public void setResourceHandle(ResourceHandle handle) {
+        }
+    }
+
+    private static class ProtocolManager implements MessageBeanProtocolManager {
+
+        @Override
+        public MessageBeanListener createMessageBeanListener(ResourceHandle resourceHandle) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void destroyMessageBeanListener(MessageBeanListener listener) {
+        }
+
+        @Override
+        public Object createMessageBeanProxy(InvocationHandler handler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isDeliveryTransacted(Method method) {
+            return false;
+        }
+
+        @Override
+        public BeanPoolDescriptor getPoolDescriptor() {
+            return null;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -29,6 +29,7 @@ import jakarta.resource.spi.LazyEnlistableManagedConnection;
 import jakarta.resource.spi.ManagedConnection;
 import jakarta.transaction.Transaction;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -145,6 +146,12 @@ public class ResourceHandle implements com.sun.appserv.connectors.internal.api.R
      */
     private int rwLockDataStructureResourceIndex;
 
+    /**
+     * State of this ResourceHandle in the LockFreeDataStructure. LockFreeDataStructure uses compare-and-set on this
+     * value to claim and release the resource without locking.
+     */
+    private final AtomicInteger lockFreeDataStructureState = new AtomicInteger();
+
     /**
      * Value isDestroyByLeakTimeOut is set to true if ConnectionPool reclaimConnection logic was called when a potential
      * leak was found. The value is used when a resource is freed or closed by the poolLifeCycleListener to update
@@ -374,6 +381,18 @@ public class ResourceHandle implements com.sun.appserv.connectors.internal.api.R
         this.rwLockDataStructureResourceIndex = rwLockDataStructureResourceIndex;
     }
 
+    public int getLockFreeDataStructureState() {
+        return lockFreeDataStructureState.get();
+    }
+
+    public void setLockFreeDataStructureState(int lockFreeDataStructureState) {
+        this.lockFreeDataStructureState.set(lockFreeDataStructureState);
+    }
+
+    public boolean compareAndSetLockFreeDataStructureState(int expectedState, int newState) {
+        return lockFreeDataStructureState.compareAndSet(expectedState, newState);
+    }
+
     @Override
     public String getName() {
         return resourceSpec.getResourceId();
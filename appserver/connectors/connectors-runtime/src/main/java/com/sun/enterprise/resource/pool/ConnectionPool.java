@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -472,23 +472,19 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
                 waitForReconfiguration();
             }
             // add to wait-queue
-            final Object waitMonitor = new Object();
             if (poolLifeCycleListener != null) {
                 poolLifeCycleListener.connectionRequestQueued();
             }
-            synchronized (waitMonitor) {
-                waitQueue.addToQueue(waitMonitor);
-                try {
-                    LOG.log(TRACE, "Getting on wait queue");
-                    waitMonitor.wait(remainingTime);
-                } catch (InterruptedException e) {
-                    LOG.log(TRACE, "Waiting interrupted.", e);
-                    Thread.currentThread().interrupt();
-                } finally {
-                    LOG.log(TRACE, "Removing wait monitor from queue: {0}", waitMonitor);
-                    if (waitQueue.removeFromQueue(waitMonitor) && poolLifeCycleListener != null) {
-                        poolLifeCycleListener.connectionRequestDequeued();
-                    }
+            try {
+                LOG.log(TRACE, "Getting on wait queue");
+                waitQueue.await(remainingTime);
+            } catch (InterruptedException e) {
+                LOG.log(TRACE, "Waiting interrupted.", e);
+                Thread.currentThread().interrupt();
+            } finally {
+                LOG.log(TRACE, "Left the wait queue");
+                if (poolLifeCycleListener != null) {
+                    poolLifeCycleListener.connectionRequestDequeued();
                 }
             }
         }
@@ -1406,22 +1402,8 @@ public class ConnectionPool implements ResourcePool, ConnectionLeakListener, Res
 
     protected void notifyWaitingThreads() {
         // notify the first thread in the waitQueue
-        Object waitMonitor = null;
-        synchronized (waitQueue) {
-            if (waitQueue.getQueueLength() > 0) {
-                waitMonitor = waitQueue.remove();
-                if (poolLifeCycleListener != null) {
-                    poolLifeCycleListener.connectionRequestDequeued();
-                }
-            }
-        }
-        if (waitMonitor == null) {
-            LOG.log(DEBUG, "Wait monitor is null");
-        } else {
-            synchronized (waitMonitor) {
-                LOG.log(DEBUG, "Notifying wait monitor: {0}", waitMonitor);
-                waitMonitor.notifyAll();
-            }
+        if (!waitQueue.signalFirst()) {
+            LOG.log(DEBUG, "No thread is waiting in the wait queue");
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -45,6 +45,8 @@ public class DataStructureFactory {
                 dataStructure = new ListDataStructure(parameters, maxPoolSize, handler);
             } else if (className.equals(RWLockDataStructure.class.getName())) {
                 dataStructure = new RWLockDataStructure(parameters, maxPoolSize, handler);
+            } else if (className.equals(LockFreeDataStructure.class.getName())) {
+                dataStructure = new LockFreeDataStructure(parameters, maxPoolSize, handler);
             } else {
                 dataStructure = initializeCustomDataStructureInPrivilegedMode(className, parameters, maxPoolSize, handler);
             }
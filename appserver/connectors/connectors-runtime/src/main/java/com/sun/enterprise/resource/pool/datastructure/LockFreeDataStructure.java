@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.resource.pool.datastructure;
+
+import com.sun.appserv.connectors.internal.api.PoolingException;
+import com.sun.enterprise.resource.ResourceHandle;
+import com.sun.enterprise.resource.allocator.ResourceAllocator;
+import com.sun.enterprise.resource.pool.ResourceHandler;
+import com.sun.logging.LogDomains;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Lock-free datastructure for pool, intended for pools accessed by a high number of concurrent threads.
+ * <p>
+ * The free/used state of every resource is kept in the {@link ResourceHandle} itself and is changed only
+ * by compare-and-set, so the resource is owned by the thread which won the CAS, wherever it found it.
+ * Free resources are found in this order:
+ * <ol>
+ * <li>the local slots of the stripe the current thread maps to - resources returned recently
+ * by threads of the same stripe,
+ * <li>the shared queue of returned resources which did not fit to the local slots,
+ * <li>a scan of all resources, which steals free resources parked in slots of other stripes.
+ * </ol>
+ * References in the slots and in the queue are just hints, the state of the handle is the only truth.
+ * Stale references are dropped when they are found.
+ */
+public class LockFreeDataStructure implements DataStructure {
+
+    private static final Logger LOG = LogDomains.getLogger(LockFreeDataStructure.class, LogDomains.RSR_LOGGER);
+
+    static final int STATE_FREE = 0;
+    static final int STATE_IN_USE = 1;
+    static final int STATE_REMOVED = 2;
+
+    private static final int SLOTS_PER_STRIPE = 4;
+
+    private final DataStructureSemaphore availableResources;
+    private final ResourceHandler handler;
+
+    private final CopyOnWriteArrayList<ResourceHandle> resources = new CopyOnWriteArrayList<>();
+    private final ConcurrentLinkedQueue<ResourceHandle> sharedQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicReferenceArray<ResourceHandle> localSlots;
+    private final int stripeMask;
+    private final AtomicInteger freeCount = new AtomicInteger();
+
+    private volatile int maxSize;
+
+    public LockFreeDataStructure(String parameters, int maxSize, ResourceHandler handler) {
+        this.availableResources = new DataStructureSemaphore(maxSize);
+        this.handler = handler;
+        this.maxSize = maxSize;
+
+        int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        this.stripeMask = stripes - 1;
+        this.localSlots = new AtomicReferenceArray<>(stripes * SLOTS_PER_STRIPE);
+
+        LOG.log(Level.FINEST, "Initialized LockFreeDataStructure with {0} stripes", stripes);
+    }
+
+    @Override
+    public int addResource(ResourceAllocator allocator, int count) throws PoolingException {
+        int numResAdded = 0;
+        for (int i = 0; i < count; i++) {
+            if (!availableResources.tryAcquire()) {
+                break;
+            }
+
+            ResourceHandle resource;
+            try {
+                resource = handler.createResource(allocator);
+            } catch (Exception e) {
+                availableResources.release();
+                throw new PoolingException(e.getMessage(), e);
+            }
+
+            resource.setLockFreeDataStructureState(STATE_FREE);
+            resources.add(resource);
+            freeCount.incrementAndGet();
+            sharedQueue.offer(resource);
+            numResAdded++;
+        }
+        return numResAdded;
+    }
+
+    @Override
+    public ResourceHandle getResource() {
+        if (freeCount.get() <= 0) {
+            return null;
+        }
+
+        int firstSlot = getFirstSlotOfStripe();
+        for (int i = firstSlot; i < firstSlot + SLOTS_PER_STRIPE; i++) {
+            ResourceHandle resource = localSlots.getAndSet(i, null);
+            if (resource != null && claim(resource)) {
+                return resource;
+            }
+        }
+
+        ResourceHandle queued;
+        while ((queued = sharedQueue.poll()) != null) {
+            if (claim(queued)) {
+                return queued;
+            }
+        }
+
+        // Steal a resource parked in a slot of another stripe. The iterators work on
+        // the current array of the list, so no snapshot has to be copied. Threads
+        // start at different positions so that they do not all race for the same resource.
+        int size = resources.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = (int) (Thread.currentThread().threadId() % size);
+        int index = 0;
+        for (ResourceHandle resource : resources) {
+            if (index++ >= start && claimFree(resource)) {
+                return resource;
+            }
+        }
+        index = 0;
+        for (ResourceHandle resource : resources) {
+            if (index++ >= start) {
+                break;
+            }
+            if (claimFree(resource)) {
+                return resource;
+            }
+        }
+        return null;
+    }
+
+    private boolean claimFree(ResourceHandle resource) {
+        return resource.getLockFreeDataStructureState() == STATE_FREE && claim(resource);
+    }
+
+    @Override
+    public void removeResource(ResourceHandle resource) {
+        int state = resource.getLockFreeDataStructureState();
+        while (state != STATE_REMOVED) {
+            if (resource.compareAndSetLockFreeDataStructureState(state, STATE_REMOVED)) {
+                break;
+            }
+            state = resource.getLockFreeDataStructureState();
+        }
+        if (state == STATE_REMOVED || !resources.remove(resource)) {
+            return;
+        }
+
+        if (state == STATE_FREE) {
+            freeCount.decrementAndGet();
+        }
+        availableResources.release();
+        handler.deleteResource(resource);
+    }
+
+    @Override
+    public void returnResource(ResourceHandle resource) {
+        if (!resource.compareAndSetLockFreeDataStructureState(STATE_IN_USE, STATE_FREE)) {
+            return;
+        }
+        freeCount.incrementAndGet();
+
+        int firstSlot = getFirstSlotOfStripe();
+        for (int i = firstSlot; i < firstSlot + SLOTS_PER_STRIPE; i++) {
+            if (localSlots.get(i) == null && localSlots.compareAndSet(i, null, resource)) {
+                return;
+            }
+        }
+        sharedQueue.offer(resource);
+    }
+
+    @Override
+    public int getFreeListSize() {
+        return Math.max(0, freeCount.get());
+    }
+
+    @Override
+    public void removeAll() {
+        List<ResourceHandle> resourcesToRemove = new ArrayList<>(resources);
+        for (ResourceHandle resource : resourcesToRemove) {
+            removeResource(resource);
+        }
+        sharedQueue.clear();
+        for (int i = 0; i < localSlots.length(); i++) {
+            localSlots.set(i, null);
+        }
+    }
+
+    @Override
+    public int getResourcesSize() {
+        return resources.size();
+    }
+
+    @Override
+    public synchronized void setMaxSize(int newMaxSize) {
+        int permits = newMaxSize - maxSize;
+
+        switch (Integer.signum(permits)) {
+            case 1:
+                availableResources.release(permits);
+                break;
+            case -1:
+                availableResources.reducePermits(Math.abs(permits));
+                break;
+            default:
+                return;
+        }
+
+        this.maxSize = newMaxSize;
+    }
+
+    @Override
+    public List<ResourceHandle> getAllResources() {
+        return List.copyOf(resources);
+    }
+
+    private boolean claim(ResourceHandle resource) {
+        if (resource.compareAndSetLockFreeDataStructureState(STATE_FREE, STATE_IN_USE)) {
+            freeCount.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private int getFirstSlotOfStripe() {
+        long threadId = Thread.currentThread().threadId();
+        int hash = (int) (threadId ^ (threadId >>> 32));
+        hash ^= hash >>> 16;
+        return (hash & stripeMask) * SLOTS_PER_STRIPE;
+    }
+
+    /**
+     * Semaphore whose available permits change according to the
+     * changes in max-pool-size via a reconfiguration.
+     */
+    private static final class DataStructureSemaphore extends Semaphore {
+
+        DataStructureSemaphore(int permits) {
+            super(permits);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -22,16 +22,19 @@ import com.sun.enterprise.resource.pool.PoolLifeCycleListenerRegistry;
 import com.sun.enterprise.resource.pool.PoolStatus;
 
 import java.lang.System.Logger;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import org.glassfish.api.naming.SimpleJndiName;
 import org.glassfish.external.probe.provider.annotations.ProbeListener;
 import org.glassfish.external.probe.provider.annotations.ProbeParam;
 import org.glassfish.external.statistics.CountStatistic;
 import org.glassfish.external.statistics.RangeStatistic;
+import org.glassfish.external.statistics.StringStatistic;
 import org.glassfish.external.statistics.annotations.Reset;
 import org.glassfish.external.statistics.impl.CountStatisticImpl;
 import org.glassfish.external.statistics.impl.RangeStatisticImpl;
 import org.glassfish.external.statistics.impl.StatisticImpl;
+import org.glassfish.external.statistics.impl.StringStatisticImpl;
 import org.glassfish.gmbal.AMXMetadata;
 import org.glassfish.gmbal.Description;
 import org.glassfish.gmbal.ManagedAttribute;
@@ -119,6 +122,12 @@ public class ConnectorConnPoolStatsProvider {
     private final CountStatisticImpl waitQueueLength = new CountStatisticImpl(
             "WaitQueueLength", StatisticImpl.UNIT_COUNT,
             "Number of connection requests in the queue waiting to be serviced.");
+    private final StringStatisticImpl connRequestWaitTimeHistogram = new StringStatisticImpl(
+            "ConnRequestWaitTimeHistogram", "List",
+            "Distribution of wait times of served connection requests. Every bucket holds the number " +
+            "of requests served within its upper bound in milliseconds.");
+    private static final long[] WAIT_TIME_BUCKET_BOUNDS = {0, 1, 5, 10, 50, 100, 500, 1000, 5000, 10000};
+    private final AtomicLongArray waitTimeBuckets = new AtomicLongArray(WAIT_TIME_BUCKET_BOUNDS.length + 1);
     private static final String JCA_PROBE_LISTENER = "glassfish:jca:connection-pool:";
 
     public ConnectorConnPoolStatsProvider(PoolInfo poolInfo) {
@@ -288,6 +297,7 @@ public class ConnectorConnPoolStatsProvider {
             LOG.log(DEBUG, "Connection request served event received for pool: {0}", poolInfo);
             connRequestWaitTime.setCurrent(timeTakenInMillis);
             totalConnRequestWaitTime.increment(timeTakenInMillis);
+            waitTimeBuckets.incrementAndGet(getWaitTimeBucket(timeTakenInMillis));
         }
     }
 
@@ -376,6 +386,9 @@ public class ConnectorConnPoolStatsProvider {
         averageConnWaitTime.reset();
         totalConnRequestWaitTime.reset();
         waitQueueLength.reset();
+        for (int i = 0; i < waitTimeBuckets.length(); i++) {
+            waitTimeBuckets.set(i, 0);
+        }
     }
 
     /**
@@ -527,6 +540,28 @@ public class ConnectorConnPoolStatsProvider {
         return waitQueueLength;
     }
 
+    @ManagedAttribute(id = "connrequestwaittimehistogram")
+    public StringStatistic getConnRequestWaitTimeHistogram() {
+        StringBuilder histogram = new StringBuilder();
+        for (int i = 0; i < WAIT_TIME_BUCKET_BOUNDS.length; i++) {
+            histogram.append("<=").append(WAIT_TIME_BUCKET_BOUNDS[i]).append("ms: ").append(waitTimeBuckets.get(i))
+                .append(", ");
+        }
+        histogram.append('>').append(WAIT_TIME_BUCKET_BOUNDS[WAIT_TIME_BUCKET_BOUNDS.length - 1]).append("ms: ")
+            .append(waitTimeBuckets.get(WAIT_TIME_BUCKET_BOUNDS.length));
+        connRequestWaitTimeHistogram.setCurrent(histogram.toString());
+        return connRequestWaitTimeHistogram;
+    }
+
+    private static int getWaitTimeBucket(long timeTakenInMillis) {
+        for (int i = 0; i < WAIT_TIME_BUCKET_BOUNDS.length; i++) {
+            if (timeTakenInMillis <= WAIT_TIME_BUCKET_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return WAIT_TIME_BUCKET_BOUNDS.length;
+    }
+
     private boolean isMyPool(String poolName, String appName, String moduleName) {
         PoolInfo other = new PoolInfo(SimpleJndiName.of(poolName), appName, moduleName);
         return poolInfo.equals(other);
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.resource.pool.waitqueue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Strictly FIFO wait queue for the connection pool.
+ * <p>
+ * Threads waiting in {@link #await(long)} are parked with {@link LockSupport} until
+ * {@link #signalFirst()} unparks exactly the oldest of them, or until their own deadline.
+ * The deadline is computed from {@link System#nanoTime()} once, so spurious wakeups
+ * do not prolong the total wait.
+ * <p>
+ * Every thread reuses its own queue node, so waiting does not allocate. The queue is
+ * an intrusive doubly linked list guarded by a lock which is held only to link or unlink
+ * a node, never while parked.
+ * <p>
+ * Objects queued through the generic {@link #addToQueue(Object)} method (ie. the reconfiguration
+ * wait queue) are supported too, their node is allocated.
+ */
+public class FairPoolWaitQueue implements PoolWaitQueue {
+
+    private static final ThreadLocal<Waiter> WAITER = ThreadLocal.withInitial(Waiter::new);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Waiter head;
+    private Waiter tail;
+    private int length;
+
+    @Override
+    public void await(long timeoutInMillis) throws InterruptedException {
+        final Waiter waiter = WAITER.get();
+        waiter.signalled = false;
+        link(waiter);
+        final long deadline = timeoutInMillis > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis) : 0L;
+        boolean consumed = false;
+        try {
+            while (!waiter.signalled) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                if (deadline == 0L) {
+                    LockSupport.park(this);
+                    continue;
+                }
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0L) {
+                    return;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+            consumed = true;
+        } finally {
+            unlink(waiter);
+            // signalFirst() may have chosen this waiter just as it timed out or was
+            // interrupted. Pass the signal on, otherwise the next waiter stays parked
+            // although a resource is free.
+            if (!consumed && waiter.signalled) {
+                signalFirst();
+            }
+        }
+    }
+
+    @Override
+    public boolean signalFirst() {
+        final Waiter waiter;
+        lock.lock();
+        try {
+            waiter = head;
+            if (waiter == null) {
+                return false;
+            }
+            unlinkLocked(waiter);
+            waiter.signalled = true;
+        } finally {
+            lock.unlock();
+        }
+        if (waiter.thread == null) {
+            synchronized (waiter.monitor) {
+                waiter.monitor.notifyAll();
+            }
+        } else {
+            LockSupport.unpark(waiter.thread);
+        }
+        return true;
+    }
+
+    @Override
+    public int getQueueLength() {
+        lock.lock();
+        try {
+            return length;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void addToQueue(Object waitMonitor) {
+        link(new Waiter(waitMonitor));
+    }
+
+    @Override
+    public boolean removeFromQueue(Object waitMonitor) {
+        lock.lock();
+        try {
+            for (Waiter waiter = head; waiter != null; waiter = waiter.next) {
+                if (waiter.getQueuedObject() == waitMonitor) {
+                    unlinkLocked(waiter);
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Object remove() {
+        lock.lock();
+        try {
+            final Waiter waiter = head;
+            if (waiter == null) {
+                return null;
+            }
+            unlinkLocked(waiter);
+            return waiter.getQueuedObject();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Object peek() {
+        lock.lock();
+        try {
+            return head == null ? null : head.getQueuedObject();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Collection getQueueContents() {
+        lock.lock();
+        try {
+            final List<Object> contents = new ArrayList<>(length);
+            for (Waiter waiter = head; waiter != null; waiter = waiter.next) {
+                contents.add(waiter.getQueuedObject());
+            }
+            return contents;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void link(Waiter waiter) {
+        lock.lock();
+        try {
+            waiter.queued = true;
+            waiter.prev = tail;
+            if (tail == null) {
+                head = waiter;
+            } else {
+                tail.next = waiter;
+            }
+            tail = waiter;
+            length++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void unlink(Waiter waiter) {
+        lock.lock();
+        try {
+            if (waiter.queued) {
+                unlinkLocked(waiter);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void unlinkLocked(Waiter waiter) {
+        if (waiter.prev == null) {
+            head = waiter.next;
+        } else {
+            waiter.prev.next = waiter.next;
+        }
+        if (waiter.next == null) {
+            tail = waiter.prev;
+        } else {
+            waiter.next.prev = waiter.prev;
+        }
+        waiter.prev = null;
+        waiter.next = null;
+        waiter.queued = false;
+        length--;
+    }
+
+    /**
+     * Queue node. Either represents a parked thread or a monitor object of the generic
+     * {@link PoolWaitQueue#addToQueue(Object)} contract.
+     */
+    private static final class Waiter {
+
+        private final Thread thread;
+        private final Object monitor;
+        private Waiter prev;
+        private Waiter next;
+        private boolean queued;
+        private volatile boolean signalled;
+
+        Waiter() {
+            this.thread = Thread.currentThread();
+            this.monitor = null;
+        }
+
+        Waiter(Object monitor) {
+            this.thread = null;
+            this.monitor = monitor;
+        }
+
+        Object getQueuedObject() {
+            return monitor == null ? thread : monitor;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -80,4 +80,42 @@ public interface PoolWaitQueue {
      * @return Collection
      */
     Collection getQueueContents();
+
+    /**
+     * Blocks the calling resource requesting thread in the queue until it is woken up by {@link #signalFirst()}
+     * or until the timeout expires. The thread is removed from the queue when the method returns.
+     *
+     * @param timeoutInMillis maximal time to wait, 0 means wait until woken up.
+     * @throws InterruptedException if the waiting thread was interrupted
+     */
+    default void await(long timeoutInMillis) throws InterruptedException {
+        final Object waitMonitor = new Object();
+        synchronized (waitMonitor) {
+            addToQueue(waitMonitor);
+            try {
+                waitMonitor.wait(timeoutInMillis);
+            } finally {
+                removeFromQueue(waitMonitor);
+            }
+        }
+    }
+
+    /**
+     * Removes the first resource requesting thread from the queue and wakes it up.
+     *
+     * @return true if there was a thread to wake up.
+     */
+    default boolean signalFirst() {
+        final Object waitMonitor;
+        synchronized (this) {
+            if (getQueueLength() == 0) {
+                return false;
+            }
+            waitMonitor = remove();
+        }
+        synchronized (waitMonitor) {
+            waitMonitor.notifyAll();
+        }
+        return true;
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.resource.pool.datastructure;
+
+import com.sun.appserv.connectors.internal.api.PoolingException;
+import com.sun.enterprise.resource.ResourceHandle;
+import com.sun.enterprise.resource.allocator.ResourceAllocator;
+import com.sun.enterprise.resource.pool.ResourceHandler;
+
+import jakarta.resource.spi.ManagedConnection;
+
+import java.lang.System.Logger;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static java.lang.System.Logger.Level.INFO;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Compares throughput of the get/return cycle of {@link ListDataStructure}, {@link RWLockDataStructure}
+ * and {@link LockFreeDataStructure} under increasing concurrency.
+ * <p>
+ * The pool is smaller than the number of threads in most runs, so the benchmark covers
+ * also the case when the data structure is exhausted.
+ */
+public class DataStructureBenchmarkTest {
+    private static final Logger LOG = System.getLogger(DataStructureBenchmarkTest.class.getName());
+
+    private static final int[] THREAD_COUNTS = {8, 64, 512};
+
+    @Test
+    public void getAndReturn_benchmark() throws Exception {
+        for (int threads : THREAD_COUNTS) {
+            runBenchmark(threads);
+        }
+    }
+
+
+    private void runBenchmark(int threads) throws Exception {
+        Options options = new OptionsBuilder().include(getClass().getName() + ".*")
+            .warmupIterations(1).warmupTime(TimeValue.milliseconds(200L))
+            .measurementIterations(1).measurementTime(TimeValue.milliseconds(500L))
+            .forks(1).threads(threads).shouldFailOnError(true).timeout(TimeValue.seconds(10L))
+            .timeUnit(TimeUnit.MILLISECONDS).mode(Mode.Throughput)
+            .build();
+        Collection<RunResult> results = new Runner(options).run();
+        assertThat(results, hasSize(3));
+        for (RunResult result : results) {
+            LOG.log(INFO, "Threads: {0}, data structure: {1}, score: {2} ops/ms", threads,
+                result.getParams().getParam("dataStructureType"), result.getPrimaryResult().getScore());
+            assertThat(result.getPrimaryResult().getScore(), greaterThan(0d));
+        }
+    }
+
+
+    @Benchmark
+    public void getAndReturn(PoolState pool, Blackhole blackhole) {
+        ResourceHandle resource = pool.dataStructure.getResource();
+        if (resource == null) {
+            Thread.onSpinWait();
+            return;
+        }
+        blackhole.consume(resource);
+        pool.dataStructure.returnResource(resource);
+    }
+
+
+    @State(Scope.Benchmark)
+    public static class PoolState {
+
+        private static final int POOL_SIZE = 64;
+
+        @Param({"ListDataStructure", "RWLockDataStructure", "LockFreeDataStructure"})
+        public String dataStructureType;
+
+        private DataStructure dataStructure;
+
+        @Setup(Level.Trial)
+        public void createPool() throws PoolingException {
+            String className = DataStructure.class.getPackageName() + "." + dataStructureType;
+            dataStructure = DataStructureFactory.getDataStructure(className, null, POOL_SIZE, new NoopResourceHandler());
+            dataStructure.addResource(null, POOL_SIZE);
+        }
+
+        @TearDown(Level.Trial)
+        public void destroyPool() {
+            dataStructure.removeAll();
+        }
+    }
+
+
+    private static class NoopResourceHandler implements ResourceHandler {
+
+        @Override
+        public void deleteResource(ResourceHandle resourceHandle) {
+        }
+
+        @Override
+        public ResourceHandle createResource(ResourceAllocator allocator) {
+            return new ResourceHandle(null, null, allocator);
+        }
+
+        @Override
+        public void createResourceAndAddToPool() {
+        }
+
+        @Override
+        public Set<ManagedConnection> getInvalidConnections(Set<ManagedConnection> connections) {
+            return Set.of();
+        }
+
+        @Override
+        public void invalidConnectionDetected(ResourceHandle h) {
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.resource.pool.datastructure;
+
+import com.sun.appserv.connectors.internal.api.PoolingException;
+import com.sun.enterprise.resource.ResourceHandle;
+import com.sun.enterprise.resource.ResourceSpec;
+import com.sun.enterprise.resource.allocator.ResourceAllocator;
+import com.sun.enterprise.resource.pool.ResourceHandler;
+
+import jakarta.resource.spi.ManagedConnection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.easymock.IExpectationSetters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.Timeout.ThreadMode;
+import org.junit.jupiter.api.function.Executable;
+
+import static org.easymock.EasyMock.createMockBuilder;
+import static org.easymock.EasyMock.createNiceMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LockFreeDataStructureTest {
+
+    private static final int TASK_COUNT = 1000;
+
+    private static final int THREAD_COUNT = 500;
+
+    private static final int RESOURCE_COUNT = TASK_COUNT;
+
+    private volatile ResourceHandler handler;
+    private volatile ResourceAllocator allocator;
+
+    @BeforeEach
+    public void createAndPopulateMocks() throws PoolingException {
+        ResourceHandler localHandler = createNiceMock(ResourceHandler.class);
+        ResourceAllocator localAllocator = createNiceMock(ResourceAllocator.class);
+
+        List<Object> mocks = new ArrayList<>(RESOURCE_COUNT);
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            mocks.add(createMockBuilder(ResourceHandle.class)
+                .withConstructor(ManagedConnection.class, ResourceSpec.class, ResourceAllocator.class)
+                .withArgs(null, null, null)
+                .createNiceMock());
+        }
+
+        IExpectationSetters<ResourceHandle> handlerExpectation = expect(localHandler.createResource(localAllocator));
+        for (Object resource : mocks) {
+            handlerExpectation.andReturn((ResourceHandle) resource);
+        }
+        mocks.add(localHandler);
+        mocks.add(localAllocator);
+
+        replay(mocks.toArray());
+
+        handler = localHandler;
+        allocator = localAllocator;
+    }
+
+    @Test
+    public void testAddResource() throws Exception {
+        DataStructure dataStructure = new LockFreeDataStructure(null, 10, handler);
+
+        assertAll(
+            () -> assertThat("Add Resources", dataStructure.addResource(allocator, 20), equalTo(10)),
+            () -> assertThat("Resources Size", dataStructure.getResourcesSize(), equalTo(10)),
+            () -> assertThat("Free List Size", dataStructure.getFreeListSize(), equalTo(10))
+        );
+
+        dataStructure.setMaxSize(15);
+        assertThat("Add Resources", dataStructure.addResource(allocator, 20), equalTo(5));
+
+        dataStructure.setMaxSize(10);
+        assertAll(
+            () -> assertThat("Add Resource", dataStructure.addResource(allocator, 1), equalTo(0)),
+            () -> assertThat("Resources Size", dataStructure.getResourcesSize(), equalTo(15))
+        );
+    }
+
+    @Test
+    public void testReturnedResourceIsReusedByTheSameThread() throws Exception {
+        DataStructure dataStructure = new LockFreeDataStructure(null, 10, handler);
+        dataStructure.addResource(allocator, 10);
+
+        ResourceHandle resource = dataStructure.getResource();
+        assertThat("Free List Size", dataStructure.getFreeListSize(), equalTo(9));
+
+        dataStructure.returnResource(resource);
+        assertAll(
+            () -> assertThat("Free List Size", dataStructure.getFreeListSize(), equalTo(10)),
+            () -> assertThat("Get Resource", dataStructure.getResource(), sameInstance(resource))
+        );
+    }
+
+    @Test
+    public void testReturnResourceTwice() throws Exception {
+        DataStructure dataStructure = new LockFreeDataStructure(null, 1, handler);
+        dataStructure.addResource(allocator, 1);
+
+        ResourceHandle resource = dataStructure.getResource();
+        dataStructure.returnResource(resource);
+        dataStructure.returnResource(resource);
+        assertAll(
+            () -> assertThat("Free List Size", dataStructure.getFreeListSize(), equalTo(1)),
+            () -> assertThat("Get Resource", dataStructure.getResource(), sameInstance(resource)),
+            () -> assertThat("Get Resource", dataStructure.getResource(), nullValue())
+        );
+    }
+
+    @RepeatedTest(20)
+    @Timeout(value = 10, threadMode = ThreadMode.SEPARATE_THREAD)
+    public void testGetResource() throws Exception {
+        DataStructure dataStructure = new LockFreeDataStructure(null, RESOURCE_COUNT, handler);
+
+        assertThat("Add Resources", dataStructure.addResource(allocator, RESOURCE_COUNT), equalTo(RESOURCE_COUNT));
+
+        List<Callable<ResourceHandle>> tasks = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            tasks.add(dataStructure::getResource);
+        }
+
+        ExecutorService threadPool = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        List<Future<ResourceHandle>> futures = threadPool.invokeAll(tasks);
+        List<ResourceHandle> resources = futures.stream().map(this::getResult).collect(Collectors.toList());
+        assertAll(
+            () -> assertTrue(futures.stream().allMatch(this::notNull)),
+            () -> assertThat("Resources Size", dataStructure.getResourcesSize(), equalTo(RESOURCE_COUNT)),
+            () -> assertThat("Free List Size", dataStructure.getFreeListSize(), equalTo(0)),
+            () -> assertThat("Get Resource", dataStructure.getResource(), nullValue())
+        );
+        for (ResourceHandle resource : resources) {
+            assertThat(Collections.frequency(resources, resource), equalTo(1));
+        }
+
+        threadPool.shutdownNow();
+    }
+
+    @RepeatedTest(20)
+    @Timeout(value = 10, threadMode = ThreadMode.SEPARATE_THREAD)
+    public void testReturnResource() throws Exception {
+        DataStructure dataStructure = new LockFreeDataStructure(null, RESOURCE_COUNT, handler);
+        dataStructure.addResource(allocator, RESOURCE_COUNT);
+
+        List<ResourceHandle> resources = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            resources.add(dataStructure.getResource());
+        }
+        assertThat("Free List Size", dataStructure.getFreeListSize(), equalTo(0));
+
+        List<Callable<Void>> tasks = new ArrayList<>(TASK_COUNT);
+        for (ResourceHandle resource : resources) {
+            tasks.add(() -> {
+                dataStructure.returnResource(resource);
+                return null;
+            });
+        }
+
+        ExecutorService threadPool = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        List<Future<Void>> futures = threadPool.invokeAll(tasks);
+        assertAll(
+            () -> assertAll(futures.stream().map(f -> (Executable) f::get).collect(Collectors.toList())),
+            () -> assertThat("Resources Size", dataStructure.getResourcesSize(), equalTo(RESOURCE_COUNT)),
+            () -> assertThat("Free List Size", dataStructure.getFreeListSize(), equalTo(RESOURCE_COUNT))
+        );
+
+        for (int i = 0; i < RESOURCE_COUNT; i++) {
+            assertThat(dataStructure.getResource(), notNullValue());
+        }
+        assertThat("Get Resource", dataStructure.getResource(), nullValue());
+
+        threadPool.shutdownNow();
+    }
+
+    @Test
+    public void testRemoveAll() throws PoolingException {
+        DataStructure dataStructure = new LockFreeDataStructure(null, RESOURCE_COUNT, handler);
+
+        dataStructure.addResource(allocator, RESOURCE_COUNT);
+        dataStructure.returnResource(dataStructure.getResource());
+        dataStructure.getResource();
+        dataStructure.removeAll();
+
+        assertAll(
+            () -> assertThat("Resources Size", dataStructure.getResourcesSize(), equalTo(0)),
+            () -> assertThat("Free List Size", dataStructure.getFreeListSize(), equalTo(0)),
+            () -> assertThat("All Resources", dataStructure.getAllResources(), hasSize(0)),
+            () -> assertThat("Get Resource", dataStructure.getResource(), nullValue())
+        );
+    }
+
+    @RepeatedTest(20)
+    @Timeout(value = 10, threadMode = ThreadMode.SEPARATE_THREAD)
+    public void testRaceConditions() throws Exception {
+        DataStructure dataStructure = new LockFreeDataStructure(null, RESOURCE_COUNT, handler);
+        dataStructure.addResource(allocator, RESOURCE_COUNT);
+
+        List<Callable<ResourceHandle>> tasks = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            tasks.add(() -> {
+                ResourceHandle resource = dataStructure.getResource();
+                dataStructure.removeResource(resource);
+                return resource;
+            });
+        }
+
+        ExecutorService threadPool = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        List<Future<ResourceHandle>> futures = threadPool.invokeAll(tasks);
+        assertAll(
+            () -> assertTrue(futures.stream().allMatch(this::notNull)),
+            () -> assertThat("Resources Size", dataStructure.getResourcesSize(), equalTo(0)),
+            () -> assertThat("Free list size", dataStructure.getFreeListSize(), equalTo(0))
+        );
+
+        threadPool.shutdownNow();
+    }
+
+    private <T> boolean notNull(Future<T> future) {
+        return getResult(future) != null;
+    }
+
+    private <T> T getResult(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
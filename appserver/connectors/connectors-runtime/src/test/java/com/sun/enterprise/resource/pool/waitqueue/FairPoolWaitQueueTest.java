@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.resource.pool.waitqueue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FairPoolWaitQueueTest {
+
+    @Test
+    @Timeout(10)
+    public void signalWakesUpWaitersInArrivalOrder() throws Exception {
+        FairPoolWaitQueue queue = new FairPoolWaitQueue();
+        List<Integer> wokenUp = new CopyOnWriteArrayList<>();
+        Thread[] threads = new Thread[3];
+        for (int i = 0; i < threads.length; i++) {
+            int order = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    queue.await(0L);
+                    wokenUp.add(order);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[i].start();
+            waitForQueueLength(queue, i + 1);
+        }
+
+        for (Thread thread : threads) {
+            assertTrue(queue.signalFirst());
+            thread.join();
+        }
+
+        assertAll(
+            () -> assertThat(wokenUp, contains(0, 1, 2)),
+            () -> assertThat(queue.getQueueLength(), equalTo(0)),
+            () -> assertFalse(queue.signalFirst())
+        );
+    }
+
+    @Test
+    @Timeout(10)
+    public void awaitRespectsTimeout() throws Exception {
+        FairPoolWaitQueue queue = new FairPoolWaitQueue();
+        long start = System.nanoTime();
+        queue.await(100L);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+        assertAll(
+            () -> assertThat(elapsedMillis, greaterThanOrEqualTo(100L)),
+            () -> assertThat(queue.getQueueLength(), equalTo(0))
+        );
+    }
+
+    @Test
+    public void genericQueueContract() {
+        FairPoolWaitQueue queue = new FairPoolWaitQueue();
+        Object first = new Object();
+        Object second = new Object();
+        queue.addToQueue(first);
+        queue.addToQueue(second);
+        assertAll(
+            () -> assertThat(queue.getQueueLength(), equalTo(2)),
+            () -> assertThat(queue.peek(), sameInstance(first)),
+            () -> assertThat(queue.getQueueContents(), contains(first, second))
+        );
+
+        assertTrue(queue.removeFromQueue(second));
+        assertFalse(queue.removeFromQueue(second));
+        assertThat(queue.remove(), sameInstance(first));
+        assertThat(queue.getQueueLength(), equalTo(0));
+    }
+
+    private static void waitForQueueLength(PoolWaitQueue queue, int length) throws InterruptedException {
+        while (queue.getQueueLength() < length) {
+            Thread.sleep(1L);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2023, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -274,6 +274,8 @@ public interface RuntimeTagNames extends TagNames {
     String STORE_PROPERTIES = "store-properties";
     String MANAGER_PROPERTIES = "manager-properties";
     String REFRESH_FIELD = "refresh-field";
+    String STALE_TIMEOUT = "stale-timeout";
+    String REFRESH_AHEAD = "refresh-ahead";
     String SESSION_MANAGER = "session-manager";
     String SESSION_PROPERTIES = "session-properties";
     String SESSION_CONFIG = "session-config";
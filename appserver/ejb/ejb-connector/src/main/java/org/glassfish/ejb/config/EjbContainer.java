@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -55,6 +55,8 @@ public interface EjbContainer extends ConfigBeanProxy, PropertyBag, ConfigExtens
     int DEFAULT_THREAD_QUEUE_CAPACITY = Integer.MAX_VALUE;
     boolean DEFAULT_ALLOW_CORE_THREAD_TIMEOUT = false;
     boolean DEFAULT_PRESTART_ALL_CORE_THREADS = false;
+    int DEFAULT_ASYNC_MAX_CONCURRENCY = 1000;
+    int DEFAULT_CONTAINER_INITIALIZATION_PARALLELISM = 1;
 
     /**
      * Gets the value of the steadyPoolSize property.
@@ -373,7 +375,34 @@ public interface EjbContainer extends ConfigBeanProxy, PropertyBag, ConfigExtens
         @PropertyDesc(name = "thread-keep-alive-seconds"),
         @PropertyDesc(name = "thread-queue-capacity"),
         @PropertyDesc(name = "allow-core-thread-timeout"),
-        @PropertyDesc(name = "prestart-all-core-threads")
+        @PropertyDesc(name = "prestart-all-core-threads"),
+
+        @PropertyDesc(name = "async-thread-type",
+        defaultValue = "platform",
+        values = {"platform", "virtual"}),
+
+        @PropertyDesc(name = "async-max-concurrency",
+        defaultValue = "1000"),
+
+        @PropertyDesc(name = "container-initialization-parallelism",
+        defaultValue = "1"),
+
+        @PropertyDesc(name = "bean-pool-type",
+        defaultValue = "non-blocking",
+        values = {"non-blocking", "striped"}),
+
+        @PropertyDesc(name = "local-view-type",
+        defaultValue = "proxy",
+        values = {"proxy", "generated"}),
+
+        @PropertyDesc(name = "sfsb-state-codec",
+        defaultValue = "compact"),
+
+        @PropertyDesc(name = "sfsb-passivation-queue-capacity",
+        defaultValue = "10000"),
+
+        @PropertyDesc(name = "sfsb-passivation-threads",
+        defaultValue = "2")
     })
     @Element
     List<Property> getProperty();
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -22,6 +23,7 @@ import java.beans.PropertyVetoException;
 import java.util.List;
 
 import org.glassfish.api.admin.config.PropertiesDesc;
+import org.glassfish.api.admin.config.PropertyDesc;
 import org.glassfish.quality.ToDo;
 import org.jvnet.hk2.config.Attribute;
 import org.jvnet.hk2.config.ConfigBeanProxy;
@@ -133,7 +135,24 @@ public interface EjbTimerService extends ConfigBeanProxy, PropertyBag {
         Properties as per {@link PropertyBag}
      */
     @ToDo(priority=ToDo.Priority.IMPORTANT, details="Provide PropertyDesc for legal props" )
-    @PropertiesDesc(props={})
+    @PropertiesDesc(props={
+        @PropertyDesc(name = "timer-wheel-tick-in-millis",
+        defaultValue = "10"),
+
+        @PropertyDesc(name = "timeout-delivery-threads",
+        defaultValue = "0"),
+
+        @PropertyDesc(name = "last-expiration-update-interval-in-millis",
+        defaultValue = "0"),
+
+        @PropertyDesc(name = "timer-restore-page-size",
+        defaultValue = "1000"),
+
+        @PropertyDesc(name = "timer-restore-threads"),
+
+        @PropertyDesc(name = "overdue-timer-delivery-rate",
+        defaultValue = "1000")
+    })
     @Element
     List<Property> getProperty();
 }
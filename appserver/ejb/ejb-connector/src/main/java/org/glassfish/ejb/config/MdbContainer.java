@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2022 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -116,7 +116,14 @@ public interface MdbContainer extends ConfigBeanProxy, PropertyBag, ConfigExtens
             dataType = NonNegativeInteger.class,
             description =
                 "Deprecated. Specifies the maximum number of RuntimeException occurrences allowed from a message-driven bean's " +
-                "method when container-managed transactions are used") })
+                "method when container-managed transactions are used"),
+        @PropertyDesc(
+            name = "delivery-concurrency",
+            defaultValue = "fixed",
+            values = {"fixed", "adaptive"},
+            description =
+                "Fixed allows the resource adapter as many concurrent message deliveries as the max-pool-size. Adaptive " +
+                "limits them between the steady-pool-size and the max-pool-size by the waiting deliveries and their latency") })
     @Element
     List<Property> getProperty();
 }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -19,6 +20,7 @@ package com.sun.ejb;
 import com.sun.ejb.containers.interceptors.InterceptorManager;
 import com.sun.enterprise.security.ee.authorization.cache.CachedPermission;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 
 import org.glassfish.ejb.deployment.descriptor.EjbRemovalInfo;
@@ -59,6 +61,10 @@ public class InvocationInfo {
     public Method     targetMethod2;
     public boolean    ejbIntfOverride;
 
+    // Spreader of targetMethod1 of type (Object bean, Object[] args)Object.
+    // Set only for business methods of beans with generated local views.
+    public MethodHandle targetMethodHandle;
+
     public boolean    flushEnabled;
     public boolean    checkpointEnabled;
 
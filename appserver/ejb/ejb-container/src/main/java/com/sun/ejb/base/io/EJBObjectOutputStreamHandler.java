@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -74,7 +74,8 @@ public class EJBObjectOutputStreamHandler implements GlassFishOutputStreamHandle
      */
     @Override
     public Object replaceObject(Object obj) throws IOException {
-        Object result = obj;
+        // null lets the other handlers replace the object
+        Object result = null;
 
         // Until we've identified a remote object, we can't assume the orb is
         // available in the container. If the orb is not present, this will be null.
@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.codegen;
+
+import com.sun.ejb.containers.LocalBusinessView;
+import com.sun.ejb.containers.LocalBusinessView.Dispatcher;
+import com.sun.enterprise.container.common.spi.util.SerializableObjectFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import static com.sun.ejb.codegen.ClassGenerator.defineClass;
+import static com.sun.ejb.codegen.Generator.getBaseName;
+import static com.sun.ejb.codegen.Generator.getFullClassName;
+import static com.sun.ejb.codegen.Generator.getPackageName;
+import static org.objectweb.asm.Opcodes.AASTORE;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ANEWARRAY;
+import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.ATHROW;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.DUP_X1;
+import static org.objectweb.asm.Opcodes.F_SAME1;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.SWAP;
+import static org.objectweb.asm.Opcodes.V17;
+
+/**
+ * Generates classes implementing local business interfaces of beans, used instead of
+ * {@link java.lang.reflect.Proxy} when the local-view-type is "generated".
+ * <p>
+ * The generated class implements the business interface and {@link LocalBusinessView}.
+ * Its only state is the {@link Dispatcher} given to its constructor. Every business method
+ * boxes its arguments and calls {@link Dispatcher#invoke(int, Object[])} with the index of
+ * the method in the array returned by {@link #getViewMethods(Class)}, {@link Object} methods
+ * and {@link com.sun.enterprise.container.common.spi.util.IndirectlySerializable} are
+ * delegated to the dispatcher too. Like a {@link java.lang.reflect.Proxy}, a business method
+ * wraps checked exceptions it does not declare in an {@link UndeclaredThrowableException}.
+ * <p>
+ * The generated class depends just on the interface, so it is generated once for the class
+ * loader and shared by all beans with the interface.
+ */
+public final class LocalBusinessViewGenerator {
+
+    private static final String DISPATCHER_FIELD_NAME = "__ejb_dispatcher";
+    private static final String DISPATCHER_DESC = Type.getDescriptor(Dispatcher.class);
+    private static final String DISPATCHER_NAME = Type.getInternalName(Dispatcher.class);
+    private static final String INVOKE_DESC = "(I[Ljava/lang/Object;)Ljava/lang/Object;";
+    private static final String THROWABLE_NAME = Type.getInternalName(Throwable.class);
+    private static final String UNDECLARED_THROWABLE_NAME = Type.getInternalName(UndeclaredThrowableException.class);
+
+    private LocalBusinessViewGenerator() {
+        // hidden
+    }
+
+    /**
+     * Adds _LocalView to the original name.
+     *
+     * @param businessIntf full name of the business interface
+     * @return full name of the generated class
+     */
+    public static String getGeneratedLocalViewClassName(String businessIntf) {
+        String packageName = getPackageName(businessIntf);
+        String simpleName = getBaseName(businessIntf);
+        return getFullClassName(packageName, "_" + simpleName + "_LocalView");
+    }
+
+    /**
+     * @param businessIntf local business interface
+     * @return methods implemented by the generated class in the order of their indexes
+     * @throws GeneratorException if the interface inherits methods with the same parameters
+     *             and different return types
+     */
+    public static Method[] getViewMethods(Class<?> businessIntf) throws GeneratorException {
+        Map<String, Method> methods = new TreeMap<>();
+        for (Method method : businessIntf.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || isImplementedByView(method)) {
+                continue;
+            }
+            String desc = Type.getMethodDescriptor(method);
+            String key = method.getName() + desc.substring(0, desc.indexOf(')') + 1);
+            Method existing = methods.putIfAbsent(key, method);
+            if (existing != null && existing.getReturnType() != method.getReturnType()) {
+                throw new GeneratorException("Methods " + existing + " and " + method + " of " + businessIntf
+                    + " differ just by the return type");
+            }
+        }
+        return methods.values().toArray(Method[]::new);
+    }
+
+    /**
+     * Returns the generated class for the interface, generates it if it was not generated yet.
+     *
+     * @param loader class loader of the application
+     * @param businessIntf local business interface
+     * @return generated class with a public constructor accepting the {@link Dispatcher}
+     * @throws GeneratorException if the interface is not public or has conflicting methods
+     */
+    public static Class<?> generate(ClassLoader loader, Class<?> businessIntf) throws GeneratorException {
+        if (!Modifier.isPublic(businessIntf.getModifiers())) {
+            throw new GeneratorException("The interface " + businessIntf + " is not public");
+        }
+        String className = getGeneratedLocalViewClassName(businessIntf.getName());
+        // Beans deployed in parallel may share the interface and the classloader.
+        synchronized (loader) {
+            try {
+                return loader.loadClass(className);
+            } catch (ClassNotFoundException e) {
+                byte[] classData = generateClassData(className, businessIntf, getViewMethods(businessIntf));
+                return defineClass(loader, className, classData, businessIntf.getProtectionDomain());
+            }
+        }
+    }
+
+    private static byte[] generateClassData(String className, Class<?> businessIntf, Method[] methods) {
+        String classInternalName = className.replace('.', '/');
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        cw.visit(V17, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, classInternalName, null, "java/lang/Object",
+            new String[] {Type.getInternalName(businessIntf), Type.getInternalName(LocalBusinessView.class)});
+        cw.visitField(ACC_PRIVATE | ACC_FINAL, DISPATCHER_FIELD_NAME, DISPATCHER_DESC, null, null).visitEnd();
+
+        generateConstructor(cw, classInternalName);
+        generateGetDispatcherMethod(cw, classInternalName);
+        generateDelegatingMethod(cw, classInternalName, "getSerializableObjectFactory",
+            Type.getMethodDescriptor(Type.getType(SerializableObjectFactory.class)), new String[] {"java/io/IOException"});
+        generateDelegatingMethod(cw, classInternalName, "hashCode", "()I", null);
+        generateDelegatingMethod(cw, classInternalName, "toString", "()Ljava/lang/String;", null);
+        generateEqualsMethod(cw, classInternalName);
+        for (int i = 0; i < methods.length; i++) {
+            generateBusinessMethod(cw, classInternalName, methods[i], i);
+        }
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static boolean isImplementedByView(Method method) {
+        switch (method.getName()) {
+            case "equals":
+                return method.getParameterCount() == 1 && method.getParameterTypes()[0] == Object.class;
+            case "hashCode":
+            case "toString":
+            case "getSerializableObjectFactory":
+            case "__getDispatcher":
+                return method.getParameterCount() == 0;
+            default:
+                return false;
+        }
+    }
+
+    private static void generateConstructor(ClassVisitor cv, String classInternalName) {
+        MethodVisitor mv = cv.visitMethod(ACC_PUBLIC, "<init>", "(" + DISPATCHER_DESC + ")V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitFieldInsn(PUTFIELD, classInternalName, DISPATCHER_FIELD_NAME, DISPATCHER_DESC);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void generateGetDispatcherMethod(ClassVisitor cv, String classInternalName) {
+        MethodVisitor mv = cv.visitMethod(ACC_PUBLIC, "__getDispatcher", "()" + DISPATCHER_DESC, null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, classInternalName, DISPATCHER_FIELD_NAME, DISPATCHER_DESC);
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    /**
+     * Generates a method without parameters calling the same method of the dispatcher.
+     */
+    private static void generateDelegatingMethod(ClassVisitor cv, String classInternalName, String name, String desc,
+        String[] exceptions) {
+        MethodVisitor mv = cv.visitMethod(ACC_PUBLIC, name, desc, null, exceptions);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, classInternalName, DISPATCHER_FIELD_NAME, DISPATCHER_DESC);
+        if ("getSerializableObjectFactory".equals(name)) {
+            mv.visitMethodInsn(INVOKEINTERFACE, DISPATCHER_NAME, name, desc, true);
+        } else {
+            mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Object", name, desc, false);
+        }
+        mv.visitInsn(Type.getReturnType(desc).getOpcode(IRETURN));
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void generateEqualsMethod(ClassVisitor cv, String classInternalName) {
+        MethodVisitor mv = cv.visitMethod(ACC_PUBLIC, "equals", "(Ljava/lang/Object;)Z", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, classInternalName, DISPATCHER_FIELD_NAME, DISPATCHER_DESC);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitMethodInsn(INVOKESTATIC, Type.getInternalName(LocalBusinessView.class), "equals",
+            "(" + DISPATCHER_DESC + "Ljava/lang/Object;)Z", true);
+        mv.visitInsn(IRETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void generateBusinessMethod(ClassVisitor cv, String classInternalName, Method method, int index) {
+        String methodDesc = Type.getMethodDescriptor(method);
+        String[] exceptions = getExceptions(method);
+        MethodVisitor mv = cv.visitMethod(ACC_PUBLIC, method.getName(), methodDesc, null, exceptions);
+        mv.visitCode();
+
+        Label tryStart = new Label();
+        Label tryEnd = new Label();
+        Label rethrow = new Label();
+        Label wrap = new Label();
+        mv.visitTryCatchBlock(tryStart, tryEnd, rethrow, Type.getInternalName(RuntimeException.class));
+        mv.visitTryCatchBlock(tryStart, tryEnd, rethrow, Type.getInternalName(Error.class));
+        for (String exception : exceptions) {
+            mv.visitTryCatchBlock(tryStart, tryEnd, rethrow, exception);
+        }
+        mv.visitTryCatchBlock(tryStart, tryEnd, wrap, THROWABLE_NAME);
+
+        mv.visitLabel(tryStart);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, classInternalName, DISPATCHER_FIELD_NAME, DISPATCHER_DESC);
+        mv.visitLdcInsn(index);
+
+        Type[] argumentTypes = Type.getArgumentTypes(methodDesc);
+        if (argumentTypes.length == 0) {
+            // Same as the Proxy does.
+            mv.visitInsn(ACONST_NULL);
+        } else {
+            mv.visitLdcInsn(argumentTypes.length);
+            mv.visitTypeInsn(ANEWARRAY, "java/lang/Object");
+            int varIndex = 1;
+            for (int i = 0; i < argumentTypes.length; i++) {
+                mv.visitInsn(DUP);
+                mv.visitLdcInsn(i);
+                mv.visitVarInsn(argumentTypes[i].getOpcode(ILOAD), varIndex);
+                box(mv, argumentTypes[i]);
+                mv.visitInsn(AASTORE);
+                varIndex += argumentTypes[i].getSize();
+            }
+        }
+        mv.visitMethodInsn(INVOKEINTERFACE, DISPATCHER_NAME, "invoke", INVOKE_DESC, true);
+
+        Type returnType = Type.getReturnType(methodDesc);
+        if (returnType.getSort() == Type.VOID) {
+            mv.visitInsn(POP);
+            mv.visitInsn(RETURN);
+        } else {
+            unbox(mv, returnType);
+            mv.visitInsn(returnType.getOpcode(IRETURN));
+        }
+        mv.visitLabel(tryEnd);
+
+        // Unchecked and declared exceptions
+        mv.visitLabel(rethrow);
+        mv.visitFrame(F_SAME1, 0, null, 1, new Object[] {THROWABLE_NAME});
+        mv.visitInsn(ATHROW);
+
+        // Undeclared checked exceptions
+        mv.visitLabel(wrap);
+        mv.visitFrame(F_SAME1, 0, null, 1, new Object[] {THROWABLE_NAME});
+        mv.visitTypeInsn(NEW, UNDECLARED_THROWABLE_NAME);
+        mv.visitInsn(DUP_X1);
+        mv.visitInsn(SWAP);
+        mv.visitMethodInsn(INVOKESPECIAL, UNDECLARED_THROWABLE_NAME, "<init>", "(Ljava/lang/Throwable;)V", false);
+        mv.visitInsn(ATHROW);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void box(MethodVisitor mv, Type type) {
+        Type wrapper = getWrapperType(type);
+        if (wrapper != null) {
+            mv.visitMethodInsn(INVOKESTATIC, wrapper.getInternalName(), "valueOf",
+                Type.getMethodDescriptor(wrapper, type), false);
+        }
+    }
+
+    private static void unbox(MethodVisitor mv, Type type) {
+        Type wrapper = getWrapperType(type);
+        if (wrapper == null) {
+            if (!"java/lang/Object".equals(type.getInternalName())) {
+                mv.visitTypeInsn(CHECKCAST, type.getInternalName());
+            }
+            return;
+        }
+        mv.visitTypeInsn(CHECKCAST, wrapper.getInternalName());
+        mv.visitMethodInsn(INVOKEVIRTUAL, wrapper.getInternalName(), type.getClassName() + "Value",
+            Type.getMethodDescriptor(type), false);
+    }
+
+    private static Type getWrapperType(Type type) {
+        switch (type.getSort()) {
+            case Type.BOOLEAN:
+                return Type.getType(Boolean.class);
+            case Type.CHAR:
+                return Type.getType(Character.class);
+            case Type.BYTE:
+                return Type.getType(Byte.class);
+            case Type.SHORT:
+                return Type.getType(Short.class);
+            case Type.INT:
+                return Type.getType(Integer.class);
+            case Type.FLOAT:
+                return Type.getType(Float.class);
+            case Type.LONG:
+                return Type.getType(Long.class);
+            case Type.DOUBLE:
+                return Type.getType(Double.class);
+            default:
+                return null;
+        }
+    }
+
+    private static String[] getExceptions(Method method) {
+        Class<?>[] exceptionTypes = method.getExceptionTypes();
+        String[] exceptions = new String[exceptionTypes.length];
+        for (int i = 0; i < exceptionTypes.length; i++) {
+            exceptions[i] = Type.getInternalName(exceptionTypes[i]);
+        }
+        return exceptions;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -24,10 +24,17 @@ import com.sun.ejb.EjbInvocation;
 import com.sun.ejb.EjbInvocationFactory;
 import com.sun.ejb.InvocationInfo;
 import com.sun.ejb.MethodLockInfo;
+import com.sun.ejb.codegen.ClassGenerator.ClassDefinitionException;
 import com.sun.ejb.codegen.EjbOptionalIntfGenerator;
+import com.sun.ejb.codegen.GeneratorException;
+import com.sun.ejb.codegen.LocalBusinessViewGenerator;
 import com.sun.ejb.containers.interceptors.InterceptorManager;
 import com.sun.ejb.containers.interceptors.SystemInterceptorProxy;
 import com.sun.ejb.containers.util.MethodMap;
+import com.sun.ejb.containers.util.pool.AbstractPool;
+import com.sun.ejb.containers.util.pool.NonBlockingPool;
+import com.sun.ejb.containers.util.pool.ObjectFactory;
+import com.sun.ejb.containers.util.pool.StripedPool;
 import com.sun.ejb.monitoring.probes.EjbCacheProbeProvider;
 import com.sun.ejb.monitoring.probes.EjbMonitoringProbeProvider;
 import com.sun.ejb.monitoring.probes.EjbTimedObjectProbeProvider;
@@ -97,6 +104,9 @@ import jakarta.transaction.Transaction;
 import jakarta.transaction.UserTransaction;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InaccessibleObjectException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -120,6 +130,7 @@ import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -138,6 +149,7 @@ import org.glassfish.ejb.api.EjbEndpointFacade;
 import org.glassfish.ejb.deployment.descriptor.EjbDescriptor;
 import org.glassfish.ejb.deployment.descriptor.EjbInitInfo;
 import org.glassfish.ejb.deployment.descriptor.EjbSessionDescriptor;
+import org.glassfish.ejb.security.application.EJBSecurityManager;
 import org.glassfish.ejb.spi.EjbContainerInterceptor;
 import org.glassfish.ejb.spi.WSEjbEndpointRegistry;
 import org.glassfish.enterprise.iiop.api.ProtocolManager;
@@ -235,6 +247,17 @@ public abstract class BaseContainer implements Container, EjbContainerFacade, Ja
     private static final byte[] homeInstanceKey = { HOME_KEY };
 
     protected static final String SINGLETON_BEAN_POOL_PROP = "singleton-bean-pool";
+    protected static final String BEAN_POOL_TYPE_PROP = "bean-pool-type";
+    protected static final String NON_BLOCKING_BEAN_POOL = "non-blocking";
+    protected static final String STRIPED_BEAN_POOL = "striped";
+    protected static final String LOCAL_VIEW_TYPE_PROP = "local-view-type";
+    protected static final String PROXY_LOCAL_VIEW = "proxy";
+    protected static final String GENERATED_LOCAL_VIEW = "generated";
+
+    /** Deployment phase creating the container, see {@link #deploymentPhaseCompleted(String, long)} */
+    public static final String DEPLOYMENT_LOAD_PHASE = "load";
+    /** Deployment phase starting the application in the container */
+    public static final String DEPLOYMENT_START_PHASE = "start";
 
     protected final ClassLoader loader;
     protected Class<?> ejbClass;
@@ -504,6 +527,10 @@ public abstract class BaseContainer implements Container, EjbContainerFacade, Ja
 
     private Class[] ejbLocalBusinessProxyInterfaces;
 
+    // Generated local business view classes by business interface,
+    // null if local business views are dynamic proxies.
+    private Map<Class<?>, GeneratedLocalView> generatedLocalViews;
+
     private Class[] ejbOptionalLocalBusinessHomeProxyInterfaces;
 
     /**
@@ -1404,6 +1431,41 @@ public abstract class BaseContainer implements Container, EjbContainerFacade, Ja
         ctx.setEJB(instance);
     }
 
+    /**
+     * @return value of the enterprise-beans property of the bundle, or of the ejb-container
+     *         property if the bundle doesn't set it; null if neither does.
+     */
+    protected String getEnterpriseBeansProperty(String name) {
+        String value = ejbDescriptor.getEjbBundleDescriptor().getEnterpriseBeansProperty(name);
+        if (value == null && ejbContainerUtilImpl.getEjbContainer() != null) {
+            value = ejbContainerUtilImpl.getEjbContainer().getPropertyValue(name);
+        }
+        return value;
+    }
+
+    /**
+     * Creates the pool of bean instances of the type given by the bean-pool-type property of the
+     * enterprise-beans element in glassfish-ejb-jar.xml, or of the ejb-container if the application
+     * does not set it. The non-blocking pool is the default, the striped pool scales better when many
+     * threads invoke the bean concurrently. The singleton bean pool is always non-blocking.
+     */
+    protected AbstractPool newBeanPool(String poolName, ObjectFactory factory, int steadyPoolSize, int resizeQuantity,
+        int maxPoolSize, int idleTimeoutInSeconds) {
+        EjbBundleDescriptor ejbBundle = ejbDescriptor.getEjbBundleDescriptor();
+        boolean singletonBeanPool = Boolean.parseBoolean(ejbBundle.getEnterpriseBeansProperty(SINGLETON_BEAN_POOL_PROP));
+        String poolType = getEnterpriseBeansProperty(BEAN_POOL_TYPE_PROP);
+        if (STRIPED_BEAN_POOL.equals(poolType) && !singletonBeanPool) {
+            return new StripedPool(getContainerId(), poolName, factory, steadyPoolSize, resizeQuantity, maxPoolSize,
+                idleTimeoutInSeconds, loader);
+        }
+        if (poolType != null && !STRIPED_BEAN_POOL.equals(poolType) && !NON_BLOCKING_BEAN_POOL.equals(poolType)) {
+            _logger.log(Level.WARNING, "Unknown {0} {1} of {2}, using {3}",
+                new Object[] {BEAN_POOL_TYPE_PROP, poolType, poolName, NON_BLOCKING_BEAN_POOL});
+        }
+        return new NonBlockingPool(getContainerId(), poolName, factory, steadyPoolSize, resizeQuantity, maxPoolSize,
+            idleTimeoutInSeconds, loader, singletonBeanPool);
+    }
+
     protected EJBContextImpl createEjbInstanceAndContext() throws Exception {
         if (containerState != CONTAINER_STARTED) {
             throw new IllegalStateException(localStrings.getLocalString("ejb.container_not_started",
@@ -1922,7 +1984,25 @@ public abstract class BaseContainer implements Container, EjbContainerFacade, Ja
      * webservice invocation info and one for everything else. That might change in the future.
      */
     private InvocationInfo getInvocationInfo(EjbInvocation inv) {
-        return inv.isWebService ? webServiceInvocationInfoMap.get(inv.method) : invocationInfoMap.get(inv.method);
+        return inv.isWebService ? webServiceInvocationInfoMap.get(inv.method) : getInvocationInfo(inv.method);
+    }
+
+    /**
+     * Resolves the invocation info of a non webservice method through the same {@link MethodMap}
+     * the proxies use, once the container is initialized.
+     */
+    private InvocationInfo getInvocationInfo(Method method) {
+        return getInvocationInfo(proxyInvocationInfoMap, invocationInfoMap, method);
+    }
+
+    /**
+     * The proxy method map is built once the container is initialized. Methods added later, like the
+     * message listener methods of a message-driven bean, are only found in the invocation info map.
+     */
+    static InvocationInfo getInvocationInfo(MethodMap proxyMethodMap, Map<Method, InvocationInfo> invocationInfoMap,
+            Method method) {
+        InvocationInfo info = proxyMethodMap == null ? null : proxyMethodMap.get(method);
+        return info == null ? invocationInfoMap.get(method) : info;
     }
 
     private Throwable mapRemoteException(EjbInvocation inv) {
@@ -2399,7 +2479,7 @@ public abstract class BaseContainer implements Container, EjbContainerFacade, Ja
 
         InvocationInfo invInfo = methodIntf.equals(MethodDescriptor.EJB_WEB_SERVICE)
             ? webServiceInvocationInfoMap.get(method)
-            : invocationInfoMap.get(method);
+            : getInvocationInfo(method);
 
         if (invInfo != null) {
             return invInfo.txAttr;
@@ -3058,7 +3138,63 @@ public abstract class BaseContainer implements Container, EjbContainerFacade, Ja
         ejbIntfMethodInfo = new InvocationInfo[EJB_INTF_METHODS_LENGTH];
         for (int i = 0; i < ejbIntfMethods.length; i++) {
             Method m = ejbIntfMethods[i];
-            ejbIntfMethodInfo[i] = invocationInfoMap.get(m);
+            ejbIntfMethodInfo[i] = proxyInvocationInfoMap.get(m);
+        }
+
+        if (hasLocalBusinessView) {
+            initializeGeneratedLocalViews();
+        }
+    }
+
+    /**
+     * Generates the local business view classes if the local-view-type property is "generated".
+     * Any business interface which can't have one keeps the dynamic proxy.
+     */
+    private void initializeGeneratedLocalViews() {
+        String viewType = getEnterpriseBeansProperty(LOCAL_VIEW_TYPE_PROP);
+        if (viewType == null || PROXY_LOCAL_VIEW.equals(viewType)) {
+            return;
+        }
+        if (!GENERATED_LOCAL_VIEW.equals(viewType)) {
+            _logger.log(Level.WARNING, "Unknown {0} {1} of {2}, using {3}",
+                new Object[] {LOCAL_VIEW_TYPE_PROP, viewType, ejbDescriptor.getName(), PROXY_LOCAL_VIEW});
+            return;
+        }
+
+        Map<Class<?>, GeneratedLocalView> views = new HashMap<>();
+        for (Class<?> businessIntf : localBusinessIntfs) {
+            try {
+                Class<?> viewClass = LocalBusinessViewGenerator.generate(loader, businessIntf);
+                Method[] methods = LocalBusinessViewGenerator.getViewMethods(businessIntf);
+                InvocationInfo[] infos = new InvocationInfo[methods.length];
+                for (int i = 0; i < methods.length; i++) {
+                    infos[i] = proxyInvocationInfoMap.get(methods[i], methods[i].getParameterCount());
+                    if (infos[i] == null) {
+                        throw new GeneratorException("Unknown method " + methods[i]);
+                    }
+                    if (infos[i].isBusinessMethod && infos[i].targetMethod1 != null && infos[i].targetMethodHandle == null) {
+                        infos[i].targetMethodHandle = getTargetMethodHandle(infos[i].targetMethod1);
+                    }
+                }
+                views.put(businessIntf, new GeneratedLocalView(viewClass.getConstructor(LocalBusinessView.Dispatcher.class), methods, infos));
+            } catch (GeneratorException | ClassDefinitionException | NoSuchMethodException e) {
+                _logger.log(Level.WARNING, "Cannot generate the local business view of " + businessIntf.getName()
+                    + " for " + ejbDescriptor.getName() + ", using a dynamic proxy.", e);
+            }
+        }
+        generatedLocalViews = views;
+    }
+
+    /**
+     * @return spreader of the bean method of type (Object, Object[])Object, or null if the method is not accessible.
+     */
+    private MethodHandle getTargetMethodHandle(Method targetMethod) {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(targetMethod);
+            return handle.asType(handle.type().generic()).asSpreader(Object[].class, targetMethod.getParameterCount());
+        } catch (IllegalAccessException e) {
+            _logger.log(FINE, "Bean method " + targetMethod + " will be invoked by reflection.", e);
+            return null;
         }
     }
 
@@ -3260,6 +3396,13 @@ public abstract class BaseContainer implements Container, EjbContainerFacade, Ja
         localBusinessObjImpl.setContainer(this);
 
         for (Class businessIntfClass : localBusinessIntfs) {
+            GeneratedLocalView view = generatedLocalViews == null ? null : generatedLocalViews.get(businessIntfClass);
+            if (view != null) {
+                EJBLocalObjectInvocationHandlerDelegate delegate = new EJBLocalObjectInvocationHandlerDelegate(businessIntfClass,
+                        getContainerId(), handler, view.methods, view.invocationInfos);
+                localBusinessObjImpl.mapClientObject(businessIntfClass.getName(), view.constructor.newInstance(delegate));
+                continue;
+            }
             EJBLocalObjectInvocationHandlerDelegate delegate = new EJBLocalObjectInvocationHandlerDelegate(businessIntfClass,
                     getContainerId(), handler);
             Proxy proxy = (Proxy) Proxy.newProxyInstance(loader, new Class[] { IndirectlySerializable.class, businessIntfClass }, delegate);
@@ -3517,6 +3660,21 @@ public abstract class BaseContainer implements Container, EjbContainerFacade, Ja
         }
     }
 
+    /**
+     * Reports how long a deployment phase of this container took.
+     *
+     * @param phase {@link #DEPLOYMENT_LOAD_PHASE} or {@link #DEPLOYMENT_START_PHASE}
+     * @param nanos duration of the phase
+     */
+    public void deploymentPhaseCompleted(String phase, long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        _logger.log(FINE, "Deployment phase {0} of {1} took {2} ms", new Object[] {phase, ejbDescriptor.getName(), millis});
+        if (ejbProbeNotifier != null) {
+            ejbProbeNotifier.deploymentPhaseEvent(getContainerId(), containerInfo.appName, containerInfo.modName,
+                containerInfo.ejbName, phase, millis);
+        }
+    }
+
     @Override
     public final void onEnteringContainer() {
         ejbProbeNotifier.ejbContainerEnteringEvent(getContainerId(), containerInfo.appName, containerInfo.modName, containerInfo.ejbName);
@@ -3600,7 +3758,7 @@ public abstract class BaseContainer implements Container, EjbContainerFacade, Ja
                 return inv.getBeanMethod().invoke(inv.ejb, inv.methodParams);
             }
 
-            return securityManager.invoke(target, beanClassMethod, params);
+            return invokeSecured(inv, target, beanClassMethod, params);
 
         } catch (InvocationTargetException ite) {
             inv.exception = ite.getCause();
@@ -4112,12 +4270,29 @@ public abstract class BaseContainer implements Container, EjbContainerFacade, Ja
      */
     public Object invokeBeanMethod(EjbInvocation invocation) throws Throwable {
         try {
-            return securityManager.invoke(invocation.ejb, invocation.getBeanMethod(), invocation.getParameters());
+            return invokeSecured(invocation, invocation.ejb, invocation.getBeanMethod(), invocation.getParameters());
         } catch (InvocationTargetException ite) {
             throw ite.getCause();
         }
     }
 
+    /**
+     * Invokes the bean method by the method handle of the invocation info if it has one, otherwise by the
+     * security manager. Exceptions thrown by the bean method are wrapped in an InvocationTargetException.
+     */
+    private Object invokeSecured(EjbInvocation inv, Object target, Method beanClassMethod, Object[] params) throws Throwable {
+        InvocationInfo info = inv.invocationInfo;
+        if (info != null && info.targetMethodHandle != null && beanClassMethod == info.targetMethod1
+            && securityManager instanceof EJBSecurityManager) {
+            try {
+                return ((EJBSecurityManager) securityManager).invoke(target, info.targetMethodHandle, params);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+        return securityManager.invoke(target, beanClassMethod, params);
+    }
+
     protected abstract EjbMonitoringStatsProvider getMonitoringStatsProvider(String appName, String modName, String ejbName);
 
     protected void createMonitoringRegistry() {
@@ -4233,6 +4408,15 @@ public abstract class BaseContainer implements Container, EjbContainerFacade, Ja
         timerProbeNotifier.ejbTimerDeliveredEvent();
     }
 
+    /**
+     * Called when the delivery of a timeout starts.
+     *
+     * @param lag milliseconds between the scheduled and the actual start of the delivery
+     */
+    protected void timerDeliveryStarted(long lag) {
+        timerProbeNotifier.ejbTimerDeliveryLagEvent(lag);
+    }
+
     private static class JndiInfo {
         SimpleJndiName name;
         Object object;
@@ -4349,6 +4533,22 @@ public abstract class BaseContainer implements Container, EjbContainerFacade, Ja
         boolean classLoaderSwitched;
     }
 
+    /**
+     * Generated local business view class of a business interface with the resolved methods of the view.
+     */
+    private static final class GeneratedLocalView {
+
+        private final Constructor<?> constructor;
+        private final Method[] methods;
+        private final InvocationInfo[] invocationInfos;
+
+        GeneratedLocalView(Constructor<?> constructor, Method[] methods, InvocationInfo[] invocationInfos) {
+            this.constructor = constructor;
+            this.methods = methods;
+            this.invocationInfos = invocationInfos;
+        }
+    }
+
 } // BaseContainer class
 
 final class CallFlowInfoImpl implements CallFlowInfo {
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.ejb.containers;
+
+import com.sun.ejb.containers.StatefulSessionContainer.EEMRefInfo;
+import com.sun.enterprise.container.common.spi.util.GlassFishOutputStreamHandler;
+import com.sun.enterprise.container.common.spi.util.JavaEEIOUtils;
+import com.sun.enterprise.container.common.spi.util.SerializableObjectFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * Default codec of the stateful session bean state.
+ * <p>
+ * The state of the {@link SessionContextImpl} known to the container is written directly: a flag
+ * byte, the version, the time of the last checkpoint and the instance key converted by the
+ * {@link com.sun.ejb.spi.sfsb.util.SFSBUUIDUtil} of the container. Only the interceptors, the
+ * extended entity managers and the bean go through the object stream, which still replaces EJB
+ * references, handles and JNDI contexts. References to the context from the bean or its
+ * interceptors are written as a marker resolved to the new context on activation, so the
+ * descriptors of the context class hierarchy and its fields are not written at all.
+ * <p>
+ * Data without the magic number of this codec are decoded by the Java serialization.
+ */
+final class CompactSFSBStateCodec implements SFSBStateCodec {
+
+    private static final int MAGIC = 0x53465342;
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final int COMPLETED_TX_STATUS = 1;
+    private static final int AFTER_COMPLETION_DELAYED = 1 << 1;
+    private static final int TX_COMPLETING = 1 << 2;
+    private static final int IN_AFTER_COMPLETION = 1 << 3;
+    private static final int EXISTS_IN_STORE = 1 << 4;
+    private static final int TX_CHECKPOINT_DELAYED = 1 << 5;
+    private static final int IN_LIFECYCLE_CALLBACK = 1 << 6;
+
+    /** Contexts being encoded and decoded by the current thread. */
+    private static final ThreadLocal<SessionContextImpl> ENCODED_CONTEXT = new ThreadLocal<>();
+    private static final ThreadLocal<SessionContextImpl> DECODED_CONTEXT = new ThreadLocal<>();
+
+    private final SFSBStateCodec fallback = new JavaSFSBStateCodec();
+
+    @Override
+    public byte[] encode(SessionContextImpl context, StatefulSessionContainer container) throws IOException {
+        JavaEEIOUtils ioUtils = EjbContainerUtilImpl.getInstance().getJavaEEIOUtils();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        out.writeByte(toFlags(context));
+        out.writeLong(context.getVersion());
+        out.writeLong(context.getLastPersistedAt());
+        Object instanceKey = context.getInstanceKey();
+        if (instanceKey == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] key = container.getSFSBUUIDUtil().keyToByteArray(instanceKey);
+            out.writeInt(key.length);
+            out.write(key);
+        }
+        out.flush();
+
+        ENCODED_CONTEXT.set(context);
+        try (ObjectOutputStream oos = ioUtils.createObjectOutputStream(bytes, true)) {
+            oos.writeObject(context.getInterceptorInstances());
+            Collection<EEMRefInfo> eemRefInfos = context.getAllEEMRefInfos();
+            oos.writeInt(eemRefInfos.size());
+            for (EEMRefInfo eemRefInfo : eemRefInfos) {
+                oos.writeObject(eemRefInfo);
+            }
+            oos.writeObject(context.getEJB());
+            oos.flush();
+        } finally {
+            ENCODED_CONTEXT.remove();
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public SessionContextImpl decode(byte[] data, StatefulSessionContainer container) throws Exception {
+        if (!isCompact(data)) {
+            return fallback.decode(data, container);
+        }
+        ByteArrayInputStream bytes = new ByteArrayInputStream(data);
+        DataInputStream in = new DataInputStream(bytes);
+        in.readInt();
+        byte formatVersion = in.readByte();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new StreamCorruptedException("Unsupported format version of the bean state: " + formatVersion);
+        }
+
+        SessionContextImpl context = new SessionContextImpl(null, container);
+        fromFlags(context, in.readByte());
+        context.setVersion(in.readLong());
+        context.setLastPersistedAt(in.readLong());
+        int keyLength = in.readInt();
+        if (keyLength >= 0) {
+            byte[] key = new byte[keyLength];
+            in.readFully(key);
+            context.setInstanceKey(container.getSFSBUUIDUtil().byteArrayToKey(key, 0, keyLength));
+        }
+
+        JavaEEIOUtils ioUtils = EjbContainerUtilImpl.getInstance().getJavaEEIOUtils();
+        DECODED_CONTEXT.set(context);
+        try (ObjectInputStream ois = ioUtils.createObjectInputStream(bytes, true, container.getClassLoader())) {
+            context.setInterceptorInstances((Object[]) ois.readObject());
+            int eemRefInfoCount = ois.readInt();
+            Collection<EEMRefInfo> eemRefInfos = new HashSet<>(Math.max(16, eemRefInfoCount * 2));
+            for (int i = 0; i < eemRefInfoCount; i++) {
+                eemRefInfos.add((EEMRefInfo) ois.readObject());
+            }
+            context.setEEMRefInfos(eemRefInfos);
+            context.setEJB(ois.readObject());
+        } finally {
+            DECODED_CONTEXT.remove();
+        }
+        return context;
+    }
+
+    static boolean isCompact(byte[] data) {
+        return data.length > 4 && ((data[0] & 0xff) << 24 | (data[1] & 0xff) << 16 | (data[2] & 0xff) << 8 | (data[3] & 0xff)) == MAGIC;
+    }
+
+    private static int toFlags(SessionContextImpl context) {
+        int flags = 0;
+        if (context.getCompletedTxStatus()) {
+            flags |= COMPLETED_TX_STATUS;
+        }
+        if (context.isAfterCompletionDelayed()) {
+            flags |= AFTER_COMPLETION_DELAYED;
+        }
+        if (context.isTxCompleting()) {
+            flags |= TX_COMPLETING;
+        }
+        if (context.isInAfterCompletion()) {
+            flags |= IN_AFTER_COMPLETION;
+        }
+        if (context.existsInStore()) {
+            flags |= EXISTS_IN_STORE;
+        }
+        if (context.isTxCheckpointDelayed()) {
+            flags |= TX_CHECKPOINT_DELAYED;
+        }
+        if (context.getInLifeCycleCallback()) {
+            flags |= IN_LIFECYCLE_CALLBACK;
+        }
+        return flags;
+    }
+
+    private static void fromFlags(SessionContextImpl context, int flags) {
+        context.setCompletedTxStatus((flags & COMPLETED_TX_STATUS) != 0);
+        context.setAfterCompletionDelayed((flags & AFTER_COMPLETION_DELAYED) != 0);
+        context.setTxCompleting((flags & TX_COMPLETING) != 0);
+        context.setInAfterCompletion((flags & IN_AFTER_COMPLETION) != 0);
+        context.setExistsInStore((flags & EXISTS_IN_STORE) != 0);
+        context.setTxCheckpointDelayed((flags & TX_CHECKPOINT_DELAYED) != 0);
+        context.setInLifeCycleCallback((flags & IN_LIFECYCLE_CALLBACK) != 0);
+    }
+
+    /**
+     * Replaces the context being encoded by the current thread with a {@link ContextReference}.
+     * Registered with the {@link JavaEEIOUtils} by the {@link EjbContainerUtilImpl}.
+     */
+    static final class ContextReferenceOutputStreamHandler implements GlassFishOutputStreamHandler {
+
+        @Override
+        public Object replaceObject(Object obj) throws IOException {
+            SessionContextImpl context = ENCODED_CONTEXT.get();
+            return context != null && obj == context ? ContextReference.INSTANCE : null;
+        }
+    }
+
+    /**
+     * Reference to the context of the bean, resolved to the context being decoded by the current thread.
+     */
+    private static final class ContextReference implements SerializableObjectFactory {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final ContextReference INSTANCE = new ContextReference();
+
+        @Override
+        public Object createObject() throws IOException {
+            SessionContextImpl context = DECODED_CONTEXT.get();
+            if (context == null) {
+                throw new StreamCorruptedException("Reference to the context of a stateful session bean out of its state");
+            }
+            return context;
+        }
+    }
+}
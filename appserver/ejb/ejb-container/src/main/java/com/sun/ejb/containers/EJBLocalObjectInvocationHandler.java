@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -108,6 +108,14 @@ public final class EJBLocalObjectInvocationHandler extends EJBLocalObjectImpl im
 
 
     Object invoke(Class clientInterface, Method method, Object[] args) throws Throwable {
+        return invoke(clientInterface, method, null, args);
+    }
+
+
+    /**
+     * @param invInfo invocation info of the method if the caller knows it, otherwise null
+     */
+    Object invoke(Class clientInterface, Method method, InvocationInfo invInfo, Object[] args) throws Throwable {
         ClassLoader originalClassLoader = null;
 
         // NOTE : be careful with "args" parameter.  It is null
@@ -126,16 +134,18 @@ public final class EJBLocalObjectInvocationHandler extends EJBLocalObjectImpl im
             }
 
             Class<?> methodClass = method.getDeclaringClass();
-            if (methodClass == java.lang.Object.class) {
-                return InvocationHandlerUtil.invokeJavaObjectMethod(this, method, args);
-            } else if (methodClass == IndirectlySerializable.class) {
-                return this.getSerializableObjectFactory();
-            }
-
-            // Use optimized version of get that takes param count as an argument.
-            InvocationInfo invInfo = invocationInfoMap_.get(method, ((args != null) ? args.length : 0));
             if (invInfo == null) {
-                throw new IllegalStateException("Unknown method :" + method);
+                if (methodClass == java.lang.Object.class) {
+                    return InvocationHandlerUtil.invokeJavaObjectMethod(this, method, args);
+                } else if (methodClass == IndirectlySerializable.class) {
+                    return this.getSerializableObjectFactory();
+                }
+
+                // Use optimized version of get that takes param count as an argument.
+                invInfo = invocationInfoMap_.get(method, ((args != null) ? args.length : 0));
+                if (invInfo == null) {
+                    throw new IllegalStateException("Unknown method :" + method);
+                }
             }
 
             if ((methodClass == jakarta.ejb.EJBLocalObject.class) || invInfo.ejbIntfOverride) {
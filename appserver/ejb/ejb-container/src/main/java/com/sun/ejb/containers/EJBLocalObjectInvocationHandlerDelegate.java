@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -17,6 +17,7 @@
 
 package com.sun.ejb.containers;
 
+import com.sun.ejb.InvocationInfo;
 import com.sun.enterprise.container.common.spi.util.IndirectlySerializable;
 import com.sun.enterprise.container.common.spi.util.SerializableObjectFactory;
 
@@ -31,22 +32,40 @@ import java.lang.reflect.Method;
  * All java.lang.Object methods and methods of {@link IndirectlySerializable} are handled by this
  * {@link InvocationHandler} itself while the business interface methods are delegated
  * to the delegate (which is the {@link EJBLocalObjectInvocationHandler}).
+ * <p>
+ * It is also the {@link LocalBusinessView.Dispatcher} of a generated local business view.
+ * The methods of the view and their {@link InvocationInfo}s are resolved in advance then.
  *
  * @author Mahesh Kannan
  */
-public class EJBLocalObjectInvocationHandlerDelegate implements InvocationHandler, IndirectlySerializable {
+public class EJBLocalObjectInvocationHandlerDelegate implements InvocationHandler, LocalBusinessView.Dispatcher {
 
     private final Class<?> intfClass;
     private final long containerId;
     private final EJBLocalObjectInvocationHandler delegate;
     private final boolean isOptionalLocalBusinessView;
+    private final Method[] viewMethods;
+    private final InvocationInfo[] viewInvocationInfos;
 
     EJBLocalObjectInvocationHandlerDelegate(Class<?> intfClass, long containerId,
         EJBLocalObjectInvocationHandler delegate) {
+        this(intfClass, containerId, delegate, null, null);
+    }
+
+    /**
+     * Constructor used for generated local business views.
+     *
+     * @param viewMethods methods of the view in the order of their indexes
+     * @param viewInvocationInfos invocation infos of the methods, null if not known
+     */
+    EJBLocalObjectInvocationHandlerDelegate(Class<?> intfClass, long containerId,
+        EJBLocalObjectInvocationHandler delegate, Method[] viewMethods, InvocationInfo[] viewInvocationInfos) {
         this.intfClass = intfClass;
         this.containerId = containerId;
         this.delegate = delegate;
         this.isOptionalLocalBusinessView = delegate.isOptionalLocalBusinessView();
+        this.viewMethods = viewMethods;
+        this.viewInvocationInfos = viewInvocationInfos;
     }
 
 
@@ -62,6 +81,11 @@ public class EJBLocalObjectInvocationHandlerDelegate implements InvocationHandle
         }
     }
 
+    @Override
+    public Object invoke(int methodIndex, Object[] args) throws Throwable {
+        return delegate.invoke(intfClass, viewMethods[methodIndex], viewInvocationInfos[methodIndex], args);
+    }
+
     EJBLocalObjectInvocationHandler getDelegate() {
         return delegate;
     }
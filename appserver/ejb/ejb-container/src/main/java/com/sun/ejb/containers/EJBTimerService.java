@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -46,6 +46,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -131,6 +132,18 @@ public class EJBTimerService {
     private static final String RESCHEDULE_FAILED_TIMER = "reschedule-failed-timer";
     private boolean rescheduleFailedTimer;
 
+    // Resolution of the timer wheel arming the timer expirations
+    private static final String TIMER_WHEEL_TICK = "timer-wheel-tick-in-millis";
+    private static final long DEFAULT_TIMER_WHEEL_TICK = 10;
+    private long timerWheelTick_ = DEFAULT_TIMER_WHEEL_TICK;
+
+    // Size of the dedicated pool delivering the timeouts, 0 to use the ejb container thread pool
+    private static final String TIMEOUT_DELIVERY_THREADS = "timeout-delivery-threads";
+    private int timeoutDeliveryThreads_;
+
+    private final EJBTimerWheel timerWheel_;
+    private final EjbThreadPoolExecutor timeoutDeliveryPool_;
+
     // Flag that allows to load EJBTimerService on the 1st access and
     // distinguish between not available and not loaded
     private static volatile boolean _timerServiceVerified;
@@ -151,6 +164,15 @@ public class EJBTimerService {
         isDas = env.isDas() || env.isEmbedded();
 
         initProperties();
+
+        timerWheel_ = new EJBTimerWheel("ejb-timer-wheel", timerWheelTick_);
+        timerWheel_.start();
+        if (timeoutDeliveryThreads_ > 0) {
+            timeoutDeliveryPool_ = new EjbThreadPoolExecutor(timeoutDeliveryThreads_, timeoutDeliveryThreads_, 60L,
+                new LinkedBlockingQueue<>(), "ejb-timer-delivery-thread-");
+        } else {
+            timeoutDeliveryPool_ = null;
+        }
     }
 
     protected static void setEJBTimerService(EJBTimerService es) {
@@ -253,6 +275,18 @@ public class EJBTimerService {
 
                 rescheduleFailedTimer = Boolean.valueOf(ejbt.getPropertyValue(RESCHEDULE_FAILED_TIMER));
 
+                valString = ejbt.getPropertyValue(TIMER_WHEEL_TICK);
+                val = (valString != null) ? Long.parseLong(valString) : -1;
+                if( val > 0 ) {
+                    timerWheelTick_ = val;
+                }
+
+                valString = ejbt.getPropertyValue(TIMEOUT_DELIVERY_THREADS);
+                val = (valString != null) ? Long.parseLong(valString) : -1;
+                if( val > 0 ) {
+                    timeoutDeliveryThreads_ = (int) val;
+                }
+
                 // Load confing listener
                 ejbContainerUtil.getServices().getService(EJBTimerServiceConfigListener.class);
             }
@@ -265,7 +299,9 @@ public class EJBTimerService {
         logger.log(Level.FINE, "EJB Timer Service properties : " +
                    "min delivery interval = " + getMinimumDeliveryInterval() +
                    "\nmax redeliveries = " + maxRedeliveries_ +
-                   "\nredelivery interval = " + getRedeliveryInterval());
+                   "\nredelivery interval = " + getRedeliveryInterval() +
+                   "\ntimer wheel tick = " + timerWheelTick_ +
+                   "\ntimeout delivery threads = " + timeoutDeliveryThreads_);
     }
 
     synchronized void timedObjectCount() {
@@ -337,6 +373,17 @@ public class EJBTimerService {
         shutdown_ = true;
     }
 
+    /**
+     * Stops arming the timer expirations and releases the delivery threads.
+     * Called on the server shutdown.
+     */
+    protected void stopTimerEngine() {
+        timerWheel_.stop();
+        if (timeoutDeliveryPool_ != null) {
+            timeoutDeliveryPool_.shutdown();
+        }
+    }
+
     /**
      * Destroy all timers associated with a particular ejb container
      * This is typically called when an ejb is undeployed.  It expunges
@@ -446,8 +493,7 @@ public class EJBTimerService {
                     timerState.scheduled(timerTask);
                 }
 
-                java.util.Timer jdkTimer = ejbContainerUtil.getTimer();
-                jdkTimer.schedule(timerTask, timerExpiration);
+                timerWheel_.schedule(timerTask);
             }
         } else {
 
@@ -1081,7 +1127,7 @@ public class EJBTimerService {
     /**
      * Called from timer thread.  Used to deliver ejb timeout.
      */
-    private void deliverTimeout(TimerPrimaryKey timerId) {
+    private void deliverTimeout(TimerPrimaryKey timerId, Date timeout) {
 
         if( logger.isLoggable(Level.FINE) ) {
             logger.log(Level.FINE, "EJBTimerService.deliverTimeout(): work "
@@ -1102,7 +1148,7 @@ public class EJBTimerService {
 
         //
         // Make some defensive state checks.  It's possible that the
-        // timer state changed between the time that the JDK timer task expired
+        // timer state changed between the time that the timer wheel task expired
         // and we got called on this thread.
         //
 
@@ -1131,6 +1177,9 @@ public class EJBTimerService {
             }
         }
 
+        // Time between the scheduled and the actual start of the delivery
+        container.timerDeliveryStarted(System.currentTimeMillis() - timeout.getTime());
+
         try {
             agent.requestStart(RequestType.TIMER_EJB);
             container.onEnteringContainer();
@@ -1232,7 +1281,7 @@ public class EJBTimerService {
 
                     // Any necessary transactional operations would have
                     // been handled in postEjbTimeout callback.  Here, we
-                    // just schedule the JDK timer task for the next ejbTimeout
+                    // just schedule the timer wheel task for the next ejbTimeout
 
                     Date expiration = calcNextFixedRateExpiration(timerState);
                     if (expiration != null) {
@@ -1367,12 +1416,12 @@ public class EJBTimerService {
 
     /**
      * This method is called back from the EJBTimerTask object
-     * on the JDK Timer Thread.  Work performed in this callback
+     * on the timer wheel thread.  Work performed in this callback
      * should be short-lived, so do a little bookkeeping and then
      * launch a separate thread to invoke ejbTimeout, etc.
      */
 
-    void taskExpired(TimerPrimaryKey timerId) {
+    void taskExpired(TimerPrimaryKey timerId, Date timeout) {
         RuntimeTimerState timerState = getTimerState(timerId);
 
         if( timerState != null ) {
@@ -1385,8 +1434,7 @@ public class EJBTimerService {
                            "Adding work pool task for timer " + timerId);
                     }
 
-                    TaskExpiredWork work = new TaskExpiredWork(this, timerId);
-                    ejbContainerUtil.addWork(work);
+                    executeWork(new TaskExpiredWork(this, timerId, timeout));
                 } else {
                     logger.log(Level.FINE, "Timer " + timerId +
                                " is not in scheduled state.  Current state = "
@@ -1400,6 +1448,25 @@ public class EJBTimerService {
         return;
     }
 
+    /**
+     * Executes the work on the thread pool delivering the timeouts.
+     */
+    protected void executeWork(Runnable work) {
+        if (timeoutDeliveryPool_ == null) {
+            ejbContainerUtil.addWork(work);
+        } else {
+            timeoutDeliveryPool_.execute(work);
+        }
+    }
+
+    /**
+     * Schedules the work to be executed on the thread pool delivering
+     * the timeouts after the given delay.
+     */
+    protected void scheduleWork(Runnable work, long delayInMillis) {
+        timerWheel_.schedule(new ScheduledWorkTask(System.currentTimeMillis() + delayInMillis, work, this));
+    }
+
     /**
      * Generate a unique key for the persistent timer object.
      * Key must be unique across server shutdown and startup, and
@@ -1488,7 +1555,7 @@ public class EJBTimerService {
             TimerPrimaryKey timerId, long containerId, String ownerId,
             boolean persistent) throws Exception {
 
-        // Only proceed with JDK timer task cancellation if this timer
+        // Only proceed with timer wheel task cancellation if this timer
         // is owned by the current server instance.
         if( context_ == null || timerOwnedByThisServer(ownerId) ) {
 
@@ -1604,6 +1671,7 @@ public class EJBTimerService {
         }
 
         _timerService.shutdown();
+        _timerService.stopTimerEngine();
         DateFormat dateFormat =
             new SimpleDateFormat(TIMER_SERVICE_DOWNTIME_FORMAT);
         String downTimeStr = dateFormat.format(new Date());
@@ -1677,7 +1745,7 @@ public class EJBTimerService {
     // this server instance*.  It is not transactionally
     // consistent.  Operations requiring those semantics should query
     // the database for TimerBean info.  Any timer for which there is an
-    // active JDK timer task must be contained within this cache.
+    // active timer wheel task must be contained within this cache.
     //
     // Note : this class supports concurrent access.
     //
@@ -1875,21 +1943,40 @@ public class EJBTimerService {
     private static class TaskExpiredWork implements Runnable {
         private final EJBTimerService timerService_;
         private final TimerPrimaryKey timerId_;
+        private final Date timeout_;
 
         public TaskExpiredWork(EJBTimerService timerService,
-                               TimerPrimaryKey timerId) {
+                               TimerPrimaryKey timerId, Date timeout) {
             timerService_ = timerService;
             timerId_ = timerId;
+            timeout_ = timeout;
         }
 
         @Override
         public void run() {
             // Delegate to Timer Service.
-            timerService_.deliverTimeout(timerId_);
+            timerService_.deliverTimeout(timerId_, timeout_);
         }
 
     } // TaskExpiredWork
 
+    private static class ScheduledWorkTask extends EJBTimerWheel.Task {
+        private final Runnable work_;
+        private final EJBTimerService timerService_;
+
+        ScheduledWorkTask(long deadline, Runnable work, EJBTimerService timerService) {
+            super(deadline);
+            work_ = work;
+            timerService_ = timerService;
+        }
+
+        @Override
+        public void run() {
+            timerService_.executeWork(work_);
+        }
+
+    } // ScheduledWorkTask
+
     private static class TimerSynch implements Synchronization {
 
         private final TimerPrimaryKey timerId_;
@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.containers;
+
+import com.sun.logging.LogDomains;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Hierarchical timing wheel arming the EJB timer expirations.
+ * <p>
+ * The first level has a slot per tick, each further level has slots covering 64 times longer
+ * periods and is cascaded into the lower levels as the wheel turns. Tasks beyond the last level
+ * wait in an overflow slot. Scheduling and cancelling are constant time regardless of the number
+ * of armed timers, and a task never fires before its deadline.
+ * <p>
+ * A single daemon thread turns the wheel and runs the expired tasks. The tasks are expected to
+ * only hand the expiration over to an executor, see {@link EJBTimerService#taskExpired}; a task
+ * failing does not stop the wheel as it would stop a {@link java.util.Timer}. The thread sleeps
+ * until the tick of the next armed task or of the next cascade of a slot holding tasks, and while
+ * no task is armed.
+ */
+final class EJBTimerWheel {
+
+    private static final Logger logger = LogDomains.getLogger(EJBTimerWheel.class, LogDomains.EJB_LOGGER);
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 5;
+    private static final int OVERFLOW = LEVELS * SLOTS;
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final Task[] slots = new Task[OVERFLOW + 1];
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition armed = lock.newCondition();
+    private final Thread thread;
+
+    // guarded by lock
+    private long currentTick;
+    private int size;
+    private boolean stopped;
+    // tick the thread sleeps until, Long.MAX_VALUE while no task is armed
+    private long wakeTick = Long.MAX_VALUE;
+    private long turnCount;
+
+    /**
+     * @param name name of the wheel thread
+     * @param tickMillis resolution of the wheel
+     */
+    EJBTimerWheel(String name, long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = System.currentTimeMillis();
+        this.thread = new Thread(this::turn, name);
+        this.thread.setDaemon(true);
+        // The wheel lives longer than the deployed applications, see issue 17468
+        this.thread.setContextClassLoader(null);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Stops the wheel. Armed tasks and tasks scheduled later are discarded without running.
+     */
+    void stop() {
+        lock.lock();
+        try {
+            stopped = true;
+            armed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Arms the task to run at its deadline, or as soon as possible if the deadline has passed.
+     *
+     * @return false if the wheel is stopped and the task will never run
+     * @throws IllegalStateException if the task was already scheduled
+     */
+    boolean schedule(Task task) {
+        lock.lock();
+        try {
+            synchronized (task) {
+                if (task.state != Task.NEW) {
+                    throw new IllegalStateException("Task already scheduled or cancelled");
+                }
+                if (stopped) {
+                    return false;
+                }
+                task.wheel = this;
+                task.state = Task.ARMED;
+            }
+            if (size == 0) {
+                // the wheel was idle, skip the ticks which passed meanwhile
+                currentTick = Math.max(currentTick, (System.currentTimeMillis() - startMillis) / tickMillis);
+            }
+            task.tick = toTick(task.deadline);
+            place(task, currentTick + 1);
+            size++;
+            if (Math.max(task.tick, currentTick + 1) < wakeTick) {
+                // the thread sleeps longer than the task may wait
+                armed.signal();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of the armed tasks
+     */
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return how many times the thread woke up to advance the wheel
+     */
+    long getTurnCount() {
+        lock.lock();
+        try {
+            return turnCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean cancel(Task task) {
+        lock.lock();
+        try {
+            if (task.state != Task.ARMED) {
+                task.state = Task.CANCELLED;
+                return false;
+            }
+            unlink(task);
+            task.state = Task.CANCELLED;
+            size--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long toTick(long millis) {
+        // round up, a task must never fire early
+        long elapsed = millis - startMillis;
+        return elapsed <= 0 ? 0 : (elapsed + tickMillis - 1) / tickMillis;
+    }
+
+    private void turn() {
+        while (true) {
+            List<Task> expired;
+            lock.lock();
+            try {
+                long now = System.currentTimeMillis();
+                wakeTick = size == 0 ? Long.MAX_VALUE : nextEventTick();
+                while (!stopped && (size == 0 || now < startMillis + wakeTick * tickMillis)) {
+                    if (size == 0) {
+                        armed.await();
+                    } else {
+                        armed.await(startMillis + wakeTick * tickMillis - now, TimeUnit.MILLISECONDS);
+                    }
+                    now = System.currentTimeMillis();
+                    wakeTick = size == 0 ? Long.MAX_VALUE : nextEventTick();
+                }
+                if (stopped) {
+                    return;
+                }
+                wakeTick = currentTick;
+                turnCount++;
+                expired = advance((now - startMillis) / tickMillis);
+            } catch (InterruptedException e) {
+                logger.log(Level.FINE, "EJB timer wheel interrupted", e);
+                return;
+            } finally {
+                lock.unlock();
+            }
+            for (Task task : expired) {
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    logger.log(Level.WARNING, "EJB timer task " + task + " failed", t);
+                }
+            }
+        }
+    }
+
+    private List<Task> advance(long targetTick) {
+        List<Task> expired = new ArrayList<>();
+        while (currentTick < targetTick && size > 0) {
+            currentTick++;
+            // higher levels first, so the cascaded tasks due now land in the slot processed below
+            if ((currentTick & ((1L << (SLOT_BITS * LEVELS)) - 1)) == 0) {
+                cascade(OVERFLOW);
+            }
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level * SLOTS + (int) ((currentTick >> (SLOT_BITS * level)) & SLOT_MASK));
+                }
+            }
+            int slot = (int) (currentTick & SLOT_MASK);
+            Task task = slots[slot];
+            slots[slot] = null;
+            while (task != null) {
+                Task next = task.next;
+                task.state = Task.EXPIRED;
+                task.slot = -1;
+                task.prev = null;
+                task.next = null;
+                expired.add(task);
+                size--;
+                task = next;
+            }
+        }
+        if (size == 0 && currentTick < targetTick) {
+            // nothing armed, skip the idle ticks
+            currentTick = targetTick;
+        }
+        return expired;
+    }
+
+    /**
+     * @return the first tick after the current one with a non-empty slot of the first level or
+     *         with a cascade of a non-empty slot of a higher level
+     */
+    private long nextEventTick() {
+        long next = Long.MAX_VALUE;
+        for (int i = 1; i <= SLOTS; i++) {
+            if (slots[(int) ((currentTick + i) & SLOT_MASK)] != null) {
+                next = currentTick + i;
+                break;
+            }
+        }
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            long currentUnit = currentTick >> shift;
+            for (int i = 0; i < SLOTS; i++) {
+                if (slots[level * SLOTS + i] != null) {
+                    // the slot is cascaded when the digit of this level becomes i
+                    long unit = currentUnit + ((i - currentUnit) & SLOT_MASK);
+                    if (unit <= currentUnit) {
+                        unit += SLOTS;
+                    }
+                    next = Math.min(next, unit << shift);
+                }
+            }
+        }
+        if (slots[OVERFLOW] != null) {
+            int shift = SLOT_BITS * LEVELS;
+            next = Math.min(next, ((currentTick >> shift) + 1) << shift);
+        }
+        return next;
+    }
+
+    private void cascade(int slot) {
+        Task task = slots[slot];
+        slots[slot] = null;
+        while (task != null) {
+            Task next = task.next;
+            place(task, currentTick);
+            task = next;
+        }
+    }
+
+    private void place(Task task, long earliestTick) {
+        long tick = Math.max(task.tick, earliestTick);
+        long delay = tick - currentTick;
+        int slot = OVERFLOW;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delay < 1L << (SLOT_BITS * (level + 1))) {
+                slot = level * SLOTS + (int) ((tick >> (SLOT_BITS * level)) & SLOT_MASK);
+                break;
+            }
+        }
+        task.slot = slot;
+        task.prev = null;
+        task.next = slots[slot];
+        if (task.next != null) {
+            task.next.prev = task;
+        }
+        slots[slot] = task;
+    }
+
+    private void unlink(Task task) {
+        if (task.prev == null) {
+            slots[task.slot] = task.next;
+        } else {
+            task.prev.next = task.next;
+        }
+        if (task.next != null) {
+            task.next.prev = task.prev;
+        }
+        task.prev = null;
+        task.next = null;
+        task.slot = -1;
+    }
+
+    /**
+     * Task armed on the wheel. A task can be scheduled once.
+     */
+    abstract static class Task implements Runnable {
+
+        private static final int NEW = 0;
+        private static final int ARMED = 1;
+        private static final int EXPIRED = 2;
+        private static final int CANCELLED = 3;
+
+        private final long deadline;
+
+        // guarded by this task
+        private EJBTimerWheel wheel;
+
+        // guarded by the wheel lock, and by this task until the task is scheduled
+        private int state;
+        private long tick;
+        private int slot = -1;
+        private Task prev;
+        private Task next;
+
+        /**
+         * @param deadline time in milliseconds when the task should run
+         */
+        protected Task(long deadline) {
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return time in milliseconds when the task should run
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Cancels the task.
+         *
+         * @return true if this prevented the task from running
+         */
+        public boolean cancel() {
+            EJBTimerWheel owner;
+            synchronized (this) {
+                owner = wheel;
+                if (owner == null) {
+                    // not scheduled yet, the wheel refuses to schedule it
+                    state = CANCELLED;
+                    return false;
+                }
+            }
+            return owner.cancel(this);
+        }
+    }
+}
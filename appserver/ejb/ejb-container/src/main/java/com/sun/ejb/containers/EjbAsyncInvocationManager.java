@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -129,7 +130,7 @@ public class EjbAsyncInvocationManager {
         futureTask.getEjbAsyncTask().initialize(asyncInv);
 
         EjbContainerUtil ejbContainerUtil = EjbContainerUtilImpl.getInstance();
-        return ejbContainerUtil.getThreadPoolExecutor(null).submit(futureTask.getEjbAsyncTask());
+        return ejbContainerUtil.getAsyncExecutorService().submit(futureTask.getEjbAsyncTask());
     }
 
     public void cleanupContainerTasks(Container container) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -177,6 +177,10 @@ public class EjbContainerServicesImpl implements EjbContainerServices {
 
         EJBLocalObjectInvocationHandlerDelegate localObj = null;
 
+        if (ejbRef instanceof LocalBusinessView) {
+            return ((EJBLocalObjectInvocationHandlerDelegate) ((LocalBusinessView) ejbRef).__getDispatcher()).getDelegate();
+        }
+
         // First try to convert it as a local or remote business interface object
         try {
             localObj = (EJBLocalObjectInvocationHandlerDelegate) Proxy.getInvocationHandler(ejbRef);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -31,6 +31,7 @@ import jakarta.transaction.Transaction;
 
 import java.util.Timer;
 import java.util.Vector;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import org.glassfish.api.invocation.ComponentInvocation;
@@ -58,6 +59,11 @@ public interface EjbContainerUtil {
 
     String DEFAULT_THREAD_POOL_NAME = "__ejb-thread-pool";
 
+    String ASYNC_THREAD_TYPE = "async-thread-type";
+    String ASYNC_MAX_CONCURRENCY = "async-max-concurrency";
+    String PLATFORM_ASYNC_THREADS = "platform";
+    String VIRTUAL_ASYNC_THREADS = "virtual";
+
     // Used by the TimerService upgrade
     long MINIMUM_TIMER_DELIVERY_INTERVAL = 1000;
 
@@ -134,6 +140,12 @@ public interface EjbContainerUtil {
 
     ThreadPoolExecutor getThreadPoolExecutor(String poolName);
 
+    /**
+     * @return executor of the asynchronous EJB invocations: the default thread pool, or an
+     *         {@link EjbVirtualThreadExecutor} if the async-thread-type property is virtual.
+     */
+    ExecutorService getAsyncExecutorService();
+
     JavaEEIOUtils getJavaEEIOUtils();
 
     Deployment getDeployment();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 2008, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -48,6 +48,7 @@ import java.util.Timer;
 import java.util.Vector;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -86,6 +87,8 @@ public class EjbContainerUtilImpl implements PostConstruct, PreDestroy, EjbConta
 
     private ThreadPoolExecutor defaultThreadPoolExecutor;
 
+    private ExecutorService asyncExecutorService;
+
     @Inject
     private ServiceLocator services;
 
@@ -168,6 +171,7 @@ public class EjbContainerUtilImpl implements PostConstruct, PreDestroy, EjbConta
         }
 
         defaultThreadPoolExecutor = createThreadPoolExecutor(DEFAULT_THREAD_POOL_NAME);
+        asyncExecutorService = createAsyncExecutorService();
 
         //avoid starting JDK timer in application class loader.  The life of _timer
         //field is longer than deployed apps, and any reference to app class loader
@@ -184,12 +188,17 @@ public class EjbContainerUtilImpl implements PostConstruct, PreDestroy, EjbConta
 
         EJBObjectOutputStreamHandler.setJavaEEIOUtils(javaEEIOUtils);
         javaEEIOUtils.addGlassFishOutputStreamHandler(new EJBObjectOutputStreamHandler());
+        javaEEIOUtils.addGlassFishOutputStreamHandler(new CompactSFSBStateCodec.ContextReferenceOutputStreamHandler());
         javaEEIOUtils.addGlassFishInputStreamHandler(new EJBObjectInputStreamHandler());
         _me = this;
     }
 
     @Override
     public void preDestroy() {
+        if (asyncExecutorService != null && asyncExecutorService != defaultThreadPoolExecutor) {
+            asyncExecutorService.shutdown();
+        }
+        asyncExecutorService = null;
         if (defaultThreadPoolExecutor != null) {
             defaultThreadPoolExecutor.shutdown();
             defaultThreadPoolExecutor = null;
@@ -513,6 +522,46 @@ public class EjbContainerUtilImpl implements PostConstruct, PreDestroy, EjbConta
         return result;
     }
 
+    private ExecutorService createAsyncExecutorService() {
+        String threadType = ejbContainer.getPropertyValue(ASYNC_THREAD_TYPE);
+        if (threadType == null || PLATFORM_ASYNC_THREADS.equals(threadType.trim())) {
+            return defaultThreadPoolExecutor;
+        }
+        if (!VIRTUAL_ASYNC_THREADS.equals(threadType.trim())) {
+            _logger.log(Level.WARNING, "Unknown {0} {1}, using {2}",
+                new Object[] {ASYNC_THREAD_TYPE, threadType, PLATFORM_ASYNC_THREADS});
+            return defaultThreadPoolExecutor;
+        }
+        int maxConcurrency = initAsyncMaxConcurrency(ejbContainer.getPropertyValue(ASYNC_MAX_CONCURRENCY));
+        ExecutorService result = new EjbVirtualThreadExecutor(DEFAULT_THREAD_POOL_NAME + "-virtual-", maxConcurrency);
+        if (_logger.isLoggable(Level.FINE)) {
+            _logger.fine("Created " + result.toString());
+        }
+        return result;
+    }
+
+    static int initAsyncMaxConcurrency(String propertyValue) {
+        int maxConcurrency = EjbContainer.DEFAULT_ASYNC_MAX_CONCURRENCY;
+        if (propertyValue == null) {
+            return maxConcurrency;
+        }
+        try {
+            int configMaxConcurrency = Integer.parseInt(propertyValue.trim());
+            if (configMaxConcurrency >= 0) {
+                maxConcurrency = configMaxConcurrency;
+            } else {
+                _logger.warning(ASYNC_MAX_CONCURRENCY
+                        + " < 0 using default value "
+                        + EjbContainer.DEFAULT_ASYNC_MAX_CONCURRENCY);
+            }
+        } catch (NumberFormatException e) {
+            _logger.warning(ASYNC_MAX_CONCURRENCY
+                    + " is not a number, using default value "
+                    + EjbContainer.DEFAULT_ASYNC_MAX_CONCURRENCY);
+        }
+        return maxConcurrency;
+    }
+
     static int initCorePoolSize(String propertyValue) {
         int corePoolSize = EjbContainer.DEFAULT_THREAD_CORE_POOL_SIZE;
         if (propertyValue == null) {
@@ -595,6 +644,11 @@ public class EjbContainerUtilImpl implements PostConstruct, PreDestroy, EjbConta
 //        TODO retrieve the named ThreadPoolExecutor
     }
 
+    @Override
+    public ExecutorService getAsyncExecutorService() {
+        return asyncExecutorService;
+    }
+
     @Override
     public JavaEEIOUtils getJavaEEIOUtils() {
         return javaEEIOUtils;
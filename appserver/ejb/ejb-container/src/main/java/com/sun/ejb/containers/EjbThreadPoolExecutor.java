@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -64,6 +65,16 @@ public class EjbThreadPoolExecutor extends ThreadPoolExecutor {
     @Override
     protected void afterExecute(Runnable r, Throwable t) {
         super.afterExecute(r, t);
+        clearThreadTransaction();
+    }
+
+    /**
+     * Rolls back or clears the transaction the task left on the current thread.
+     */
+    static void clearThreadTransaction() {
+        if (!EjbContainerUtilImpl.isInitialized()) {
+            return;
+        }
         try {
             JavaEETransactionManager tm = EjbContainerUtilImpl.getInstance().getTransactionManager();
             if (tm.getTransaction() != null) {
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.ejb.containers;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Executes every task on a new virtual thread.
+ * <p>
+ * Used for the asynchronous EJB invocations when the async-thread-type property of the
+ * ejb-container is virtual. The number of tasks running concurrently is limited by a semaphore
+ * instead of the number of threads: the tasks over the limit wait for a permit on their own
+ * virtual thread, so the caller never blocks and the queue of tasks doesn't hold any platform
+ * thread. The invocation context, security context and transaction are set by the
+ * {@link EjbAsyncTask} itself, the same way as on the platform threads of the
+ * {@link EjbThreadPoolExecutor}.
+ */
+public class EjbVirtualThreadExecutor extends AbstractExecutorService {
+
+    private final ThreadFactory threadFactory;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition terminated = lock.newCondition();
+    private int taskCount;
+    private boolean shutdown;
+
+    /**
+     * @param threadNamePrefix prefix of the thread names
+     * @param maxConcurrency maximal number of tasks running concurrently, 0 for no limit
+     */
+    public EjbVirtualThreadExecutor(String threadNamePrefix, int maxConcurrency) {
+        this(Thread.ofVirtual().name(threadNamePrefix, 1).inheritInheritableThreadLocals(false).factory(), maxConcurrency);
+    }
+
+    EjbVirtualThreadExecutor(ThreadFactory threadFactory, int maxConcurrency) {
+        this.threadFactory = threadFactory;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+    }
+
+    /**
+     * Ensure that we give out our EjbFutureTask as opposed to JDK's FutureTask
+     */
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        if (callable instanceof EjbAsyncTask) {
+            return ((EjbAsyncTask) callable).getFutureTask();
+        }
+        return super.newTaskFor(callable);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        lock.lock();
+        try {
+            if (shutdown) {
+                throw new RejectedExecutionException("Executor was shut down, rejected " + command);
+            }
+            taskCount++;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            threadFactory.newThread(() -> run(command)).start();
+        } catch (RuntimeException | Error e) {
+            taskDone();
+            throw e;
+        }
+    }
+
+    private void run(Runnable command) {
+        Thread thread = Thread.currentThread();
+        threads.add(thread);
+        try {
+            if (permits != null) {
+                permits.acquire();
+            }
+            try {
+                command.run();
+            } finally {
+                if (permits != null) {
+                    permits.release();
+                }
+                EjbThreadPoolExecutor.clearThreadTransaction();
+            }
+        } catch (InterruptedException e) {
+            // shutdownNow before the task got a permit
+            if (command instanceof Future) {
+                ((Future<?>) command).cancel(false);
+            }
+        } finally {
+            threads.remove(thread);
+            taskDone();
+        }
+    }
+
+    private void taskDone() {
+        lock.lock();
+        try {
+            taskCount--;
+            if (shutdown && taskCount == 0) {
+                terminated.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of tasks waiting for a permit or running.
+     */
+    public int getTaskCount() {
+        lock.lock();
+        try {
+            return taskCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        lock.lock();
+        try {
+            shutdown = true;
+            if (taskCount == 0) {
+                terminated.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Interrupts the running tasks. The tasks waiting for a permit are cancelled, so the returned
+     * list is always empty.
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        return List.of();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        lock.lock();
+        try {
+            return shutdown;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isTerminated() {
+        lock.lock();
+        try {
+            return shutdown && taskCount == 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (!shutdown || taskCount > 0) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = terminated.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("EjbVirtualThreadExecutor with ");
+        sb.append("async-max-concurrency ").append(maxConcurrency).append(' ');
+        sb.append("tasks ").append(getTaskCount()).append(' ');
+        if (permits != null) {
+            sb.append("available-permits ").append(permits.availablePermits()).append(' ');
+        }
+        return sb.toString();
+    }
+}
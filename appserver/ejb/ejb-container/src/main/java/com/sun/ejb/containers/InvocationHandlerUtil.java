@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -44,8 +45,13 @@ public final class InvocationHandlerUtil {
             case 'e' :
                 boolean result = false;
                 if (args[0] != null) {
-                    Object other = Proxy.isProxyClass(args[0].getClass()) ?
+                    Object other;
+                    if (args[0] instanceof LocalBusinessView) {
+                        other = ((LocalBusinessView) args[0]).__getDispatcher();
+                    } else {
+                        other = Proxy.isProxyClass(args[0].getClass()) ?
                             Proxy.getInvocationHandler(args[0]) : args[0];
+                    }
                             result = handler.equals(other);
                 }
                 returnValue = result;
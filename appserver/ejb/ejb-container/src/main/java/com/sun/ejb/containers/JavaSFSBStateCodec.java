@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.ejb.containers;
+
+import java.io.IOException;
+
+/**
+ * Codec writing the whole {@link SessionContextImpl} by the Java serialization.
+ */
+final class JavaSFSBStateCodec implements SFSBStateCodec {
+
+    @Override
+    public byte[] encode(SessionContextImpl context, StatefulSessionContainer container) throws IOException {
+        return EjbContainerUtilImpl.getInstance().getJavaEEIOUtils().serializeObject(context, true);
+    }
+
+    @Override
+    public SessionContextImpl decode(byte[] data, StatefulSessionContainer container) throws Exception {
+        return (SessionContextImpl) EjbContainerUtilImpl.getInstance().getJavaEEIOUtils().deserializeObject(data, true,
+            container.getClassLoader());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.containers;
+
+import com.sun.enterprise.container.common.spi.util.IndirectlySerializable;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Local business view of a bean implemented by a class generated by
+ * {@link com.sun.ejb.codegen.LocalBusinessViewGenerator} instead of a {@link Proxy}.
+ * <p>
+ * Every business method of the generated class passes its index and arguments to the
+ * {@link Dispatcher}, so the invocation does not need to look up the {@link java.lang.reflect.Method}
+ * and its {@link com.sun.ejb.InvocationInfo}.
+ */
+public interface LocalBusinessView extends IndirectlySerializable {
+
+    /**
+     * @return the dispatcher the view was created with.
+     */
+    Dispatcher __getDispatcher();
+
+    /**
+     * Implementation of {@link Object#equals(Object)} of generated views.
+     *
+     * @param dispatcher dispatcher of the view
+     * @param other the other view, a proxy or null
+     * @return true if both views dispatch to the same bean
+     */
+    static boolean equals(Dispatcher dispatcher, Object other) {
+        if (other instanceof LocalBusinessView) {
+            return dispatcher.equals(((LocalBusinessView) other).__getDispatcher());
+        }
+        if (other != null && Proxy.isProxyClass(other.getClass())) {
+            return dispatcher.equals(Proxy.getInvocationHandler(other));
+        }
+        return false;
+    }
+
+    /**
+     * Target of invocations of a generated view.
+     */
+    interface Dispatcher extends IndirectlySerializable {
+
+        /**
+         * @param methodIndex index of the method in the array returned by
+         *            {@link com.sun.ejb.codegen.LocalBusinessViewGenerator#getViewMethods(Class)}
+         * @param args arguments of the invocation, null if the method has no parameters
+         * @return the return value of the method, boxed if primitive
+         * @throws Throwable the exception thrown by the bean or the container
+         */
+        Object invoke(int methodIndex, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.ejb.containers;
+
+import com.sun.ejb.spi.container.SFSBContainerCallback;
+import com.sun.ejb.spi.container.StatefulEJBContext;
+import com.sun.logging.LogDomains;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded queue of stateful session beans trimmed from the bean cache and waiting for passivation.
+ * <p>
+ * The beans are passivated in batches of {@link SFSBContainerCallback#getPassivationBatchCount()}
+ * by drainer threads dedicated to one container, so the thread trimming the cache (usually a
+ * request thread adding a new bean) only enqueues. A new drainer is started for every full batch
+ * waiting, up to the number of threads of the queue. When the queue is full, {@link #offer} returns
+ * false and the caller has to passivate the bean itself, which throttles the creation of new beans
+ * to the speed of the backing store.
+ */
+final class SFSBPassivationQueue {
+
+    private static final Logger LOG = LogDomains.getLogger(SFSBPassivationQueue.class, LogDomains.EJB_LOGGER);
+
+    private static final long SHUTDOWN_TIMEOUT_IN_SECONDS = 60L;
+
+    private final String name;
+    private final SFSBContainerCallback container;
+    private final BlockingQueue<StatefulEJBContext> queue;
+    private final int capacity;
+    private final int maxDrainers;
+    private final EjbThreadPoolExecutor drainers;
+    private final AtomicInteger activeDrainers = new AtomicInteger();
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    private volatile boolean closed;
+
+    /**
+     * @param name name of the queue, used to name the drainer threads
+     * @param container container passivating the beans
+     * @param capacity maximal number of beans waiting for passivation
+     * @param threads maximal number of threads passivating the beans concurrently
+     */
+    SFSBPassivationQueue(String name, SFSBContainerCallback container, int capacity, int threads) {
+        this.name = name;
+        this.container = container;
+        this.capacity = capacity;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxDrainers = threads;
+        this.drainers = new EjbThreadPoolExecutor(threads, threads, 60L, new LinkedBlockingQueue<>(), name + "-passivator-");
+        this.drainers.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Enqueues the bean for passivation.
+     *
+     * @param context context of the bean trimmed from the cache
+     * @return false if the queue is full or closed, the caller has to passivate the bean then.
+     */
+    boolean offer(StatefulEJBContext context) {
+        if (closed || !queue.offer(context)) {
+            overflows.increment();
+            return false;
+        }
+        enqueued.increment();
+        startDrainers();
+        return true;
+    }
+
+    /**
+     * @return number of beans waiting for passivation
+     */
+    int size() {
+        return queue.size();
+    }
+
+    /**
+     * Stops the drainers and waits for the batches being passivated.
+     *
+     * @return beans still waiting for passivation, the caller decides what to do with them.
+     */
+    List<StatefulEJBContext> close() {
+        closed = true;
+        drainers.shutdown();
+        try {
+            if (!drainers.awaitTermination(SHUTDOWN_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+                LOG.log(Level.WARNING, "Passivation of {0} did not finish in {1} seconds",
+                    new Object[] {name, SHUTDOWN_TIMEOUT_IN_SECONDS});
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<StatefulEJBContext> remaining = new ArrayList<>(queue.size());
+        queue.drainTo(remaining);
+        return remaining;
+    }
+
+    @Override
+    public String toString() {
+        return "passivationQSz=" + queue.size() + "; passivationQCapacity=" + capacity + "; activeDrainers="
+            + activeDrainers.get() + "; enqueued=" + enqueued.sum() + "; overflows=" + overflows.sum() + "; batches="
+            + batches.sum();
+    }
+
+    private void startDrainers() {
+        while (!closed) {
+            int active = activeDrainers.get();
+            int required = Math.min(maxDrainers, Math.max(1, queue.size() / container.getPassivationBatchCount()));
+            if (active >= required) {
+                return;
+            }
+            if (activeDrainers.compareAndSet(active, active + 1)) {
+                try {
+                    drainers.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    activeDrainers.decrementAndGet();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void drain() {
+        final Thread currentThread = Thread.currentThread();
+        final ClassLoader previousClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(container.getClassLoader());
+        try {
+            int batchSize = container.getPassivationBatchCount();
+            List<StatefulEJBContext> batch = new ArrayList<>(batchSize);
+            while (!closed && queue.drainTo(batch, batchSize) > 0) {
+                batches.increment();
+                for (StatefulEJBContext context : batch) {
+                    try {
+                        container.passivateEJB(context);
+                    } catch (Throwable t) {
+                        LOG.log(Level.WARNING, "Passivation of a bean from " + name + " failed", t);
+                    }
+                }
+                batch.clear();
+            }
+        } finally {
+            currentThread.setContextClassLoader(previousClassLoader);
+            activeDrainers.decrementAndGet();
+        }
+        // a bean could have been enqueued while this drainer was leaving
+        if (!queue.isEmpty()) {
+            startDrainers();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.ejb.containers;
+
+import java.io.IOException;
+
+/**
+ * Converts the conversational state of a stateful session bean to the bytes saved in the
+ * {@link org.glassfish.ha.store.api.BackingStore} on passivation and checkpoint, and back on activation.
+ * <p>
+ * The codec is chosen by the sfsb-state-codec property of the enterprise-beans element in
+ * glassfish-ejb-jar.xml, or of the ejb-container: {@value StatefulSessionContainer#JAVA_STATE_CODEC},
+ * {@value StatefulSessionContainer#COMPACT_STATE_CODEC} (the default) or the name of a class
+ * implementing this interface with a public no-arg constructor. Implementations must be thread safe.
+ * <p>
+ * Every codec must be able to decode the data written by the Java serialization, so beans passivated
+ * before the codec was changed can still be activated.
+ */
+public interface SFSBStateCodec {
+
+    /**
+     * @param context context of the bean, the bean itself is already replaced by a serializable
+     *            wrapper if its class doesn't implement {@link java.io.Serializable}.
+     * @param container container of the bean
+     * @return the state of the bean
+     * @throws IOException if the state cannot be serialized
+     */
+    byte[] encode(SessionContextImpl context, StatefulSessionContainer container) throws IOException;
+
+    /**
+     * @param data the state of the bean returned by {@link #encode}
+     * @param container container of the bean
+     * @return the context of the bean, not yet activated
+     * @throws Exception if the state cannot be deserialized
+     */
+    SessionContextImpl decode(byte[] data, StatefulSessionContainer container) throws Exception;
+}
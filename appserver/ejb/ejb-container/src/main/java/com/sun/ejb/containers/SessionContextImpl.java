@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -247,6 +248,10 @@ public final class SessionContextImpl
         inAfterCompletion = flag;
     }
 
+    boolean isInAfterCompletion() {
+        return inAfterCompletion;
+    }
+
     void setInLifeCycleCallback(boolean s) {
         inLifeCycleCallback = s;
     }
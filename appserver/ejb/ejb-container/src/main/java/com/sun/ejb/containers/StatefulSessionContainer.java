@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -89,10 +89,12 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -191,9 +193,6 @@ public final class StatefulSessionContainer extends BaseContainer implements Cac
     @LogMessageInfo(message = "[{0}]: Error while  undeploying ctx. Key: [{1}]", level = "WARNING")
     private static final String ERROR_WHILE_UNDEPLOYING_CTX_KEY = "AS-EJB-00031";
 
-    @LogMessageInfo(message = "Cannot add idle bean cleanup task", level = "WARNING")
-    private static final String ADD_CLEANUP_TASK_ERROR = "AS-EJB-00032";
-
     @LogMessageInfo(message = "Got exception during removeExpiredSessions (but the reaper thread is still alive)", level = "WARNING")
     private static final String GOT_EXCEPTION_DURING_REMOVE_EXPIRED_SESSIONS = "AS-EJB-00033";
 
@@ -213,18 +212,27 @@ public final class StatefulSessionContainer extends BaseContainer implements Cac
     // We do not want too many ORB task for passivation
     public static final int MIN_PASSIVATION_BATCH_COUNT = 8;
 
+    /** Codec writing the {@link SessionContextImpl} by the Java serialization. */
+    public static final String JAVA_STATE_CODEC = "java";
+    /** Codec writing the state known to the container directly, see {@link CompactSFSBStateCodec}. */
+    public static final String COMPACT_STATE_CODEC = "compact";
+
+    private static final String SFSB_STATE_CODEC_PROP = "sfsb-state-codec";
+    private static final String PASSIVATION_QUEUE_CAPACITY_PROP = "sfsb-passivation-queue-capacity";
+    private static final String PASSIVATION_THREADS_PROP = "sfsb-passivation-threads";
+
+    private static final int DEFAULT_PASSIVATION_QUEUE_CAPACITY = 10000;
+    private static final int DEFAULT_PASSIVATION_THREADS = 2;
+
     private final static long CONCURRENCY_NOT_ALLOWED = 0;
     private final static long BLOCK_INDEFINITELY = -1;
 
-    private final ArrayList passivationCandidates = new ArrayList();
-    private final Object asyncTaskSemaphore = new Object();
-
-    private int asyncTaskCount = 0;
-    private int asyncCummTaskCount = 0;
+    private SFSBPassivationQueue passivationQueue;
+    private SFSBStateCodec stateCodec;
 
     private int passivationBatchCount = MIN_PASSIVATION_BATCH_COUNT;
 
-    private int containerTrimCount = 0;
+    private final AtomicInteger containerTrimCount = new AtomicInteger();
 
     private LruSessionCache sessionBeanCache;
     private BackingStore<Serializable, SimpleMetadata> backingStore;
@@ -305,9 +313,51 @@ public final class StatefulSessionContainer extends BaseContainer implements Cac
         super.initializeHome();
         initSessionSyncMethods();
         loadCheckpointInfo();
+        stateCodec = createStateCodec();
+        passivationQueue = new SFSBPassivationQueue("sfsb-" + ejbName, this,
+            getPositiveEnterpriseBeansProperty(PASSIVATION_QUEUE_CAPACITY_PROP, DEFAULT_PASSIVATION_QUEUE_CAPACITY),
+            getPositiveEnterpriseBeansProperty(PASSIVATION_THREADS_PROP, DEFAULT_PASSIVATION_THREADS));
         registerMonitorableComponents();
     }
 
+    /**
+     * Creates the codec given by the sfsb-state-codec property, see {@link SFSBStateCodec}.
+     */
+    private SFSBStateCodec createStateCodec() {
+        String codec = getEnterpriseBeansProperty(SFSB_STATE_CODEC_PROP);
+        if (codec == null || COMPACT_STATE_CODEC.equals(codec)) {
+            return new CompactSFSBStateCodec();
+        }
+        if (JAVA_STATE_CODEC.equals(codec)) {
+            return new JavaSFSBStateCodec();
+        }
+        try {
+            return Class.forName(codec, true, loader).asSubclass(SFSBStateCodec.class).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            _logger.log(WARNING, "Cannot create the {0} {1} of {2}, using {3}",
+                new Object[] {SFSB_STATE_CODEC_PROP, codec, ejbName, COMPACT_STATE_CODEC});
+            _logger.log(FINE, "Cannot create the state codec " + codec, e);
+            return new CompactSFSBStateCodec();
+        }
+    }
+
+    private int getPositiveEnterpriseBeansProperty(String name, int defaultValue) {
+        String value = getEnterpriseBeansProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value.trim());
+            if (intValue > 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            // logged below
+        }
+        _logger.log(WARNING, "Invalid {0} {1} of {2}, using {3}", new Object[] {name, value, ejbName, defaultValue});
+        return defaultValue;
+    }
+
     private void initSessionSyncMethods() throws Exception {
         if (SessionSynchronization.class.isAssignableFrom(ejbClass)) {
             try {
@@ -399,6 +449,7 @@ public final class StatefulSessionContainer extends BaseContainer implements Cac
         super.registerMonitorableComponents();
         cacheProbeListener = new EjbCacheStatsProvider(sessionBeanCache, getContainerId(), containerInfo.appName, containerInfo.modName,
                 containerInfo.ejbName);
+        cacheProbeListener.setPassivationQueueDepth(passivationQueue::size);
         cacheProbeListener.register();
 
         if (isHAEnabled) {
@@ -434,9 +485,8 @@ public final class StatefulSessionContainer extends BaseContainer implements Cac
 
     public String getMonitorAttributeValues() {
         StringBuilder sbuf = new StringBuilder();
-        sbuf.append(" { asyncTaskCount=").append(asyncTaskCount).append("; asyncCummTaskCount=").append(asyncCummTaskCount)
-                .append("; passivationBatchCount=").append(passivationBatchCount).append("; passivationQSz=")
-                .append(passivationCandidates.size()).append("; trimEventCount=").append(containerTrimCount).append(" }");
+        sbuf.append(" { passivationBatchCount=").append(passivationBatchCount).append("; ").append(passivationQueue)
+                .append("; trimEventCount=").append(containerTrimCount.get()).append(" }");
         return sbuf.toString();
     }
 
@@ -2200,14 +2250,18 @@ public final class StatefulSessionContainer extends BaseContainer implements Cac
         }
     }
 
+    // called by the cache when the bean is passivated
     @Override
     public byte[] serializeContext(StatefulEJBContext ctx) throws IOException {
-        return serializeContext((SessionContextImpl) ctx.getSessionContext());
+        byte[] data = serializeContext((SessionContextImpl) ctx.getSessionContext());
+        cacheProbeNotifier.ejbPassivatedStateSizeEvent(getContainerId(), containerInfo.appName, containerInfo.modName,
+                containerInfo.ejbName, data.length);
+        return data;
     }
 
     @Override
     public Object deserializeData(byte[] data) throws Exception {
-        Object object = ejbContainerUtilImpl.getJavaEEIOUtils().deserializeObject(data, true, getClassLoader());
+        Object object = stateCodec.decode(data, this);
         if (object instanceof SessionContextImpl) {
             SessionContextImpl ctx = (SessionContextImpl) object;
             Object ejb = ctx.getEJB();
@@ -2237,7 +2291,7 @@ public final class StatefulSessionContainer extends BaseContainer implements Cac
             ctx.setEJB(null);
             ctx.setEJB(new SerializableEJB(ejb));
         }
-        return ejbContainerUtilImpl.getJavaEEIOUtils().serializeObject(ctx, true);
+        return stateCodec.encode(ctx, this);
     }
 
     private void decrementRefCountsForEEMs(SessionContextImpl context) {
@@ -2413,16 +2467,8 @@ public final class StatefulSessionContainer extends BaseContainer implements Cac
                 _logger.log(Level.INFO, SFSB_NOT_RESTORED_AFTER_RESTART);
             }
             sessionBeanCache.shutdown();
-            while (true) {
-                ComponentContext ctx = null;
-                synchronized (asyncTaskSemaphore) {
-                    int sz = passivationCandidates.size();
-                    if (sz > 0) {
-                        ctx = (ComponentContext) passivationCandidates.remove(sz - 1);
-                    } else {
-                        break;
-                    }
-                }
+            // beans trimmed from the cache, but not passivated yet
+            for (StatefulEJBContext ctx : closePassivationQueue()) {
                 passivateEJB(ctx);
             }
 
@@ -2457,17 +2503,8 @@ public final class StatefulSessionContainer extends BaseContainer implements Cac
                 invokePreDestroyAndUndeploy(ctx);
             }
 
-            while (true) {
-                SessionContextImpl ctx = null;
-                synchronized (asyncTaskSemaphore) {
-                    int sz = passivationCandidates.size();
-                    if (sz > 0) {
-                        ctx = (SessionContextImpl) passivationCandidates.remove(sz - 1);
-                        invokePreDestroyAndUndeploy(ctx);
-                    } else {
-                        break;
-                    }
-                }
+            for (StatefulEJBContext ctx : closePassivationQueue()) {
+                invokePreDestroyAndUndeploy((SessionContextImpl) ctx);
             }
 
             sessionBeanCache.destroy();
@@ -2490,6 +2527,10 @@ public final class StatefulSessionContainer extends BaseContainer implements Cac
         }
     }
 
+    private List<StatefulEJBContext> closePassivationQueue() {
+        return passivationQueue == null ? List.of() : passivationQueue.close();
+    }
+
     private void invokePreDestroyAndUndeploy(SessionContextImpl ctx) {
         try {
             ctx.setInEjbRemove(true);
@@ -2600,42 +2641,24 @@ public final class StatefulSessionContainer extends BaseContainer implements Cac
     // CacheListener interface
     @Override
     public void trimEvent(Object primaryKey, Object context) {
-        boolean addTask = false;
-        synchronized (asyncTaskSemaphore) {
-            containerTrimCount++;
-            passivationCandidates.add(context);
-            int requiredTaskCount = (passivationCandidates.size() / passivationBatchCount);
-            addTask = (asyncTaskCount < requiredTaskCount);
-
-            if (_logger.isLoggable(FINE)) {
-                _logger.log(FINE,
-                        "qSize: " + passivationCandidates.size() + "; batchCount: " + passivationBatchCount + "; asyncTaskCount: "
-                                + asyncTaskCount + "; requiredTaskCount: " + requiredTaskCount + "; ADDED TASK ==> " + addTask);
-            }
-
-            if (addTask == false) {
-                return;
-            }
-            asyncTaskCount++;
-            asyncCummTaskCount++;
+        containerTrimCount.incrementAndGet();
+        StatefulEJBContext sfsbCtx = (StatefulEJBContext) context;
+        if (!passivationQueue.offer(sfsbCtx)) {
+            // The queue is full, the thread trimming the cache has to wait for the passivation
+            _logger.log(FINE, "Passivation queue of {0} is full, passivating {1} on the calling thread",
+                    new Object[] {ejbName, primaryKey});
+            passivateEJB(sfsbCtx);
         }
-
-        try {
-            ASyncPassivator work = new ASyncPassivator();
-            ejbContainerUtilImpl.addWork(work);
-        } catch (Exception ex) {
-            synchronized (asyncTaskSemaphore) {
-                asyncTaskCount--;
-            }
-            _logger.log(WARNING, ADD_CLEANUP_TASK_ERROR, ex);
-        }
-
     }
 
     public void setSFSBUUIDUtil(SFSBUUIDUtil util) {
         this.uuidGenerator = util;
     }
 
+    SFSBUUIDUtil<Object> getSFSBUUIDUtil() {
+        return uuidGenerator;
+    }
+
     public void setHAEnabled(boolean isHAEnabled) {
         this.isHAEnabled = isHAEnabled;
     }
@@ -2960,47 +2983,6 @@ public final class StatefulSessionContainer extends BaseContainer implements Cac
 
     }
 
-    private class ASyncPassivator implements Runnable {
-
-        @Override
-        public void run() {
-            final Thread currentThread = Thread.currentThread();
-            final ClassLoader previousClassLoader = currentThread.getContextClassLoader();
-            final ClassLoader myClassLoader = loader;
-
-            boolean decrementedTaskCount = false;
-            try {
-                // We need to set the context class loader for
-                // this (deamon) thread!!
-                currentThread.setContextClassLoader(myClassLoader);
-                ComponentContext ctx = null;
-
-                do {
-                    synchronized (asyncTaskSemaphore) {
-                        int sz = passivationCandidates.size();
-                        if (sz > 0) {
-                            ctx = (ComponentContext) passivationCandidates.remove(sz - 1);
-                        } else {
-                            return;
-                        }
-                    }
-                    passivateEJB(ctx);
-                } while (true);
-
-            } catch (Throwable th) {
-                th.printStackTrace();
-            } finally {
-                if (!decrementedTaskCount) {
-                    synchronized (asyncTaskSemaphore) {
-                        asyncTaskCount--;
-                    }
-                }
-
-                currentThread.setContextClassLoader(previousClassLoader);
-            }
-        }
-    }
-
     static class EMNotSerializableException extends NotSerializableException {
 
         private static final long serialVersionUID = 1L;
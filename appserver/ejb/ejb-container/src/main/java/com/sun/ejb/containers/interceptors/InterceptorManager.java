@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -31,8 +31,10 @@ import jakarta.ejb.EJBException;
 import jakarta.interceptor.InvocationContext;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InaccessibleObjectException;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.security.PrivilegedActionException;
 import java.util.ArrayList;
@@ -42,6 +44,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -95,6 +98,10 @@ public class InterceptorManager {
 
     List<InterceptorDescriptor> frameworkInterceptors = new LinkedList<>();
 
+    // Around invoke chains of a non-ejb by its target class and the method of its client view,
+    // built at the first call of the method on an instance of the class
+    private final Map<Class<?>, Map<Method, ManagedMethod>> managedMethods = new ConcurrentHashMap<>();
+
     public InterceptorManager(Logger _logger, BaseContainer container, Class<?>[] lcAnnotationClasses, String[] pre30LCMethodNames) throws Exception {
         this._logger = _logger;
         this.container = container;
@@ -301,6 +308,28 @@ public class InterceptorManager {
         }
     }
 
+    /**
+     * Returns the around invoke chain of the method of a non-ejb with the bean class method it intercepts.
+     * The chain is built at the first call of the method on an instance of the target class and reused by all later
+     * calls on instances of that class.
+     *
+     * @param targetClass class of the target instance
+     * @param method method of the client view
+     * @return the chain and the bean class method
+     * @throws NoSuchMethodException if the target class doesn't have the method
+     */
+    ManagedMethod getManagedMethod(Class<?> targetClass, Method method) throws NoSuchMethodException {
+        Map<Method, ManagedMethod> classMethods = managedMethods.computeIfAbsent(targetClass, c -> new ConcurrentHashMap<>());
+        ManagedMethod managedMethod = classMethods.get(method);
+        if (managedMethod != null) {
+            return managedMethod;
+        }
+        Method beanClassMethod = targetClass.getMethod(method.getName(), method.getParameterTypes());
+        managedMethod = new ManagedMethod(targetClass, beanClassMethod, getAroundInvokeChain(null, beanClassMethod));
+        ManagedMethod previous = classMethods.putIfAbsent(method, managedMethod);
+        return previous == null ? managedMethod : previous;
+    }
+
     public boolean hasInterceptors() {
         return this.interceptorsExists;
     }
@@ -687,6 +716,35 @@ public class InterceptorManager {
         Object invokeNext(int index, AroundInvokeContext invCtx) throws Throwable;
     }
 
+    /**
+     * Around invoke chain of a method of a non-ejb with the handle of the intercepted bean class method.
+     */
+    static final class ManagedMethod {
+
+        final Class<?> targetClass;
+        final Method beanClassMethod;
+        final InterceptorChain chain;
+
+        // Spreader of the bean class method of type (Object, Object[])Object, null if it is not accessible
+        final MethodHandle beanClassMethodHandle;
+
+        ManagedMethod(Class<?> targetClass, Method beanClassMethod, InterceptorChain chain) {
+            this.targetClass = targetClass;
+            this.beanClassMethod = beanClassMethod;
+            this.chain = chain;
+            this.beanClassMethodHandle = toSpreader(beanClassMethod);
+        }
+
+        private static MethodHandle toSpreader(Method method) {
+            try {
+                MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+                return handle.asType(handle.type().generic()).asSpreader(Object[].class, method.getParameterCount());
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        }
+    }
+
 }
 
 class AroundInvokeChainImpl implements InterceptorManager.InterceptorChain {
@@ -720,9 +778,14 @@ class AroundInvokeChainImpl implements InterceptorManager.InterceptorChain {
 }
 
 class AroundInvokeInterceptor {
+    private static final MethodType INTERCEPTOR_METHOD_TYPE = MethodType.methodType(Object.class, Object.class, InvocationContext.class);
+
     protected int index;
     protected Method method;
 
+    // The method adapted to INTERCEPTOR_METHOD_TYPE, so it is invoked without reflection and its exceptions are not wrapped.
+    protected MethodHandle handle;
+
     AroundInvokeInterceptor(int index, Method method) {
         this.index = index;
         this.method = method;
@@ -732,6 +795,7 @@ class AroundInvokeInterceptor {
             if (!finalM.trySetAccessible()) {
                 throw new InaccessibleObjectException("Unable to make accessible: "+ finalM);
             }
+            handle = MethodHandles.lookup().unreflect(finalM).asType(INTERCEPTOR_METHOD_TYPE);
         } catch (Exception e) {
             throw new EJBException(e);
         }
@@ -739,11 +803,7 @@ class AroundInvokeInterceptor {
     }
 
     Object intercept(final InterceptorManager.AroundInvokeContext invCtx) throws Throwable {
-        try {
-            return method.invoke(invCtx.getInterceptorInstances()[index], invCtx);
-        } catch (InvocationTargetException invEx) {
-            throw invEx.getCause();
-        }
+        return (Object) handle.invokeExact(invCtx.getInterceptorInstances()[index], (InvocationContext) invCtx);
     }
 
     @Override
@@ -761,11 +821,7 @@ class BeanAroundInvokeInterceptor extends AroundInvokeInterceptor {
 
     @Override
     Object intercept(final InterceptorManager.AroundInvokeContext invCtx) throws Throwable {
-        try {
-            return method.invoke(invCtx.getTarget(), invCtx);
-        } catch (InvocationTargetException invEx) {
-            throw invEx.getCause();
-        }
+        return (Object) handle.invokeExact(invCtx.getTarget(), (InvocationContext) invCtx);
     }
 }
 
@@ -773,6 +829,9 @@ class CallbackInterceptor {
     protected int index;
     protected Method method;
 
+    // The method adapted to (Object, InvocationContext)Object, or to (Object)Object if it has no parameters.
+    protected MethodHandle handle;
+
     CallbackInterceptor(int index, Method method) {
         this.index = index;
         this.method = method;
@@ -781,6 +840,8 @@ class CallbackInterceptor {
             if (!method.trySetAccessible()) {
                 throw new InaccessibleObjectException("Unable to make accessible: " + method);
             }
+            MethodHandle unreflected = MethodHandles.lookup().unreflect(method);
+            handle = unreflected.asType(unreflected.type().generic());
         } catch (Exception e) {
             throw new EJBException(e);
         }
@@ -788,11 +849,7 @@ class CallbackInterceptor {
     }
 
     Object intercept(final CallbackInvocationContext invContext) throws Throwable {
-        try {
-            return method.invoke(invContext.getInterceptorInstances()[index], invContext);
-        } catch (java.lang.reflect.InvocationTargetException invEx) {
-            throw invEx.getCause();
-        }
+        return (Object) handle.invokeExact(invContext.getInterceptorInstances()[index], (Object) invContext);
     }
 
     boolean isBeanCallback() {
@@ -806,19 +863,19 @@ class CallbackInterceptor {
 }
 
 class BeanCallbackInterceptor extends CallbackInterceptor {
-    private static final Object[] NULL_ARGS = null;
+    private static final MethodType BEAN_CALLBACK_TYPE = MethodType.methodType(void.class, Object.class);
 
     BeanCallbackInterceptor(Method method) {
         super(-1, method);
+        // Bean class callbacks have no parameters and their result is not used
+        handle = handle.asType(BEAN_CALLBACK_TYPE);
     }
 
     @Override
     Object intercept(final CallbackInvocationContext invContext) throws Throwable {
+        handle.invokeExact(invContext.getTarget());
         try {
-            method.invoke(invContext.getTarget(), NULL_ARGS);
             return invContext.proceed();
-        } catch (InvocationTargetException invEx) {
-            throw invEx.getCause();
         } catch (PrivilegedActionException paEx) {
             Throwable th = paEx.getCause();
             if (th.getCause() != null) {
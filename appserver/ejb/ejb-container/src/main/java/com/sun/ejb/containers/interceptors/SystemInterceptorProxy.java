@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -27,8 +27,10 @@ import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.AroundTimeout;
 import jakarta.interceptor.InvocationContext;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InaccessibleObjectException;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 import static com.sun.enterprise.deployment.LifecycleCallbackDescriptor.CallbackType.AROUND_CONSTRUCT;
@@ -41,33 +43,31 @@ import static com.sun.enterprise.deployment.LifecycleCallbackDescriptor.Callback
  */
 public class SystemInterceptorProxy {
 
+    private static final MethodType CALL_TYPE = MethodType.methodType(Object.class, InvocationContext.class);
+
     // Won't actually be Serialized since it only applies to Stateless/Singleton
     public Object delegate;
 
-    private Method aroundConstruct;
-    private Method postConstruct;
-    private Method preDestroy;
-    private Method aroundInvoke;
-    private Method aroundTimeout;
+    // Methods of the delegate bound to it and adapted to CALL_TYPE
+    private MethodHandle aroundConstruct;
+    private MethodHandle postConstruct;
+    private MethodHandle preDestroy;
+    private MethodHandle aroundInvoke;
+    private MethodHandle aroundTimeout;
 
     public void setDelegate(Object delegate) {
         try {
             for (Method delegateMethod : delegate.getClass().getDeclaredMethods()) {
                 if (delegateMethod.getAnnotation(PostConstruct.class) != null) {
-                    postConstruct = delegateMethod;
-                    prepareMethod(delegateMethod);
+                    postConstruct = prepareMethod(delegateMethod, delegate);
                 } else if (delegateMethod.getAnnotation(PreDestroy.class) != null) {
-                    preDestroy = delegateMethod;
-                    prepareMethod(delegateMethod);
+                    preDestroy = prepareMethod(delegateMethod, delegate);
                 } else if (delegateMethod.getAnnotation(AroundInvoke.class) != null) {
-                    aroundInvoke = delegateMethod;
-                    prepareMethod(delegateMethod);
+                    aroundInvoke = prepareMethod(delegateMethod, delegate);
                 } else if (delegateMethod.getAnnotation(AroundTimeout.class) != null) {
-                    aroundTimeout = delegateMethod;
-                    prepareMethod(delegateMethod);
+                    aroundTimeout = prepareMethod(delegateMethod, delegate);
                 } else if (delegateMethod.getAnnotation(AroundConstruct.class) != null) {
-                    aroundConstruct = delegateMethod;
-                    prepareMethod(delegateMethod);
+                    aroundConstruct = prepareMethod(delegateMethod, delegate);
                 }
             }
         } catch (Exception e) {
@@ -102,19 +102,16 @@ public class SystemInterceptorProxy {
         return doCall(ctx, aroundTimeout);
     }
 
-    private Object doCall(InvocationContext ctx, Method method) throws Exception {
+    private Object doCall(InvocationContext ctx, MethodHandle method) throws Exception {
         Object returnValue = null;
 
         if (delegate != null && method != null) {
             try {
-                returnValue = method.invoke(delegate, ctx);
-            } catch (InvocationTargetException ite) {
-                Throwable cause = ite.getCause();
-                if (cause instanceof Exception) {
-                    throw (Exception) cause;
-                }
-
-                throw new Exception(cause);
+                returnValue = (Object) method.invokeExact(ctx);
+            } catch (Exception e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new Exception(t);
             }
         } else {
             returnValue = ctx.proceed();
@@ -171,10 +168,11 @@ public class SystemInterceptorProxy {
 
     }
 
-    private void prepareMethod(final Method method) throws Exception {
+    private MethodHandle prepareMethod(final Method method, final Object delegate) throws Exception {
         if (!method.trySetAccessible()) {
             throw new InaccessibleObjectException("Unable to make accessible: " + method);
         }
+        return MethodHandles.lookup().unreflect(method).bindTo(delegate).asType(CALL_TYPE);
     }
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * This is an optimized map for resolving {@link Method} objects.
@@ -34,6 +35,14 @@ import java.util.Set;
  * when performed in the common path of a local ejb invocation, where our
  * goal is to be as fast as a raw java method call.
  * <p>
+ * Every method gets a dense index when the map is created. A dynamic proxy class
+ * passes the same {@link Method} instance to its invocation handler on every call,
+ * so the map caches the index of every instance it has resolved in an identity
+ * table. After the first call through a proxy class, resolving its method costs an
+ * identity hash probe and an array load, without calling {@link Method#hashCode()}
+ * or {@link Method#equals(Object)}. The table is replaced by copy-on-write, lookups
+ * don't lock.
+ * <p>
  * A MethodMap must be created with an existing Map and is immutable after
  * construction(except for clear()).
  * <p>
@@ -43,7 +52,6 @@ import java.util.Set;
  * is for the container's method info, which is invariant after initialization.
  * <p>
  * As this is a map for Method objects, null keys are not supported.
- * This map is unsynchronized.
  */
 public final class MethodMap extends HashMap<Method, InvocationInfo> {
 
@@ -53,6 +61,13 @@ public final class MethodMap extends HashMap<Method, InvocationInfo> {
     // of buckets per method that will be created.
     private static final int DEFAULT_BUCKET_MULTIPLIER = 20;
 
+    // Maximal number of cached Method instances per method, limits the identity
+    // table if callers pass a new Method instance on every lookup.
+    private static final int IDENTITY_CACHE_MULTIPLIER = 8;
+
+    private static final AtomicReferenceFieldUpdater<MethodMap, IdentityCache> IDENTITY_CACHE =
+        AtomicReferenceFieldUpdater.newUpdater(MethodMap.class, IdentityCache.class, "identityCache_");
+
     private final int numBuckets_;
 
     // Sparse array of method info.  Each element represents one method
@@ -65,6 +80,15 @@ public final class MethodMap extends HashMap<Method, InvocationInfo> {
     // returns new Method instances.
     private MethodInfo[] methodInfo_;
 
+    // Invocation info by the dense method index.
+    private InvocationInfo[] invocationInfo_;
+
+    // Dense method index for the methods clashing in methodInfo_.
+    private Map<Method, Integer> methodIndex_;
+
+    // Dense method index by the identity of the Method instances passed in.
+    private volatile IdentityCache identityCache_;
+
     public MethodMap(Map<Method, InvocationInfo> methodMap) {
         super(methodMap);
 
@@ -108,41 +132,73 @@ public final class MethodMap extends HashMap<Method, InvocationInfo> {
     public InvocationInfo get(Object key) {
         if (key instanceof Method) {
             Method m = (Method) key;
-            Class<?>[] paramTypes = m.getParameterTypes();
-            return get(m, paramTypes.length);
+            IdentityCache cache = identityCache_;
+            if (cache == null) {
+                return null;
+            }
+            int index = cache.indexOf(m);
+            if (index >= 0) {
+                return invocationInfo_[index];
+            }
+            return get(m, m.getParameterCount());
         }
         return null;
     }
 
     public InvocationInfo get(Method m, int numParams) {
-        if (methodInfo_ == null) {
+        IdentityCache cache = identityCache_;
+        if (cache == null) {
             return null;
         } else if (numParams < 0) {
             throw new IllegalStateException("invalid numParams = " + numParams);
         }
 
-        InvocationInfo value = null;
-        MethodInfo methodInfo = methodInfo_[getBucket(m, numParams)];
-        if (methodInfo != null) {
-            // Declaring classes must be the same for methods to be equal.
-            if (methodInfo.declaringClass == m.getDeclaringClass()) {
-                value = methodInfo.value;
+        int index = cache.indexOf(m);
+        if (index < 0) {
+            index = resolveIndex(m, numParams);
+            if (index < 0) {
+                return null;
+            }
+            if (cache.size < invocationInfo_.length * IDENTITY_CACHE_MULTIPLIER) {
+                // Losing the race just means another miss later.
+                IDENTITY_CACHE.compareAndSet(this, cache, cache.with(m, index));
             }
         }
-        return value == null ? super.get(m) : value;
+        return invocationInfo_[index];
     }
 
     @Override
     public void clear() {
         if (methodInfo_ != null) {
+            identityCache_ = null;
             methodInfo_ = null;
+            methodIndex_ = null;
             super.clear();
         }
     }
 
+    private int resolveIndex(Method m, int numParams) {
+        if (invocationInfo_.length == 0) {
+            return -1;
+        }
+        MethodInfo methodInfo = methodInfo_[getBucket(m, numParams)];
+        if (methodInfo != null) {
+            // Declaring classes must be the same for methods to be equal. A method which
+            // is not in the map may still hash to the bucket of a method of its class.
+            if (methodInfo.declaringClass == m.getDeclaringClass() && methodInfo.method.equals(m)) {
+                return methodInfo.index;
+            }
+        }
+        Integer index = methodIndex_.get(m);
+        return index == null ? -1 : index;
+    }
+
     private void buildLookupTable(Map<Method, InvocationInfo> methodMap) {
         methodInfo_ = new MethodInfo[numBuckets_];
+        invocationInfo_ = new InvocationInfo[methodMap.size()];
+        methodIndex_ = new HashMap<>();
         Set<Integer> occupied = new HashSet<>();
+        int index = 0;
         for (Entry<Method, InvocationInfo> entry : methodMap.entrySet()) {
             Object nextObj = entry.getKey();
             Method next = null;
@@ -155,29 +211,32 @@ public final class MethodMap extends HashMap<Method, InvocationInfo> {
                     "invalid key type = " + nextObj.getClass() + " key must be of type java.lang.reflect.Method");
             }
 
+            invocationInfo_[index] = entry.getValue();
+            methodIndex_.put(next, index);
+
             int bucket = getBucket(next);
             if (occupied.contains(bucket)) {
                 // there's a clash for this bucket, so null it out and
-                // defer to backing HashMap for results.
+                // defer to the method index for results.
                 methodInfo_[bucket] = null;
             } else {
                 MethodInfo methodInfo = new MethodInfo();
-                methodInfo.value = entry.getValue();
+                methodInfo.index = index;
 
                 // cache declaring class so we can avoid the method call
                 // during lookup operation.
                 methodInfo.declaringClass = next.getDeclaringClass();
+                methodInfo.method = next;
                 methodInfo_[bucket] = methodInfo;
                 occupied.add(bucket);
             }
+            index++;
         }
+        identityCache_ = new IdentityCache(new Method[16], new int[16], 0);
     }
 
     private int getBucket(Method m) {
-        // note : getParameterTypes is guaranteed to be 0-length array
-        // (as opposed to null) for a method with no arguments.
-        Class<?>[] paramTypes = m.getParameterTypes();
-        return getBucket(m, paramTypes.length);
+        return getBucket(m, m.getParameterCount());
     }
 
     private int getBucket(Method m, int numParams) {
@@ -215,6 +274,64 @@ public final class MethodMap extends HashMap<Method, InvocationInfo> {
 
     private static class MethodInfo {
         public Class<?> declaringClass;
-        public InvocationInfo value;
+        public Method method;
+        public int index;
+    }
+
+
+    /**
+     * Immutable open addressing table of Method instances and their dense indexes.
+     */
+    private static final class IdentityCache {
+        private final Method[] keys;
+        private final int[] indexes;
+        private final int size;
+
+        IdentityCache(Method[] keys, int[] indexes, int size) {
+            this.keys = keys;
+            this.indexes = indexes;
+            this.size = size;
+        }
+
+        int indexOf(Method m) {
+            int mask = keys.length - 1;
+            int i = System.identityHashCode(m) & mask;
+            while (true) {
+                Method key = keys[i];
+                if (key == m) {
+                    return indexes[i];
+                } else if (key == null) {
+                    return -1;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+
+        IdentityCache with(Method m, int index) {
+            // Keep the load factor under 0.5, so the probe sequences stay short.
+            int capacity = (size + 1) * 2 > keys.length ? keys.length * 2 : keys.length;
+            Method[] newKeys = new Method[capacity];
+            int[] newIndexes = new int[capacity];
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    put(newKeys, newIndexes, keys[i], indexes[i]);
+                }
+            }
+            put(newKeys, newIndexes, m, index);
+            return new IdentityCache(newKeys, newIndexes, size + 1);
+        }
+
+        private static void put(Method[] keys, int[] indexes, Method m, int index) {
+            int mask = keys.length - 1;
+            int i = System.identityHashCode(m) & mask;
+            while (keys[i] != null) {
+                if (keys[i] == m) {
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = m;
+            indexes[i] = index;
+        }
     }
 }
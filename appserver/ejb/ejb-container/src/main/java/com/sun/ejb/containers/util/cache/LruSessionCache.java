@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -176,23 +177,14 @@ public class LruSessionCache
     }
 
     /**
-     * trim the item from the cache and notify listeners
+     * trim the item from the cache and notify listeners.
+     * The listeners passivate the item asynchronously, beans idle longer than
+     * the removal timeout are removed instead, see {@link #eligibleForRemovalFromCache}.
      * @param item to be trimmed
      */
     protected void trimItem(CacheItem item) {
         LruCacheItem removed = (LruCacheItem) item;
 
-        if (removeIfIdle) {
-            StatefulEJBContext ctx = (StatefulEJBContext) item.getValue();
-
-            long idleThreshold =
-                System.currentTimeMillis() - removalTimeoutInSeconds*1000L;
-            if (ctx.getLastAccessTime() <= idleThreshold) {
-                container.passivateEJB(ctx);
-                return;
-            }
-        }
-
         for (int i = 0; i < listeners.size(); i++) {
             CacheListener listener = (CacheListener) listeners.get(i);
             listener.trimEvent(removed.getKey(), removed.getValue());
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2022 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -242,6 +242,15 @@ public abstract class AbstractPool implements Pool {
         }
     }
 
+    /**
+     * Prepopulate the pool with objects and keep it at that steady size.
+     * Pools which are not kept at a steady size ignore this.
+     *
+     * @param count the number of objects to be added.
+     */
+    public void prepopulate(int count) {
+    }
+
     /**
      * Preload the pool with objects.
      *
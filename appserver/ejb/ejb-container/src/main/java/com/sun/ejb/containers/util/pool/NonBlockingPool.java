@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2022 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -265,6 +265,7 @@ public class NonBlockingPool extends AbstractPool {
      *
      * @param count the number of objects to be added.
      */
+    @Override
     public void prepopulate(int count) {
         steadyPoolSize = count <= 0 ? 0 : count;
         steadyPoolSize = steadyPoolSize > maxPoolSize ? maxPoolSize : steadyPoolSize;
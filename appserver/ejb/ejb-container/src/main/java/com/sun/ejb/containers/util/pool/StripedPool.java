@@ -0,0 +1,500 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.containers.util.pool;
+
+import com.sun.ejb.containers.EJBContextImpl;
+import com.sun.ejb.containers.EjbContainerUtilImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.sun.enterprise.util.Utility.setContextClassLoader;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Object pool for beans invoked by many concurrent threads.
+ * <p>
+ * Behaves like the {@link NonBlockingPool}: it never blocks, creates a new object when it has
+ * none, keeps at most maxPoolSize idle objects, refills itself to steadyPoolSize and removes
+ * objects idle for longer than idleTimeoutInSeconds. Instead of one list guarded by a monitor,
+ * idle objects are kept in stripes, lock-free deques, one per CPU rounded up to a power of two.
+ * A thread takes and returns objects from the head of the stripe its thread id maps to, so
+ * the objects it gets are usually still in the cache of its core. When its stripe is empty, it
+ * steals from the other stripes. The idle resizer removes objects from the tails of the stripes,
+ * where the objects used least recently are. No operation takes a lock, counters are
+ * {@link LongAdder}s. Objects returned concurrently may exceed maxPoolSize by a few, the
+ * resizer removes them later.
+ * <p>
+ * The singleton bean pool is not supported, the {@link NonBlockingPool} should be used for it.
+ */
+public class StripedPool extends AbstractPool {
+
+    private static final int MAX_STRIPES = 64;
+
+    private final ConcurrentLinkedDeque<Object>[] stripes;
+    private final int stripeMask;
+
+    private final LongAdder idleCount = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder destroyed = new LongAdder();
+    private final LongAdder success = new LongAdder();
+    private final LongAdder returned = new LongAdder();
+
+    /** True while a resize is scheduled or running, so there is never more than one. */
+    private final AtomicBoolean resizeScheduled = new AtomicBoolean();
+    private final boolean maintainSteadySize;
+    private TimerTask poolTimerTask;
+    private volatile boolean poolClosed;
+
+    @SuppressWarnings("unchecked")
+    public StripedPool(long beanId, String poolName, ObjectFactory factory, int steadyPoolSize, int resizeQuantity, int maxPoolSize,
+        int idleTimeoutInSeconds, ClassLoader loader) {
+        this.beanId = beanId;
+        this.poolName = poolName;
+        this.pooledObjectFactory = factory;
+        this.steadyPoolSize = steadyPoolSize <= 0 ? 0 : steadyPoolSize;
+        this.resizeQuantity = resizeQuantity <= 0 ? 0 : resizeQuantity;
+        this.maxPoolSize = maxPoolSize <= 0 ? Integer.MAX_VALUE : maxPoolSize;
+        this.steadyPoolSize = Math.min(this.steadyPoolSize, this.maxPoolSize);
+        this.idleTimeoutInSeconds = idleTimeoutInSeconds <= 0 ? 0 : idleTimeoutInSeconds;
+        this.containerClassLoader = loader;
+        this.maintainSteadySize = this.steadyPoolSize > 0;
+
+        int count = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)));
+        this.stripes = new ConcurrentLinkedDeque[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new ConcurrentLinkedDeque<>();
+        }
+        this.stripeMask = count - 1;
+
+        if (this.idleTimeoutInSeconds > 0 && this.resizeQuantity > 0) {
+            try {
+                this.poolTimerTask = new PoolResizeTimerTask();
+                EjbContainerUtilImpl.getInstance()
+                                    .getTimer()
+                                    .scheduleAtFixedRate(
+                                        poolTimerTask, idleTimeoutInSeconds * 1000L, idleTimeoutInSeconds * 1000L);
+
+                _logger.log(FINE, () -> "[Pool-" + poolName + "]: Added PoolResizeTimerTask...");
+            } catch (Throwable th) {
+                _logger.log(WARNING, "[Pool-" + poolName + "]: Could not add" + " PoolTimerTask. Continuing anyway...", th);
+            }
+        }
+    }
+
+    @Override
+    public Object getObject(Object param) {
+        Object pooledObject = poll();
+        if (pooledObject != null) {
+            success.increment();
+            if (maintainSteadySize && getIdleCount() < steadyPoolSize) {
+                addResizeTaskForImmediateExecution();
+            }
+            return pooledObject;
+        }
+
+        if (maintainSteadySize) {
+            addResizeTaskForImmediateExecution();
+        }
+        poolProbeNotifier.ejbObjectAddedEvent(beanId, appName, modName, ejbName);
+        created.increment();
+        try {
+            return pooledObjectFactory.create(param);
+        } catch (RuntimeException th) {
+            poolProbeNotifier.ejbObjectAddFailedEvent(beanId, appName, modName, ejbName);
+            created.decrement();
+            throw th;
+        }
+    }
+
+    /**
+     * Return an object back to the pool. An object that is obtained through getObject() must always be returned back to the
+     * pool using either returnObject(obj) or through destroyObject(obj).
+     */
+    @Override
+    public void returnObject(Object object) {
+        if (!poolClosed && getIdleCount() < maxPoolSize) {
+            idleCount.increment();
+            stripes[getStripeIndex()].offerFirst(object);
+            returned.increment();
+            if (poolClosed) {
+                // close() might have drained the stripe before we added the object.
+                drain();
+            }
+            return;
+        }
+
+        poolProbeNotifier.ejbObjectDestroyedEvent(beanId, appName, modName, ejbName);
+        destroyed.increment();
+        try {
+            pooledObjectFactory.destroy(object);
+        } catch (Exception ex) {
+            _logger.log(FINE, "exception in returnObj", ex);
+        }
+    }
+
+    /**
+     * Destroys an Object. Note that applications should not ignore the reference to the object that they got from
+     * getObject(). An object that is obtained through getObject() must always be returned back to the pool using either
+     * returnObject(obj) or through destroyObject(obj). This method tells that the object should be destroyed and cannot be
+     * reused.
+     */
+    @Override
+    public void destroyObject(Object object) {
+        poolProbeNotifier.ejbObjectDestroyedEvent(beanId, appName, modName, ejbName);
+        destroyed.increment();
+        try {
+            pooledObjectFactory.destroy(object);
+        } catch (Exception ex) {
+            _logger.log(FINE, "exception in destroyObject", ex);
+        }
+    }
+
+    /**
+     * Prepopulate the pool with objects.
+     *
+     * @param count the number of objects to be added.
+     */
+    @Override
+    public void prepopulate(int count) {
+        steadyPoolSize = count <= 0 ? 0 : count;
+        steadyPoolSize = Math.min(steadyPoolSize, maxPoolSize);
+
+        if (steadyPoolSize > 0) {
+            preload(steadyPoolSize);
+        }
+    }
+
+    /**
+     * Preload the pool with objects. They are spread over all stripes.
+     *
+     * @param count the number of objects to be added.
+     */
+    @Override
+    protected void preload(int count) {
+        List<Object> newInstances = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                newInstances.add(pooledObjectFactory.create(null));
+            }
+        } catch (Exception ex) {
+            // Need not throw this exception up since we are pre-populating
+        }
+
+        created.add(newInstances.size());
+        int stripe = getStripeIndex();
+        for (Object newInstance : newInstances) {
+            if (!poolClosed && getIdleCount() < maxPoolSize) {
+                idleCount.increment();
+                stripes[stripe++ & stripeMask].offerLast(newInstance);
+            } else {
+                destroyObject(newInstance);
+            }
+        }
+        if (poolClosed) {
+            drain();
+        }
+    }
+
+    /**
+     * Close the pool
+     */
+    @Override
+    public void close() {
+        poolClosed = true;
+        if (poolTimerTask != null) {
+            try {
+                poolTimerTask.cancel();
+                _logger.log(FINE, () -> "[Pool-" + poolName + "]: Cancelled pool timer task " + " at: " + (new java.util.Date()));
+            } catch (Throwable th) {
+                // Can safely ignore this!!
+            }
+            poolTimerTask = null;
+        }
+
+        _logger.log(FINE, () -> "[Pool-" + poolName + "]: Destroying " + getIdleCount() + " beans from the pool...");
+
+        // Since we're calling into EJB code, we need to set context class loader
+        ClassLoader origLoader = setContextClassLoader(containerClassLoader);
+        try {
+            drain();
+            unregisterProbeProvider();
+        } finally {
+            setContextClassLoader(origLoader);
+        }
+        _logger.log(FINE, "Pool-" + poolName + "]: Pool closed....");
+    }
+
+    @Override
+    protected void remove(int count) {
+        List<Object> removeList = new ArrayList<>(count);
+        for (int i = 0; i <= stripeMask && removeList.size() < count; i++) {
+            Object object;
+            while (removeList.size() < count && (object = stripes[i].pollLast()) != null) {
+                idleCount.decrement();
+                removeList.add(object);
+            }
+        }
+        destroyAll(removeList, "exception in remove");
+    }
+
+    @Override
+    protected void removeIdleObjects() {
+    }
+
+    protected void doResize() {
+        if (poolClosed) {
+            return;
+        }
+
+        // We need to set the context class loader for this (deamon) thread!!
+        ClassLoader previousClassLoader = setContextClassLoader(containerClassLoader);
+        try {
+            int curSize = getIdleCount();
+            _logger.log(FINE, () -> "[Pool-" + poolName + "]: Resize started, curSize ::" + curSize + " steadyPoolSize ::"
+                + steadyPoolSize + " resizeQuantity ::" + resizeQuantity + " maxPoolSize ::" + maxPoolSize);
+            if (curSize > steadyPoolSize) {
+                // possible to reduce pool size....
+                if (idleTimeoutInSeconds <= 0 || resizeQuantity <= 0) {
+                    return;
+                }
+                int victimCount = Math.min(resizeQuantity, curSize - steadyPoolSize);
+                long allowedIdleTime = System.currentTimeMillis() - idleTimeoutInSeconds * 1000L;
+                destroyAll(removeIdle(victimCount, allowedIdleTime), "exception in doResize");
+            } else if (curSize < steadyPoolSize && maintainSteadySize) {
+                // Need to populate....
+                long populateCount = 0;
+                if (resizeQuantity <= 0) {
+                    populateCount = steadyPoolSize - curSize;
+                } else {
+                    while (curSize + populateCount < steadyPoolSize) {
+                        populateCount += resizeQuantity;
+                    }
+                    populateCount = Math.min(populateCount, (long) maxPoolSize - curSize);
+                }
+                if (populateCount > 0) {
+                    preload((int) populateCount);
+                }
+            }
+        } catch (Throwable th) {
+            _logger.log(WARNING, "[Pool-" + poolName + "]: Exception during reSize", th);
+        } finally {
+            setContextClassLoader(previousClassLoader);
+        }
+        _logger.log(FINE, () -> "[Pool-" + poolName + "]: Resize completed; after reSize: " + getAllAttrValues());
+    }
+
+    /**
+     * Removes up to victimCount objects unused since allowedIdleTime, taking one from the tail of
+     * each stripe in turn.
+     */
+    private List<Object> removeIdle(int victimCount, long allowedIdleTime) {
+        List<Object> victims = new ArrayList<>(victimCount);
+        boolean found = true;
+        while (found && victims.size() < victimCount) {
+            found = false;
+            for (int i = 0; i <= stripeMask && victims.size() < victimCount; i++) {
+                Object object = stripes[i].pollLast();
+                if (object == null) {
+                    continue;
+                }
+                if (object instanceof EJBContextImpl && ((EJBContextImpl) object).getLastTimeUsed() > allowedIdleTime) {
+                    // The least recently used object of the stripe was used recently.
+                    stripes[i].offerLast(object);
+                    continue;
+                }
+                idleCount.decrement();
+                victims.add(object);
+                found = true;
+            }
+        }
+        _logger.log(FINE, () -> "[Pool-" + poolName + "]: Resize:: reducing " + " pool size by: " + victims.size());
+        return victims;
+    }
+
+    private Object poll() {
+        if (idleCount.sum() <= 0) {
+            return null;
+        }
+        int home = getStripeIndex();
+        for (int i = 0; i <= stripeMask; i++) {
+            Object object = stripes[(home + i) & stripeMask].pollFirst();
+            if (object != null) {
+                idleCount.decrement();
+                return object;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The sum is not an atomic snapshot, it may be off by the objects being moved right now.
+     */
+    private int getIdleCount() {
+        return (int) Math.max(0, idleCount.sum());
+    }
+
+    private void drain() {
+        List<Object> removeList = new ArrayList<>();
+        for (ConcurrentLinkedDeque<Object> stripe : stripes) {
+            Object object;
+            while ((object = stripe.pollFirst()) != null) {
+                idleCount.decrement();
+                removeList.add(object);
+            }
+        }
+        destroyAll(removeList, "exception in close");
+    }
+
+    private void destroyAll(List<Object> objects, String errorMessage) {
+        for (Object object : objects) {
+            poolProbeNotifier.ejbObjectDestroyedEvent(beanId, appName, modName, ejbName);
+            destroyed.increment();
+            try {
+                pooledObjectFactory.destroy(object);
+            } catch (Throwable th) {
+                _logger.log(FINE, errorMessage, th);
+            }
+        }
+    }
+
+    /**
+     * Virtual threads have their own ids too, so they spread over stripes like platform threads.
+     */
+    private int getStripeIndex() {
+        long id = Thread.currentThread().threadId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & stripeMask;
+    }
+
+    private void addResizeTaskForImmediateExecution() {
+        if (!resizeScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            EjbContainerUtilImpl.getInstance().addWork(new ReSizeWork());
+            _logger.log(FINE, () -> "[Pool-" + poolName + "]: Added ReSizeWork...");
+        } catch (Exception ex) {
+            resizeScheduled.set(false);
+            _logger.log(WARNING, ex, () -> "[Pool-" + poolName + "]: Cannot perform " + " pool resize task");
+        }
+    }
+
+    /**************** For Monitoring ***********************/
+    /*******************************************************/
+
+    @Override
+    public int getCreatedCount() {
+        return created.intValue();
+    }
+
+    @Override
+    public int getDestroyedCount() {
+        return destroyed.intValue();
+    }
+
+    @Override
+    public int getPoolSuccess() {
+        return success.intValue();
+    }
+
+    @Override
+    public int getSize() {
+        return getIdleCount();
+    }
+
+    @Override
+    public int getNumBeansInPool() {
+        return getIdleCount();
+    }
+
+    @Override
+    public int getTotalBeansCreated() {
+        return created.intValue();
+    }
+
+    @Override
+    public int getTotalBeansDestroyed() {
+        return destroyed.intValue();
+    }
+
+    @Override
+    public void appendStats(StringBuffer sbuf) {
+        sbuf.append("[Pool: ")
+            .append("SZ=").append(getIdleCount()).append("; ")
+            .append("CC=").append(created.intValue()).append("; ")
+            .append("DC=").append(destroyed.intValue()).append("; ")
+            .append("WC=0; ")
+            .append("MSG=0");
+
+        if (configData != null) {
+            sbuf.append(configData);
+        }
+
+        sbuf.append("]");
+    }
+
+    @Override
+    public String getAllMonitoredAttrbuteValues() {
+        StringBuffer sbuf = new StringBuffer();
+        sbuf.append("createdCount=").append(created.intValue()).append(";")
+            .append("destroyedCount=").append(destroyed.intValue()).append(";")
+            .append("waitCount=0;")
+            .append("size=").append(getIdleCount()).append(";")
+            .append("maxPoolSize=").append(maxPoolSize).append(";");
+        return sbuf.toString();
+    }
+
+    @Override
+    public String getAllAttrValues() {
+        StringBuffer sbuf = new StringBuffer("[Pool-" + poolName + "] ");
+        sbuf.append("CC=").append(created.intValue()).append("; ")
+            .append("DC=").append(destroyed.intValue()).append("; ")
+            .append("FP=").append(success.intValue()).append("; ")
+            .append("PR=").append(returned.intValue()).append("; ")
+            .append("CS=").append(getIdleCount()).append("; ")
+            .append("SS=").append(steadyPoolSize).append("; ")
+            .append("MS=").append(maxPoolSize).append("; ")
+            .append("ST=").append(stripes.length).append(";");
+        return sbuf.toString();
+    }
+
+    private class ReSizeWork implements Runnable {
+        @Override
+        public void run() {
+            try {
+                doResize();
+            } catch (Exception ex) {
+                _logger.log(WARNING, "[Pool-" + poolName + "]: Exception during reSize", ex);
+            } finally {
+                resizeScheduled.set(false);
+            }
+        }
+    }
+
+    private class PoolResizeTimerTask extends TimerTask {
+        @Override
+        public void run() {
+            addResizeTaskForImmediateExecution();
+        }
+    }
+}
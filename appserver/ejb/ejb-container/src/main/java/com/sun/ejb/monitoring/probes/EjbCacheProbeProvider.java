@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2009, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -38,6 +39,15 @@ public class EjbCacheProbeProvider {
             @ProbeParam("success") boolean success) {}
 
 
+    @Probe(name="passivatedStateSizeEvent")
+    public void ejbPassivatedStateSizeEvent(
+            @ProbeParam("beanId") long beanId,
+            @ProbeParam("appName") String appName,
+            @ProbeParam("modName") String modName,
+            @ProbeParam("ejbName") String ejbName,
+            @ProbeParam("bytes") long bytes) {}
+
+
     @Probe(name="expiredSessionsRemovedEvent")
     public void ejbExpiredSessionsRemovedEvent(
             @ProbeParam("beanId") long beanId,
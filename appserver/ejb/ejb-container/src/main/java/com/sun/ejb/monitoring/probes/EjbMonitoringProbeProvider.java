@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2009, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -73,6 +74,15 @@ public class EjbMonitoringProbeProvider {
             @ProbeParam("modName") String modName,
             @ProbeParam("ejbName") String ejbName) {}
 
+    @Probe(name="deploymentPhaseEvent")
+    public void deploymentPhaseEvent(
+            @ProbeParam("beanId") long beanId,
+            @ProbeParam("appName") String appName,
+            @ProbeParam("modName") String modName,
+            @ProbeParam("ejbName") String ejbName,
+            @ProbeParam("phase") String phase,
+            @ProbeParam("millis") long millis) {}
+
     @Probe(name="messageDeliveredEvent")
     public void messageDeliveredEvent(
             @ProbeParam("beanId") long beanId,
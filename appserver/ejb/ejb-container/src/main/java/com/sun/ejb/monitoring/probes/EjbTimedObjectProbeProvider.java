@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2009, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -17,6 +18,7 @@
 package com.sun.ejb.monitoring.probes;
 
 import org.glassfish.external.probe.provider.annotations.Probe;
+import org.glassfish.external.probe.provider.annotations.ProbeParam;
 import org.glassfish.external.probe.provider.annotations.ProbeProvider;
 
 /**
@@ -37,4 +39,7 @@ public class EjbTimedObjectProbeProvider {
     @Probe(name="timerDeliveredEvent")
     public void ejbTimerDeliveredEvent() {}
 
+    @Probe(name="timerDeliveryLagEvent")
+    public void ejbTimerDeliveryLagEvent(@ProbeParam("lag") long lag) {}
+
 }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2009, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -18,6 +19,7 @@ package com.sun.ejb.monitoring.stats;
 
 import com.sun.ejb.containers.EjbContainerUtilImpl;
 
+import java.util.function.IntSupplier;
 import java.util.logging.Logger;
 
 import org.glassfish.external.probe.provider.StatsProviderManager;
@@ -65,9 +67,19 @@ public class EjbCacheStatsProvider {
             "Provides a count value reflecting the number of passivations for a "
                 + "StatefulSessionBean from the bean cache that succeeded");
 
+    private CountStatisticImpl passivatedBytes = new CountStatisticImpl(
+            "PassivatedBytes", "bytes",
+            "Provides the total size of the state of the StatefulSessionBeans "
+                + "passivated from the bean cache.");
+
     private BoundedRangeStatisticImpl cacheHits;
     private BoundedRangeStatisticImpl cacheMisses;
     private BoundedRangeStatisticImpl numBeans;
+    private BoundedRangeStatisticImpl passivationQueueDepth;
+    private BoundedRangeStatisticImpl passivatedBeanSize;
+
+    private IntSupplier passivationQueueDepthSupplier;
+    private long passivatedBeanCount;
 
     private static final Logger _logger = EjbContainerUtilImpl.getLogger();
 
@@ -101,6 +113,21 @@ public class EjbCacheStatsProvider {
             0, 0, 0, Long.MAX_VALUE, 0, "CacheMisses", "count",
             "Provides the number of times a user request fails to find an EJB in associated EJB cache instance",
             now, now);
+        passivationQueueDepth = new BoundedRangeStatisticImpl(
+            0, 0, 0, Long.MAX_VALUE, 0, "PassivationQueueDepth", "count",
+            "Provides the number of StatefulSessionBeans trimmed from the bean cache and waiting for passivation",
+            now, now);
+        passivatedBeanSize = new BoundedRangeStatisticImpl(
+            0, 0, 0, Long.MAX_VALUE, 0, "PassivatedBeanSize", "bytes",
+            "Provides the average size of the state of a passivated StatefulSessionBean",
+            now, now);
+    }
+
+    /**
+     * Sets the source of the passivation queue depth of a StatefulSessionBean container.
+     */
+    public void setPassivationQueueDepth(IntSupplier depth) {
+        this.passivationQueueDepthSupplier = depth;
     }
 
     public void register() {
@@ -164,6 +191,28 @@ public class EjbCacheStatsProvider {
         return passivationSuccess;
     }
 
+    @ManagedAttribute(id="passivationqueuedepth")
+    @Description( "Number of beans waiting for passivation")
+    public RangeStatistic getPassivationQueueDepth() {
+        if (passivationQueueDepthSupplier != null) {
+            passivationQueueDepth.setCurrent(passivationQueueDepthSupplier.getAsInt());
+        }
+        return passivationQueueDepth;
+    }
+
+    @ManagedAttribute(id="passivatedbytes")
+    @Description( "Total size of the state of passivated beans")
+    public CountStatistic getPassivatedBytes() {
+        return passivatedBytes;
+    }
+
+    @ManagedAttribute(id="passivatedbeansize")
+    @Description( "Average size of the state of a passivated bean")
+    public synchronized RangeStatistic getPassivatedBeanSize() {
+        passivatedBeanSize.setCurrent(passivatedBeanCount == 0 ? 0 : passivatedBytes.getCount() / passivatedBeanCount);
+        return passivatedBeanSize;
+    }
+
     @ProbeListener("glassfish:ejb:cache:beanPassivatedEvent")
     public void ejbBeanPassivatedEvent(
             @ProbeParam("beanId") long beanId,
@@ -181,6 +230,21 @@ public class EjbCacheStatsProvider {
         }
     }
 
+    @ProbeListener("glassfish:ejb:cache:passivatedStateSizeEvent")
+    public void ejbPassivatedStateSizeEvent(
+            @ProbeParam("beanId") long beanId,
+            @ProbeParam("appName") String appName,
+            @ProbeParam("modName") String modName,
+            @ProbeParam("ejbName") String ejbName,
+            @ProbeParam("bytes") long bytes) {
+        if (this.beanId == beanId) {
+            synchronized (this) {
+                passivatedBeanCount++;
+                passivatedBytes.increment(bytes);
+            }
+        }
+    }
+
     @ProbeListener("glassfish:ejb:cache:expiredSessionsRemovedEvent")
     public void ejbExpiredSessionsRemovedEvent(
             @ProbeParam("beanId") long beanId,
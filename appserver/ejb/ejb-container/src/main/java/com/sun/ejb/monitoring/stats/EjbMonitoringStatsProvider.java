@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2009, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -16,6 +17,7 @@
 
 package com.sun.ejb.monitoring.stats;
 
+import com.sun.ejb.containers.BaseContainer;
 import com.sun.ejb.containers.EjbContainerUtilImpl;
 
 import java.util.HashMap;
@@ -56,6 +58,12 @@ public abstract class EjbMonitoringStatsProvider {
     private CountStatisticImpl removeStat = new CountStatisticImpl("RemoveCount",
             "count", "Number of times EJB remove method is called");
 
+    private CountStatisticImpl loadTimeStat = new CountStatisticImpl("DeploymentLoadTime",
+            "millisecond", "Time spent creating the EJB container during the deployment");
+
+    private CountStatisticImpl startTimeStat = new CountStatisticImpl("DeploymentStartTime",
+            "millisecond", "Time spent starting the EJB container during the deployment");
+
     static final Logger _logger = EjbContainerUtilImpl.getLogger();
 
     public EjbMonitoringStatsProvider(long beanId, String appName, String moduleName,
@@ -177,6 +185,24 @@ public abstract class EjbMonitoringStatsProvider {
         }
     }
 
+    @ProbeListener("glassfish:ejb:bean:deploymentPhaseEvent")
+    public void deploymentPhaseEvent(
+            @ProbeParam("beanId") long beanId,
+            @ProbeParam("appName") String appName,
+            @ProbeParam("modName") String modName,
+            @ProbeParam("ejbName") String ejbName,
+            @ProbeParam("phase") String phase,
+            @ProbeParam("millis") long millis) {
+        if (this.beanId == beanId) {
+            _log("deploymentPhaseEvent");
+            if (BaseContainer.DEPLOYMENT_LOAD_PHASE.equals(phase)) {
+                loadTimeStat.setCount(millis);
+            } else if (BaseContainer.DEPLOYMENT_START_PHASE.equals(phase)) {
+                startTimeStat.setCount(millis);
+            }
+        }
+    }
+
     @ProbeListener("glassfish:ejb:bean:beanDestroyedEvent")
     public void ejbBeanDestroyedEvent(
             @ProbeParam("beanId") long beanId,
@@ -201,6 +227,18 @@ public abstract class EjbMonitoringStatsProvider {
         return removeStat;
     }
 
+    @ManagedAttribute(id="deploymentloadtime")
+    @Description( "Time spent creating the EJB container during the deployment")
+    public CountStatistic getDeploymentLoadTime() {
+        return loadTimeStat;
+    }
+
+    @ManagedAttribute(id="deploymentstarttime")
+    @Description( "Time spent starting the EJB container during the deployment")
+    public CountStatistic getDeploymentStartTime() {
+        return startTimeStat;
+    }
+
     protected void log(String mname, String provider) {
         if (_logger.isLoggable(Level.FINE)) {
             _logger.fine("===> In " + provider + " for: ["
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2009, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -22,8 +23,11 @@ import java.util.logging.Logger;
 
 import org.glassfish.external.probe.provider.StatsProviderManager;
 import org.glassfish.external.probe.provider.annotations.ProbeListener;
+import org.glassfish.external.probe.provider.annotations.ProbeParam;
 import org.glassfish.external.statistics.CountStatistic;
+import org.glassfish.external.statistics.TimeStatistic;
 import org.glassfish.external.statistics.impl.CountStatisticImpl;
+import org.glassfish.external.statistics.impl.TimeStatisticImpl;
 import org.glassfish.gmbal.AMXMetadata;
 import org.glassfish.gmbal.Description;
 import org.glassfish.gmbal.ManagedAttribute;
@@ -48,6 +52,8 @@ public class EjbTimedObjectStatsProvider {
     private CountStatisticImpl timerDeliveredStat = new CountStatisticImpl("NumTimersDelivered",
             "count", "Number of timers delivered by the system");
 
+    private TimeStatisticImpl timerDeliveryLagStat;
+
     private static final Logger _logger = EjbContainerUtilImpl.getLogger();
 
     private String appName = null;
@@ -60,6 +66,13 @@ public class EjbTimedObjectStatsProvider {
         this.appName = appName;
         this.moduleName = moduleName;
         this.beanName = beanName;
+
+        long now = System.currentTimeMillis();
+        timerDeliveryLagStat = new TimeStatisticImpl(
+                0, 0, 0, 0, "TimerDeliveryLag", "",
+                "Provides the number of timeouts delivered and the delay (ms) between "
+                        + "the scheduled and the actual start of the deliveries",
+                now, now);
     }
 
     public void register() {
@@ -96,6 +109,12 @@ public class EjbTimedObjectStatsProvider {
         timerDeliveredStat.increment();
     }
 
+    @ProbeListener("glassfish:ejb:timers:timerDeliveryLagEvent")
+    public void ejbTimerDeliveryLagEvent(@ProbeParam("lag") long lag) {
+        _logger.fine("=== timerDeliveryLagEvent");
+        timerDeliveryLagStat.incrementCount(Math.max(lag, 0));
+    }
+
     @ManagedAttribute(id="numtimerscreated")
     @Description( "Number of timers created in the system")
     public CountStatistic getNumTimersCreated() {
@@ -113,4 +132,10 @@ public class EjbTimedObjectStatsProvider {
     public CountStatistic getNumTimersDelivered() {
         return timerDeliveredStat;
     }
+
+    @ManagedAttribute(id="timerdeliverylag")
+    @Description( "Delay (ms) between the scheduled and the actual start of the timer deliveries")
+    public TimeStatistic getTimerDeliveryLag() {
+        return timerDeliveryLagStat;
+    }
 }
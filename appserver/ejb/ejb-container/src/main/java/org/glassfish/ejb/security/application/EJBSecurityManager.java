@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2024, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -32,6 +32,7 @@ import com.sun.logging.LogDomains;
 import jakarta.security.jacc.EJBMethodPermission;
 import jakarta.security.jacc.PolicyContext;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -264,6 +265,30 @@ public final class EJBSecurityManager implements SecurityManager {
         return authorizationService.invokeBeanMethod(bean, beanClassMethod, methodParameters);
     }
 
+    /**
+     * Same as {@link #invoke(Object, Method, Object[])}, except the bean method is called by the
+     * method handle and its exceptions are thrown as they are.
+     *
+     * @param bean the object on which this method is to be invoked in this case the ejb,
+     * @param beanClassMethod spreader of the bean class method of type (Object, Object[])Object
+     * @param methodParameters the parameters for the method,
+     *
+     * @return Object, the result of the execution of the method.
+     */
+    public Object invoke(Object bean, MethodHandle beanClassMethod, Object[] methodParameters) throws Throwable {
+        // Need to execute within the target bean's policy context.
+        String previousContextId = PolicyContext.getContextID();
+        if (contextId.equals(previousContextId)) {
+            return (Object) beanClassMethod.invokeExact(bean, methodParameters);
+        }
+        PolicyContext.setContextID(contextId);
+        try {
+            return (Object) beanClassMethod.invokeExact(bean, methodParameters);
+        } finally {
+            PolicyContext.setContextID(previousContextId);
+        }
+    }
+
     /**
      * This method is used by Message Driven Bean Container to remove the run-as identity information that was set up using the
      * preSetRunAsIdentity method
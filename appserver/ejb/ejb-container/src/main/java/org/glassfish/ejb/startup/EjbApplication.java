@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2023, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2006, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -20,15 +20,22 @@ package org.glassfish.ejb.startup;
 import com.sun.ejb.Container;
 import com.sun.ejb.ContainerFactory;
 import com.sun.ejb.containers.AbstractSingletonContainer;
+import com.sun.ejb.containers.BaseContainer;
+import com.sun.ejb.containers.EjbContainerUtilImpl;
 import com.sun.enterprise.deployment.Application;
+import com.sun.enterprise.security.SecurityContext;
 import com.sun.enterprise.security.ee.authorization.PolicyLoader;
 import com.sun.enterprise.util.LocalStringManagerImpl;
+import com.sun.enterprise.util.Utility;
 import com.sun.logging.LogDomains;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -38,6 +45,9 @@ import org.glassfish.api.deployment.DeployCommandParameters;
 import org.glassfish.api.deployment.DeploymentContext;
 import org.glassfish.api.deployment.OpsParams;
 import org.glassfish.api.deployment.UndeployCommandParameters;
+import org.glassfish.api.invocation.ApplicationEnvironment;
+import org.glassfish.api.invocation.InvocationManager;
+import org.glassfish.ejb.config.EjbContainer;
 import org.glassfish.ejb.deployment.descriptor.EjbBundleDescriptorImpl;
 import org.glassfish.ejb.deployment.descriptor.EjbDescriptor;
 import org.glassfish.ejb.deployment.descriptor.EjbSessionDescriptor;
@@ -61,6 +71,7 @@ public class EjbApplication implements ApplicationContainer<Collection<EjbDescri
     static final String KEEP_STATE = "org.glassfish.ejb.startup.keepstate";
     private static final String CONTAINER_LIST_KEY = "org.glassfish.ejb.startup.EjbContainerList";
     private static final String EJB_APP_MARKED_AS_STARTED_STATUS = "org.glassfish.ejb.startup.EjbApplicationMarkedAsStarted";
+    private static final String CONTAINER_INITIALIZATION_PARALLELISM_PROP = "container-initialization-parallelism";
 
     private static final Logger _logger = LogDomains.getLogger(EjbApplication.class, LogDomains.EJB_LOGGER);
     private static final LocalStringManagerImpl localStrings = new LocalStringManagerImpl(EjbApplication.class);
@@ -131,7 +142,9 @@ public class EjbApplication implements ApplicationContainer<Collection<EjbDescri
                     getCommandParameters(DeployCommandParameters.class);
 
             for (Container container : containers) {
+                long startNanos = System.nanoTime();
                 container.startApplication(params.origin.isDeploy());
+                deploymentPhaseCompleted(container, BaseContainer.DEPLOYMENT_START_PHASE, startNanos);
             }
 
             singletonLCM.doStartup(this);
@@ -176,24 +189,17 @@ public class EjbApplication implements ApplicationContainer<Collection<EjbDescri
         try {
             policyLoader.loadPolicy();
 
-            for (EjbDescriptor desc : ejbs) {
-
-                // Initialize each ejb container (setup component environment, register JNDI objects, etc.)
-                // Any instance instantiation , timer creation/restoration, message inflow is delayed until
-                // start phase.
-                ContainerFactory ejbContainerFactory = services.getService(ContainerFactory.class,
-                    desc.getContainerFactoryQualifier());
-                if (ejbContainerFactory == null) {
-                    String errMsg = localStrings.getLocalString("invalid.container.module",
-                        "Container module is not available", desc.getEjbTypeForDisplay());
-                    throw new IllegalStateException(errMsg);
-                }
-
-                Container container = ejbContainerFactory.createContainer(desc, ejbAppClassLoader, deploymentContext);
-                containers.add(container);
-
-                if (desc instanceof EjbSessionDescriptor && ((EjbSessionDescriptor) desc).isSingleton()) {
-                    singletonLCM.addSingletonContainer(this, (AbstractSingletonContainer) container);
+            // Initialize each ejb container (setup component environment, register JNDI objects, etc.)
+            // Any instance instantiation , timer creation/restoration, message inflow is delayed until
+            // start phase, so the containers may be created concurrently. @DependsOn and @Startup
+            // ordering is applied by the SingletonLifeCycleManager in the start phase.
+            List<EjbDescriptor> descriptors = new ArrayList<>(ejbs);
+            int parallelism = initializeInOrder ? 1 : Math.min(getContainerInitializationParallelism(), descriptors.size());
+            if (parallelism > 1) {
+                loadContainersInParallel(descriptors, parallelism, deploymentContext);
+            } else {
+                for (EjbDescriptor desc : descriptors) {
+                    addContainer(desc, createContainer(desc, deploymentContext));
                 }
             }
 
@@ -205,6 +211,131 @@ public class EjbApplication implements ApplicationContainer<Collection<EjbDescri
         return true;
     }
 
+    /**
+     * Creates the containers on a fork-join pool. They are registered in the order of the
+     * descriptors, the same as if they were created sequentially.
+     */
+    private void loadContainersInParallel(List<EjbDescriptor> descriptors, int parallelism,
+            DeploymentContext deploymentContext) throws Throwable {
+        _logger.log(Level.FINE, "Creating {0} containers of {1} with parallelism {2}",
+            new Object[] {descriptors.size(), ejbBundle.getModuleName(), parallelism});
+        createInParallel(descriptors, parallelism, desc -> createContainer(desc, deploymentContext), this::addContainer,
+            EjbContainerUtilImpl.getInstance().getInvocationManager());
+    }
+
+    /**
+     * Creates a container for each descriptor on a fork-join pool and registers them in the order
+     * of the descriptors. All created containers are registered, so they are undeployed after a
+     * failure. The first failure is thrown, the others are suppressed by it.
+     * <p>
+     * The pool threads run with the context class loader, the application environment and the
+     * security context of the calling thread. The invocation stack is not propagated, no bean
+     * code may run while a container is created.
+     */
+    static <D, C> void createInParallel(List<D> descriptors, int parallelism, ContainerCreator<D, C> creator,
+            BiConsumer<D, C> registrar, InvocationManager invocationManager) throws Throwable {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        ApplicationEnvironment applicationEnvironment = invocationManager.peekAppEnvironment();
+        SecurityContext securityContext = SecurityContext.getCurrent();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            // Failures are kept by the tasks, ForkJoinTask would rethrow copies of them
+            Throwable[] failures = new Throwable[descriptors.size()];
+            List<ForkJoinTask<C>> tasks = new ArrayList<>(descriptors.size());
+            for (int i = 0; i < descriptors.size(); i++) {
+                int index = i;
+                D desc = descriptors.get(i);
+                tasks.add(pool.submit(() -> {
+                    ClassLoader previousClassLoader = Utility.setContextClassLoader(contextClassLoader);
+                    SecurityContext previousSecurityContext = SecurityContext.getCurrent();
+                    SecurityContext.setCurrent(securityContext);
+                    if (applicationEnvironment != null) {
+                        invocationManager.pushAppEnvironment(applicationEnvironment);
+                    }
+                    try {
+                        return creator.create(desc);
+                    } catch (Throwable t) {
+                        failures[index] = t;
+                        return null;
+                    } finally {
+                        if (applicationEnvironment != null) {
+                            invocationManager.popAppEnvironment();
+                        }
+                        SecurityContext.setCurrent(previousSecurityContext);
+                        Utility.setContextClassLoader(previousClassLoader);
+                    }
+                }));
+            }
+            Throwable failure = null;
+            for (int i = 0; i < tasks.size(); i++) {
+                C container = tasks.get(i).join();
+                if (failures[i] == null) {
+                    registrar.accept(descriptors.get(i), container);
+                } else if (failure == null) {
+                    failure = failures[i];
+                } else {
+                    failure.addSuppressed(failures[i]);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private Container createContainer(EjbDescriptor desc, DeploymentContext deploymentContext) throws Exception {
+        ContainerFactory ejbContainerFactory = services.getService(ContainerFactory.class,
+            desc.getContainerFactoryQualifier());
+        if (ejbContainerFactory == null) {
+            String errMsg = localStrings.getLocalString("invalid.container.module",
+                "Container module is not available", desc.getEjbTypeForDisplay());
+            throw new IllegalStateException(errMsg);
+        }
+
+        long startNanos = System.nanoTime();
+        Container container = ejbContainerFactory.createContainer(desc, ejbAppClassLoader, deploymentContext);
+        deploymentPhaseCompleted(container, BaseContainer.DEPLOYMENT_LOAD_PHASE, startNanos);
+        return container;
+    }
+
+    private void addContainer(EjbDescriptor desc, Container container) {
+        containers.add(container);
+
+        if (desc instanceof EjbSessionDescriptor && ((EjbSessionDescriptor) desc).isSingleton()) {
+            singletonLCM.addSingletonContainer(this, (AbstractSingletonContainer) container);
+        }
+    }
+
+    private static void deploymentPhaseCompleted(Container container, String phase, long startNanos) {
+        if (container instanceof BaseContainer) {
+            ((BaseContainer) container).deploymentPhaseCompleted(phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    private int getContainerInitializationParallelism() {
+        String value = ejbBundle.getEnterpriseBeansProperty(CONTAINER_INITIALIZATION_PARALLELISM_PROP);
+        if (value == null) {
+            EjbContainer ejbContainer = EjbContainerUtilImpl.getInstance().getEjbContainer();
+            value = ejbContainer == null ? null : ejbContainer.getPropertyValue(CONTAINER_INITIALIZATION_PARALLELISM_PROP);
+        }
+        if (value == null) {
+            return EjbContainer.DEFAULT_CONTAINER_INITIALIZATION_PARALLELISM;
+        }
+        try {
+            int parallelism = Integer.parseInt(value.trim());
+            if (parallelism > 0) {
+                return parallelism;
+            }
+        } catch (NumberFormatException e) {
+            // logged below
+        }
+        _logger.log(Level.WARNING, "Invalid {0} {1} of {2}, using {3}", new Object[] {CONTAINER_INITIALIZATION_PARALLELISM_PROP,
+            value, ejbBundle.getModuleName(), EjbContainer.DEFAULT_CONTAINER_INITIALIZATION_PARALLELISM});
+        return EjbContainer.DEFAULT_CONTAINER_INITIALIZATION_PARALLELISM;
+    }
+
     @Override
     public boolean stop(ApplicationContext stopContext) {
         DeploymentContext depc = (DeploymentContext) stopContext;
@@ -381,4 +512,11 @@ public class EjbApplication implements ApplicationContainer<Collection<EjbDescri
         return keepState;
     }
 
+    /**
+     * Creates the container of a descriptor.
+     */
+    @FunctionalInterface
+    interface ContainerCreator<D, C> {
+        C create(D descriptor) throws Exception;
+    }
 }
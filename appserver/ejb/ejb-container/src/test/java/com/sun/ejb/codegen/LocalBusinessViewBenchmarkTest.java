@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.codegen;
+
+import com.sun.ejb.InvocationInfo;
+import com.sun.ejb.containers.LocalBusinessView.Dispatcher;
+import com.sun.ejb.containers.util.MethodMap;
+import com.sun.enterprise.container.common.spi.util.SerializableObjectFactory;
+
+import java.lang.System.Logger;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static java.lang.System.Logger.Level.INFO;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Compares the local call dispatch of the dynamic proxy, which looks up the {@link InvocationInfo}
+ * in the {@link MethodMap} and calls the bean by reflection, and of the generated local view,
+ * which selects the precomputed {@link InvocationInfo} by index and calls the bean by its method handle.
+ * <p>
+ * The container around the dispatch is the same for both views, so it is not included.
+ */
+@State(Scope.Benchmark)
+public class LocalBusinessViewBenchmarkTest {
+    private static final Logger LOG = System.getLogger(LocalBusinessViewBenchmarkTest.class.getName());
+
+    @Param({"proxy", "generated"})
+    public String viewType;
+
+    private Greeter view;
+
+
+    @Test
+    public void localCall_benchmark() throws Exception {
+        Options options = new OptionsBuilder().include(getClass().getName() + ".*")
+            .warmupIterations(1).warmupTime(TimeValue.milliseconds(500L))
+            .measurementIterations(3).measurementTime(TimeValue.milliseconds(500L))
+            .forks(1).threads(1).shouldFailOnError(true)
+            .timeout(TimeValue.seconds(10L)).timeUnit(TimeUnit.MICROSECONDS).mode(Mode.Throughput)
+            .build();
+        Collection<RunResult> results = new Runner(options).run();
+        assertThat(results, hasSize(2));
+        Map<String, Double> scores = new HashMap<>();
+        for (RunResult result : results) {
+            scores.put(result.getParams().getParam("viewType"), result.getPrimaryResult().getScore());
+        }
+        double ratio = scores.get("generated") / scores.get("proxy");
+        LOG.log(INFO, "Operations per microsecond: {0}, generated/proxy: {1}", scores, ratio);
+        // Leaves some space for the noise of shared environments.
+        assertThat("Expected ratio", ratio, greaterThan(0.8d));
+    }
+
+
+    @Setup
+    public void createView() throws Exception {
+        GreeterBean bean = new GreeterBean();
+        Method[] methods = LocalBusinessViewGenerator.getViewMethods(Greeter.class);
+        Map<Method, InvocationInfo> infos = new HashMap<>();
+        for (Method method : methods) {
+            InvocationInfo info = new InvocationInfo(method);
+            info.targetMethod1 = GreeterBean.class.getMethod(method.getName(), method.getParameterTypes());
+            infos.put(method, info);
+        }
+        if ("generated".equals(viewType)) {
+            InvocationInfo[] viewInfos = new InvocationInfo[methods.length];
+            for (int i = 0; i < methods.length; i++) {
+                viewInfos[i] = infos.get(methods[i]);
+                MethodHandle handle = MethodHandles.publicLookup().unreflect(viewInfos[i].targetMethod1);
+                viewInfos[i].targetMethodHandle = handle.asType(handle.type().generic())
+                    .asSpreader(Object[].class, methods[i].getParameterCount());
+            }
+            Class<?> viewClass = LocalBusinessViewGenerator.generate(getClass().getClassLoader(), Greeter.class);
+            view = (Greeter) viewClass.getConstructor(Dispatcher.class).newInstance(new IndexDispatcher(bean, viewInfos));
+        } else {
+            MethodMap methodMap = new MethodMap(infos);
+            InvocationHandler handler = (proxy, method, args) -> methodMap
+                .get(method, args == null ? 0 : args.length).targetMethod1.invoke(bean, args);
+            view = (Greeter) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {Greeter.class}, handler);
+        }
+    }
+
+
+    @Benchmark
+    public int localCall() {
+        return view.add(view.hello("World").length(), 1);
+    }
+
+
+    public interface Greeter {
+
+        String hello(String name);
+
+        int add(int a, int b);
+    }
+
+
+    public static class GreeterBean implements Greeter {
+
+        @Override
+        public String hello(String name) {
+            return "Hello " + name;
+        }
+
+        @Override
+        public int add(int a, int b) {
+            return a + b;
+        }
+    }
+
+
+    private static class IndexDispatcher implements Dispatcher {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object bean;
+        private final InvocationInfo[] infos;
+
+        IndexDispatcher(Object bean, InvocationInfo[] infos) {
+            this.bean = bean;
+            this.infos = infos;
+        }
+
+        @Override
+        public Object invoke(int methodIndex, Object[] args) throws Throwable {
+            return (Object) infos[methodIndex].targetMethodHandle.invokeExact(bean, args);
+        }
+
+        @Override
+        public SerializableObjectFactory getSerializableObjectFactory() {
+            return null;
+        }
+    }
+}
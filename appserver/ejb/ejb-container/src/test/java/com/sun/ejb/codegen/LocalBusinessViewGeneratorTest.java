@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.codegen;
+
+import com.sun.ejb.containers.LocalBusinessView;
+import com.sun.ejb.containers.LocalBusinessView.Dispatcher;
+import com.sun.enterprise.container.common.spi.util.SerializableObjectFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocalBusinessViewGeneratorTest {
+
+    private static final ClassLoader loader = LocalBusinessViewGeneratorTest.class.getClassLoader();
+
+    @Test
+    public void viewMethods() throws Exception {
+        Method[] methods = LocalBusinessViewGenerator.getViewMethods(Calculator.class);
+        assertThat(Arrays.stream(methods).map(m -> m.getName() + m.getParameterCount()).toList(),
+            contains("add2", "add2", "hello1", "isZero1", "reset0", "scale2"));
+        assertEquals(int.class, methods[0].getReturnType());
+        assertEquals(long.class, methods[1].getReturnType());
+    }
+
+
+    @Test
+    public void notPublicInterface() {
+        assertThrows(GeneratorException.class, () -> LocalBusinessViewGenerator.generate(loader, NotPublic.class));
+    }
+
+
+    @Test
+    public void dispatch() throws Throwable {
+        RecordingDispatcher dispatcher = new RecordingDispatcher();
+        Calculator view = newView(dispatcher);
+        assertThat(view, instanceOf(LocalBusinessView.class));
+
+        dispatcher.result = 5;
+        assertEquals(5, view.add(2, 3));
+        assertEquals(0, dispatcher.methodIndex);
+        assertThat(dispatcher.args, arrayContaining(2, 3));
+
+        dispatcher.result = 7L;
+        assertEquals(7L, view.add(3L, 4L));
+        assertEquals(1, dispatcher.methodIndex);
+        assertThat(dispatcher.args, arrayContaining(3L, 4L));
+
+        dispatcher.result = "Hello World";
+        assertEquals("Hello World", view.hello("World"));
+        assertThat(dispatcher.args, arrayContaining("World"));
+
+        dispatcher.result = null;
+        view.reset();
+        assertEquals(4, dispatcher.methodIndex);
+        assertThat(dispatcher.args, nullValue());
+
+        double[] values = {1d, 2d};
+        dispatcher.result = values;
+        assertSame(values, view.scale(values, 2d));
+        assertThat(dispatcher.args, arrayContaining(values, 2d));
+    }
+
+
+    @Test
+    public void exceptions() throws Throwable {
+        RecordingDispatcher dispatcher = new RecordingDispatcher();
+        Calculator view = newView(dispatcher);
+        dispatcher.exception = new IOException("checked");
+        assertSame(dispatcher.exception, assertThrows(IOException.class, () -> view.isZero(1L)));
+        dispatcher.exception = new IllegalStateException("unchecked");
+        assertSame(dispatcher.exception, assertThrows(IllegalStateException.class, () -> view.hello("World")));
+        dispatcher.exception = new AssertionError("error");
+        assertSame(dispatcher.exception, assertThrows(AssertionError.class, () -> view.reset()));
+    }
+
+
+    @Test
+    public void undeclaredExceptions() throws Throwable {
+        RecordingDispatcher dispatcher = new RecordingDispatcher();
+        Calculator view = newView(dispatcher);
+        dispatcher.exception = new IOException("undeclared");
+        assertSame(dispatcher.exception,
+            assertThrows(UndeclaredThrowableException.class, () -> view.hello("World")).getCause());
+        dispatcher.exception = new Exception("undeclared");
+        assertSame(dispatcher.exception,
+            assertThrows(UndeclaredThrowableException.class, () -> view.isZero(1L)).getCause());
+        assertSame(dispatcher.exception,
+            assertThrows(UndeclaredThrowableException.class, () -> view.add(1L, 2L)).getCause());
+    }
+
+
+    @Test
+    public void objectMethods() throws Throwable {
+        RecordingDispatcher dispatcher = new RecordingDispatcher();
+        Calculator view = newView(dispatcher);
+        Calculator sameDispatcher = newView(dispatcher);
+        Calculator otherDispatcher = newView(new RecordingDispatcher());
+        assertAll(
+            () -> assertSame(dispatcher, ((LocalBusinessView) view).__getDispatcher()),
+            () -> assertTrue(view.equals(sameDispatcher)),
+            () -> assertFalse(view.equals(otherDispatcher)),
+            () -> assertFalse(view.equals(null)),
+            () -> assertEquals(dispatcher.hashCode(), view.hashCode()),
+            () -> assertEquals(dispatcher.toString(), view.toString()),
+            () -> assertSame(dispatcher.factory, ((LocalBusinessView) view).getSerializableObjectFactory()),
+            () -> assertNull(dispatcher.args)
+        );
+    }
+
+
+    @Test
+    public void generatedOnce() throws Exception {
+        Class<?> viewClass = LocalBusinessViewGenerator.generate(loader, Calculator.class);
+        assertThat(LocalBusinessViewGenerator.generate(loader, Calculator.class), sameInstance(viewClass));
+        assertEquals(LocalBusinessViewGenerator.getGeneratedLocalViewClassName(Calculator.class.getName()), viewClass.getName());
+    }
+
+
+    private static Calculator newView(Dispatcher dispatcher) throws Exception {
+        Class<?> viewClass = LocalBusinessViewGenerator.generate(loader, Calculator.class);
+        return (Calculator) viewClass.getConstructor(Dispatcher.class).newInstance(dispatcher);
+    }
+
+
+    public interface Calculator {
+
+        int add(int a, int b);
+
+        long add(long a, long b);
+
+        String hello(String name);
+
+        void reset();
+
+        double[] scale(double[] values, double factor);
+
+        boolean isZero(long value) throws IOException;
+
+        @Override
+        String toString();
+    }
+
+
+    interface NotPublic {
+
+        int count();
+    }
+
+
+    private static class RecordingDispatcher implements Dispatcher {
+
+        private static final long serialVersionUID = 1L;
+
+        final SerializableObjectFactory factory = () -> this;
+        int methodIndex = -1;
+        Object[] args;
+        Object result;
+        Throwable exception;
+
+        @Override
+        public Object invoke(int methodIndex, Object[] args) throws Throwable {
+            this.methodIndex = methodIndex;
+            this.args = args;
+            if (exception != null) {
+                throw exception;
+            }
+            return result;
+        }
+
+        @Override
+        public SerializableObjectFactory getSerializableObjectFactory() {
+            return factory;
+        }
+    }
+}
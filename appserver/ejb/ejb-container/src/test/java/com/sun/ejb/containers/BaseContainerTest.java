@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.ejb.containers;
+
+import com.sun.ejb.Container;
+import com.sun.ejb.InvocationInfo;
+import com.sun.ejb.containers.util.MethodMap;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class BaseContainerTest {
+
+    @Test
+    public void resolvesMethodsAddedAfterTheProxyMethodMap() throws Exception {
+        Map<Method, InvocationInfo> infos = new HashMap<>();
+        Method business = Bean.class.getMethod("business");
+        InvocationInfo businessInfo = new InvocationInfo(business);
+        infos.put(business, businessInfo);
+        MethodMap proxyMethodMap = new MethodMap(infos);
+
+        // like MessageBeanContainer adds the message listener methods
+        Method onMessage = Bean.class.getMethod("onMessage", String.class);
+        InvocationInfo onMessageInfo = new InvocationInfo(onMessage);
+        onMessageInfo.txAttr = Container.TX_REQUIRED;
+        infos.put(onMessage, onMessageInfo);
+
+        assertSame(businessInfo, BaseContainer.getInvocationInfo(proxyMethodMap, infos, business));
+        assertSame(onMessageInfo, BaseContainer.getInvocationInfo(proxyMethodMap, infos, onMessage));
+        assertSame(onMessageInfo,
+            BaseContainer.getInvocationInfo(proxyMethodMap, infos, Bean.class.getMethod("onMessage", String.class)));
+    }
+
+    @Test
+    public void resolvesAddedMethodsInTheBucketOfAProxyMethod() throws Exception {
+        Map<Method, InvocationInfo> infos = new HashMap<>();
+        Method business = Bean.class.getMethod("business");
+        InvocationInfo businessInfo = new InvocationInfo(business);
+        infos.put(business, businessInfo);
+        // a single bucket, so every method of the bean collides with business()
+        MethodMap proxyMethodMap = new MethodMap(infos, 1);
+
+        Method onMessage = Bean.class.getMethod("onMessage", String.class);
+        InvocationInfo onMessageInfo = new InvocationInfo(onMessage);
+        infos.put(onMessage, onMessageInfo);
+
+        assertSame(onMessageInfo, BaseContainer.getInvocationInfo(proxyMethodMap, infos, onMessage));
+        assertSame(businessInfo, BaseContainer.getInvocationInfo(proxyMethodMap, infos, business));
+    }
+
+    @Test
+    public void resolvesMethodsBeforeTheProxyMethodMapIsBuilt() throws Exception {
+        Map<Method, InvocationInfo> infos = new HashMap<>();
+        Method business = Bean.class.getMethod("business");
+        InvocationInfo businessInfo = new InvocationInfo(business);
+        infos.put(business, businessInfo);
+
+        assertSame(businessInfo, BaseContainer.getInvocationInfo(null, infos, business));
+        assertNull(BaseContainer.getInvocationInfo(null, infos, Bean.class.getMethod("onMessage", String.class)));
+    }
+
+    @Test
+    public void unknownMethodsHaveNoInvocationInfo() throws Exception {
+        Map<Method, InvocationInfo> infos = new HashMap<>();
+        Method business = Bean.class.getMethod("business");
+        infos.put(business, new InvocationInfo(business));
+        MethodMap proxyMethodMap = new MethodMap(infos);
+
+        assertNull(BaseContainer.getInvocationInfo(proxyMethodMap, infos, Bean.class.getMethod("onMessage", String.class)));
+    }
+
+    public interface Bean {
+        void business();
+
+        void onMessage(String message);
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.containers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EJBTimerWheelTest {
+
+    private EJBTimerWheel wheel;
+
+    @BeforeEach
+    public void startWheel() {
+        wheel = new EJBTimerWheel("test-timer-wheel", 1);
+        wheel.start();
+    }
+
+    @AfterEach
+    public void stopWheel() {
+        wheel.stop();
+    }
+
+    @Test
+    public void tasksRunAtTheirDeadlines() throws Exception {
+        long now = System.currentTimeMillis();
+        // first level, second level and an already passed deadline
+        List<RecordingTask> tasks = List.of(new RecordingTask(now + 30), new RecordingTask(now + 300),
+            new RecordingTask(now - 1000));
+        for (RecordingTask task : tasks) {
+            assertTrue(wheel.schedule(task));
+        }
+        for (RecordingTask task : tasks) {
+            assertTrue(task.ran.await(5, TimeUnit.SECONDS), "task did not run");
+            assertTrue(task.runAt >= task.getDeadline(), "task ran before its deadline");
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void manyTasksRunOnceAndNeverEarly() throws Exception {
+        Random random = new Random(42);
+        long now = System.currentTimeMillis();
+        int count = 10_000;
+        CountDownLatch ran = new CountDownLatch(count);
+        ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<>();
+        AtomicInteger runs = new AtomicInteger();
+        for (int i = 0; i < count; i++) {
+            long deadline = now + random.nextInt(500);
+            wheel.schedule(new EJBTimerWheel.Task(deadline) {
+                @Override
+                public void run() {
+                    if (System.currentTimeMillis() < getDeadline()) {
+                        errors.add("early " + getDeadline());
+                    }
+                    runs.incrementAndGet();
+                    ran.countDown();
+                }
+            });
+        }
+        assertTrue(ran.await(10, TimeUnit.SECONDS), "tasks did not run");
+        Thread.sleep(50L);
+        assertAll(
+            () -> assertEquals(List.of(), new ArrayList<>(errors)),
+            () -> assertEquals(count, runs.get()),
+            () -> assertEquals(0, wheel.size())
+        );
+    }
+
+    @Test
+    public void cancelledTaskDoesNotRun() throws Exception {
+        RecordingTask cancelled = new RecordingTask(System.currentTimeMillis() + 100);
+        RecordingTask other = new RecordingTask(System.currentTimeMillis() + 200);
+        wheel.schedule(cancelled);
+        wheel.schedule(other);
+        assertEquals(2, wheel.size());
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        assertEquals(1, wheel.size());
+        assertTrue(other.ran.await(5, TimeUnit.SECONDS), "task did not run");
+        assertAll(
+            () -> assertEquals(1, cancelled.ran.getCount()),
+            () -> assertFalse(other.cancel(), "expired task cancelled"),
+            () -> assertThrows(IllegalStateException.class, () -> wheel.schedule(cancelled))
+        );
+    }
+
+    @Test
+    public void taskCancelledBeforeSchedulingIsRefused() throws Exception {
+        RecordingTask task = new RecordingTask(System.currentTimeMillis());
+        assertFalse(task.cancel());
+        assertThrows(IllegalStateException.class, () -> wheel.schedule(task));
+        assertEquals(0, wheel.size());
+        assertFalse(task.ran.await(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void wheelSleepsUntilTheNextTask() throws Exception {
+        long now = System.currentTimeMillis();
+        // first level after the cascade of the second level slot
+        RecordingTask task = new RecordingTask(now + 500);
+        wheel.schedule(task);
+        long turns = wheel.getTurnCount();
+
+        assertTrue(task.ran.await(5, TimeUnit.SECONDS), "task did not run");
+        assertTrue(task.runAt >= task.getDeadline(), "task ran before its deadline");
+        // a few cascades and spurious wakeups, not a turn per tick
+        assertTrue(wheel.getTurnCount() - turns < 20, "turns: " + (wheel.getTurnCount() - turns));
+
+        // an earlier task wakes the sleeping wheel up
+        RecordingTask later = new RecordingTask(System.currentTimeMillis() + 60_000);
+        RecordingTask sooner = new RecordingTask(System.currentTimeMillis() + 50);
+        wheel.schedule(later);
+        Thread.sleep(20L);
+        wheel.schedule(sooner);
+        assertTrue(sooner.ran.await(5, TimeUnit.SECONDS), "task did not run");
+        assertEquals(1, later.ran.getCount());
+    }
+
+    @Test
+    public void failingTaskDoesNotStopTheWheel() throws Exception {
+        long now = System.currentTimeMillis();
+        wheel.schedule(new EJBTimerWheel.Task(now + 10) {
+            @Override
+            public void run() {
+                throw new IllegalStateException("Expected failure");
+            }
+        });
+        RecordingTask task = new RecordingTask(now + 50);
+        wheel.schedule(task);
+        assertTrue(task.ran.await(5, TimeUnit.SECONDS), "task did not run");
+    }
+
+    @Test
+    public void stoppedWheelDiscardsTasks() throws Exception {
+        RecordingTask armed = new RecordingTask(System.currentTimeMillis() + 50);
+        wheel.schedule(armed);
+        wheel.stop();
+        assertFalse(wheel.schedule(new RecordingTask(System.currentTimeMillis())));
+        assertFalse(armed.ran.await(200, TimeUnit.MILLISECONDS));
+    }
+
+    private static class RecordingTask extends EJBTimerWheel.Task {
+
+        final CountDownLatch ran = new CountDownLatch(1);
+        volatile long runAt;
+
+        RecordingTask(long deadline) {
+            super(deadline);
+        }
+
+        @Override
+        public void run() {
+            runAt = System.currentTimeMillis();
+            ran.countDown();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -226,6 +226,26 @@ public class EjbContainerUtilImplTest {
         validateLogContents(expectedMessage);
     }
 
+    @Test
+    public void testInitAsyncMaxConcurrency() {
+        assertThat(EjbContainerUtilImpl.initAsyncMaxConcurrency("64"), is(64));
+        assertThat(EjbContainerUtilImpl.initAsyncMaxConcurrency("0"), is(0));
+        assertThat(EjbContainerUtilImpl.initAsyncMaxConcurrency(null), is(EjbContainer.DEFAULT_ASYNC_MAX_CONCURRENCY));
+    }
+
+    @Test
+    public void testInitAsyncMaxConcurrencyWithParseFail() throws IOException {
+        String[] expectedMessage = { "WARNING",
+                EjbContainerUtil.ASYNC_MAX_CONCURRENCY
+                        + " is not a number, using default value "
+                        + EjbContainer.DEFAULT_ASYNC_MAX_CONCURRENCY };
+        int actual = EjbContainerUtilImpl.initAsyncMaxConcurrency("a");
+
+        assertThat(actual, is(EjbContainer.DEFAULT_ASYNC_MAX_CONCURRENCY));
+        handler.flush();
+        validateLogContents(expectedMessage);
+    }
+
     private static void validateLogContents(String[] messages) throws IOException {
         try (BufferedReader reader = new BufferedReader(new FileReader(TEST_LOG))) {
             StringBuffer buf = new StringBuffer();
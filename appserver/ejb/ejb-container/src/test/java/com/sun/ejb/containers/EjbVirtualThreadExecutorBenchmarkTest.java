@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.ejb.containers;
+
+import java.lang.System.Logger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static java.lang.System.Logger.Level.INFO;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Compares the latency of a fan-out of blocking asynchronous invocations executed by the default
+ * {@link EjbThreadPoolExecutor} and by the {@link EjbVirtualThreadExecutor}.
+ */
+@State(Scope.Benchmark)
+public class EjbVirtualThreadExecutorBenchmarkTest {
+    private static final Logger LOG = System.getLogger(EjbVirtualThreadExecutorBenchmarkTest.class.getName());
+    private static final int FAN_OUT = 64;
+
+    @Param({"platform", "virtual"})
+    public String threadType;
+
+    private ExecutorService executor;
+
+
+    @Test
+    public void fanOut_benchmark() throws Exception {
+        Options options = new OptionsBuilder().include(getClass().getName() + ".*")
+            .warmupIterations(1).warmupTime(TimeValue.milliseconds(500L))
+            .measurementIterations(3).measurementTime(TimeValue.milliseconds(500L))
+            .forks(1).threads(4).shouldFailOnError(true)
+            .timeout(TimeValue.seconds(10L)).timeUnit(TimeUnit.MILLISECONDS).mode(Mode.SampleTime)
+            .build();
+        Collection<RunResult> results = new Runner(options).run();
+        assertThat(results, hasSize(2));
+        Map<String, Double> means = new HashMap<>();
+        Map<String, Double> tails = new HashMap<>();
+        for (RunResult result : results) {
+            String type = result.getParams().getParam("threadType");
+            means.put(type, result.getPrimaryResult().getScore());
+            tails.put(type, result.getPrimaryResult().getStatistics().getPercentile(99.0d));
+        }
+        double ratio = means.get("virtual") / means.get("platform");
+        LOG.log(INFO, "Mean milliseconds per fan-out: {0}, p99: {1}, virtual/platform: {2}", means, tails, ratio);
+        // 4 callers x 64 sleeping tasks saturate the 16 platform threads, virtual threads only park.
+        assertThat("Expected ratio", ratio, lessThan(1.5d));
+    }
+
+
+    @Setup
+    public void createExecutor() {
+        if ("virtual".equals(threadType)) {
+            executor = new EjbVirtualThreadExecutor("benchmark-virtual-", 1000);
+        } else {
+            executor = new EjbThreadPoolExecutor(16, 32, 60L, new LinkedBlockingQueue<>(), "benchmark-platform");
+        }
+    }
+
+
+    @TearDown
+    public void shutdownExecutor() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10L, TimeUnit.SECONDS);
+    }
+
+
+    @Benchmark
+    public int fanOut() throws Exception {
+        List<Future<Integer>> futures = new ArrayList<>(FAN_OUT);
+        for (int i = 0; i < FAN_OUT; i++) {
+            final int id = i;
+            futures.add(executor.submit(() -> {
+                Thread.sleep(1L);
+                return id;
+            }));
+        }
+        int sum = 0;
+        for (Future<Integer> future : futures) {
+            sum += future.get();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.ejb.containers;
+
+import com.sun.ejb.spi.container.SFSBContainerCallback;
+import com.sun.ejb.spi.container.StatefulEJBContext;
+
+import jakarta.ejb.SessionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SFSBPassivationQueueTest {
+
+    private SFSBPassivationQueue queue;
+
+    @AfterEach
+    public void closeQueue() {
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+    @Test
+    public void offeredBeansArePassivatedByDrainers() throws Exception {
+        ClassLoader loader = new ClassLoader() {};
+        RecordingContainer container = new RecordingContainer(loader, 100, null);
+        queue = new SFSBPassivationQueue("test-queue", container, 1000, 3);
+        List<TestContext> contexts = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            TestContext context = new TestContext();
+            contexts.add(context);
+            assertTrue(queue.offer(context));
+        }
+        assertTrue(container.passivated.await(10, TimeUnit.SECONDS), "not passivated: " + container.passivated.getCount());
+        assertEquals(Set.copyOf(contexts), container.contexts);
+        assertEquals(Set.of(loader), container.classLoaders);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void fullQueueRejectsBeans() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingContainer container = new RecordingContainer(getClass().getClassLoader(), 3, release);
+        queue = new SFSBPassivationQueue("test-queue", container, 2, 1);
+        assertTrue(queue.offer(new TestContext()));
+        assertTrue(container.started.await(10, TimeUnit.SECONDS));
+
+        assertTrue(queue.offer(new TestContext()));
+        assertTrue(queue.offer(new TestContext()));
+        assertFalse(queue.offer(new TestContext()));
+        assertEquals(2, queue.size());
+
+        release.countDown();
+        assertTrue(container.passivated.await(10, TimeUnit.SECONDS), "not passivated: " + container.passivated.getCount());
+        assertTrue(queue.offer(new TestContext()));
+    }
+
+    @Test
+    public void closeReturnsWaitingBeans() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingContainer container = new RecordingContainer(getClass().getClassLoader(), 1, release);
+        queue = new SFSBPassivationQueue("test-queue", container, 10, 1);
+        TestContext passivated = new TestContext();
+        assertTrue(queue.offer(passivated));
+        assertTrue(container.started.await(10, TimeUnit.SECONDS));
+        List<TestContext> waiting = List.of(new TestContext(), new TestContext(), new TestContext());
+        for (TestContext context : waiting) {
+            assertTrue(queue.offer(context));
+        }
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        });
+        releaser.start();
+        List<StatefulEJBContext> remaining = queue.close();
+        releaser.join();
+
+        assertEquals(Set.copyOf(waiting), Set.copyOf(remaining));
+        assertEquals(Set.of(passivated), container.contexts);
+        assertFalse(queue.offer(new TestContext()));
+    }
+
+    private static final class RecordingContainer implements SFSBContainerCallback {
+
+        private final ClassLoader loader;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch passivated;
+        private final CountDownLatch release;
+        private final Set<StatefulEJBContext> contexts = ConcurrentHashMap.newKeySet();
+        private final Set<ClassLoader> classLoaders = ConcurrentHashMap.newKeySet();
+
+        RecordingContainer(ClassLoader loader, int expectedPassivations, CountDownLatch release) {
+            this.loader = loader;
+            this.passivated = new CountDownLatch(expectedPassivations);
+            this.release = release;
+        }
+
+        @Override
+        public ClassLoader getClassLoader() {
+            return loader;
+        }
+
+        @Override
+        public int getPassivationBatchCount() {
+            return 8;
+        }
+
+        @Override
+        public boolean passivateEJB(StatefulEJBContext ctx) {
+            started.countDown();
+            if (release != null) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            classLoaders.add(Thread.currentThread().getContextClassLoader());
+            contexts.add(ctx);
+            passivated.countDown();
+            return true;
+        }
+
+        @Override
+        public void invokePeriodically(long delay, long periodicity, Runnable target) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void activateEJB(Object sessionKey, StatefulEJBContext ctx, Object cookie) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isPassivationCapable() {
+            return true;
+        }
+
+        @Override
+        public byte[] serializeContext(StatefulEJBContext ctx) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object deserializeData(byte[] data) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class TestContext implements StatefulEJBContext {
+
+        @Override
+        public long getLastAccessTime() {
+            return 0L;
+        }
+
+        @Override
+        public boolean canBePassivated() {
+            return true;
+        }
+
+        @Override
+        public SessionContext getSessionContext() {
+            return null;
+        }
+
+        @Override
+        public boolean existsInStore() {
+            return false;
+        }
+
+        @Override
+        public void setExistsInStore(boolean val) {
+        }
+
+        @Override
+        public long getVersion() {
+            return 0L;
+        }
+
+        @Override
+        public long incrementAndGetVersion() {
+            return 0L;
+        }
+
+        @Override
+        public void setVersion(long versionInBackingStore) {
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.containers.interceptors;
+
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.InvocationContext;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AroundInvokeChainImplTest {
+
+    @Test
+    public void invokesInterceptorsAndBean() throws Throwable {
+        Bean bean = new Bean();
+        RecordingInterceptor interceptor = new RecordingInterceptor();
+        InterceptorManager.ManagedMethod method = createManagedMethod("hello", String.class);
+        assertThat(method.beanClassMethodHandle, notNullValue());
+
+        AroundInvokeInvocationContext ctx = new AroundInvokeInvocationContext(bean, new Object[] {interceptor}, method.chain,
+            method.beanClassMethod, method.beanClassMethodHandle, new Object[] {"World"});
+        assertEquals("Hello Interceptor", method.chain.invokeNext(0, ctx));
+        assertThat(interceptor.calls, contains("hello"));
+        assertThat(bean.calls, contains("around", "hello"));
+        assertEquals("World", interceptor.contextData);
+    }
+
+
+    @Test
+    public void exceptionsAreNotWrapped() throws Throwable {
+        Bean bean = new Bean();
+        InterceptorManager.ManagedMethod method = createManagedMethod("fail");
+
+        AroundInvokeInvocationContext ctx = new AroundInvokeInvocationContext(bean, new Object[] {new RecordingInterceptor()},
+            method.chain, method.beanClassMethod, method.beanClassMethodHandle, new Object[0]);
+        IOException e = assertThrows(IOException.class, () -> method.chain.invokeNext(0, ctx));
+        assertSame(bean.failure, e);
+    }
+
+
+    @Test
+    public void reflectiveContextGivesSameResult() throws Throwable {
+        Bean bean = new Bean();
+        InterceptorManager.ManagedMethod method = createManagedMethod("hello", String.class);
+
+        AroundInvokeInvocationContext ctx = new AroundInvokeInvocationContext(bean, new Object[] {new RecordingInterceptor()},
+            method.chain, method.beanClassMethod, new Object[] {"World"});
+        assertEquals("Hello Interceptor", method.chain.invokeNext(0, ctx));
+    }
+
+
+    @Test
+    public void systemInterceptorProxy() throws Throwable {
+        Bean bean = new Bean();
+        RecordingInterceptor delegate = new RecordingInterceptor();
+        SystemInterceptorProxy proxy = new SystemInterceptorProxy();
+        proxy.setDelegate(delegate);
+        InterceptorManager.ManagedMethod method = createManagedMethod("hello", String.class);
+
+        AroundInvokeInvocationContext ctx = new AroundInvokeInvocationContext(bean, new Object[] {new RecordingInterceptor()},
+            method.chain, method.beanClassMethod, method.beanClassMethodHandle, new Object[] {"World"});
+        assertEquals("Hello Interceptor", proxy.aroundInvoke(ctx));
+        assertThat(delegate.calls, contains("hello"));
+
+        delegate.error = new AssertionError("Test");
+        Exception e = assertThrows(Exception.class, () -> proxy.aroundInvoke(ctx));
+        assertThat(e.getCause(), sameInstance(delegate.error));
+    }
+
+
+    private static InterceptorManager.ManagedMethod createManagedMethod(String name, Class<?>... parameterTypes) throws Exception {
+        AroundInvokeInterceptor[] interceptors = {
+            new AroundInvokeInterceptor(0, RecordingInterceptor.class.getDeclaredMethod("intercept", InvocationContext.class)),
+            new BeanAroundInvokeInterceptor(Bean.class.getDeclaredMethod("around", InvocationContext.class))
+        };
+        Method beanClassMethod = Bean.class.getMethod(name, parameterTypes);
+        return new InterceptorManager.ManagedMethod(Bean.class, beanClassMethod, new AroundInvokeChainImpl(interceptors));
+    }
+
+
+    public static class Bean {
+
+        final List<String> calls = new ArrayList<>();
+        final IOException failure = new IOException("Test");
+
+        public String hello(String name) {
+            calls.add("hello");
+            return "Hello " + name;
+        }
+
+        public void fail() throws IOException {
+            throw failure;
+        }
+
+        @AroundInvoke
+        private Object around(InvocationContext ctx) throws Exception {
+            calls.add("around");
+            return ctx.proceed();
+        }
+    }
+
+
+    public static class RecordingInterceptor {
+
+        final List<String> calls = new ArrayList<>();
+        Object contextData;
+        Error error;
+
+        @AroundInvoke
+        private Object intercept(InvocationContext ctx) throws Exception {
+            if (error != null) {
+                throw error;
+            }
+            calls.add(ctx.getMethod().getName());
+            if (ctx.getParameters().length == 1) {
+                ctx.getContextData().put("name", ctx.getParameters()[0]);
+                contextData = ctx.getContextData().get("name");
+                ctx.setParameters(new Object[] {"Interceptor"});
+            }
+            return ctx.proceed();
+        }
+    }
+}
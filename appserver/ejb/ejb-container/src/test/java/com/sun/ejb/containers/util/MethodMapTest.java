@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.ejb.containers.util;
+
+import com.sun.ejb.InvocationInfo;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MethodMapTest {
+
+    @Test
+    public void resolvesEqualAndIdenticalMethods() throws Exception {
+        Map<Method, InvocationInfo> infos = createInfos(Overloads.class);
+        MethodMap map = new MethodMap(infos);
+        for (int i = 0; i < 3; i++) {
+            for (Method method : Overloads.class.getMethods()) {
+                InvocationInfo expected = infos.get(method);
+                assertAll(
+                    () -> assertSame(expected, map.get(method)),
+                    () -> assertSame(expected, map.get(method, method.getParameterCount())),
+                    () -> assertSame(expected, map.get(Overloads.class.getMethod(method.getName(), method.getParameterTypes())))
+                );
+            }
+        }
+    }
+
+    @Test
+    public void resolvesProxyMethods() {
+        Map<Method, InvocationInfo> infos = createInfos(Overloads.class);
+        MethodMap map = new MethodMap(infos, 1);
+        AtomicReference<InvocationInfo> resolved = new AtomicReference<>();
+        Overloads proxy = (Overloads) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Overloads.class},
+            (p, method, args) -> {
+                resolved.set(map.get(method, args == null ? 0 : args.length));
+                return null;
+            });
+        for (int i = 0; i < 3; i++) {
+            proxy.call();
+            assertSame(infos.get(getMethod("call")), resolved.get());
+            proxy.call("a");
+            assertSame(infos.get(getMethod("call", String.class)), resolved.get());
+            proxy.call(1);
+            assertSame(infos.get(getMethod("call", int.class)), resolved.get());
+            proxy.call("a", 1);
+            assertSame(infos.get(getMethod("call", String.class, int.class)), resolved.get());
+        }
+    }
+
+    @Test
+    public void unknownMethodsAndClear() throws Exception {
+        MethodMap map = new MethodMap(createInfos(Overloads.class));
+        Method unknown = Object.class.getMethod("toString");
+        assertAll(
+            () -> assertNull(map.get(unknown)),
+            () -> assertNull(map.get("call")),
+            () -> assertThrows(IllegalStateException.class, () -> map.get(unknown, -1)),
+            () -> assertNull(new MethodMap(new HashMap<>()).get(unknown))
+        );
+        map.clear();
+        map.clear();
+        assertNull(map.get(getMethod("call")));
+    }
+
+    @Test
+    public void unknownMethodsInTheBucketOfAKnownMethod() throws Exception {
+        Map<Method, InvocationInfo> infos = new HashMap<>();
+        Method call = getMethod("call");
+        infos.put(call, new InvocationInfo(call));
+        MethodMap map = new MethodMap(infos, 1);
+        Method other = getMethod("other", String.class);
+        for (int i = 0; i < 3; i++) {
+            assertAll(
+                () -> assertNull(map.get(other)),
+                () -> assertNull(map.get(other, 1)),
+                () -> assertSame(infos.get(call), map.get(call))
+            );
+        }
+    }
+
+    private static Map<Method, InvocationInfo> createInfos(Class<?> intf) {
+        Map<Method, InvocationInfo> infos = new HashMap<>();
+        for (Method method : intf.getMethods()) {
+            infos.put(method, new InvocationInfo(method));
+        }
+        return infos;
+    }
+
+    private static Method getMethod(String name, Class<?>... parameterTypes) {
+        try {
+            return Overloads.class.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public interface Overloads {
+        void call();
+
+        void call(String value);
+
+        void call(int value);
+
+        void call(String value, int count);
+
+        void other(String value);
+    }
+}
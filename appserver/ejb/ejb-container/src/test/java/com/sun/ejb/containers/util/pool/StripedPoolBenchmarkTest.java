@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.containers.util.pool;
+
+import com.sun.ejb.monitoring.probes.EjbPoolProbeProvider;
+
+import java.lang.System.Logger;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static java.lang.System.Logger.Level.INFO;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Compares the throughput of the {@link StripedPool} and the {@link NonBlockingPool} when many
+ * threads get and return bean instances concurrently, as the stateless session bean container does.
+ */
+@State(Scope.Benchmark)
+public class StripedPoolBenchmarkTest {
+    private static final Logger LOG = System.getLogger(StripedPoolBenchmarkTest.class.getName());
+
+    @Param({"non-blocking", "striped"})
+    public String poolType;
+
+    private AbstractPool pool;
+
+
+    @Test
+    public void getAndReturn_benchmark() throws Exception {
+        Options options = new OptionsBuilder().include(getClass().getName() + ".*")
+            .warmupIterations(1).warmupTime(TimeValue.milliseconds(500L))
+            .measurementIterations(3).measurementTime(TimeValue.milliseconds(500L))
+            .forks(1).threads(Runtime.getRuntime().availableProcessors() * 4).shouldFailOnError(true)
+            .timeout(TimeValue.seconds(10L)).timeUnit(TimeUnit.MICROSECONDS).mode(Mode.Throughput)
+            .build();
+        Collection<RunResult> results = new Runner(options).run();
+        assertThat(results, hasSize(2));
+        Map<String, Double> scores = new HashMap<>();
+        for (RunResult result : results) {
+            scores.put(result.getParams().getParam("poolType"), result.getPrimaryResult().getScore());
+        }
+        double ratio = scores.get("striped") / scores.get("non-blocking");
+        LOG.log(INFO, "Operations per microsecond: {0}, striped/non-blocking: {1}", scores, ratio);
+        // The striped pool pays off with many cores, on machines with few cores it may be slower.
+        assertThat("Expected ratio", ratio, greaterThan(0.25d));
+    }
+
+
+    @Setup
+    public void createPool() {
+        ObjectFactory factory = new BeanFactory();
+        int maxPoolSize = Runtime.getRuntime().availableProcessors() * 4;
+        if ("striped".equals(poolType)) {
+            pool = new StripedPool(1L, poolType, factory, 0, 8, maxPoolSize, 0, getClass().getClassLoader());
+        } else {
+            pool = new NonBlockingPool(1L, poolType, factory, 0, 8, maxPoolSize, 0, getClass().getClassLoader());
+        }
+        pool.poolProbeNotifier = new EjbPoolProbeProvider();
+    }
+
+
+    @Benchmark
+    public void getAndReturn() {
+        Object bean = pool.getObject(null);
+        Blackhole.consumeCPU(50L);
+        pool.returnObject(bean);
+    }
+
+
+    private static class BeanFactory implements ObjectFactory {
+
+        @Override
+        public Object create(Object param) {
+            return new Object();
+        }
+
+        @Override
+        public void destroy(Object object) {
+        }
+    }
+}
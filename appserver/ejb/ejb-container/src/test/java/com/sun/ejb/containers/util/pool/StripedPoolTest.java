@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.ejb.containers.util.pool;
+
+import com.sun.ejb.monitoring.probes.EjbPoolProbeProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class StripedPoolTest {
+
+    private final CountingFactory factory = new CountingFactory();
+
+    @Test
+    public void returnedObjectIsReused() {
+        StripedPool pool = createPool(0, 10);
+        Object bean = pool.getObject(null);
+        pool.returnObject(bean);
+        assertSame(bean, pool.getObject(null));
+        assertAll(
+            () -> assertEquals(1, factory.created.get()),
+            () -> assertEquals(1, pool.getCreatedCount()),
+            () -> assertEquals(1, pool.getPoolSuccess()),
+            () -> assertEquals(0, pool.getSize())
+        );
+    }
+
+    @Test
+    public void objectsOverMaxPoolSizeAreDestroyed() {
+        StripedPool pool = createPool(0, 3);
+        List<Object> beans = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            beans.add(pool.getObject(null));
+        }
+        beans.forEach(pool::returnObject);
+        assertAll(
+            () -> assertEquals(3, pool.getSize()),
+            () -> assertEquals(5, pool.getCreatedCount()),
+            () -> assertEquals(2, pool.getDestroyedCount()),
+            () -> assertEquals(2, factory.destroyed.get())
+        );
+    }
+
+    @Test
+    public void objectsAreStolenFromOtherStripes() throws Exception {
+        StripedPool pool = createPool(0, 100);
+        List<Object> beans = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            beans.add(pool.getObject(null));
+        }
+        Thread thread = new Thread(() -> beans.forEach(pool::returnObject));
+        thread.start();
+        thread.join();
+        for (int i = 0; i < 10; i++) {
+            pool.getObject(null);
+        }
+        assertAll(
+            () -> assertEquals(10, factory.created.get()),
+            () -> assertEquals(0, pool.getSize())
+        );
+    }
+
+    @Test
+    public void prepopulateAndRemove() {
+        StripedPool pool = createPool(0, 100);
+        pool.prepopulate(20);
+        assertEquals(20, pool.getSize());
+        pool.remove(15);
+        assertAll(
+            () -> assertEquals(5, pool.getSize()),
+            () -> assertEquals(20, pool.getCreatedCount()),
+            () -> assertEquals(15, factory.destroyed.get())
+        );
+    }
+
+    private StripedPool createPool(int steadyPoolSize, int maxPoolSize) {
+        StripedPool pool = new StripedPool(1L, "test", factory, steadyPoolSize, 8, maxPoolSize, 0, getClass().getClassLoader());
+        pool.poolProbeNotifier = new EjbPoolProbeProvider();
+        return pool;
+    }
+
+    private static class CountingFactory implements ObjectFactory {
+
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger destroyed = new AtomicInteger();
+
+        @Override
+        public Object create(Object param) {
+            created.incrementAndGet();
+            return new Object();
+        }
+
+        @Override
+        public void destroy(Object object) {
+            destroyed.incrementAndGet();
+        }
+    }
+}
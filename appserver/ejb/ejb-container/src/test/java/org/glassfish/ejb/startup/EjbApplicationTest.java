@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.ejb.startup;
+
+import com.sun.enterprise.security.SecurityContext;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.security.auth.Subject;
+
+import org.glassfish.api.invocation.ApplicationEnvironment;
+import org.glassfish.api.invocation.InvocationManager;
+import org.glassfish.api.invocation.InvocationManagerImpl;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EjbApplicationTest {
+
+    private final InvocationManager invocationManager = new InvocationManagerImpl();
+
+    @Test
+    public void containersAreRegisteredInDescriptorOrder() throws Throwable {
+        List<Integer> descriptors = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+        List<String> registered = new ArrayList<>();
+
+        EjbApplication.createInParallel(descriptors, 4, desc -> {
+            // the first containers are created last
+            Thread.sleep(20 - desc);
+            return "container-" + desc;
+        }, (desc, container) -> registered.add(desc + "=" + container), invocationManager);
+
+        assertEquals(descriptors.stream().map(desc -> desc + "=container-" + desc).collect(Collectors.toList()), registered);
+    }
+
+    @Test
+    public void allCreatedContainersAreRegisteredAndTheFirstFailureIsThrown() {
+        List<Integer> descriptors = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+        List<Integer> registered = new ArrayList<>();
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+            () -> EjbApplication.createInParallel(descriptors, 4, desc -> {
+                if (desc == 3 || desc == 7) {
+                    // the later failure happens first
+                    Thread.sleep(desc == 3 ? 50 : 0);
+                    throw new IllegalStateException("failed " + desc);
+                }
+                return desc;
+            }, (desc, container) -> registered.add(container), invocationManager));
+
+        assertAll(
+            () -> assertEquals("failed 3", failure.getMessage()),
+            () -> assertEquals(List.of("failed 7"),
+                Arrays.stream(failure.getSuppressed()).map(Throwable::getMessage).collect(Collectors.toList())),
+            () -> assertThat(registered, contains(0, 1, 2, 4, 5, 6, 8, 9))
+        );
+    }
+
+    @Test
+    public void callerContextIsPropagatedToThePoolThreads() throws Throwable {
+        ApplicationEnvironment applicationEnvironment = () -> "app";
+        SecurityContext securityContext = new SecurityContext("deployer", new Subject());
+        ClassLoader contextClassLoader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        Map<Integer, List<Object>> contexts = new ConcurrentHashMap<>();
+
+        Thread thread = Thread.currentThread();
+        ClassLoader previousClassLoader = thread.getContextClassLoader();
+        SecurityContext previousSecurityContext = SecurityContext.getCurrent();
+        thread.setContextClassLoader(contextClassLoader);
+        SecurityContext.setCurrent(securityContext);
+        invocationManager.pushAppEnvironment(applicationEnvironment);
+        try {
+            EjbApplication.createInParallel(List.of(1, 2, 3, 4), 2, desc -> {
+                contexts.put(desc, List.of(Thread.currentThread().getContextClassLoader(), SecurityContext.getCurrent(),
+                    invocationManager.peekAppEnvironment()));
+                return desc;
+            }, (desc, container) -> { }, invocationManager);
+
+            assertSame(applicationEnvironment, invocationManager.peekAppEnvironment());
+        } finally {
+            invocationManager.popAppEnvironment();
+            SecurityContext.setCurrent(previousSecurityContext);
+            thread.setContextClassLoader(previousClassLoader);
+        }
+
+        assertEquals(4, contexts.size());
+        for (List<Object> context : contexts.values()) {
+            assertAll(
+                () -> assertSame(contextClassLoader, context.get(0)),
+                () -> assertSame(securityContext, context.get(1)),
+                () -> assertSame(applicationEnvironment, context.get(2))
+            );
+        }
+    }
+}
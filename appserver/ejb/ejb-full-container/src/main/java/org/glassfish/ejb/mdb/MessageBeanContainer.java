@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -32,7 +32,6 @@ import com.sun.ejb.containers.EJBTimerService;
 import com.sun.ejb.containers.EjbContainerUtilImpl;
 import com.sun.ejb.containers.RuntimeTimerState;
 import com.sun.ejb.containers.util.pool.AbstractPool;
-import com.sun.ejb.containers.util.pool.NonBlockingPool;
 import com.sun.ejb.containers.util.pool.ObjectFactory;
 import com.sun.ejb.monitoring.stats.EjbMonitoringStatsProvider;
 import com.sun.ejb.monitoring.stats.EjbPoolStatsProvider;
@@ -130,12 +129,20 @@ public final class MessageBeanContainer extends BaseContainer implements Message
     private static final int DEFAULT_MAX_POOL_SIZE = 32;
     private static final int DEFAULT_IDLE_TIMEOUT = 600;
 
+    // Either fixed, the resource adapter is only limited by the max-pool-size,
+    // or adaptive, see MessageDeliveryLimiter.
+    private static final String DELIVERY_CONCURRENCY_PROP = "delivery-concurrency";
+    private static final String FIXED_DELIVERY_CONCURRENCY = "fixed";
+    private static final String ADAPTIVE_DELIVERY_CONCURRENCY = "adaptive";
+
     // issue 4629. 0 means a bean can remain idle indefinitely.
     private static final int MIN_IDLE_TIMEOUT = 0;
 
     private TransactedPoolManager transactedPoolManager;
     private final Class<?> messageListenerType_;
 
+    private MessageDeliveryLimiter deliveryLimiter;
+
     MessageBeanContainer(EjbDescriptor ejbDescriptor, ClassLoader classLoader, SecurityManager securityManager) throws Exception {
         super(ContainerType.MESSAGE_DRIVEN, ejbDescriptor, classLoader, securityManager);
 
@@ -240,10 +247,7 @@ public final class MessageBeanContainer extends BaseContainer implements Message
     public void startApplication(boolean deploy) {
         super.startApplication(deploy);
 
-        if (messageBeanPool instanceof NonBlockingPool) {
-            NonBlockingPool nonBlockingPool = (NonBlockingPool) messageBeanPool;
-            nonBlockingPool.prepopulate(beanPoolDescriptor.getSteadyPoolSize());
-        }
+        messageBeanPool.prepopulate(beanPoolDescriptor.getSteadyPoolSize());
 
         // Start delivery of messages to message bean instances.
         try {
@@ -273,7 +277,11 @@ public final class MessageBeanContainer extends BaseContainer implements Message
 
     @Override
     protected EjbMonitoringStatsProvider getMonitoringStatsProvider(String appName, String modName, String ejbName) {
-        return new MessageDrivenBeanStatsProvider(getContainerId(), appName, modName, ejbName);
+        MessageDrivenBeanStatsProvider statsProvider = new MessageDrivenBeanStatsProvider(getContainerId(), appName, modName,
+            ejbName);
+        statsProvider.setDeliveryGauges(deliveryLimiter::getInFlight, deliveryLimiter::getWaiting, deliveryLimiter::getLimit,
+            deliveryLimiter::getDeliveredMessages);
+        return statsProvider;
     }
 
     @Override
@@ -349,16 +357,28 @@ public final class MessageBeanContainer extends BaseContainer implements Message
         // on message bean resources independent of the pool.
 
         messageBeanPool =
-            new NonBlockingPool(
-                getContainerId(),
+            newBeanPool(
                 appEJBName_,
                 new MessageBeanContextFactory(),
                 beanPoolDescriptor.getSteadyPoolSize(),
                 beanPoolDescriptor.getPoolResizeQuantity(),
                 beanPoolDescriptor.getMaxPoolSize(),
-                beanPoolDescriptor.getPoolIdleTimeoutInSeconds(),
-                loader,
-                Boolean.parseBoolean(descriptor.getEjbBundleDescriptor().getEnterpriseBeansProperty(SINGLETON_BEAN_POOL_PROP)));
+                beanPoolDescriptor.getPoolIdleTimeoutInSeconds());
+
+        String concurrency = ejbDescriptor.getEjbBundleDescriptor().getEnterpriseBeansProperty(DELIVERY_CONCURRENCY_PROP);
+        if (concurrency == null) {
+            concurrency = mdbContainer.getPropertyValue(DELIVERY_CONCURRENCY_PROP, FIXED_DELIVERY_CONCURRENCY);
+        }
+        if (!FIXED_DELIVERY_CONCURRENCY.equals(concurrency) && !ADAPTIVE_DELIVERY_CONCURRENCY.equals(concurrency)) {
+            _logger.log(WARNING, "Unknown {0} {1} of {2}, using {3}",
+                new Object[] {DELIVERY_CONCURRENCY_PROP, concurrency, appEJBName_, FIXED_DELIVERY_CONCURRENCY});
+        }
+        deliveryLimiter = new MessageDeliveryLimiter(ADAPTIVE_DELIVERY_CONCURRENCY.equals(concurrency),
+            beanPoolDescriptor.getSteadyPoolSize(), beanPoolDescriptor.getMaxPoolSize());
+    }
+
+    MessageDeliveryLimiter getDeliveryLimiter() {
+        return deliveryLimiter;
     }
 
     protected static int stringToInt(String val, String appName, Logger logger) {
@@ -485,7 +505,7 @@ public final class MessageBeanContainer extends BaseContainer implements Message
             // afterMessageDelivery takes care of postInvoke and postInvokeTx
             // processing. If any portion of that work fails, mark
             // timer for redelivery.
-            boolean successfulAfterMessageDelivery = afterMessageDeliveryInternal(null);
+            boolean successfulAfterMessageDelivery = afterMessageDeliveryInternal(null, 1);
             if (!redeliver && !successfulAfterMessageDelivery) {
                 redeliver = true;
             }
@@ -985,6 +1005,7 @@ public final class MessageBeanContainer extends BaseContainer implements Message
     protected void doConcreteContainerShutdown(boolean appBeingUndeployed) {
         _logger.log(FINE, "containers.mdb.shutdown_cleanup_start", appEJBName_);
         monitorOn = false;
+        deliveryLimiter.close();
         cleanupResources();
         _logger.log(FINE, "containers.mdb.shutdown_cleanup_end", appEJBName_);
     }
@@ -1105,13 +1126,20 @@ public final class MessageBeanContainer extends BaseContainer implements Message
                     // method itself. This info is also returned from the
                     // interceptor context info.
 
-                    invocation.methodParams = params;
+                    if (invocation.beanMethod == null) {
+                        invocation.beanMethod =
+                            invocation.ejb.getClass()
+                                          .getMethod(
+                                              invocation.method.getName(),
+                                              invocation.method.getParameterTypes());
+                    } else {
+                        // Next message of a batch the resource adapter delivers
+                        // between one beforeDelivery and afterDelivery, with the same
+                        // bean instance and transaction.
+                        invocation.getContextData().clear();
+                    }
 
-                    invocation.beanMethod =
-                        invocation.ejb.getClass()
-                                      .getMethod(
-                                          invocation.method.getName(),
-                                          invocation.method.getParameterTypes());
+                    invocation.methodParams = params;
 
                     result = super.intercept(invocation);
                 }
@@ -1187,10 +1215,17 @@ public final class MessageBeanContainer extends BaseContainer implements Message
     }
 
     public void afterMessageDelivery(ResourceHandle resourceHandle) {
-        afterMessageDeliveryInternal(resourceHandle);
+        afterMessageDeliveryInternal(resourceHandle, 1);
     }
 
-    private boolean afterMessageDeliveryInternal(ResourceHandle resourceHandle) {
+    /**
+     * @param messageCount number of messages delivered since {@link #beforeMessageDelivery}
+     */
+    void afterMessageDelivery(ResourceHandle resourceHandle, int messageCount) {
+        afterMessageDeliveryInternal(resourceHandle, Math.max(1, messageCount));
+    }
+
+    private boolean afterMessageDeliveryInternal(ResourceHandle resourceHandle, int messageCount) {
         // return value. assume failure until proven otherwise.
         boolean success = false;
 
@@ -1218,8 +1253,10 @@ public final class MessageBeanContainer extends BaseContainer implements Message
                 success = true;
 
                 // TODO: Check if Tx existed / committed
-                ejbProbeNotifier.messageDeliveredEvent(getContainerId(), containerInfo.appName, containerInfo.modName,
-                        containerInfo.ejbName);
+                for (int i = 0; i < messageCount; i++) {
+                    ejbProbeNotifier.messageDeliveredEvent(getContainerId(), containerInfo.appName, containerInfo.modName,
+                            containerInfo.ejbName);
+                }
 
             } catch (Throwable ce) {
                 _logger.log(SEVERE, "containers.mdb.postinvoke_exception", new Object[] { appEJBName_, ce.toString() });
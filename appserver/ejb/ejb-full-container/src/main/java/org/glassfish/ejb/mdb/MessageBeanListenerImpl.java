@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2022 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -35,6 +35,10 @@ public class MessageBeanListenerImpl implements MessageBeanListener {
     private MessageBeanContainer messageBeanContainer;
     private ResourceHandle resourceHandle;
 
+    // State of the current delivery, a listener is used by one thread at a time.
+    private long deliveryStartNanos;
+    private int deliveredMessages;
+
     MessageBeanListenerImpl(MessageBeanContainer container, ResourceHandle handle) {
         messageBeanContainer = container;
 
@@ -54,20 +58,31 @@ public class MessageBeanListenerImpl implements MessageBeanListener {
 
     @Override
     public void beforeMessageDelivery(Method method, boolean txImported) {
-        messageBeanContainer.onEnteringContainer(); // Notify Callflow Agent
-        messageBeanContainer.beforeMessageDelivery(method, Message, txImported, resourceHandle);
+        MessageDeliveryLimiter limiter = messageBeanContainer.getDeliveryLimiter();
+        deliveryStartNanos = limiter.acquire();
+        deliveredMessages = 0;
+        try {
+            messageBeanContainer.onEnteringContainer(); // Notify Callflow Agent
+            messageBeanContainer.beforeMessageDelivery(method, Message, txImported, resourceHandle);
+        } catch (RuntimeException | Error e) {
+            // The resource adapter will not call afterMessageDelivery
+            limiter.release(deliveryStartNanos, 0);
+            throw e;
+        }
     }
 
     @Override
     public Object deliverMessage(Object[] params) throws Throwable {
+        deliveredMessages++;
         return messageBeanContainer.deliverMessage(params);
     }
 
     @Override
     public void afterMessageDelivery() {
         try {
-            messageBeanContainer.afterMessageDelivery(resourceHandle);
+            messageBeanContainer.afterMessageDelivery(resourceHandle, deliveredMessages);
         } finally {
+            messageBeanContainer.getDeliveryLimiter().release(deliveryStartNanos, deliveredMessages);
             messageBeanContainer.onLeavingContainer(); // Notify Callflow Agent
         }
     }
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.ejb.mdb;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks the message deliveries of a message-driven bean and, in the adaptive mode, limits how
+ * many of them run concurrently.
+ * <p>
+ * The adaptive limit starts at the minimum and stays between the minimum and the maximum. It is
+ * adjusted after every window of as many deliveries as the current limit:
+ * <ul>
+ * <li>if the average latency of a message grew over {@link #LATENCY_TOLERANCE} times the lowest
+ * average latency seen, the bean or a resource it uses is saturated and the limit shrinks by a
+ * tenth,
+ * <li>else if deliveries had to wait for a permit, the backlog is growing and the limit grows by one,
+ * <li>else if less than half of the limit was used, the limit shrinks by one.
+ * </ul>
+ * In the fixed mode the deliveries are only counted, the resource adapter is limited by the
+ * number of message bean listeners.
+ */
+final class MessageDeliveryLimiter {
+
+    private static final double LATENCY_TOLERANCE = 2.0d;
+
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder deliveredMessages = new LongAdder();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    // Guarded by the lock, volatile for the monitoring.
+    private volatile int limit;
+    private volatile int waiting;
+    private boolean closed;
+
+    // Observations of the current window, guarded by the lock.
+    private int windowDeliveries;
+    private long windowLatencyNanos;
+    private int windowMaxWaiting;
+    private int windowMaxInFlight;
+    private long minLatencyNanos = Long.MAX_VALUE;
+
+    MessageDeliveryLimiter(boolean adaptive, int minLimit, int maxLimit) {
+        this.adaptive = adaptive;
+        this.minLimit = Math.max(1, Math.min(minLimit, maxLimit));
+        this.maxLimit = maxLimit;
+        this.limit = adaptive ? this.minLimit : maxLimit;
+    }
+
+    boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Waits until the delivery may start. If the thread is interrupted, the delivery starts without
+     * waiting and the interrupt status is kept.
+     *
+     * @return start of the delivery in nanoseconds, for {@link #release(long, int)}
+     */
+    long acquire() {
+        if (!adaptive) {
+            inFlight.incrementAndGet();
+            return System.nanoTime();
+        }
+        lock.lock();
+        try {
+            if (inFlight.get() >= limit && !closed) {
+                waiting++;
+                windowMaxWaiting = Math.max(windowMaxWaiting, waiting);
+                try {
+                    while (inFlight.get() >= limit && !closed) {
+                        permitReleased.await();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    waiting--;
+                }
+            }
+            windowMaxInFlight = Math.max(windowMaxInFlight, inFlight.incrementAndGet());
+        } finally {
+            lock.unlock();
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Ends the delivery started by {@link #acquire()}.
+     *
+     * @param startNanos value returned by {@link #acquire()}
+     * @param messages number of messages delivered, more than one if the resource adapter delivered
+     *            a batch in one transaction.
+     */
+    void release(long startNanos, int messages) {
+        long latencyNanos = System.nanoTime() - startNanos;
+        deliveredMessages.add(messages);
+        if (!adaptive) {
+            inFlight.decrementAndGet();
+            return;
+        }
+        lock.lock();
+        try {
+            inFlight.decrementAndGet();
+            windowDeliveries++;
+            windowLatencyNanos += latencyNanos / Math.max(1, messages);
+            if (windowDeliveries >= limit) {
+                adjustLimit();
+            }
+            permitReleased.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases all waiting deliveries and stops limiting the new ones.
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    int getWaiting() {
+        return waiting;
+    }
+
+    long getDeliveredMessages() {
+        return deliveredMessages.sum();
+    }
+
+    private void adjustLimit() {
+        long averageLatencyNanos = windowLatencyNanos / windowDeliveries;
+        minLatencyNanos = Math.min(minLatencyNanos, averageLatencyNanos);
+        int newLimit = limit;
+        if (averageLatencyNanos > minLatencyNanos * LATENCY_TOLERANCE) {
+            if (limit == minLimit) {
+                // Even the minimal concurrency is slow, the resource became slower permanently.
+                minLatencyNanos = averageLatencyNanos;
+            }
+            newLimit = Math.max(minLimit, limit - Math.max(1, limit / 10));
+        } else if (windowMaxWaiting > 0) {
+            newLimit = Math.min(maxLimit, limit + 1);
+        } else if (windowMaxInFlight < limit / 2) {
+            newLimit = Math.max(minLimit, limit - 1);
+        }
+        if (newLimit > limit) {
+            permitReleased.signal();
+        }
+        limit = newLimit;
+        windowDeliveries = 0;
+        windowLatencyNanos = 0L;
+        windowMaxWaiting = waiting;
+        windowMaxInFlight = inFlight.get();
+    }
+
+    @Override
+    public String toString() {
+        return "MessageDeliveryLimiter[adaptive=" + adaptive + ", limit=" + limit + ", inFlight=" + inFlight.get()
+            + ", waiting=" + waiting + ", delivered=" + deliveredMessages.sum() + "]";
+    }
+}
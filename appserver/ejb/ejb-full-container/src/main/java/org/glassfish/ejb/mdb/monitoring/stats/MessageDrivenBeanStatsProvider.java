@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2009, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -18,9 +19,15 @@ package org.glassfish.ejb.mdb.monitoring.stats;
 
 import com.sun.ejb.monitoring.stats.EjbMonitoringStatsProvider;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
 import org.glassfish.external.probe.provider.annotations.ProbeListener;
 import org.glassfish.external.probe.provider.annotations.ProbeParam;
 import org.glassfish.external.statistics.CountStatistic;
+import org.glassfish.external.statistics.RangeStatistic;
+import org.glassfish.external.statistics.impl.BoundedRangeStatisticImpl;
 import org.glassfish.external.statistics.impl.CountStatisticImpl;
 import org.glassfish.gmbal.AMXMetadata;
 import org.glassfish.gmbal.Description;
@@ -39,9 +46,51 @@ public class MessageDrivenBeanStatsProvider extends EjbMonitoringStatsProvider {
     private CountStatisticImpl messageCount = new CountStatisticImpl("MessageCount",
             "count", "Number of messages received for a message-driven bean");
 
+    private final BoundedRangeStatisticImpl inFlightDeliveries;
+    private final BoundedRangeStatisticImpl waitingDeliveries;
+    private final BoundedRangeStatisticImpl deliveryConcurrencyLimit;
+    private final BoundedRangeStatisticImpl deliveryThroughput;
+
+    private IntSupplier inFlightSupplier;
+    private IntSupplier waitingSupplier;
+    private IntSupplier limitSupplier;
+    private LongSupplier deliveredSupplier;
+
+    private long lastDelivered;
+    private long lastDeliveredNanos = System.nanoTime();
+
     public MessageDrivenBeanStatsProvider(long beanId, String appName, String moduleName,
             String beanName) {
         super(beanId, appName, moduleName, beanName);
+
+        long now = System.currentTimeMillis();
+        inFlightDeliveries = new BoundedRangeStatisticImpl(
+            0, 0, 0, Long.MAX_VALUE, 0, "InFlightDeliveries", "count",
+            "Number of messages being delivered to a message-driven bean",
+            now, now);
+        waitingDeliveries = new BoundedRangeStatisticImpl(
+            0, 0, 0, Long.MAX_VALUE, 0, "WaitingDeliveries", "count",
+            "Number of message deliveries waiting for the adaptive concurrency limit of a message-driven bean",
+            now, now);
+        deliveryConcurrencyLimit = new BoundedRangeStatisticImpl(
+            0, 0, 0, Long.MAX_VALUE, 0, "DeliveryConcurrencyLimit", "count",
+            "Maximal number of concurrent message deliveries to a message-driven bean",
+            now, now);
+        deliveryThroughput = new BoundedRangeStatisticImpl(
+            0, 0, 0, Long.MAX_VALUE, 0, "DeliveryThroughput", "count/second",
+            "Number of messages delivered to a message-driven bean per second since the previous sample",
+            now, now);
+    }
+
+    /**
+     * Sets the sources of the delivery gauges of the message-driven bean container.
+     */
+    public void setDeliveryGauges(IntSupplier inFlight, IntSupplier waiting, IntSupplier limit, LongSupplier delivered) {
+        this.inFlightSupplier = inFlight;
+        this.waitingSupplier = waiting;
+        this.limitSupplier = limit;
+        this.deliveredSupplier = delivered;
+        this.lastDelivered = delivered.getAsLong();
     }
 
     @ManagedAttribute(id="messagecount")
@@ -50,6 +99,50 @@ public class MessageDrivenBeanStatsProvider extends EjbMonitoringStatsProvider {
         return messageCount;
     }
 
+    @ManagedAttribute(id="inflightdeliveries")
+    @Description( "Number of messages being delivered to a message-driven bean")
+    public RangeStatistic getInFlightDeliveries() {
+        if (inFlightSupplier != null) {
+            inFlightDeliveries.setCurrent(inFlightSupplier.getAsInt());
+        }
+        return inFlightDeliveries;
+    }
+
+    @ManagedAttribute(id="waitingdeliveries")
+    @Description( "Number of message deliveries waiting for the adaptive concurrency limit")
+    public RangeStatistic getWaitingDeliveries() {
+        if (waitingSupplier != null) {
+            waitingDeliveries.setCurrent(waitingSupplier.getAsInt());
+        }
+        return waitingDeliveries;
+    }
+
+    @ManagedAttribute(id="deliveryconcurrencylimit")
+    @Description( "Maximal number of concurrent message deliveries")
+    public RangeStatistic getDeliveryConcurrencyLimit() {
+        if (limitSupplier != null) {
+            deliveryConcurrencyLimit.setCurrent(limitSupplier.getAsInt());
+        }
+        return deliveryConcurrencyLimit;
+    }
+
+    @ManagedAttribute(id="deliverythroughput")
+    @Description( "Number of messages delivered per second since the previous sample")
+    public synchronized RangeStatistic getDeliveryThroughput() {
+        if (deliveredSupplier != null) {
+            long now = System.nanoTime();
+            long elapsedNanos = now - lastDeliveredNanos;
+            // Shorter samples would be too noisy
+            if (elapsedNanos >= TimeUnit.SECONDS.toNanos(1L)) {
+                long delivered = deliveredSupplier.getAsLong();
+                deliveryThroughput.setCurrent((delivered - lastDelivered) * TimeUnit.SECONDS.toNanos(1L) / elapsedNanos);
+                lastDelivered = delivered;
+                lastDeliveredNanos = now;
+            }
+        }
+        return deliveryThroughput;
+    }
+
     @ProbeListener("glassfish:ejb:bean:messageDeliveredEvent")
     public void messageDeliveredEvent(
             @ProbeParam("beanId") long beanId,
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Contributors to Eclipse Foundation. All rights reserved.
+ * Copyright (c) 2022, 2026 Contributors to Eclipse Foundation. All rights reserved.
  * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -23,6 +23,7 @@ import com.sun.ejb.containers.EJBTimerSchedule;
 import com.sun.ejb.containers.EJBTimerService;
 import com.sun.ejb.containers.EjbContainerUtil;
 import com.sun.ejb.containers.EjbContainerUtilImpl;
+import com.sun.ejb.containers.EjbThreadPoolExecutor;
 import com.sun.ejb.containers.RuntimeTimerState;
 import com.sun.ejb.containers.TimerPrimaryKey;
 import com.sun.enterprise.config.serverbeans.ServerTags;
@@ -51,6 +52,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -112,6 +118,33 @@ public class PersistentEJBTimerService extends EJBTimerService {
     // Possible values "redeliver" and "stop"
     private String operationOnConnectionFailure;
 
+    // Interval of the batched updates of the last expirations of the periodic timers,
+    // 0 to update each timer in the transaction of its delivery
+    private static final String LAST_EXPIRATION_UPDATE_INTERVAL = "last-expiration-update-interval-in-millis";
+    private long lastExpirationUpdateInterval;
+
+    // Last expirations to store by the next batched update
+    private final Map<TimerPrimaryKey, Date> pendingLastExpirations = new ConcurrentHashMap<>();
+
+    // Number of timers read in a single transaction when restoring timers
+    private static final String RESTORE_PAGE_SIZE = "timer-restore-page-size";
+    private int restorePageSize = 1000;
+
+    // Number of threads rebuilding the runtime state of the restored timers
+    private static final String RESTORE_THREADS = "timer-restore-threads";
+    private int restoreThreads = Runtime.getRuntime().availableProcessors();
+
+    // Smaller pages are restored by the calling thread
+    private static final int PARALLEL_RESTORE_THRESHOLD = 256;
+
+    // Maximum number of the missed expirations delivered per second after
+    // the timers are restored, 0 to deliver them all at once
+    private static final String OVERDUE_DELIVERY_RATE = "overdue-timer-delivery-rate";
+    private int overdueDeliveryRate = 1000;
+
+    // Time in microseconds of the last deferred missed expiration
+    private final AtomicLong nextOverdueDelivery = new AtomicLong();
+
     private PersistentEJBTimerService(String ejbName, boolean removeOldTimers) throws Exception {
         super();
 
@@ -129,6 +162,10 @@ public class PersistentEJBTimerService extends EJBTimerService {
         // The default value for ReadDBBeforeTimeout in case of PE
         // is false.
         setPerformDBReadBeforeTimeout(!isDas);
+
+        if (lastExpirationUpdateInterval > 0) {
+            scheduleWork(this::updateLastExpirations, lastExpirationUpdateInterval);
+        }
     }
 
     private void initProperties() {
@@ -148,6 +185,30 @@ public class PersistentEJBTimerService extends EJBTimerService {
                     getDBReadBeforeTimeoutProperty();
 
                 operationOnConnectionFailure = ejbt.getPropertyValue(ON_CONECTION_FAILURE);
+
+                String valString = ejbt.getPropertyValue(LAST_EXPIRATION_UPDATE_INTERVAL);
+                long val = (valString != null) ? Long.parseLong(valString) : -1;
+                if( val > 0 ) {
+                    lastExpirationUpdateInterval = val;
+                }
+
+                valString = ejbt.getPropertyValue(RESTORE_PAGE_SIZE);
+                val = (valString != null) ? Long.parseLong(valString) : -1;
+                if( val > 0 ) {
+                    restorePageSize = (int) val;
+                }
+
+                valString = ejbt.getPropertyValue(RESTORE_THREADS);
+                val = (valString != null) ? Long.parseLong(valString) : -1;
+                if( val > 0 ) {
+                    restoreThreads = (int) val;
+                }
+
+                valString = ejbt.getPropertyValue(OVERDUE_DELIVERY_RATE);
+                val = (valString != null) ? Long.parseLong(valString) : -1;
+                if( val >= 0 ) {
+                    overdueDeliveryRate = (int) val;
+                }
             }
 
         } catch(Exception e) {
@@ -205,14 +266,12 @@ public class PersistentEJBTimerService extends EJBTimerService {
 
         TransactionManager tm = ejbContainerUtil.getTransactionManager();
 
-        Set toRestore = null;
         int totalTimersMigrated = 0;
 
         try {
 
             tm.begin();
 
-            toRestore = timerLocal_.findTimersOwnedBy(fromOwnerId);
             totalTimersMigrated = timerLocal_.migrateTimers(fromOwnerId, ownerIdOfThisServer);
 
             tm.commit();
@@ -235,21 +294,18 @@ public class PersistentEJBTimerService extends EJBTimerService {
             throw ejbEx;
         }
 
-// XXX if( totalTimersMigrated  == toRestore.size() ) { XXX ???
         if( totalTimersMigrated > 0 ) {
 
-            boolean success = false;
             try {
 
                 logger.log(Level.INFO, "Timer migration phase 1 complete. " +
-                           "Changed ownership of " + toRestore.size() +
+                           "Changed ownership of " + totalTimersMigrated +
                            " timers.  Now reactivating timers...");
 
-                _notifyContainers(toRestore);
-
-                tm.begin();
-                _restoreTimers(toRestore);
-                success = true;
+                // The timers owned by this server before are already restored
+                // and skipped, the migrated ones are reactivated and registered
+                // with their containers.
+                restoreTimersOwnedByThisServer(true);
 
             } catch(Exception e) {
 
@@ -259,21 +315,6 @@ public class PersistentEJBTimerService extends EJBTimerService {
                 EJBException ejbEx = createEJBException( e );
                 throw ejbEx;
 
-            } finally {
-                // We're not modifying any state in this tx so no harm in
-                // always committing.
-                try {
-                    tm.commit();
-                } catch(Exception re) {
-                    logger.log(Level.FINE, "timer migration error", re);
-
-                    if( success ) {
-                        //Propogate any exceptions caught when trying to commit
-                        //the transaction
-                        EJBException ejbEx = createEJBException( re );
-                        throw ejbEx;
-                    }
-                }
             }
         } else {
             logger.log(Level.INFO, fromOwnerId + " has 0 timers in need of migration");
@@ -351,7 +392,7 @@ public class PersistentEJBTimerService extends EJBTimerService {
                 restoreTimers();
                 rc = true;
             } else {
-                int s = timerLocal_.findActiveTimersOwnedByThisServer().size();
+                int s = timerLocal_.countActiveTimersOwnedByThisServer();
                 if (s > 0) {
                     logger.log(Level.INFO, "[" + s + "] EJB Timers owned by this server will be restored when timeout beans are loaded");
                 } else {
@@ -377,56 +418,32 @@ public class PersistentEJBTimerService extends EJBTimerService {
             return;
         }
 
-        TransactionManager tm = ejbContainerUtil.getTransactionManager();
-        try {
-            // create a tx in which to do database access for all timers
-            // needing restoration.  This gives us better performance that
-            // doing individual transactions per timer.
-            tm.begin();
-
-            // This operation can take a while, since in some configurations
-            // this will be the first time the connection to the database
-            // is initialized.  In addition, there's an initialization
-            // cost to generating the SQL for the underlying
-            // jpql queries the first time any TimerBean query is called.
-            _restoreTimers(timerLocal_.findActiveTimersOwnedByThisServer());
-
-        } finally {
-            // try to commit regardless of success or failure.
-            try {
-                tm.commit();
-            } catch(Exception e) {
-                logger.log(Level.WARNING, "ejb.timer_service_init_error", e);
-            }
-        }
-    }
-
-    /**
-     * The portion of timer migration that notifies containers about
-     * automatic timers being migrated to this instance
-     */
-    private void _notifyContainers(Set<TimerState> timers) {
-        for(TimerState timer: timers) {
-            EJBTimerSchedule ts = timer.getTimerSchedule();
-            if (ts != null && ts.isAutomatic()) {
-                addToSchedules(timer.getContainerId(), getPrimaryKey(timer), ts);
-            }
-        }
+        // Read the timers in pages, each in a single tx.  This gives us
+        // better performance than doing individual transactions per timer,
+        // without keeping all timers in one persistence context.
+        //
+        // This operation can take a while, since in some configurations
+        // this will be the first time the connection to the database
+        // is initialized.  In addition, there's an initialization
+        // cost to generating the SQL for the underlying
+        // jpql queries the first time any TimerBean query is called.
+        restoreTimersOwnedByThisServer(false);
     }
 
     /**
      * The portion of timer restoration that deals with registering the
-     * JDK timer tasks and checking for missed expirations.
+     * timer wheel tasks and checking for missed expirations.
      * @return the Set of restored timers
      */
-    private Set<TimerState> _restoreTimers(Set<TimerState> timersEligibleForRestoration) {
+    private Set<TimerState> _restoreTimers(Collection<TimerState> timersEligibleForRestoration,
+            RestoreContext context) {
 
-        // Do timer restoration in two passes.  The first pass updates
-        // the timer cache with each timer.  The second pass schedules
-        // the JDK timer tasks.
+        // Do timer restoration in three passes.  The first pass reads
+        // the timers in the current transaction, the second pass updates
+        // the timer cache with each timer, possibly in parallel.  The third
+        // pass schedules the timer wheel tasks.
 
-        Map timersToRestore = new HashMap();
-        Set timerIdsToRemove = new HashSet();
+        List<TimerRestoration> restorations = new ArrayList<>();
         Set<TimerState> result = new HashSet<>();
 
         for(TimerState timer: timersEligibleForRestoration) {
@@ -452,10 +469,6 @@ public class PersistentEJBTimerService extends EJBTimerService {
                 }
                 //  End update
 
-                Date initialExpiration = timer.getInitialExpiration();
-
-                // Create an instance of RuntimeTimerState.
-
                 // Only access timedObjectPrimaryKey if timed object is
                 // an entity bean.  That allows us to lazily load the underlying
                 // blob for stateless session and message-driven bean timers.
@@ -464,131 +477,268 @@ public class PersistentEJBTimerService extends EJBTimerService {
                     timedObjectPrimaryKey = timer.getTimedObjectPrimaryKey();
                 }
 
-                RuntimeTimerState timerState = new RuntimeTimerState
-                    (timerId, initialExpiration,
-                     timer.getIntervalDuration(), container,
-                     timedObjectPrimaryKey,
-                     timer.getTimerSchedule(),
-                     // Don't need to store the info ref for persistent timer
-                     null, true);
-
-                timerCache_.addTimer(timerId, timerState);
-
-                // If a single-action timer is still in the database it never
-                // successfully delivered, so always reschedule a timer task
-                // for it.  For periodic timers, we use the last known
-                // expiration time to decide whether we need to fire one
-                // ejbTimeout to make up for any missed ones.
-                Date expirationTime = initialExpiration;
-                Date now = new Date();
+                restorations.add(new TimerRestoration(timer, timerId, container, timedObjectPrimaryKey));
 
-                if( timerState.isPeriodic() ) {
-                    // lastExpiration time, or null if we either aren't
-                    // tracking last expiration or an expiration hasn't
-                    // occurred yet for this timer.
-                    Date lastExpiration = timer.getLastExpiration();
-                    EJBTimerSchedule ts = timer.getTimerSchedule();
-
-                    // @@@ need to handle case where last expiration time
-                    // is not stored in database.  This will be the case
-                    // when we add configuration for update-db-on-delivery.
-                    // However, for now assume we do update the db on each
-                    // ejbTimeout.  Therefore, if (lastExpirationTime == null),
-                    // it means the timer didn't successfully complete any
-                    // timer expirations.
-
-                    if( (lastExpiration == null) &&
-                        now.after(initialExpiration) ) {
-
-                        if (!timerState.isExpired()) {
-                            // This timer didn't even expire one time.
-                            logger.log(Level.INFO,
-                                   "Rescheduling missed expiration for " +
-                                   "periodic timer " +
-                                   timerState + ". Timer expirations should " +
-                                   " have been delivered starting at " +
-                                   initialExpiration);
-                        }
+            } else {
+                // Timed object's container no longer exists - remember its id.
+                logger.log(Level.FINE,
+                        "Skipping timer " + timerId +
+                               " for container that is not up: " + containerId);
+            }
+        } // End -- for each active timer
 
-                        // keep expiration time at initialExpiration.  That
-                        // will force an ejbTimeout almost immediately. After
-                        // that the timer will return to fixed rate expiration.
+        if (context.executor == null || restorations.size() < PARALLEL_RESTORE_THRESHOLD) {
+            restorations.forEach(this::prepareRestoration);
+        } else {
+            int chunkSize = (restorations.size() + context.threads - 1) / context.threads;
+            List<Future<?>> chunks = new ArrayList<>();
+            for (int i = 0; i < restorations.size(); i += chunkSize) {
+                List<TimerRestoration> chunk = restorations.subList(i, Math.min(i + chunkSize, restorations.size()));
+                chunks.add(context.executor.submit(() -> chunk.forEach(this::prepareRestoration)));
+            }
+            for (Future<?> chunk : chunks) {
+                try {
+                    chunk.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw createEJBException(e);
+                } catch (ExecutionException e) {
+                    throw createEJBException(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+                }
+            }
+        }
 
-                    } else if ( (lastExpiration != null) &&
-                            ((ts != null && ts.getNextTimeout(lastExpiration).getTimeInMillis()
-                                   < now.getTime())
-                            || ((ts == null) && now.getTime() - lastExpiration.getTime()
-                                   > timer.getIntervalDuration()) ) ) {
+        Set<TimerPrimaryKey> timerIdsToRemove = new HashSet<>();
+        for (TimerRestoration restoration : restorations) {
+            if (restoration.expiration == null) {
+                timerIdsToRemove.add(restoration.timerId);
+                context.removed++;
+                continue;
+            }
 
-                        // Schedule-based timer is periodic
+            if (context.notifyContainers) {
+                EJBTimerSchedule ts = restoration.timer.getTimerSchedule();
+                if (ts != null && ts.isAutomatic()) {
+                    addToSchedules(restoration.timer.getContainerId(), restoration.timerId, ts);
+                }
+            }
 
-                        logger.log(Level.INFO,
-                                   "Rescheduling missed expiration for " +
-                                   "periodic timer " +
-                                   timerState + ".  Last timer expiration " +
-                                   "occurred at " + lastExpiration);
+            Date expiration = restoration.expiration;
+            if (overdueDeliveryRate > 0 && restoration.overdue) {
+                // Spread the missed expirations, so they don't flood the thread pool
+                expiration = deferOverdueExpiration();
+                context.deferred++;
+            }
+            scheduleTask(restoration.timerId, expiration);
+            result.add(restoration.timer);
+            context.restored++;
+            logger.log(Level.FINE, "EJBTimerService.restoreTimers(), scheduling timer " + restoration.timerState);
+        }
 
-                        // Timer expired at least once and at least one
-                        // missed expiration has occurred.
+        if (timerIdsToRemove.size() > 0) {
+            timerLocal_.remove(timerIdsToRemove);
+        }
 
-                        // keep expiration time at initialExpiration.  That
-                        // will force an ejbTimeout almost immediately. After
-                        // that the timer will return to fixed rate expiration.
+        logger.log(Level.FINE, "DONE EJBTimerService.restoreTimers()");
+        return result;
+    }
 
-                    } else {
+    /**
+     * Creates the RuntimeTimerState of the restored timer and computes its next expiration.
+     * Reads only the state the timer loaded from the database, so can run outside the transaction.
+     */
+    private void prepareRestoration(TimerRestoration restoration) {
+        TimerState timer = restoration.timer;
+        Date initialExpiration = timer.getInitialExpiration();
 
-                        // In this case, at least one expiration has occurred
-                        // but that was less than one period ago so there were
-                        // no missed expirations.
-                        expirationTime = calcNextFixedRateExpiration(timerState);
-                    }
+        // Create an instance of RuntimeTimerState.
+        RuntimeTimerState timerState = new RuntimeTimerState
+            (restoration.timerId, initialExpiration,
+             timer.getIntervalDuration(), restoration.container,
+             restoration.timedObjectPrimaryKey,
+             timer.getTimerSchedule(),
+             // Don't need to store the info ref for persistent timer
+             null, true);
+
+        timerCache_.addTimer(restoration.timerId, timerState);
+        restoration.timerState = timerState;
+
+        // If a single-action timer is still in the database it never
+        // successfully delivered, so always reschedule a timer task
+        // for it.  For periodic timers, we use the last known
+        // expiration time to decide whether we need to fire one
+        // ejbTimeout to make up for any missed ones.
+        Date expirationTime = initialExpiration;
+        Date now = new Date();
+
+        if( timerState.isPeriodic() ) {
+            // lastExpiration time, or null if we either aren't
+            // tracking last expiration or an expiration hasn't
+            // occurred yet for this timer.
+            Date lastExpiration = timer.getLastExpiration();
+            EJBTimerSchedule ts = timer.getTimerSchedule();
 
-                } else {  // single-action timer
+            // @@@ need to handle case where last expiration time
+            // is not stored in database.  This will be the case
+            // when we add configuration for update-db-on-delivery.
+            // However, for now assume we do update the db on each
+            // ejbTimeout.  Therefore, if (lastExpirationTime == null),
+            // it means the timer didn't successfully complete any
+            // timer expirations.
 
-                    if( now.after(initialExpiration) ) {
-                        logger.log(Level.INFO,
-                                   "Rescheduling missed expiration for " +
-                                   "single-action timer " +
-                                   timerState + ". Timer expiration should " +
-                                   " have been delivered at " +
-                                   initialExpiration);
-                    }
-                }
+            if( (lastExpiration == null) &&
+                now.after(initialExpiration) ) {
 
-                if (expirationTime == null) {
-                    // Schedule-based timer will never expire again - remove it.
+                if (!timerState.isExpired()) {
+                    // This timer didn't even expire one time.
                     logger.log(Level.INFO,
-                            "Removing schedule-based timer " + timerState +
-                                   " that will never expire again");
-                    timerIdsToRemove.add(timerId);
-                } else {
-                    timersToRestore.put(timerState, expirationTime);
-                    result.add(timer);
+                           "Rescheduling missed expiration for " +
+                           "periodic timer " +
+                           timerState + ". Timer expirations should " +
+                           " have been delivered starting at " +
+                           initialExpiration);
                 }
 
+                // keep expiration time at initialExpiration.  That
+                // will force an ejbTimeout almost immediately. After
+                // that the timer will return to fixed rate expiration.
+                restoration.overdue = true;
+
+            } else if ( (lastExpiration != null) &&
+                    ((ts != null && ts.getNextTimeout(lastExpiration).getTimeInMillis()
+                           < now.getTime())
+                    || ((ts == null) && now.getTime() - lastExpiration.getTime()
+                           > timer.getIntervalDuration()) ) ) {
+
+                // Schedule-based timer is periodic
+
+                logger.log(Level.INFO,
+                           "Rescheduling missed expiration for " +
+                           "periodic timer " +
+                           timerState + ".  Last timer expiration " +
+                           "occurred at " + lastExpiration);
+
+                // Timer expired at least once and at least one
+                // missed expiration has occurred.
+
+                // keep expiration time at initialExpiration.  That
+                // will force an ejbTimeout almost immediately. After
+                // that the timer will return to fixed rate expiration.
+                restoration.overdue = true;
+
             } else {
-                // Timed object's container no longer exists - remember its id.
-                logger.log(Level.FINE,
-                        "Skipping timer " + timerId +
-                               " for container that is not up: " + containerId);
+
+                // In this case, at least one expiration has occurred
+                // but that was less than one period ago so there were
+                // no missed expirations.
+                expirationTime = calcNextFixedRateExpiration(timerState);
             }
-        } // End -- for each active timer
 
-        if (timerIdsToRemove.size() > 0) {
-            timerLocal_.remove(timerIdsToRemove);
+        } else {  // single-action timer
+
+            if( now.after(initialExpiration) ) {
+                logger.log(Level.INFO,
+                           "Rescheduling missed expiration for " +
+                           "single-action timer " +
+                           timerState + ". Timer expiration should " +
+                           " have been delivered at " +
+                           initialExpiration);
+                restoration.overdue = true;
+            }
         }
 
-        for (Object element : timersToRestore.entrySet()) {
-            Map.Entry next = (Map.Entry) element;
-            RuntimeTimerState nextTimer = (RuntimeTimerState) next.getKey();
-            TimerPrimaryKey timerId = nextTimer.getTimerId();
-            Date expiration = (Date) next.getValue();
-            scheduleTask(timerId, expiration);
-            logger.log(Level.FINE, "EJBTimerService.restoreTimers(), scheduling timer " + nextTimer);
+        if (expirationTime == null) {
+            // Schedule-based timer will never expire again - remove it.
+            logger.log(Level.INFO,
+                    "Removing schedule-based timer " + timerState +
+                           " that will never expire again");
         }
+        restoration.expiration = expirationTime;
+    }
 
-        logger.log(Level.FINE, "DONE EJBTimerService.restoreTimers()");
-        return result;
+    /**
+     * @return the next free slot for an overdue timer expiration, respecting
+     *         the configured overdue delivery rate
+     */
+    private Date deferOverdueExpiration() {
+        // in microseconds to support rates above 1000 per second
+        long earliest = (System.currentTimeMillis() + getMinimumDeliveryInterval()) * 1000L;
+        return new Date(nextOverdueDeliverySlot(nextOverdueDelivery, earliest, overdueDeliveryRate) / 1000L);
+    }
+
+    /**
+     * Takes the next delivery slot, at least 1/rate of a second after the last taken one.
+     *
+     * @param lastSlot the last taken slot in microseconds, updated to the returned one
+     * @param earliest the earliest possible slot in microseconds
+     * @param rate the maximum number of slots per second, greater than 0
+     * @return the taken slot in microseconds
+     */
+    static long nextOverdueDeliverySlot(AtomicLong lastSlot, long earliest, int rate) {
+        long interval = 1_000_000L / rate;
+        return lastSlot.accumulateAndGet(earliest, (last, min) -> Math.max(last + interval, min));
+    }
+
+    /**
+     * Restore all active timers owned by this server instance, reading them in pages,
+     * each in its own transaction.
+     *
+     * @param notifyContainers true to register the automatic timers with their containers
+     */
+    private RestoreContext restoreTimersOwnedByThisServer(boolean notifyContainers) throws Exception {
+        RestoreContext context = new RestoreContext(notifyContainers, restoreThreads);
+        TransactionManager tm = ejbContainerUtil.getTransactionManager();
+        long start = System.currentTimeMillis();
+        try {
+            context.read = readInPages(restorePageSize, (afterTimerId, maxResults) -> {
+                tm.begin();
+                try {
+                    List<TimerState> page = timerLocal_.findActiveTimersOwnedBy(ownerIdOfThisServer_, afterTimerId, maxResults);
+                    if (!page.isEmpty()) {
+                        _restoreTimers(page, context);
+                    }
+                    return page;
+                } finally {
+                    // We're not modifying any state in this tx but the application ids
+                    // of timers from a previous version, so always commit.
+                    try {
+                        tm.commit();
+                    } catch(Exception e) {
+                        logger.log(Level.WARNING, "ejb.timer_service_init_error", e);
+                    }
+                }
+            });
+        } finally {
+            context.close();
+        }
+
+        long time = Math.max(System.currentTimeMillis() - start, 1);
+        logger.log(Level.INFO, "Restored " + context.restored + " of " + context.read +
+                   " active EJB timers owned by " + ownerIdOfThisServer_ + " in " + time + " ms (" +
+                   (context.restored * 1000L / time) + " timers/s), " + context.deferred +
+                   " overdue timers deferred, " + context.removed + " expired timers removed");
+        return context;
+    }
+
+    /**
+     * Reads timers in keyset pages ordered by the timer id, until a page is not full.
+     *
+     * @param pageSize the maximum number of timers in a page
+     * @param reader reads the page of timers following the given timer id
+     * @return the number of timers read
+     */
+    static int readInPages(int pageSize, TimerPageReader reader) throws Exception {
+        int read = 0;
+        String lastTimerId = "";
+        List<TimerState> page;
+        do {
+            page = reader.readPage(lastTimerId, pageSize);
+            if (!page.isEmpty()) {
+                lastTimerId = page.get(page.size() - 1).getTimerId();
+            }
+            read += page.size();
+        } while (page.size() == pageSize);
+        return read;
     }
 
     @Override
@@ -718,7 +868,8 @@ public class PersistentEJBTimerService extends EJBTimerService {
             tm.begin();
 
             Set<TimerState> timers = _restoreTimers(
-                    timerLocal_.findActiveTimersOwnedByThisServerByContainer(containerId));
+                    timerLocal_.findActiveTimersOwnedByThisServerByContainer(containerId),
+                    new RestoreContext(false, 0));
 
             if (timers.size() > 0) {
                 logger.log(Level.FINE, "Found " + timers.size() +
@@ -1144,6 +1295,19 @@ public class PersistentEJBTimerService extends EJBTimerService {
     protected void resetLastExpiration(TimerPrimaryKey timerId,
                                           RuntimeTimerState timerState) {
         if (timerState.isPersistent()) {
+            if (lastExpirationUpdateInterval > 0) {
+                // Stored by the next batched update
+                Date now = new Date();
+                pendingLastExpirations.put(timerId, now);
+                if( logger.isLoggable(Level.FINE) ) {
+                    logger.log(Level.FINE,
+                           "Deferring last expiration " +
+                           " for periodic timer " + timerState +
+                           " to " + now);
+                }
+                return;
+            }
+
             TimerState timer = getValidTimerFromDB( timerId );
             if( null == timer ) {
                 return;
@@ -1245,9 +1409,59 @@ public class PersistentEJBTimerService extends EJBTimerService {
         return timer;
     }
 
+    /**
+     * Store the last expirations of the periodic timers delivered since
+     * the previous batched update, all in a single transaction.
+     */
+    private void updateLastExpirations() {
+        try {
+            flushLastExpirations();
+        } finally {
+            scheduleWork(this::updateLastExpirations, lastExpirationUpdateInterval);
+        }
+    }
+
+    private void flushLastExpirations() {
+        if (pendingLastExpirations.isEmpty()) {
+            return;
+        }
+
+        Map<TimerPrimaryKey, Date> batch = new HashMap<>();
+        for (TimerPrimaryKey timerId : pendingLastExpirations.keySet()) {
+            Date lastExpiration = pendingLastExpirations.remove(timerId);
+            if (lastExpiration != null) {
+                batch.put(timerId, lastExpiration);
+            }
+        }
+
+        try {
+            int updated = timerLocal_.updateLastExpirations(batch, ownerIdOfThisServer_);
+            if( logger.isLoggable(Level.FINE) ) {
+                logger.log(Level.FINE, "Updated last expiration of " + updated +
+                           " of " + batch.size() + " periodic timers");
+            }
+        } catch(Exception e) {
+            // Keep the values for the next attempt unless newer ones arrived meanwhile
+            for (Map.Entry<TimerPrimaryKey, Date> entry : batch.entrySet()) {
+                pendingLastExpirations.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+            logger.log(Level.WARNING, "Cannot update last expiration of " +
+                       batch.size() + " periodic timers", e);
+        }
+    }
+
+    @Override
+    protected void stopTimerEngine() {
+        if (lastExpirationUpdateInterval > 0) {
+            flushLastExpirations();
+        }
+        super.stopTimerEngine();
+    }
+
     @Override
     protected void expungeTimer(TimerPrimaryKey timerId,
                               boolean removeTimerBean) {
+        pendingLastExpirations.remove(timerId);
         // First remove timer bean.  Don't update cache until
         // afterwards, since accessing of timer bean might require
         // access to timer state(e.g. timer application classloader)
@@ -1500,4 +1714,66 @@ public class PersistentEJBTimerService extends EJBTimerService {
         }
         return upgrade;
     }
+
+    /**
+     * Reads a page of the timers being restored.
+     */
+    interface TimerPageReader {
+        /**
+         * @param afterTimerId the id of the last timer of the previous page, empty for the first page
+         * @param maxResults the page size
+         * @return at most maxResults timers with ids after afterTimerId, ordered by the timer id
+         */
+        List<TimerState> readPage(String afterTimerId, int maxResults) throws Exception;
+    }
+
+    /**
+     * State shared by the restoration of the pages of timers.
+     */
+    private static class RestoreContext {
+        final boolean notifyContainers;
+        final int threads;
+        final EjbThreadPoolExecutor executor;
+
+        int read;
+        int restored;
+        int deferred;
+        int removed;
+
+        RestoreContext(boolean notifyContainers, int threads) {
+            this.notifyContainers = notifyContainers;
+            this.threads = threads;
+            this.executor = threads > 1
+                ? new EjbThreadPoolExecutor(threads, threads, 60L, new LinkedBlockingQueue<>(), "ejb-timer-restore-thread-")
+                : null;
+        }
+
+        void close() {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * A timer being restored.
+     */
+    private static class TimerRestoration {
+        final TimerState timer;
+        final TimerPrimaryKey timerId;
+        final BaseContainer container;
+        final Object timedObjectPrimaryKey;
+
+        RuntimeTimerState timerState;
+        Date expiration;
+        boolean overdue;
+
+        TimerRestoration(TimerState timer, TimerPrimaryKey timerId, BaseContainer container,
+                Object timedObjectPrimaryKey) {
+            this.timer = timer;
+            this.timerId = timerId;
+            this.container = container;
+            this.timedObjectPrimaryKey = timedObjectPrimaryKey;
+        }
+    }
 }
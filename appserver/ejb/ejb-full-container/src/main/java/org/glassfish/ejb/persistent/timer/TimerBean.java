@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -40,6 +41,8 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -328,6 +331,24 @@ public class TimerBean implements TimerLocal {
         }
     }
 
+    public int updateLastExpirations(Map<TimerPrimaryKey, Date> lastExpirations, String ownerId) {
+        int updated = 0;
+        for (Map.Entry<TimerPrimaryKey, Date> entry : lastExpirations.entrySet()) {
+            TimerState timer = em.find(TimerState.class, entry.getKey());
+            if (timer == null || timer.getState() != EJBTimerService.STATE_ACTIVE
+                    || !timer.getOwnerId().equals(ownerId)) {
+                // cancelled or migrated meanwhile
+                continue;
+            }
+            Date lastExpiration = timer.getLastExpiration();
+            if (lastExpiration == null || lastExpiration.before(entry.getValue())) {
+                timer.setLastExpiration(entry.getValue());
+                updated++;
+            }
+        }
+        return updated;
+    }
+
     public void cancel(TimerPrimaryKey timerId)
             throws FinderException, Exception {
 
@@ -508,6 +529,15 @@ public class TimerBean implements TimerLocal {
                                 EJBTimerService.STATE_ACTIVE);
     }
 
+    public List<TimerState> findActiveTimersOwnedBy(String ownerId, String afterTimerId, int maxResults) {
+        Query q = em.createNamedQuery("findTimersByOwnerAndStateAfterTimerId");
+        q.setParameter(1, ownerId);
+        q.setParameter(2, EJBTimerService.STATE_ACTIVE);
+        q.setParameter(3, afterTimerId);
+        q.setMaxResults(maxResults);
+        return q.getResultList();
+    }
+
     public Set findCancelledTimersOwnedBy(String ownerId) {
         return findTimersByOwnerAndState(ownerId,
                                 EJBTimerService.STATE_CANCELLED);
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -25,6 +26,8 @@ import jakarta.ejb.TimerConfig;
 
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -56,6 +59,14 @@ public interface TimerLocal {
 
     void remove(Set<TimerPrimaryKey> timerIds);
 
+    /**
+     * Update the last expirations of the active periodic timers owned by the given
+     * server in a single transaction.
+     *
+     * @return number of updated timers
+     */
+    int updateLastExpirations(Map<TimerPrimaryKey, Date> lastExpirations, String ownerId);
+
     //
     // Queries returning Timer Ids (TimerPrimaryKey)
     //
@@ -98,6 +109,14 @@ public interface TimerLocal {
     Set findActiveTimersOwnedBy(String owner);
     Set findCancelledTimersOwnedBy(String owner);
 
+    /**
+     * Page of the active timers of the owner ordered by the timer id.
+     *
+     * @param afterTimerId the last timer id of the previous page, or an empty string
+     * @param maxResults the page size
+     */
+    List<TimerState> findActiveTimersOwnedBy(String owner, String afterTimerId, int maxResults);
+
 
     //
     // Queries returning counts
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -101,6 +102,11 @@ import java.util.logging.Logger;
         name="findTimersByOwnerAndState",
         query="SELECT t FROM Timer t WHERE t.ownerId = ?1 AND t.state=?2"
     ),
+    @NamedQuery(
+        // Pages by the timer id, so needs to have predictable return order
+        name="findTimersByOwnerAndStateAfterTimerId",
+        query="SELECT t FROM Timer t WHERE t.ownerId = ?1 AND t.state=?2 AND t.timerId > ?3 ORDER BY t.timerId"
+    ),
     @NamedQuery(
         name="countTimersByApplication",
         query="SELECT COUNT(t) FROM Timer t WHERE t.applicationId = ?1"
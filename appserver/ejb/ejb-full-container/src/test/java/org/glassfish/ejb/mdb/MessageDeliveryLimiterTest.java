@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.ejb.mdb;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class MessageDeliveryLimiterTest {
+
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    public void fixedLimiterOnlyCounts() {
+        MessageDeliveryLimiter limiter = new MessageDeliveryLimiter(false, 1, 4);
+        for (int i = 0; i < 6; i++) {
+            limiter.acquire();
+        }
+        assertAll(
+            () -> assertFalse(limiter.isAdaptive()),
+            () -> assertEquals(4, limiter.getLimit()),
+            () -> assertEquals(6, limiter.getInFlight())
+        );
+        for (int i = 0; i < 6; i++) {
+            limiter.release(System.nanoTime() - LATENCY, 2);
+        }
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(12, limiter.getDeliveredMessages());
+    }
+
+    @Test
+    public void limitGrowsWhileDeliveriesWait() throws Exception {
+        MessageDeliveryLimiter limiter = new MessageDeliveryLimiter(true, 2, 8);
+        assertEquals(2, limiter.getLimit());
+        limiter.acquire();
+        for (int expected = 3; expected <= 8; expected++) {
+            deliverWithWaiting(limiter);
+            assertEquals(expected, limiter.getLimit());
+        }
+        // never above the maximum
+        deliverWithWaiting(limiter);
+        assertEquals(8, limiter.getLimit());
+    }
+
+    @Test
+    public void limitShrinksByATenthWhenLatencyDoubles() throws Exception {
+        MessageDeliveryLimiter limiter = grownLimiter(20);
+        deliverSequentially(limiter, 20, 5 * LATENCY, 1);
+        assertEquals(18, limiter.getLimit());
+    }
+
+    @Test
+    public void limitShrinksByOneWhenUnderused() throws Exception {
+        MessageDeliveryLimiter limiter = grownLimiter(20);
+        deliverSequentially(limiter, 20, LATENCY, 1);
+        assertEquals(19, limiter.getLimit());
+        deliverSequentially(limiter, 19, LATENCY, 1);
+        assertEquals(18, limiter.getLimit());
+    }
+
+    @Test
+    public void limitNeverShrinksBelowTheMinimum() {
+        MessageDeliveryLimiter limiter = new MessageDeliveryLimiter(true, 2, 8);
+        deliverSequentially(limiter, 2, LATENCY, 1);
+        deliverSequentially(limiter, 10, 10 * LATENCY, 1);
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    public void batchLatencyIsMeasuredPerMessage() throws Exception {
+        MessageDeliveryLimiter limiter = grownLimiter(20);
+        long delivered = limiter.getDeliveredMessages();
+        // a bracketed batch of 3 messages takes 3 times longer, but isn't slower per message
+        deliverSequentially(limiter, 20, 3 * LATENCY, 3);
+        assertEquals(19, limiter.getLimit());
+        assertEquals(delivered + 60, limiter.getDeliveredMessages());
+    }
+
+    @Test
+    public void closeReleasesWaitingDeliveries() throws Exception {
+        MessageDeliveryLimiter limiter = new MessageDeliveryLimiter(true, 1, 4);
+        limiter.acquire();
+        Thread waiter = new Thread(limiter::acquire);
+        waiter.start();
+        awaitWaiting(limiter, 1);
+
+        limiter.close();
+        waiter.join(10_000L);
+
+        assertAll(
+            () -> assertFalse(waiter.isAlive()),
+            () -> assertEquals(0, limiter.getWaiting()),
+            () -> assertEquals(2, limiter.getInFlight())
+        );
+        // new deliveries are not limited anymore
+        limiter.acquire();
+        assertEquals(3, limiter.getInFlight());
+    }
+
+    @Test
+    public void interruptedDeliveryStartsWithoutWaiting() {
+        MessageDeliveryLimiter limiter = new MessageDeliveryLimiter(true, 1, 4);
+        limiter.acquire();
+        Thread.currentThread().interrupt();
+        try {
+            limiter.acquire();
+            assertEquals(2, limiter.getInFlight());
+        } finally {
+            assertEquals(true, Thread.interrupted());
+        }
+    }
+
+    private static MessageDeliveryLimiter grownLimiter(int limit) throws Exception {
+        MessageDeliveryLimiter limiter = new MessageDeliveryLimiter(true, 2, 100);
+        limiter.acquire();
+        while (limiter.getLimit() < limit) {
+            deliverWithWaiting(limiter);
+        }
+        limiter.release(System.nanoTime() - LATENCY, 1);
+        return limiter;
+    }
+
+    /**
+     * Ends a window of as many deliveries as the limit, with one more delivery waiting for a permit.
+     * Expects one delivery in flight and a limit above 1, leaves the waiting delivery in flight.
+     */
+    private static void deliverWithWaiting(MessageDeliveryLimiter limiter) throws Exception {
+        int limit = limiter.getLimit();
+        for (int i = 1; i < limit; i++) {
+            limiter.acquire();
+        }
+        Thread waiter = new Thread(limiter::acquire);
+        waiter.start();
+        awaitWaiting(limiter, 1);
+        // the waiting delivery starts before the window ends
+        for (int i = 1; i < limit; i++) {
+            limiter.release(System.nanoTime() - LATENCY, 1);
+        }
+        waiter.join();
+        limiter.release(System.nanoTime() - LATENCY, 1);
+    }
+
+    private static void deliverSequentially(MessageDeliveryLimiter limiter, int deliveries, long latency, int messages) {
+        for (int i = 0; i < deliveries; i++) {
+            limiter.acquire();
+            limiter.release(System.nanoTime() - latency, messages);
+        }
+    }
+
+    private static void awaitWaiting(MessageDeliveryLimiter limiter, int waiting) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000L;
+        while (limiter.getWaiting() < waiting && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1L);
+        }
+        assertEquals(waiting, limiter.getWaiting());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.ejb.persistent.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PersistentEJBTimerServiceTest {
+
+    @Test
+    public void readsAllTimersInKeysetPages() throws Exception {
+        TreeMap<String, TimerState> table = timers(10);
+        List<String> afterIds = new ArrayList<>();
+        List<String> read = new ArrayList<>();
+
+        int count = PersistentEJBTimerService.readInPages(4, (afterTimerId, maxResults) -> {
+            afterIds.add(afterTimerId);
+            List<TimerState> page = page(table, afterTimerId, maxResults);
+            page.forEach(timer -> read.add(timer.getTimerId()));
+            return page;
+        });
+
+        assertEquals(10, count);
+        assertEquals(new ArrayList<>(table.keySet()), read);
+        assertEquals(List.of("", "timer-03", "timer-07"), afterIds);
+    }
+
+    @Test
+    public void fullLastPageIsFollowedByAnEmptyPage() throws Exception {
+        TreeMap<String, TimerState> table = timers(8);
+        List<String> afterIds = new ArrayList<>();
+
+        int count = PersistentEJBTimerService.readInPages(4, (afterTimerId, maxResults) -> {
+            afterIds.add(afterTimerId);
+            return page(table, afterTimerId, maxResults);
+        });
+
+        assertEquals(8, count);
+        assertEquals(List.of("", "timer-03", "timer-07"), afterIds);
+    }
+
+    @Test
+    public void pageFailureStopsReading() {
+        TreeMap<String, TimerState> table = timers(10);
+        List<String> afterIds = new ArrayList<>();
+
+        assertThrows(IllegalStateException.class, () -> PersistentEJBTimerService.readInPages(4,
+            (afterTimerId, maxResults) -> {
+                afterIds.add(afterTimerId);
+                if (!afterTimerId.isEmpty()) {
+                    throw new IllegalStateException("database down");
+                }
+                return page(table, afterTimerId, maxResults);
+            }));
+        assertEquals(List.of("", "timer-03"), afterIds);
+    }
+
+    @Test
+    public void overdueDeliveriesAreSpreadAtTheRate() {
+        AtomicLong lastSlot = new AtomicLong();
+        long earliest = 1_000_000_000L;
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(earliest + i * 100_000L,
+                PersistentEJBTimerService.nextOverdueDeliverySlot(lastSlot, earliest, 10));
+        }
+        // 2000/s is 500us apart, below a millisecond
+        assertEquals(earliest + 400_000L + 500L,
+            PersistentEJBTimerService.nextOverdueDeliverySlot(lastSlot, earliest, 2000));
+    }
+
+    @Test
+    public void overdueDeliveriesNeverStartBeforeTheEarliestSlot() {
+        AtomicLong lastSlot = new AtomicLong();
+        long earliest = 1_000_000_000L;
+
+        PersistentEJBTimerService.nextOverdueDeliverySlot(lastSlot, earliest, 10);
+        // after a quiet period the next slot is not in the past
+        long later = earliest + 60_000_000L;
+        assertEquals(later, PersistentEJBTimerService.nextOverdueDeliverySlot(lastSlot, later, 10));
+        assertEquals(later + 100_000L, PersistentEJBTimerService.nextOverdueDeliverySlot(lastSlot, later, 10));
+    }
+
+    @Test
+    public void concurrentOverdueDeliveriesGetDistinctSlots() throws Exception {
+        AtomicLong lastSlot = new AtomicLong();
+        long earliest = 1_000_000_000L;
+        Set<Long> slots = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 1000; i++) {
+                    slots.add(PersistentEJBTimerService.nextOverdueDeliverySlot(lastSlot, earliest, 1000));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(4000, slots.size());
+        assertEquals(earliest + 3999 * 1000L, lastSlot.get());
+    }
+
+    private static TreeMap<String, TimerState> timers(int count) {
+        TreeMap<String, TimerState> table = new TreeMap<>();
+        for (int i = 0; i < count; i++) {
+            TimerState timer = new TimerState();
+            timer.setTimerId(String.format("timer-%02d", i));
+            table.put(timer.getTimerId(), timer);
+        }
+        return table;
+    }
+
+    private static List<TimerState> page(TreeMap<String, TimerState> table, String afterTimerId, int maxResults) {
+        return table.tailMap(afterTimerId, false).values().stream().limit(maxResults).toList();
+    }
+}
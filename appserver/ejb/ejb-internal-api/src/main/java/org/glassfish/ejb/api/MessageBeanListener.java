@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -31,6 +32,10 @@ import java.lang.reflect.Method;
  * 2. deliverMessage
  * 3. afterMessageDelivery
  *
+ * If the resource adapter delivers a batch of messages between one
+ * beforeDelivery and afterDelivery, deliverMessage is called for each
+ * of them and they share the bean instance and transaction.
+ *
  *
  * @author Kenneth Saks
  */
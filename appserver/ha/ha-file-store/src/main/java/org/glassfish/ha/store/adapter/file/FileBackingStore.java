@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2023, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -39,6 +39,12 @@ import org.glassfish.ha.store.api.BackingStoreFactory;
 
 /**
  * An implementation of BackingStore that uses file system to persist any Serializable data
+ * <p>
+ * By default every state is written synchronously to its own file. If the vendor specific setting
+ * {@value #WRITE_BEHIND} is true, states are written asynchronously in batches by the
+ * {@link WriteBehindLog}. Files written before the write-behind mode was enabled are still loaded,
+ * expired and counted. A file is deleted when its key is saved to the log, so it never shadows
+ * a newer state.
  *
  * @author Mahesh Kannan
  */
@@ -58,6 +64,21 @@ public class FileBackingStore<K extends Serializable, V extends Serializable> ex
 
     private long defaultMaxIdleTimeoutInSeconds = 10L * 60L;
 
+    /** Vendor specific setting enabling the write-behind mode */
+    public static final String WRITE_BEHIND = "write.behind";
+    /** Vendor specific setting of the maximal count of sessions waiting to be written */
+    public static final String WRITE_BEHIND_QUEUE_SIZE = "write.behind.queue.size";
+
+    private static final String WRITE_BEHIND_DIRECTORY = "write-behind-log";
+    private static final int DEFAULT_WRITE_BEHIND_QUEUE_SIZE = 10_000;
+    private static final int WRITE_BEHIND_BATCH_SIZE = 256;
+    private static final long WRITE_BEHIND_SEGMENT_SIZE = 64L * 1024L * 1024L;
+
+    private WriteBehindLog writeBehindLog;
+
+    /** True while the base directory may contain files written before the write-behind mode was enabled */
+    private volatile boolean legacyFiles;
+
     /**
      * No arg constructor
      */
@@ -88,12 +109,29 @@ public class FileBackingStore<K extends Serializable, V extends Serializable> ex
             logger.log(Level.WARNING, debugStr + " Exception during initialization", ex);
         }
 
+        Map<String, Object> vendorMap = conf.getVendorSpecificSettings();
         try {
-            Map<String, Object> vendorMap = conf.getVendorSpecificSettings();
             defaultMaxIdleTimeoutInSeconds = Long.parseLong((String) vendorMap.get("max.idle.timeout.in.seconds"));
         } catch (Exception ex) {
             // Ignore. Use default
         }
+
+        if (Boolean.parseBoolean(String.valueOf(vendorMap.get(WRITE_BEHIND)))) {
+            int queueSize = DEFAULT_WRITE_BEHIND_QUEUE_SIZE;
+            Object queueSizeValue = vendorMap.get(WRITE_BEHIND_QUEUE_SIZE);
+            if (queueSizeValue != null) {
+                try {
+                    queueSize = Integer.parseInt(queueSizeValue.toString());
+                } catch (NumberFormatException ex) {
+                    logger.log(Level.WARNING, debugStr + "Invalid " + WRITE_BEHIND_QUEUE_SIZE + ": " + queueSizeValue + ", using "
+                        + queueSize);
+                }
+            }
+            legacyFiles = countLegacyFiles() > 0;
+            writeBehindLog = new WriteBehindLog(new File(baseDir, WRITE_BEHIND_DIRECTORY), queueSize, WRITE_BEHIND_BATCH_SIZE,
+                WRITE_BEHIND_SEGMENT_SIZE, logger, debugStr);
+            logger.log(Level.INFO, debugStr + "Write-behind mode enabled, queue size: " + queueSize);
+        }
     }
 
     /* package */ void setFileBackingStoreFactory(FileBackingStoreFactory factory) {
@@ -115,7 +153,11 @@ public class FileBackingStore<K extends Serializable, V extends Serializable> ex
             logger.log(TRACE_LEVEL, debugStr + "Entered load(" + key + ", " + version + ")");
         }
 
-        byte[] data = readFromfile(fileName);
+        byte[] data = writeBehindLog == null ? null : writeBehindLog.read(fileName);
+        if (data == null && (writeBehindLog == null || legacyFiles)) {
+            // Also the state written before the write-behind mode was enabled
+            data = readFromfile(fileName);
+        }
         if (data != null) {
             try {
                 ByteArrayInputStream bis2 = new ByteArrayInputStream(data);
@@ -135,6 +177,13 @@ public class FileBackingStore<K extends Serializable, V extends Serializable> ex
 
     @Override
     public void remove(K sessionKey) {
+        if (writeBehindLog != null) {
+            try {
+                writeBehindLog.remove(sessionKey.toString());
+            } catch (BackingStoreException ex) {
+                logger.log(Level.WARNING, debugStr + "Failed to remove(" + sessionKey + ")", ex);
+            }
+        }
         remove(sessionKey.toString());
     }
 
@@ -158,6 +207,9 @@ public class FileBackingStore<K extends Serializable, V extends Serializable> ex
             if (logger.isLoggable(TRACE_LEVEL)) {
                 logger.log(TRACE_LEVEL, debugStr + "Entered destroy()");
             }
+            if (writeBehindLog != null) {
+                writeBehindLog.destroy();
+            }
             String[] fileNames = baseDir.list();
             if (fileNames == null) {
                 return;
@@ -194,6 +246,16 @@ public class FileBackingStore<K extends Serializable, V extends Serializable> ex
         if (logger.isLoggable(TRACE_LEVEL)) {
             logger.log(TRACE_LEVEL, debugStr + "Entered removeExpired()");
         }
+        if (writeBehindLog != null) {
+            try {
+                expiredSessions = writeBehindLog.removeExpired(threshold);
+            } catch (BackingStoreException ex) {
+                logger.log(Level.WARNING, debugStr + " Exception while removing expired sessions", ex);
+            }
+            if (!legacyFiles) {
+                return expiredSessions;
+            }
+        }
         try {
             String[] fileNames = baseDir.list();
             if (fileNames == null) {
@@ -202,7 +264,7 @@ public class FileBackingStore<K extends Serializable, V extends Serializable> ex
             int size = fileNames.length;
             for (int i = 0; (i < size) && (!shutdown); i++) {
                 File file = new File(baseDir, fileNames[i]);
-                if (file.exists()) {
+                if (file.isFile()) {
                     long lastAccessed = file.lastModified();
                     if (lastAccessed < threshold) {
                         if (!file.delete()) {
@@ -215,6 +277,9 @@ public class FileBackingStore<K extends Serializable, V extends Serializable> ex
                     }
                 }
             }
+            if (writeBehindLog != null && !shutdown && countLegacyFiles() == 0) {
+                legacyFiles = false;
+            }
             if (logger.isLoggable(TRACE_LEVEL)) {
                 logger.log(TRACE_LEVEL, debugStr + "Done removeExpired()");
             }
@@ -227,11 +292,17 @@ public class FileBackingStore<K extends Serializable, V extends Serializable> ex
 
     public void shutdown() {
         shutdown = true;
+        if (writeBehindLog != null) {
+            writeBehindLog.close();
+        }
         // Nothing else to do here. DO NOT DELETE THE WORKING DIRECTORY
     }
 
     @Override
     public int size() throws BackingStoreException {
+        if (writeBehindLog != null) {
+            return writeBehindLog.size() + (legacyFiles ? countLegacyFiles() : 0);
+        }
         String[] numFiles = baseDir.list();
         return numFiles == null ? 0 : numFiles.length;
     }
@@ -244,7 +315,15 @@ public class FileBackingStore<K extends Serializable, V extends Serializable> ex
         if (logger.isLoggable(TRACE_LEVEL)) {
             logger.log(TRACE_LEVEL, debugStr + "Entered save(" + sessionKey + ")");
         }
-        writetoFile(sessionKey, fileName, getSerializedState(sessionKey, value));
+        if (writeBehindLog == null) {
+            writetoFile(sessionKey, fileName, getSerializedState(sessionKey, value));
+        } else {
+            writeBehindLog.put(fileName, getSerializedState(sessionKey, value));
+            if (legacyFiles) {
+                // The log holds the newer state now
+                remove(fileName);
+            }
+        }
         if (logger.isLoggable(TRACE_LEVEL)) {
             logger.log(TRACE_LEVEL, debugStr + "Done save(" + sessionKey + ")");
         }
@@ -261,7 +340,15 @@ public class FileBackingStore<K extends Serializable, V extends Serializable> ex
         if (logger.isLoggable(TRACE_LEVEL)) {
             logger.log(TRACE_LEVEL, debugStr + "Entered updateTimestamp(" + sessionKey + ", " + time + ")");
         }
-        touchFile(sessionKey, sessionKey.toString(), time);
+        if (writeBehindLog == null) {
+            touchFile(sessionKey, sessionKey.toString(), time);
+        } else {
+            writeBehindLog.touch(sessionKey.toString(), time);
+            if (legacyFiles) {
+                // Keeps a state which was not saved to the log yet from expiring
+                new File(baseDir, sessionKey.toString()).setLastModified(time);
+            }
+        }
         if (logger.isLoggable(TRACE_LEVEL)) {
             logger.log(TRACE_LEVEL, debugStr + "Done updateTimestamp(" + sessionKey + ", " + time + ")");
         }
@@ -286,6 +373,14 @@ public class FileBackingStore<K extends Serializable, V extends Serializable> ex
         }
     }
 
+    /**
+     * @return count of the session files in the base directory, the write-behind log is in a subdirectory
+     */
+    private int countLegacyFiles() {
+        File[] files = baseDir.listFiles(File::isFile);
+        return files == null ? 0 : files.length;
+    }
+
     private boolean removeFile(final File file) {
         return file.delete();
     }
@@ -0,0 +1,617 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.ha.store.adapter.file;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import org.glassfish.ha.store.api.BackingStoreException;
+
+/**
+ * Write-behind storage of the {@link FileBackingStore}.
+ * <p>
+ * Saved states are kept in memory until a background thread appends them to a log of segment files.
+ * Repeated saves of the same key waiting for the thread are coalesced, so only the last state is
+ * written. Every batch of records is forced to the disk once. States waiting for the thread are
+ * visible to {@link #read(String)}, so a load always returns the last saved state. Request threads read
+ * the segments through their own file handles, an interrupted request thread cannot close the channel
+ * of a segment.
+ * <p>
+ * The position and the last access time of every stored key are indexed in memory, so the expiration
+ * does not touch the file system except writing the removal records. The index is rebuilt from the
+ * segments when the store is created, so the states survive a restart of the instance.
+ * <p>
+ * When the sealed segments contain more dead records than live ones, the oldest segment is compacted:
+ * its live records are appended to the active segment and the file is deleted. Segments are compacted
+ * strictly in their order, so a removal record is never dropped while an older record of its key exists.
+ */
+class WriteBehindLog {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    static final byte PUT = 1;
+    static final byte REMOVE = 2;
+    static final byte TOUCH = 3;
+
+    /** type, timestamp, key length, data length, checksum */
+    private static final int HEADER_SIZE = 1 + 8 + 4 + 4 + 4;
+
+    private static final int MAX_READ_ATTEMPTS = 3;
+
+    private final Logger logger;
+    private final String debugStr;
+    private final File directory;
+    private final long maxSegmentSize;
+    private final int batchSize;
+
+    private final ConcurrentHashMap<String, Location> index = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Write> pending = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final BlockingQueue<String> queue;
+    private final Thread writer;
+    private volatile boolean closed;
+
+    /** Accessed by the writer thread only, after the initialization */
+    private Segment active;
+
+    WriteBehindLog(File directory, int queueCapacity, int batchSize, long maxSegmentSize, Logger logger, String debugStr)
+        throws BackingStoreException {
+        this.directory = directory;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxSegmentSize = maxSegmentSize;
+        this.logger = logger;
+        this.debugStr = debugStr;
+        if (!directory.mkdirs() && !directory.isDirectory()) {
+            throw new BackingStoreException(debugStr + "Create write-behind log directory (" + directory + ") failed");
+        }
+        try {
+            recover();
+        } catch (IOException e) {
+            throw new BackingStoreException(debugStr + "Write-behind log recovery failed", e);
+        }
+        this.writer = new Thread(this::writeLoop, "FileBackingStore-writer-" + directory.getParentFile().getName());
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    void put(String key, byte[] data) throws BackingStoreException {
+        enqueue(key, new Write(PUT, data, System.currentTimeMillis()));
+    }
+
+    void remove(String key) throws BackingStoreException {
+        enqueue(key, new Write(REMOVE, null, System.currentTimeMillis()));
+    }
+
+    void touch(String key, long time) throws BackingStoreException {
+        enqueue(key, new Write(TOUCH, null, time));
+    }
+
+    /**
+     * @param key session key
+     * @return the last saved state, or null if the key is not stored in the log
+     */
+    byte[] read(String key) throws BackingStoreException {
+        Write write = pending.get(key);
+        if (write != null && write.type != TOUCH) {
+            return write.data;
+        }
+        for (int attempt = 1;; attempt++) {
+            Location location = index.get(key);
+            if (location == null) {
+                return null;
+            }
+            Segment segment = segments.get(location.segmentId);
+            try {
+                if (segment != null) {
+                    return segment.readDataUninterruptibly(location);
+                }
+            } catch (FileNotFoundException e) {
+                // Compacted meanwhile, the index points to the new location now.
+            } catch (IOException e) {
+                throw new BackingStoreException(debugStr + "Failed to read " + key + " from " + segment.file, e);
+            }
+            if (attempt == MAX_READ_ATTEMPTS) {
+                throw new BackingStoreException(debugStr + "Failed to read " + key + ", the log is being compacted");
+            }
+        }
+    }
+
+    /**
+     * Enqueues removal of all keys which were not saved nor touched since the given time.
+     *
+     * @param threshold time in millis
+     * @return count of removed keys
+     */
+    int removeExpired(long threshold) throws BackingStoreException {
+        int expired = 0;
+        for (Map.Entry<String, Location> entry : index.entrySet()) {
+            if (closed) {
+                break;
+            }
+            if (entry.getValue().timestamp < threshold && !pending.containsKey(entry.getKey())) {
+                remove(entry.getKey());
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    int size() {
+        int size = index.size();
+        for (Map.Entry<String, Write> entry : pending.entrySet()) {
+            boolean indexed = index.containsKey(entry.getKey());
+            if (entry.getValue().type == PUT && !indexed) {
+                size++;
+            } else if (entry.getValue().type == REMOVE && indexed) {
+                size--;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Writes all waiting states and stops the writer thread.
+     */
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        stopWriter();
+    }
+
+    /**
+     * Stops the writer thread and deletes all segments.
+     */
+    void destroy() {
+        boolean wasClosed = closed;
+        closed = true;
+        queue.clear();
+        pending.clear();
+        if (!wasClosed) {
+            stopWriter();
+        }
+        for (Segment segment : segments.values()) {
+            if (!segment.file.delete() && segment.file.exists()) {
+                logger.log(Level.WARNING, debugStr + "Couldn't remove file: " + segment.file);
+            }
+        }
+        segments.clear();
+        index.clear();
+        if (!directory.delete() && directory.exists()) {
+            logger.log(Level.WARNING, debugStr + "Couldn't remove directory: " + directory);
+        }
+    }
+
+    private void stopWriter() {
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30L));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            logger.log(Level.WARNING, debugStr + "Write-behind log was not flushed in time, " + pending.size()
+                + " states were not written.");
+        }
+        for (Segment segment : segments.values()) {
+            segment.close();
+        }
+    }
+
+    private void enqueue(String key, Write write) throws BackingStoreException {
+        if (closed) {
+            throw new BackingStoreException(debugStr + "The store is already closed, cannot write " + key);
+        }
+        if (!writer.isAlive()) {
+            throw new BackingStoreException(debugStr + "The writer thread is not running, cannot write " + key);
+        }
+        boolean[] queued = {true};
+        pending.compute(key, (k, previous) -> {
+            if (previous == null) {
+                return write;
+            }
+            queued[0] = false;
+            return write.after(previous);
+        });
+        if (!queued[0]) {
+            return;
+        }
+        try {
+            while (!queue.offer(key, 100L, TimeUnit.MILLISECONDS)) {
+                if (!writer.isAlive()) {
+                    pending.remove(key);
+                    throw new BackingStoreException(debugStr + "The writer thread is not running, cannot write " + key);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.remove(key, write);
+            throw new BackingStoreException(debugStr + "Interrupted while waiting for the write-behind queue: " + key, e);
+        }
+    }
+
+    private void writeLoop() {
+        List<String> batch = new ArrayList<>(batchSize);
+        List<String> retry = new ArrayList<>();
+        while (!closed || !queue.isEmpty() || !retry.isEmpty()) {
+            batch.clear();
+            batch.addAll(retry);
+            retry.clear();
+            try {
+                if (batch.isEmpty()) {
+                    String key = queue.poll(100L, TimeUnit.MILLISECONDS);
+                    if (key == null) {
+                        continue;
+                    }
+                    batch.add(key);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                writeBatch(batch, retry);
+                compactIfNeeded();
+            } catch (ClosedByInterruptException e) {
+                logger.log(Level.WARNING, debugStr + "Writer thread interrupted, " + pending.size() + " states were not written.");
+                return;
+            } catch (IOException e) {
+                logger.log(Level.WARNING, debugStr + "Failed to write a batch of " + batch.size() + " states, will retry.", e);
+                retry.addAll(batch);
+                if (pause()) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                logger.log(Level.WARNING, debugStr + "Writer thread interrupted, " + pending.size() + " states were not written.");
+                return;
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, debugStr + "Unexpected failure of the writer thread", e);
+                retry.addAll(batch);
+                if (pause()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(1000L);
+            return false;
+        } catch (InterruptedException e) {
+            return true;
+        }
+    }
+
+    private void writeBatch(List<String> keys, List<String> retry) throws IOException {
+        List<Write> writes = new ArrayList<>(keys.size());
+        List<Location> locations = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            Write write = pending.get(key);
+            writes.add(write);
+            locations.add(write == null ? null : append(key, write.type, write.data, write.timestamp));
+        }
+        active.channel.force(false);
+        for (int i = 0; i < keys.size(); i++) {
+            Write write = writes.get(i);
+            if (write == null) {
+                continue;
+            }
+            String key = keys.get(i);
+            apply(key, write.type, locations.get(i));
+            if (!pending.remove(key, write) && pending.computeIfPresent(key, (k, current) -> current.remainderAfter(write)) != null) {
+                // Saved or touched again meanwhile, the rest was not queued.
+                retry.add(key);
+            }
+        }
+    }
+
+    private Location append(String key, byte type, byte[] data, long timestamp) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int dataLength = data == null ? 0 : data.length;
+        if (active.size >= maxSegmentSize) {
+            active = createSegment(active.id + 1);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(keyBytes);
+        if (data != null) {
+            crc.update(data);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + keyBytes.length + dataLength);
+        buffer.put(type).putLong(timestamp).putInt(keyBytes.length).putInt(dataLength).putInt((int) crc.getValue());
+        buffer.put(keyBytes);
+        if (data != null) {
+            buffer.put(data);
+        }
+        buffer.flip();
+        long offset = active.size;
+        while (buffer.hasRemaining()) {
+            active.size += active.channel.write(buffer, active.size);
+        }
+        return new Location(active.id, offset, keyBytes.length, dataLength, timestamp);
+    }
+
+    /**
+     * Updates the index after the record was written. Called by the writer thread and the recovery only.
+     */
+    private void apply(String key, byte type, Location location) {
+        if (type == PUT) {
+            release(index.put(key, location));
+            segments.get(location.segmentId).live.addAndGet(location.getRecordLength());
+        } else if (type == REMOVE) {
+            release(index.remove(key));
+        } else {
+            index.computeIfPresent(key, (k, previous) -> previous.touched(location.timestamp));
+        }
+    }
+
+    private void release(Location location) {
+        if (location == null) {
+            return;
+        }
+        Segment segment = segments.get(location.segmentId);
+        if (segment != null) {
+            segment.live.addAndGet(-location.getRecordLength());
+        }
+    }
+
+    private void compactIfNeeded() throws IOException {
+        long sealedSize = 0;
+        long sealedLive = 0;
+        for (Segment segment : segments.values()) {
+            if (segment != active) {
+                sealedSize += segment.size;
+                sealedLive += segment.live.get();
+            }
+        }
+        if (sealedSize < maxSegmentSize || sealedLive * 2 > sealedSize) {
+            return;
+        }
+        Segment oldest = segments.firstEntry().getValue();
+        int moved = 0;
+        for (Map.Entry<String, Location> entry : index.entrySet()) {
+            Location location = entry.getValue();
+            if (location.segmentId != oldest.id) {
+                continue;
+            }
+            byte[] data = oldest.readData(location);
+            apply(entry.getKey(), PUT, append(entry.getKey(), PUT, data, location.timestamp));
+            moved++;
+        }
+        active.channel.force(false);
+        segments.remove(oldest.id);
+        oldest.close();
+        if (!oldest.file.delete()) {
+            logger.log(Level.WARNING, debugStr + "Couldn't remove compacted segment: " + oldest.file);
+        }
+        if (logger.isLoggable(Level.FINE)) {
+            logger.log(Level.FINE, debugStr + "Compacted " + oldest.file + ", moved " + moved + " live states.");
+        }
+    }
+
+    private void recover() throws IOException {
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+        long[] ids = files == null ? new long[0] : Arrays.stream(files).mapToLong(WriteBehindLog::toSegmentId).sorted().toArray();
+        for (long id : ids) {
+            Segment segment = new Segment(id, segmentFile(id));
+            segments.put(id, segment);
+            recover(segment);
+        }
+        if (segments.isEmpty()) {
+            active = createSegment(0L);
+        } else {
+            active = segments.lastEntry().getValue();
+        }
+        if (!index.isEmpty()) {
+            logger.log(Level.INFO, debugStr + "Recovered " + index.size() + " states from " + segments.size() + " segments.");
+        }
+    }
+
+    private void recover(Segment segment) throws IOException {
+        long fileSize = segment.channel.size();
+        long offset = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (offset + HEADER_SIZE <= fileSize) {
+            header.clear();
+            segment.read(header, offset);
+            header.flip();
+            byte type = header.get();
+            long timestamp = header.getLong();
+            int keyLength = header.getInt();
+            int dataLength = header.getInt();
+            int checksum = header.getInt();
+            if (type < PUT || type > TOUCH || keyLength < 0 || dataLength < 0
+                || offset + HEADER_SIZE + keyLength + dataLength > fileSize) {
+                break;
+            }
+            ByteBuffer body = ByteBuffer.allocate(keyLength + dataLength);
+            segment.read(body, offset + HEADER_SIZE);
+            CRC32 crc = new CRC32();
+            crc.update(body.array());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            String key = new String(body.array(), 0, keyLength, StandardCharsets.UTF_8);
+            apply(key, type, new Location(segment.id, offset, keyLength, dataLength, timestamp));
+            offset += HEADER_SIZE + keyLength + dataLength;
+        }
+        if (offset < fileSize) {
+            logger.log(Level.WARNING, debugStr + "Segment " + segment.file + " is damaged after offset " + offset
+                + ", the rest of it is dropped.");
+            segment.channel.truncate(offset);
+        }
+        segment.size = offset;
+    }
+
+    private Segment createSegment(long id) throws IOException {
+        Segment segment = new Segment(id, segmentFile(id));
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private File segmentFile(long id) {
+        return new File(directory, String.format("%s%016d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+    }
+
+    private static long toSegmentId(File file) {
+        String name = file.getName();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * A state waiting for the writer thread.
+     */
+    static final class Write {
+
+        final byte type;
+        final byte[] data;
+        final long timestamp;
+
+        Write(byte type, byte[] data, long timestamp) {
+            this.type = type;
+            this.data = data;
+            this.timestamp = timestamp;
+        }
+
+        /**
+         * @param previous write of the same key still waiting for the writer thread
+         * @return write replacing both
+         */
+        Write after(Write previous) {
+            if (type != TOUCH) {
+                return this;
+            }
+            if (previous.type == REMOVE) {
+                return previous;
+            }
+            return new Write(previous.type, previous.data, Math.max(timestamp, previous.timestamp));
+        }
+
+        /**
+         * @param written write of the same key which was just written by the writer thread
+         * @return write of what was not written yet, null if everything was written
+         */
+        Write remainderAfter(Write written) {
+            if (type != written.type || data != written.data) {
+                return this;
+            }
+            // Just touched while the state was being written, the state itself must not be written again.
+            return timestamp > written.timestamp ? new Write(TOUCH, null, timestamp) : null;
+        }
+    }
+
+    /**
+     * Position of the last record of a key.
+     */
+    private static final class Location {
+
+        private final long segmentId;
+        private final long offset;
+        private final int keyLength;
+        private final int dataLength;
+        private final long timestamp;
+
+        Location(long segmentId, long offset, int keyLength, int dataLength, long timestamp) {
+            this.segmentId = segmentId;
+            this.offset = offset;
+            this.keyLength = keyLength;
+            this.dataLength = dataLength;
+            this.timestamp = timestamp;
+        }
+
+        Location touched(long time) {
+            return new Location(segmentId, offset, keyLength, dataLength, Math.max(timestamp, time));
+        }
+
+        long getRecordLength() {
+            return HEADER_SIZE + keyLength + dataLength;
+        }
+    }
+
+    private static final class Segment {
+
+        private final long id;
+        private final File file;
+        private final FileChannel channel;
+        private final AtomicLong live = new AtomicLong();
+        /** Accessed by the writer thread only, after the initialization */
+        private long size;
+
+        Segment(long id, File file) throws IOException {
+            this.id = id;
+            this.file = file;
+            this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        }
+
+        /**
+         * Reads the data through a new file handle. Unlike the channel, which is closed for all threads
+         * when a thread reading from it is interrupted, the file handle is not interruptible.
+         */
+        byte[] readDataUninterruptibly(Location location) throws IOException {
+            byte[] data = new byte[location.dataLength];
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+                randomAccessFile.seek(location.offset + HEADER_SIZE + location.keyLength);
+                randomAccessFile.readFully(data);
+            }
+            return data;
+        }
+
+        byte[] readData(Location location) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(location.dataLength);
+            read(buffer, location.offset + HEADER_SIZE + location.keyLength);
+            return buffer.array();
+        }
+
+        void read(ByteBuffer buffer, long position) throws IOException {
+            long current = position;
+            while (buffer.hasRemaining()) {
+                int count = channel.read(buffer, current);
+                if (count < 0) {
+                    throw new IOException("Unexpected end of " + file + " at " + current);
+                }
+                current += count;
+            }
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // Ignore, every batch was already forced to the disk.
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.ha.store.adapter.file;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.glassfish.ha.store.api.BackingStore;
+import org.glassfish.ha.store.api.BackingStoreConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileBackingStoreTest {
+
+    private File baseDirectory;
+    private BackingStore<String, String> store;
+
+    @BeforeEach
+    public void saveLegacyFile() throws Exception {
+        baseDirectory = Files.createTempDirectory("file-store").toFile();
+        BackingStore<String, String> legacyStore = open(false);
+        legacyStore.save("legacy", "old state", true);
+        ((FileBackingStore<String, String>) legacyStore).shutdown();
+        store = open(true);
+    }
+
+    @AfterEach
+    public void deleteStore() throws Exception {
+        ((FileBackingStore<String, String>) store).shutdown();
+        try (Stream<File> files = Files.walk(baseDirectory.toPath()).map(Path::toFile)) {
+            files.sorted(Comparator.reverseOrder()).forEach(File::delete);
+        }
+    }
+
+
+    @Test
+    public void legacyFileIsLoadedUntilSavedToTheLog() throws Exception {
+        store.save("new", "new state", true);
+        assertEquals("old state", store.load("legacy", null));
+        assertEquals(2, store.size());
+
+        store.save("legacy", "saved state", false);
+        assertFalse(new File(baseDirectory, "legacy").exists());
+        assertEquals("saved state", store.load("legacy", null));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    public void legacyFileExpires() throws Exception {
+        File legacyFile = new File(baseDirectory, "legacy");
+        assertTrue(legacyFile.setLastModified(System.currentTimeMillis() - 60_000L));
+        store.save("new", "new state", true);
+
+        assertEquals(1, store.removeExpired(30_000L));
+        assertFalse(legacyFile.exists());
+        assertNull(store.load("legacy", null));
+        assertEquals("new state", store.load("new", null));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    public void touchedLegacyFileDoesNotExpire() throws Exception {
+        File legacyFile = new File(baseDirectory, "legacy");
+        assertTrue(legacyFile.setLastModified(System.currentTimeMillis() - 60_000L));
+
+        store.updateTimestamp("legacy", System.currentTimeMillis());
+
+        assertEquals(0, store.removeExpired(30_000L));
+        assertEquals("old state", store.load("legacy", null));
+    }
+
+    @Test
+    public void expiredStateDoesNotFallBackToLegacyFile() throws Exception {
+        store.save("legacy", "saved state", false);
+        // Writes the state to the log
+        ((FileBackingStore<String, String>) store).shutdown();
+        store = open(true);
+
+        assertEquals(1, store.removeExpired(-60_000L));
+        assertNull(store.load("legacy", null));
+        assertEquals(0, store.size());
+    }
+
+    private BackingStore<String, String> open(boolean writeBehind) throws Exception {
+        BackingStoreConfiguration<String, String> conf = new BackingStoreConfiguration<>();
+        conf.setStoreName("test-" + writeBehind)
+            .setInstanceName("instance")
+            .setBaseDirectory(baseDirectory)
+            .setKeyClazz(String.class)
+            .setValueClazz(String.class)
+            .setClassLoader(FileBackingStoreTest.class.getClassLoader());
+        conf.getVendorSpecificSettings().put(FileBackingStore.WRITE_BEHIND, String.valueOf(writeBehind));
+        return new FileBackingStoreFactory().createBackingStore(conf);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.glassfish.ha.store.adapter.file;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.logging.Logger;
+
+import org.glassfish.ha.store.adapter.file.WriteBehindLog.Write;
+import org.glassfish.ha.store.api.BackingStoreException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.glassfish.ha.store.adapter.file.WriteBehindLog.PUT;
+import static org.glassfish.ha.store.adapter.file.WriteBehindLog.REMOVE;
+import static org.glassfish.ha.store.adapter.file.WriteBehindLog.TOUCH;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WriteBehindLogTest {
+
+    private static final Logger LOG = Logger.getLogger(WriteBehindLogTest.class.getName());
+
+    private File storeDirectory;
+    private File directory;
+    private WriteBehindLog log;
+
+    @BeforeEach
+    public void createLog() throws Exception {
+        storeDirectory = Files.createTempDirectory("write-behind").toFile();
+        directory = new File(storeDirectory, "log");
+        log = open(1024 * 1024);
+    }
+
+    @AfterEach
+    public void destroyLog() {
+        log.destroy();
+        storeDirectory.delete();
+    }
+
+    @Test
+    public void savedStatesSurviveRestart() throws Exception {
+        log.put("a", bytes("state a"));
+        log.put("b", bytes("state b"));
+        log.put("a", bytes("state a2"));
+        log.remove("b");
+        assertArrayEquals(bytes("state a2"), log.read("a"));
+        assertNull(log.read("b"));
+        assertEquals(1, log.size());
+
+        log.close();
+        log = open(1024 * 1024);
+        assertArrayEquals(bytes("state a2"), log.read("a"));
+        assertNull(log.read("b"));
+        assertEquals(1, log.size());
+    }
+
+    @Test
+    public void touchedStatesDoNotExpire() throws Exception {
+        long now = System.currentTimeMillis();
+        log.put("a", bytes("state a"));
+        log.put("b", bytes("state b"));
+        log.close();
+        log = open(1024 * 1024);
+
+        log.touch("a", now + 60_000L);
+        log.close();
+        log = open(1024 * 1024);
+        assertEquals(1, log.removeExpired(now + 30_000L));
+        assertArrayEquals(bytes("state a"), log.read("a"));
+        assertNull(log.read("b"));
+    }
+
+    @Test
+    public void deadRecordsAreCompacted() throws Exception {
+        log.close();
+        log = open(512);
+        for (int i = 0; i < 200; i++) {
+            log.put("a", bytes("state a" + i));
+            log.put("b", bytes("state b" + i));
+        }
+        log.close();
+        log = open(512);
+
+        File[] segments = directory.listFiles();
+        assertTrue(segments.length < 10, "segments: " + segments.length);
+        assertArrayEquals(bytes("state a199"), log.read("a"));
+        assertArrayEquals(bytes("state b199"), log.read("b"));
+    }
+
+    @Test
+    public void interruptedReaderDoesNotBreakTheLog() throws Exception {
+        log.put("a", bytes("state a"));
+        log.close();
+        log = open(1024 * 1024);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertArrayEquals(bytes("state a"), log.read("a"));
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+        assertArrayEquals(bytes("state a"), log.read("a"));
+
+        log.put("b", bytes("state b"));
+        log.close();
+        log = open(1024 * 1024);
+        assertArrayEquals(bytes("state b"), log.read("b"));
+    }
+
+    @Test
+    @Timeout(10)
+    public void saveFailsWhenWriterIsNotRunning() throws Exception {
+        Thread writer = findWriter();
+        writer.interrupt();
+        writer.join();
+
+        assertThrows(BackingStoreException.class, () -> log.put("a", bytes("state a")));
+        assertNull(log.read("a"));
+    }
+
+    @Test
+    public void touchWhileWritingLeavesOnlyTheTouch() {
+        Write written = new Write(PUT, bytes("state"), 1L);
+        Write touched = new Write(TOUCH, null, 2L).after(written);
+        assertEquals(PUT, touched.type);
+
+        Write remainder = touched.remainderAfter(written);
+        assertEquals(TOUCH, remainder.type);
+        assertNull(remainder.data);
+        assertEquals(2L, remainder.timestamp);
+
+        assertNull(new Write(TOUCH, null, 1L).after(written).remainderAfter(written));
+        Write saved = new Write(PUT, bytes("new state"), 2L);
+        assertSame(saved, saved.remainderAfter(written));
+        Write removed = new Write(REMOVE, null, 2L);
+        assertSame(removed, removed.remainderAfter(written));
+    }
+
+    private WriteBehindLog open(long maxSegmentSize) throws BackingStoreException {
+        return new WriteBehindLog(directory, 4, 16, maxSegmentSize, LOG, "");
+    }
+
+    private Thread findWriter() {
+        String name = "FileBackingStore-writer-" + storeDirectory.getName();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (name.equals(thread.getName())) {
+                return thread;
+            }
+        }
+        throw new AssertionError("Writer thread not found: " + name);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -82,6 +83,7 @@ public class DataSourceSpec implements Serializable {
     public static final int POOLNAME = 45;
     public static final int APPLICATIONNAME = 46;
     public static final int MODULENAME = 47;
+    public static final int STATEMENTMETADATACACHESIZE = 48;
 
     private ConcurrentHashMap<Integer, String> details = new ConcurrentHashMap<Integer, String>();
 
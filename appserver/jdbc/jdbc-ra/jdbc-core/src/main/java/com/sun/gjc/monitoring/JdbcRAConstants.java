@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2010, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -37,6 +38,16 @@ public interface JdbcRAConstants {
      */
     public static final String STATEMENT_CACHE_MISS = "statementCacheMissEvent";
 
+    /**
+     * Represents the statement cache eviction monitoring event.
+     */
+    public static final String STATEMENT_CACHE_EVICTION = "statementCacheEvictionEvent";
+
+    /**
+     * Represents the monitoring event of a statement prepared after a statement cache miss.
+     */
+    public static final String STATEMENT_PREPARE = "statementPrepareEvent";
+
     /**
      * Represents caching of sql query event.
      */
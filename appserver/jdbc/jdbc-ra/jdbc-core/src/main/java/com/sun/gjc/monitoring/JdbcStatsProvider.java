@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2010, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -23,9 +23,13 @@ import com.sun.gjc.util.SQLTraceCache;
 import org.glassfish.api.naming.SimpleJndiName;
 import org.glassfish.external.probe.provider.annotations.ProbeListener;
 import org.glassfish.external.probe.provider.annotations.ProbeParam;
+import org.glassfish.external.statistics.BoundedRangeStatistic;
 import org.glassfish.external.statistics.CountStatistic;
+import org.glassfish.external.statistics.RangeStatistic;
 import org.glassfish.external.statistics.StringStatistic;
+import org.glassfish.external.statistics.impl.BoundedRangeStatisticImpl;
 import org.glassfish.external.statistics.impl.CountStatisticImpl;
+import org.glassfish.external.statistics.impl.RangeStatisticImpl;
 import org.glassfish.external.statistics.impl.StatisticImpl;
 import org.glassfish.external.statistics.impl.StringStatisticImpl;
 import org.glassfish.gmbal.AMXMetadata;
@@ -56,6 +60,27 @@ public class JdbcStatsProvider {
             "NumStatementCacheMiss", StatisticImpl.UNIT_COUNT,
             "The total number of Statement Cache misses.");
 
+    private final CountStatisticImpl numStatementCacheEviction = new CountStatisticImpl(
+            "NumStatementCacheEviction", StatisticImpl.UNIT_COUNT,
+            "The total number of statements evicted from the Statement Cache.");
+
+    private final BoundedRangeStatisticImpl statementCacheHitRatio = new BoundedRangeStatisticImpl(
+            0, 0, 0, 100, 0,
+            "StatementCacheHitRatio", "Percent",
+            "Percentage of Statement Cache lookups which were hits, bounded by 0 and 100.",
+            System.currentTimeMillis(), System.currentTimeMillis());
+
+    private final RangeStatisticImpl statementPrepareTime = new RangeStatisticImpl(
+            0, 0, 0,
+            "StatementPrepareTime", StatisticImpl.UNIT_NANOSECOND,
+            "The longest and shortest times of preparing a statement after a Statement Cache miss. " +
+            "The current value indicates the time of the last prepared statement.",
+            System.currentTimeMillis(), System.currentTimeMillis());
+
+    private final CountStatisticImpl totalStatementPrepareTime = new CountStatisticImpl(
+            "TotalStatementPrepareTime", StatisticImpl.UNIT_NANOSECOND,
+            "The total time spent preparing statements after Statement Cache misses.");
+
     private final CountStatisticImpl numPotentialStatementLeak = new CountStatisticImpl(
             "NumPotentialStatementLeak", StatisticImpl.UNIT_COUNT,
             "The total number of potential Statement leaks");
@@ -103,6 +128,41 @@ public class JdbcStatsProvider {
         }
     }
 
+    /**
+     * Whenever a statement is evicted from the statement cache, increment numStatementCacheEviction count.
+     * @param poolName JdbcConnectionPool that has got a statement cache eviction event.
+     */
+    @ProbeListener(JdbcRAConstants.STATEMENT_CACHE_DOTTED_NAME + JdbcRAConstants.STATEMENT_CACHE_EVICTION)
+    public void statementCacheEvictionEvent(@ProbeParam("poolName") String poolName,
+                                            @ProbeParam("appName") String appName,
+                                            @ProbeParam("moduleName") String moduleName
+                                            ) {
+
+        PoolInfo poolInfo = new PoolInfo(SimpleJndiName.of(poolName), appName, moduleName);
+        if(this.poolInfo.equals(poolInfo)){
+            numStatementCacheEviction.increment();
+        }
+    }
+
+    /**
+     * Whenever a statement is prepared after a statement cache miss, update the prepare time statistics.
+     * @param poolName JdbcConnectionPool that has got a statement prepare event.
+     * @param timeTakenInNanos time spent preparing the statement
+     */
+    @ProbeListener(JdbcRAConstants.STATEMENT_CACHE_DOTTED_NAME + JdbcRAConstants.STATEMENT_PREPARE)
+    public void statementPrepareEvent(@ProbeParam("poolName") String poolName,
+                                      @ProbeParam("appName") String appName,
+                                      @ProbeParam("moduleName") String moduleName,
+                                      @ProbeParam("timeTakenInNanos") long timeTakenInNanos
+                                      ) {
+
+        PoolInfo poolInfo = new PoolInfo(SimpleJndiName.of(poolName), appName, moduleName);
+        if(this.poolInfo.equals(poolInfo)){
+            statementPrepareTime.setCurrent(timeTakenInNanos);
+            totalStatementPrepareTime.increment(timeTakenInNanos);
+        }
+    }
+
     /**
      * Whenever a sql statement that is traced is to be cache for monitoring
      * purpose, the SQLTrace object is created for the specified sql and
@@ -158,6 +218,31 @@ public class JdbcStatsProvider {
         return numStatementCacheMiss;
     }
 
+    @ManagedAttribute(id="numstatementcacheeviction")
+    public CountStatistic getNumStatementCacheEviction() {
+        return numStatementCacheEviction;
+    }
+
+    @ManagedAttribute(id="statementcachehitratio")
+    public BoundedRangeStatistic getStatementCacheHitRatio() {
+        long hits = numStatementCacheHit.getCount();
+        long lookups = hits + numStatementCacheMiss.getCount();
+        if (lookups > 0) {
+            statementCacheHitRatio.setCurrent(hits * 100 / lookups);
+        }
+        return statementCacheHitRatio;
+    }
+
+    @ManagedAttribute(id="statementpreparetime")
+    public RangeStatistic getStatementPrepareTime() {
+        return statementPrepareTime;
+    }
+
+    @ManagedAttribute(id="totalstatementpreparetime")
+    public CountStatistic getTotalStatementPrepareTime() {
+        return totalStatementPrepareTime;
+    }
+
     @ManagedAttribute(id="frequsedsqlqueries")
     public StringStatistic getfreqUsedSqlQueries() {
         if(sqlTraceCache != null) {
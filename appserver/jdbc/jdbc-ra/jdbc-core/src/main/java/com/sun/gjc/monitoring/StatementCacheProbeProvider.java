@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2010, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -59,4 +60,33 @@ public class StatementCacheProbeProvider {
 
     }
 
+    /**
+     * Emits probe event/notification that the given connection pool
+     * <code>poolName</code> has evicted a statement from its statement cache
+     *
+     * @param poolName for which the statement was evicted
+     */
+    @Probe(name=JdbcRAConstants.STATEMENT_CACHE_EVICTION)
+    public void statementCacheEvictionEvent(@ProbeParam("poolName") String poolName,
+                                            @ProbeParam("appName") String appName,
+                                            @ProbeParam("moduleName") String moduleName
+                                            ) {
+
+    }
+
+    /**
+     * Emits probe event/notification that the given connection pool
+     * <code>poolName</code> has prepared a statement which was not found in the statement cache
+     *
+     * @param poolName for which the statement was prepared
+     * @param timeTakenInNanos time spent preparing the statement
+     */
+    @Probe(name=JdbcRAConstants.STATEMENT_PREPARE)
+    public void statementPrepareEvent(@ProbeParam("poolName") String poolName,
+                                      @ProbeParam("appName") String appName,
+                                      @ProbeParam("moduleName") String moduleName,
+                                      @ProbeParam("timeTakenInNanos") long timeTakenInNanos
+                                      ) {
+
+    }
 }
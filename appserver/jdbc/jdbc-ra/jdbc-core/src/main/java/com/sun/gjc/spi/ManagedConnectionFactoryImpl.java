@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2024 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -22,6 +22,7 @@ import com.sun.enterprise.util.i18n.StringManager;
 import com.sun.gjc.common.DataSourceObjectBuilder;
 import com.sun.gjc.common.DataSourceSpec;
 import com.sun.gjc.monitoring.JdbcStatsProvider;
+import com.sun.gjc.spi.base.datastructure.StatementMetaDataCache;
 import com.sun.gjc.util.SQLTraceDelegator;
 import com.sun.logging.LogDomains;
 
@@ -117,6 +118,7 @@ public abstract class ManagedConnectionFactoryImpl
     private final JdbcObjectsFactory jdbcObjectsFactory = JdbcObjectsFactory.getInstance();
     private int statementCacheSize;
     private String statementCacheType;
+    private transient StatementMetaDataCache statementMetaDataCache;
     private long statementLeakTimeout;
     private boolean statementLeakReclaim;
 
@@ -326,6 +328,8 @@ public abstract class ManagedConnectionFactoryImpl
         if (!connectionValidationRequired) {
             return;
         }
+        // Validation uses the physical connection, statements must not be prepared in advance meanwhile
+        managedConnectionImpl.stopStatementCachePrewarm();
 
         String validationMethod = spec.getDetail(VALIDATIONMETHOD).toLowerCase(Locale.getDefault());
 
@@ -1071,6 +1075,40 @@ public abstract class ManagedConnectionFactoryImpl
         }
     }
 
+    public String getStatementMetaDataCacheSize() {
+        return spec.getDetail(DataSourceSpec.STATEMENTMETADATACACHESIZE);
+    }
+
+    /**
+     * Enables the statement metadata cache shared by all connections of the pool. Used only
+     * if the statement caching is enabled.
+     *
+     * @param value maximal count of statements with shared metadata, 0 disables the cache.
+     */
+    public void setStatementMetaDataCacheSize(String value) {
+        spec.setDetail(DataSourceSpec.STATEMENTMETADATACACHESIZE, value);
+        statementMetaDataCache = null;
+        if (value == null || value.isBlank() || value.equals("null")) {
+            return;
+        }
+        try {
+            int size = Integer.parseInt(value.trim());
+            if (size > 0) {
+                statementMetaDataCache = new StatementMetaDataCache(size);
+            }
+            _logger.log(FINE, "Statement MetaData Cache Size : {0}", size);
+        } catch (NumberFormatException nfe) {
+            _logger.log(Level.WARNING, "Invalid value of StatementMetaDataCacheSize: " + value, nfe);
+        }
+    }
+
+    /**
+     * @return statement metadata cache shared by all connections of the pool, or null if disabled.
+     */
+    public StatementMetaDataCache getStatementMetaDataCache() {
+        return statementMetaDataCache;
+    }
+
     public String getNumberOfTopQueriesToReport() {
         return spec.getDetail(DataSourceSpec.NUMBEROFTOPQUERIESTOREPORT);
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2025, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -20,6 +20,7 @@ package com.sun.gjc.spi;
 import com.sun.appserv.connectors.internal.spi.BadConnectionEventListener;
 import com.sun.enterprise.util.i18n.StringManager;
 import com.sun.gjc.common.DataSourceObjectBuilder;
+import com.sun.gjc.monitoring.StatementCacheProbeProvider;
 import com.sun.gjc.spi.base.CacheObjectKey;
 import com.sun.gjc.spi.base.CallableStatementWrapper;
 import com.sun.gjc.spi.base.ConnectionHolder;
@@ -27,6 +28,7 @@ import com.sun.gjc.spi.base.ConnectionWrapper;
 import com.sun.gjc.spi.base.PreparedStatementWrapper;
 import com.sun.gjc.spi.base.datastructure.Cache;
 import com.sun.gjc.spi.base.datastructure.CacheFactory;
+import com.sun.gjc.spi.base.datastructure.StatementMetaDataCache;
 import com.sun.gjc.util.SQLTraceDelegator;
 import com.sun.gjc.util.StatementLeakDetector;
 import com.sun.logging.LogDomains;
@@ -43,6 +45,9 @@ import jakarta.resource.spi.ManagedConnection;
 import jakarta.resource.spi.ManagedConnectionFactory;
 import jakarta.resource.spi.ManagedConnectionMetaData;
 import jakarta.resource.spi.security.PasswordCredential;
+import jakarta.resource.spi.work.Work;
+import jakarta.resource.spi.work.WorkException;
+import jakarta.resource.spi.work.WorkManager;
 
 import java.io.PrintWriter;
 import java.sql.CallableStatement;
@@ -54,6 +59,7 @@ import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 
 import javax.security.auth.Subject;
@@ -118,6 +124,11 @@ public class ManagedConnectionImpl
     private int cacheSize;
     private String cacheType;
     private boolean statementCaching;
+    private PoolInfo statementCachePoolInfo;
+    private StatementCacheProbeProvider statementCacheProbeProvider;
+    private StatementMetaDataCache statementMetaDataCache;
+    private volatile boolean statementCachePrewarmed;
+    private final ReentrantLock statementCachePrewarmLock = new ReentrantLock();
     private long stmtLeakTimeout;
     private boolean stmtLeakReclaim;
     private boolean statementLeakTracing;
@@ -151,8 +162,8 @@ public class ManagedConnectionImpl
      * Configured via create-jdbc-connection-pool --statementcachesize
      * @param statementCacheType In case statementCacheSize is not 0 this defines the statement cache type to be used. Valid
      * values are defined in com.sun.gjc.spi.base.datastructure.CacheFactory. Value null or "" uses an LRU Cache
-     * implementation. Value FIXED uses FIXED size cache implementation. Any other values are expected to be a className for
-     * a cache implementation.
+     * implementation. Value FIXED uses FIXED size cache implementation. Value TINYLFU uses a frequency aware cache
+     * with lock striping. Any other values are expected to be a className for a cache implementation.
      * @param delegator optional SqlTraceDelegator, value is allowed to be null.
      * @param statementLeakTimeout statement leak timeout in seconds.<br>
      * Configured via create-jdbc-connection-pool --statementleaktimeout
@@ -230,6 +241,12 @@ public class ManagedConnectionImpl
         if (cacheSize > 0) {
             try {
                 statementCache = CacheFactory.getDataStructure(poolInfo, cacheType, cacheSize);
+                statementCachePoolInfo = poolInfo;
+                statementCacheProbeProvider = new StatementCacheProbeProvider();
+                statementMetaDataCache = ((ManagedConnectionFactoryImpl) managedConnectionFactory).getStatementMetaDataCache();
+                if (statementMetaDataCache != null) {
+                    statementMetaDataCache.connectionCreated();
+                }
                 statementCaching = true;
             } catch (ResourceException ex) {
                 LOG.severe(ex.getMessage());
@@ -263,6 +280,8 @@ public class ManagedConnectionImpl
     @Override
     public void addConnectionEventListener(ConnectionEventListener listener) {
         this.listener = listener;
+        // The pool adds its listener when the connection is completely created
+        scheduleStatementCachePrewarm();
     }
 
     /**
@@ -372,7 +391,11 @@ public class ManagedConnectionImpl
         if (isDestroyed) {
             return;
         }
+        stopStatementCachePrewarm();
         clearStatementCache();
+        if (statementMetaDataCache != null) {
+            statementMetaDataCache.connectionDestroyed();
+        }
 
         // Connection could be closed even before statement is closed. Connection
         // close need not call statement close() method.
@@ -420,6 +443,7 @@ public class ManagedConnectionImpl
     public Object getConnection(Subject sub, ConnectionRequestInfo cxReqInfo) throws ResourceException {
         logFine("In getConnection");
         checkIfValid();
+        stopStatementCachePrewarm();
 
         getActualConnection();
         ManagedConnectionFactoryImpl managedConnectionFactoryImpl = (ManagedConnectionFactoryImpl) managedConnectionFactory;
@@ -918,6 +942,156 @@ public class ManagedConnectionImpl
         LOG.log(FINE, logMessage);
     }
 
+    /**
+     * Schedules preparation of the statements used most often by other connections of the pool, so
+     * they are found in the statement cache of this connection right from the start. The statements
+     * are prepared by a work of the resource adapter until the connection is used for the first time.
+     */
+    private void scheduleStatementCachePrewarm() {
+        if (statementMetaDataCache == null || statementCachePrewarmed) {
+            return;
+        }
+        Object resourceAdapter = ((ManagedConnectionFactoryImpl) managedConnectionFactory).getResourceAdapter();
+        WorkManager workManager = resourceAdapter instanceof ResourceAdapterImpl
+            ? ((ResourceAdapterImpl) resourceAdapter).getWorkManager()
+            : null;
+        if (workManager == null) {
+            statementCachePrewarmed = true;
+            return;
+        }
+        try {
+            workManager.scheduleWork(new StatementCachePrewarm());
+        } catch (WorkException e) {
+            statementCachePrewarmed = true;
+            LOG.log(FINE, "Could not schedule preparation of statements in advance", e);
+        }
+    }
+
+    /**
+     * Stops preparation of statements in advance and waits for the statement being prepared, so
+     * the physical connection is not used by two threads.
+     */
+    void stopStatementCachePrewarm() {
+        if (statementMetaDataCache == null) {
+            return;
+        }
+        statementCachePrewarmed = true;
+        statementCachePrewarmLock.lock();
+        statementCachePrewarmLock.unlock();
+    }
+
+    /**
+     * Prepares the statements used most often by other connections of the pool. Statements used just
+     * once are not prepared.
+     */
+    void prewarmStatementCache() {
+        statementCachePrewarmLock.lock();
+        try {
+            if (statementCachePrewarmed || statementCache.getSize() > 0) {
+                return;
+            }
+            ManagedConnectionFactoryImpl managedConnectionFactoryImpl = (ManagedConnectionFactoryImpl) managedConnectionFactory;
+            ConnectionHolder holder = managedConnectionFactoryImpl.getJdbcObjectsFactory().getConnection(
+                getActualConnection(), this, null, managedConnectionFactoryImpl.isStatementWrappingEnabled(),
+                sqlTraceDelegator);
+            if (!(holder instanceof ConnectionWrapper)) {
+                return;
+            }
+            ConnectionWrapper connection = (ConnectionWrapper) holder;
+            holder.setActive();
+            int prepared = 0;
+            try {
+                for (CacheObjectKey key : statementMetaDataCache.getMostUsed(cacheSize, 2)) {
+                    if (statementCachePrewarmed) {
+                        break;
+                    }
+                    PreparedStatementWrapper statement = prepareTimed(() -> prepareCachedStatement(connection, key));
+                    statement.setSharedMetaData(statementMetaDataCache.peek(key));
+                    statementCache.addToCache(key, statement, false);
+                    prepared++;
+                }
+            } catch (SQLException e) {
+                LOG.log(FINE, "Could not prepare the statement in advance", e);
+            } finally {
+                // The holder is never handed to the application, statements must not be used through it
+                holder.invalidate();
+            }
+            if (LOG.isLoggable(FINE)) {
+                LOG.log(FINE, "Prepared {0} statements in advance", prepared);
+            }
+        } catch (ResourceException e) {
+            LOG.log(FINE, "Could not prepare statements in advance", e);
+        } finally {
+            statementCachePrewarmed = true;
+            statementCachePrewarmLock.unlock();
+        }
+    }
+
+    private PreparedStatementWrapper prepareCachedStatement(ConnectionWrapper connection, CacheObjectKey key) throws SQLException {
+        String sql = key.getSql();
+        if (CacheObjectKey.CALLABLE_STATEMENT.equals(key.getStatementType())) {
+            if (key.getResultSetHoldability() == 0) {
+                return connection.callableCachedStatement(sql, key.getResultSetType(), key.getResultSetConcurrency(), true);
+            }
+            return connection.callableCachedStatement(sql, key.getResultSetType(), key.getResultSetConcurrency(),
+                key.getResultSetHoldability(), true);
+        }
+        if (key.getColumnNames() != null) {
+            return connection.prepareCachedStatement(sql, key.getColumnNames(), true);
+        }
+        if (key.getColumnIndexes() != null) {
+            return connection.prepareCachedStatement(sql, key.getColumnIndexes(), true);
+        }
+        if (key.getResultSetType() == 0) {
+            return connection.prepareCachedStatement(sql, key.getAutoGeneratedKeys(), true);
+        }
+        if (key.getResultSetHoldability() == 0) {
+            return connection.prepareCachedStatement(sql, key.getResultSetType(), key.getResultSetConcurrency(), true);
+        }
+        return connection.prepareCachedStatement(sql, key.getResultSetType(), key.getResultSetConcurrency(),
+            key.getResultSetHoldability(), true);
+    }
+
+    private <T extends PreparedStatementWrapper> T shareMetaData(CacheObjectKey key, T statement) {
+        if (statementMetaDataCache != null) {
+            statement.setSharedMetaData(statementMetaDataCache.get(key));
+        }
+        return statement;
+    }
+
+    /**
+     * Prepares a statement for the statement cache and reports the time spent.
+     */
+    private <T extends PreparedStatementWrapper> T prepareTimed(StatementPreparation<T> preparation) throws SQLException {
+        long prepareStart = System.nanoTime();
+        T statement = preparation.prepare();
+        statementCacheProbeProvider.statementPrepareEvent(statementCachePoolInfo.getName().toString(),
+            statementCachePoolInfo.getApplicationName(), statementCachePoolInfo.getModuleName(),
+            System.nanoTime() - prepareStart);
+        return statement;
+    }
+
+    @FunctionalInterface
+    private interface StatementPreparation<T extends PreparedStatementWrapper> {
+        T prepare() throws SQLException;
+    }
+
+    /**
+     * Prepares statements in advance, released when the resource adapter stops.
+     */
+    private final class StatementCachePrewarm implements Work {
+
+        @Override
+        public void run() {
+            prewarmStatementCache();
+        }
+
+        @Override
+        public void release() {
+            statementCachePrewarmed = true;
+        }
+    }
+
     public PreparedStatement prepareCachedStatement(ConnectionWrapper connection, String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
         if (statementCaching) {
             CacheObjectKey key =
@@ -935,7 +1109,8 @@ public class ManagedConnectionImpl
                     // from the cache and prepare a new stmt & add it to cache
                     if (!preparedStatement.isValid()) {
                         statementCache.purge(preparedStatement);
-                        preparedStatement = connection.prepareCachedStatement(sql, resultSetType, resultSetConcurrency, true);
+                        preparedStatement = prepareTimed(() -> connection.prepareCachedStatement(sql, resultSetType,
+                                resultSetConcurrency, true));
                         preparedStatement.setBusy(true);
                         statementCache.addToCache(key, preparedStatement, false);
                     } else {
@@ -946,13 +1121,14 @@ public class ManagedConnectionImpl
                     return connection.prepareCachedStatement(sql, resultSetType, resultSetConcurrency, false);
                 }
             } else {
-                preparedStatement = connection.prepareCachedStatement(sql, resultSetType, resultSetConcurrency, true);
+                preparedStatement = prepareTimed(() -> connection.prepareCachedStatement(sql, resultSetType,
+                        resultSetConcurrency, true));
 
                 preparedStatement.setBusy(true);
                 statementCache.addToCache(key, preparedStatement, false);
             }
 
-            return preparedStatement;
+            return shareMetaData(key, preparedStatement);
         }
 
         return connection.prepareCachedStatement(sql, resultSetType, resultSetConcurrency, false);
@@ -975,8 +1151,8 @@ public class ManagedConnectionImpl
                     // from the cache and prepare a new stmt & add it to cache
                     if (!preparedStatement.isValid()) {
                         statementCache.purge(preparedStatement);
-                        preparedStatement = connection.prepareCachedStatement(sql, resultSetType, resultSetConcurrency,
-                                resultSetHoldability, true);
+                        preparedStatement = prepareTimed(() -> connection.prepareCachedStatement(sql, resultSetType,
+                                resultSetConcurrency, resultSetHoldability, true));
                         preparedStatement.setBusy(true);
                         statementCache.addToCache(key, preparedStatement, false);
                     } else {
@@ -989,13 +1165,13 @@ public class ManagedConnectionImpl
                             resultSetHoldability, false);
                 }
             } else {
-                preparedStatement = connection.prepareCachedStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability,
-                        true);
+                preparedStatement = prepareTimed(() -> connection.prepareCachedStatement(sql, resultSetType,
+                        resultSetConcurrency, resultSetHoldability, true));
 
                 statementCache.addToCache(key, preparedStatement, false);
                 preparedStatement.setBusy(true);
             }
-            return preparedStatement;
+            return shareMetaData(key, preparedStatement);
         }
 
         return connection.prepareCachedStatement(
@@ -1017,7 +1193,7 @@ public class ManagedConnectionImpl
                     // from the cache and prepare a new stmt & add it to cache
                     if (!preparedStatement.isValid()) {
                         statementCache.purge(preparedStatement);
-                        preparedStatement = connection.prepareCachedStatement(sql, columnNames, true);
+                        preparedStatement = prepareTimed(() -> connection.prepareCachedStatement(sql, columnNames, true));
                         preparedStatement.setBusy(true);
                         statementCache.addToCache(key, preparedStatement, false);
                     } else {
@@ -1029,13 +1205,13 @@ public class ManagedConnectionImpl
                     return connection.prepareCachedStatement(sql, columnNames, false);
                 }
             } else {
-                preparedStatement = connection.prepareCachedStatement(sql, columnNames, true);
+                preparedStatement = prepareTimed(() -> connection.prepareCachedStatement(sql, columnNames, true));
 
                 statementCache.addToCache(key, preparedStatement, false);
                 preparedStatement.setBusy(true);
             }
 
-            return preparedStatement;
+            return shareMetaData(key, preparedStatement);
         }
 
         return connection.prepareCachedStatement(sql, columnNames, false);
@@ -1056,7 +1232,7 @@ public class ManagedConnectionImpl
                     // from the cache and prepare a new stmt & add it to cache
                     if (!preparedStatement.isValid()) {
                         statementCache.purge(preparedStatement);
-                        preparedStatement = connection.prepareCachedStatement(sql, columnIndexes, true);
+                        preparedStatement = prepareTimed(() -> connection.prepareCachedStatement(sql, columnIndexes, true));
                         preparedStatement.setBusy(true);
                         statementCache.addToCache(key, preparedStatement, false);
                     } else {
@@ -1068,13 +1244,13 @@ public class ManagedConnectionImpl
                     return connection.prepareCachedStatement(sql, columnIndexes, false);
                 }
             } else {
-                preparedStatement = connection.prepareCachedStatement(sql, columnIndexes, true);
+                preparedStatement = prepareTimed(() -> connection.prepareCachedStatement(sql, columnIndexes, true));
 
                 statementCache.addToCache(key, preparedStatement, false);
                 preparedStatement.setBusy(true);
             }
 
-            return preparedStatement;
+            return shareMetaData(key, preparedStatement);
         }
 
         return connection.prepareCachedStatement(sql, columnIndexes, false);
@@ -1095,7 +1271,7 @@ public class ManagedConnectionImpl
                     // from the cache and prepare a new stmt & add it to cache
                     if (!preparedStatement.isValid()) {
                         statementCache.purge(preparedStatement);
-                        preparedStatement = connection.prepareCachedStatement(sql, autoGeneratedKeys, true);
+                        preparedStatement = prepareTimed(() -> connection.prepareCachedStatement(sql, autoGeneratedKeys, true));
                         preparedStatement.setBusy(true);
                         statementCache.addToCache(key, preparedStatement, false);
                     } else {
@@ -1107,13 +1283,13 @@ public class ManagedConnectionImpl
                     return connection.prepareCachedStatement(sql, autoGeneratedKeys, false);
                 }
             } else {
-                preparedStatement = connection.prepareCachedStatement(sql, autoGeneratedKeys, true);
+                preparedStatement = prepareTimed(() -> connection.prepareCachedStatement(sql, autoGeneratedKeys, true));
 
                 statementCache.addToCache(key, preparedStatement, false);
                 preparedStatement.setBusy(true);
             }
 
-            return preparedStatement;
+            return shareMetaData(key, preparedStatement);
         }
 
         return connection.prepareCachedStatement(sql, autoGeneratedKeys, false);
@@ -1134,7 +1310,8 @@ public class ManagedConnectionImpl
                     // from the cache and prepare a new stmt & add it to cache
                     if (!callableStatement.isValid()) {
                         statementCache.purge(callableStatement);
-                        callableStatement = connection.callableCachedStatement(sql, resultSetType, resultSetConcurrency, true);
+                        callableStatement = prepareTimed(() -> connection.callableCachedStatement(sql, resultSetType,
+                                resultSetConcurrency, true));
                         callableStatement.setBusy(true);
                         statementCache.addToCache(key, callableStatement, false);
                     } else {
@@ -1146,12 +1323,13 @@ public class ManagedConnectionImpl
                     return connection.callableCachedStatement(sql, resultSetType, resultSetConcurrency, false);
                 }
             } else {
-                callableStatement = connection.callableCachedStatement(sql, resultSetType, resultSetConcurrency, true);
+                callableStatement = prepareTimed(() -> connection.callableCachedStatement(sql, resultSetType,
+                        resultSetConcurrency, true));
 
                 statementCache.addToCache(key, callableStatement, false);
                 callableStatement.setBusy(true);
             }
-            return callableStatement;
+            return shareMetaData(key, callableStatement);
         }
 
         return connection.callableCachedStatement(sql, resultSetType, resultSetConcurrency, false);
@@ -1174,8 +1352,8 @@ public class ManagedConnectionImpl
                     // from the cache and prepare a new stmt & add it to cache
                     if (!callableStatement.isValid()) {
                         statementCache.purge(callableStatement);
-                        callableStatement = connection.callableCachedStatement(sql, resultSetType, resultSetConcurrency,
-                                resultSetHoldability, true);
+                        callableStatement = prepareTimed(() -> connection.callableCachedStatement(sql, resultSetType,
+                                resultSetConcurrency, resultSetHoldability, true));
                         callableStatement.setBusy(true);
                         statementCache.addToCache(key, callableStatement, false);
                     } else {
@@ -1188,14 +1366,14 @@ public class ManagedConnectionImpl
                             resultSetHoldability, false);
                 }
             } else {
-                callableStatement = connection.callableCachedStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability,
-                        true);
+                callableStatement = prepareTimed(() -> connection.callableCachedStatement(sql, resultSetType,
+                        resultSetConcurrency, resultSetHoldability, true));
 
                 statementCache.addToCache(key, callableStatement, false);
                 callableStatement.setBusy(true);
             }
 
-            return callableStatement;
+            return shareMetaData(key, callableStatement);
         }
 
         return connection.callableCachedStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability, false);
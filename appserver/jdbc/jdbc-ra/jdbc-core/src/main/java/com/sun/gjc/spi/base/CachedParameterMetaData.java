@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.gjc.spi.base;
+
+import java.sql.ParameterMetaData;
+import java.sql.SQLException;
+
+/**
+ * Immutable copy of the driver's {@link ParameterMetaData}.
+ * <p>
+ * The copy does not reference the physical connection, so it can be shared by all connections
+ * of the pool.
+ */
+public final class CachedParameterMetaData implements ParameterMetaData {
+
+    private final Parameter[] parameters;
+
+    /**
+     * Copies all parameter attributes of the given metadata.
+     *
+     * @param metaData driver's metadata
+     * @throws SQLException if the driver does not provide any of the attributes
+     */
+    public CachedParameterMetaData(ParameterMetaData metaData) throws SQLException {
+        parameters = new Parameter[metaData.getParameterCount()];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = new Parameter(metaData, i + 1);
+        }
+    }
+
+    @Override
+    public int getParameterCount() {
+        return parameters.length;
+    }
+
+    @Override
+    public int isNullable(int param) throws SQLException {
+        return getParameter(param).nullable;
+    }
+
+    @Override
+    public boolean isSigned(int param) throws SQLException {
+        return getParameter(param).signed;
+    }
+
+    @Override
+    public int getPrecision(int param) throws SQLException {
+        return getParameter(param).precision;
+    }
+
+    @Override
+    public int getScale(int param) throws SQLException {
+        return getParameter(param).scale;
+    }
+
+    @Override
+    public int getParameterType(int param) throws SQLException {
+        return getParameter(param).type;
+    }
+
+    @Override
+    public String getParameterTypeName(int param) throws SQLException {
+        return getParameter(param).typeName;
+    }
+
+    @Override
+    public String getParameterClassName(int param) throws SQLException {
+        return getParameter(param).className;
+    }
+
+    @Override
+    public int getParameterMode(int param) throws SQLException {
+        return getParameter(param).mode;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Cached metadata does not wrap " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    private Parameter getParameter(int param) throws SQLException {
+        if (param < 1 || param > parameters.length) {
+            throw new SQLException("Invalid parameter index: " + param);
+        }
+        return parameters[param - 1];
+    }
+
+    private static final class Parameter {
+
+        private final int nullable;
+        private final boolean signed;
+        private final int precision;
+        private final int scale;
+        private final int type;
+        private final String typeName;
+        private final String className;
+        private final int mode;
+
+        Parameter(ParameterMetaData metaData, int param) throws SQLException {
+            nullable = metaData.isNullable(param);
+            signed = metaData.isSigned(param);
+            precision = metaData.getPrecision(param);
+            scale = metaData.getScale(param);
+            type = metaData.getParameterType(param);
+            typeName = metaData.getParameterTypeName(param);
+            className = metaData.getParameterClassName(param);
+            mode = metaData.getParameterMode(param);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.gjc.spi.base;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * Immutable copy of the driver's {@link ResultSetMetaData}.
+ * <p>
+ * The copy does not reference the physical connection, so it can be shared by all connections
+ * of the pool.
+ */
+public final class CachedResultSetMetaData implements ResultSetMetaData {
+
+    private final Column[] columns;
+
+    /**
+     * Copies all column attributes of the given metadata.
+     *
+     * @param metaData driver's metadata
+     * @throws SQLException if the driver does not provide any of the attributes
+     */
+    public CachedResultSetMetaData(ResultSetMetaData metaData) throws SQLException {
+        columns = new Column[metaData.getColumnCount()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new Column(metaData, i + 1);
+        }
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    @Override
+    public boolean isAutoIncrement(int column) throws SQLException {
+        return getColumn(column).autoIncrement;
+    }
+
+    @Override
+    public boolean isCaseSensitive(int column) throws SQLException {
+        return getColumn(column).caseSensitive;
+    }
+
+    @Override
+    public boolean isSearchable(int column) throws SQLException {
+        return getColumn(column).searchable;
+    }
+
+    @Override
+    public boolean isCurrency(int column) throws SQLException {
+        return getColumn(column).currency;
+    }
+
+    @Override
+    public int isNullable(int column) throws SQLException {
+        return getColumn(column).nullable;
+    }
+
+    @Override
+    public boolean isSigned(int column) throws SQLException {
+        return getColumn(column).signed;
+    }
+
+    @Override
+    public int getColumnDisplaySize(int column) throws SQLException {
+        return getColumn(column).displaySize;
+    }
+
+    @Override
+    public String getColumnLabel(int column) throws SQLException {
+        return getColumn(column).label;
+    }
+
+    @Override
+    public String getColumnName(int column) throws SQLException {
+        return getColumn(column).name;
+    }
+
+    @Override
+    public String getSchemaName(int column) throws SQLException {
+        return getColumn(column).schemaName;
+    }
+
+    @Override
+    public int getPrecision(int column) throws SQLException {
+        return getColumn(column).precision;
+    }
+
+    @Override
+    public int getScale(int column) throws SQLException {
+        return getColumn(column).scale;
+    }
+
+    @Override
+    public String getTableName(int column) throws SQLException {
+        return getColumn(column).tableName;
+    }
+
+    @Override
+    public String getCatalogName(int column) throws SQLException {
+        return getColumn(column).catalogName;
+    }
+
+    @Override
+    public int getColumnType(int column) throws SQLException {
+        return getColumn(column).type;
+    }
+
+    @Override
+    public String getColumnTypeName(int column) throws SQLException {
+        return getColumn(column).typeName;
+    }
+
+    @Override
+    public boolean isReadOnly(int column) throws SQLException {
+        return getColumn(column).readOnly;
+    }
+
+    @Override
+    public boolean isWritable(int column) throws SQLException {
+        return getColumn(column).writable;
+    }
+
+    @Override
+    public boolean isDefinitelyWritable(int column) throws SQLException {
+        return getColumn(column).definitelyWritable;
+    }
+
+    @Override
+    public String getColumnClassName(int column) throws SQLException {
+        return getColumn(column).className;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Cached metadata does not wrap " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    private Column getColumn(int column) throws SQLException {
+        if (column < 1 || column > columns.length) {
+            throw new SQLException("Invalid column index: " + column);
+        }
+        return columns[column - 1];
+    }
+
+    private static final class Column {
+
+        private final boolean autoIncrement;
+        private final boolean caseSensitive;
+        private final boolean searchable;
+        private final boolean currency;
+        private final int nullable;
+        private final boolean signed;
+        private final int displaySize;
+        private final String label;
+        private final String name;
+        private final String schemaName;
+        private final int precision;
+        private final int scale;
+        private final String tableName;
+        private final String catalogName;
+        private final int type;
+        private final String typeName;
+        private final boolean readOnly;
+        private final boolean writable;
+        private final boolean definitelyWritable;
+        private final String className;
+
+        Column(ResultSetMetaData metaData, int column) throws SQLException {
+            autoIncrement = metaData.isAutoIncrement(column);
+            caseSensitive = metaData.isCaseSensitive(column);
+            searchable = metaData.isSearchable(column);
+            currency = metaData.isCurrency(column);
+            nullable = metaData.isNullable(column);
+            signed = metaData.isSigned(column);
+            displaySize = metaData.getColumnDisplaySize(column);
+            label = metaData.getColumnLabel(column);
+            name = metaData.getColumnName(column);
+            schemaName = metaData.getSchemaName(column);
+            precision = metaData.getPrecision(column);
+            scale = metaData.getScale(column);
+            tableName = metaData.getTableName(column);
+            catalogName = metaData.getCatalogName(column);
+            type = metaData.getColumnType(column);
+            typeName = metaData.getColumnTypeName(column);
+            readOnly = metaData.isReadOnly(column);
+            writable = metaData.isWritable(column);
+            definitelyWritable = metaData.isDefinitelyWritable(column);
+            className = metaData.getColumnClassName(column);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -18,6 +18,7 @@
 package com.sun.gjc.spi.base;
 
 
+import com.sun.gjc.spi.base.datastructure.StatementMetaData;
 import com.sun.gjc.util.ResultSetClosedEventListener;
 
 import java.io.InputStream;
@@ -58,6 +59,7 @@ public abstract class PreparedStatementWrapper extends StatementWrapper implemen
     private int currentFetchDirection;
     private int currentFetchSize;
     private boolean valid = true;
+    private StatementMetaData sharedMetaData;
 
     /**
      * Abstract class for wrapping PreparedStatement <br>
@@ -109,7 +111,12 @@ public abstract class PreparedStatementWrapper extends StatementWrapper implemen
      */
     @Override
     public int executeUpdate() throws SQLException {
-        return preparedStatement.executeUpdate();
+        try {
+            return preparedStatement.executeUpdate();
+        } catch (SQLException e) {
+            executionFailed();
+            throw e;
+        }
     }
 
     /**
@@ -513,7 +520,12 @@ public abstract class PreparedStatementWrapper extends StatementWrapper implemen
      */
     @Override
     public boolean execute() throws SQLException {
-        return preparedStatement.execute();
+        try {
+            return preparedStatement.execute();
+        } catch (SQLException e) {
+            executionFailed();
+            throw e;
+        }
     }
 
     /**
@@ -638,6 +650,9 @@ public abstract class PreparedStatementWrapper extends StatementWrapper implemen
      */
     @Override
     public ResultSetMetaData getMetaData() throws SQLException {
+        if (sharedMetaData != null) {
+            return sharedMetaData.getResultSetMetaData(preparedStatement);
+        }
         return preparedStatement.getMetaData();
     }
 
@@ -765,9 +780,36 @@ public abstract class PreparedStatementWrapper extends StatementWrapper implemen
      */
     @Override
     public ParameterMetaData getParameterMetaData() throws SQLException {
+        if (sharedMetaData != null) {
+            return sharedMetaData.getParameterMetaData(preparedStatement);
+        }
         return preparedStatement.getParameterMetaData();
     }
 
+    /**
+     * @return metadata shared by all connections of the pool, null if not shared
+     */
+    public StatementMetaData getSharedMetaData() {
+        return sharedMetaData;
+    }
+
+    /**
+     * @param sharedMetaData metadata shared by all connections of the pool, null to disable sharing
+     */
+    public void setSharedMetaData(StatementMetaData sharedMetaData) {
+        this.sharedMetaData = sharedMetaData;
+    }
+
+    /**
+     * Called when the execution of the statement failed. The schema could have changed, so the
+     * shared metadata of the statement is dropped.
+     */
+    protected void executionFailed() {
+        if (sharedMetaData != null) {
+            sharedMetaData.invalidate();
+        }
+    }
+
     public boolean isBusy() {
         return busy;
     }
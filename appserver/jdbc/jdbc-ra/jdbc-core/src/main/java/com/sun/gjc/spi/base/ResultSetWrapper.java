@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -16,6 +17,7 @@
 
 package com.sun.gjc.spi.base;
 
+import com.sun.gjc.spi.base.datastructure.StatementMetaData;
 import com.sun.gjc.util.MethodExecutor;
 import com.sun.gjc.util.ResultSetClosedEventListener;
 import com.sun.logging.LogDomains;
@@ -50,6 +52,7 @@ public abstract class ResultSetWrapper implements ResultSet {
     protected ResultSet resultSet;
     protected Statement statement;
     private MethodExecutor executor;
+    private StatementMetaData sharedMetaData;
 
     private ResultSetClosedEventListener eventListener;
 
@@ -720,7 +723,19 @@ public abstract class ResultSetWrapper implements ResultSet {
      * @throws java.sql.SQLException if a database access error occurs
      */
     public ResultSetMetaData getMetaData() throws SQLException {
-        return resultSet.getMetaData();
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        if (sharedMetaData != null) {
+            // The live metadata is at hand, use it to keep the copy shared by the statements up to date
+            sharedMetaData.validate(metaData);
+        }
+        return metaData;
+    }
+
+    /**
+     * @param sharedMetaData metadata of the query shared by all connections of the pool
+     */
+    public void setSharedMetaData(StatementMetaData sharedMetaData) {
+        this.sharedMetaData = sharedMetaData;
     }
 
     /**
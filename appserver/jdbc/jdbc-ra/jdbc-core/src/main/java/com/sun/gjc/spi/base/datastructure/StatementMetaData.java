@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.gjc.spi.base.datastructure;
+
+import com.sun.gjc.spi.base.CacheObjectKey;
+import com.sun.gjc.spi.base.CachedParameterMetaData;
+import com.sun.gjc.spi.base.CachedResultSetMetaData;
+import com.sun.logging.LogDomains;
+
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Metadata of one cached statement shared by all connections of the pool.
+ * <p>
+ * The metadata is copied from the driver by the first connection which asks for it. If the
+ * driver does not support any of the attributes, the driver's metadata is returned and nothing
+ * is shared.
+ */
+public class StatementMetaData {
+
+    private static final Logger LOG = LogDomains.getLogger(StatementMetaData.class, LogDomains.RSR_LOGGER);
+
+    private final CacheObjectKey key;
+    private final LongAdder uses = new LongAdder();
+    private volatile boolean referenced;
+    private volatile ResultSetMetaData resultSetMetaData;
+    private volatile ParameterMetaData parameterMetaData;
+    private volatile boolean resultSetMetaDataUnsupported;
+    private volatile boolean parameterMetaDataUnsupported;
+
+    StatementMetaData(CacheObjectKey key) {
+        this.key = key;
+    }
+
+    /**
+     * @return key the statement is cached under, it describes how to prepare the statement
+     */
+    public CacheObjectKey getKey() {
+        return key;
+    }
+
+    /**
+     * @return how many times the statement was obtained from any connection's statement cache
+     */
+    public long getUses() {
+        return uses.sum();
+    }
+
+    void used() {
+        uses.increment();
+        referenced = true;
+    }
+
+    /**
+     * @return true if the statement was used since the last call
+     */
+    boolean clearReferenced() {
+        boolean wasReferenced = referenced;
+        referenced = false;
+        return wasReferenced;
+    }
+
+    /**
+     * Drops the shared metadata, it is copied from the driver again by the next connection which
+     * asks for it. Called when the execution of the statement failed, the schema could have changed.
+     * Changed columns of a successful query are detected by {@link #validate(ResultSetMetaData)}.
+     */
+    public void invalidate() {
+        resultSetMetaData = null;
+        parameterMetaData = null;
+        resultSetMetaDataUnsupported = false;
+        parameterMetaDataUnsupported = false;
+    }
+
+    /**
+     * @param statement statement of this entry
+     * @return shared metadata of the result set, or the driver's if it cannot be shared
+     * @throws SQLException if the driver failed
+     */
+    public ResultSetMetaData getResultSetMetaData(PreparedStatement statement) throws SQLException {
+        ResultSetMetaData metaData = resultSetMetaData;
+        if (metaData != null) {
+            return metaData;
+        }
+        return share(statement.getMetaData());
+    }
+
+    /**
+     * Compares the shared metadata with the metadata of a result set of this entry's query and
+     * copies it again if the columns changed, for example when a column was added to a table
+     * queried by <code>SELECT *</code>. Such a change does not make the execution fail.
+     *
+     * @param metaData the driver's metadata of a result set of this entry's query
+     * @throws SQLException if the driver failed
+     */
+    public void validate(ResultSetMetaData metaData) throws SQLException {
+        ResultSetMetaData shared = resultSetMetaData;
+        if (metaData == null || shared == null || sameColumns(shared, metaData)) {
+            return;
+        }
+        LOG.log(Level.FINE, "Columns of the statement changed, result set metadata is copied again: {0}", key.getSql());
+        resultSetMetaData = null;
+        share(metaData);
+    }
+
+    private static boolean sameColumns(ResultSetMetaData shared, ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        if (shared.getColumnCount() != columnCount) {
+            return false;
+        }
+        for (int column = 1; column <= columnCount; column++) {
+            if (shared.getColumnType(column) != metaData.getColumnType(column)
+                || !Objects.equals(shared.getColumnName(column), metaData.getColumnName(column))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param statement statement of this entry
+     * @return shared metadata of the parameters, or the driver's if it cannot be shared
+     * @throws SQLException if the driver failed
+     */
+    public ParameterMetaData getParameterMetaData(PreparedStatement statement) throws SQLException {
+        ParameterMetaData metaData = parameterMetaData;
+        if (metaData != null) {
+            return metaData;
+        }
+        metaData = statement.getParameterMetaData();
+        if (metaData == null || parameterMetaDataUnsupported) {
+            return metaData;
+        }
+        try {
+            parameterMetaData = new CachedParameterMetaData(metaData);
+            return parameterMetaData;
+        } catch (SQLException e) {
+            LOG.log(Level.FINE, "Parameter metadata of the statement cannot be shared: " + key.getSql(), e);
+            parameterMetaDataUnsupported = true;
+            return metaData;
+        }
+    }
+
+    private ResultSetMetaData share(ResultSetMetaData metaData) {
+        if (metaData == null || resultSetMetaDataUnsupported) {
+            return metaData;
+        }
+        try {
+            resultSetMetaData = new CachedResultSetMetaData(metaData);
+            return resultSetMetaData;
+        } catch (SQLException e) {
+            LOG.log(Level.FINE, "Result set metadata of the statement cannot be shared: " + key.getSql(), e);
+            resultSetMetaDataUnsupported = true;
+            return metaData;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.gjc.spi.base.datastructure;
+
+import com.sun.gjc.spi.base.CacheObjectKey;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool-wide cache of statement metadata.
+ * <p>
+ * Statement caches of the connections are independent, each connection prepares its own
+ * statements. This cache is shared by all connections of the pool and keeps what does not depend
+ * on the physical connection: the metadata of the result set and parameters, and the key which
+ * describes how to prepare the statement, including its generated keys settings. It also counts
+ * uses of the statements, so a new connection can prepare just the hottest statements of the pool
+ * in advance.
+ * <p>
+ * When the cache is full, an entry is evicted by a clock: entries are visited in insertion order,
+ * an entry used since the last visit gets a second chance, the first one which was not used is
+ * dropped. The cache is cleared when the last connection of the pool is destroyed, for example
+ * when the pool is flushed.
+ */
+public class StatementMetaDataCache {
+
+    private final ConcurrentHashMap<CacheObjectKey, StatementMetaData> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<StatementMetaData> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final int maxSize;
+
+    /**
+     * @param maxSize maximal count of statements with metadata
+     */
+    public StatementMetaDataCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Records a use of the statement.
+     *
+     * @param key key of the statement in the connection's statement cache
+     * @return shared metadata of the statement, never null
+     */
+    public StatementMetaData get(CacheObjectKey key) {
+        StatementMetaData metaData = entries.get(key);
+        if (metaData == null) {
+            if (entries.size() >= maxSize) {
+                evictOne();
+            }
+            StatementMetaData created = new StatementMetaData(key);
+            metaData = entries.putIfAbsent(key, created);
+            if (metaData == null) {
+                metaData = created;
+                clock.offer(created);
+            }
+        }
+        metaData.used();
+        return metaData;
+    }
+
+    /**
+     * Does not record a use of the statement.
+     *
+     * @param key key of the statement in the connection's statement cache
+     * @return shared metadata of the statement, null if the statement is not in the cache
+     */
+    public StatementMetaData peek(CacheObjectKey key) {
+        return entries.get(key);
+    }
+
+    /**
+     * @param count maximal count of returned keys
+     * @param minUses statements used less often are not returned
+     * @return keys of the most used statements, the most used first
+     */
+    public List<CacheObjectKey> getMostUsed(int count, long minUses) {
+        List<StatementMetaData> candidates = new ArrayList<>(entries.size());
+        for (StatementMetaData metaData : entries.values()) {
+            if (metaData.getUses() >= minUses) {
+                candidates.add(metaData);
+            }
+        }
+        candidates.sort(Comparator.comparingLong(StatementMetaData::getUses).reversed());
+        List<CacheObjectKey> keys = new ArrayList<>(Math.min(count, candidates.size()));
+        for (StatementMetaData metaData : candidates) {
+            if (keys.size() == count) {
+                break;
+            }
+            keys.add(metaData.getKey());
+        }
+        return keys;
+    }
+
+    /**
+     * Called when a connection of the pool was created.
+     */
+    public void connectionCreated() {
+        connections.incrementAndGet();
+    }
+
+    /**
+     * Called when a connection of the pool was destroyed. When no connection is left, the metadata
+     * is dropped, the database could have changed in the meantime.
+     */
+    public void connectionDestroyed() {
+        if (connections.decrementAndGet() <= 0) {
+            clear();
+        }
+    }
+
+    public int getSize() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void clear() {
+        entries.clear();
+        clock.clear();
+    }
+
+    private void evictOne() {
+        // Each entry is visited at most twice, the second visit finds it unused
+        for (int visited = 0, limit = 2 * maxSize + 1; visited < limit; visited++) {
+            StatementMetaData candidate = clock.poll();
+            if (candidate == null) {
+                return;
+            }
+            if (entries.get(candidate.getKey()) != candidate) {
+                // Already removed by clear
+                continue;
+            }
+            if (candidate.clearReferenced()) {
+                clock.offer(candidate);
+                continue;
+            }
+            entries.remove(candidate.getKey(), candidate);
+            return;
+        }
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.gjc.spi.base.datastructure;
+
+import com.sun.gjc.monitoring.StatementCacheProbeProvider;
+import com.sun.gjc.spi.base.CacheObjectKey;
+import com.sun.gjc.spi.base.PreparedStatementWrapper;
+import com.sun.logging.LogDomains;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.resourcebase.resources.api.PoolInfo;
+
+/**
+ * Statement cache with W-TinyLFU style admission and lock striping.
+ * <p>
+ * Keys are spread over independent segments, each guarded by its own lock. Every segment keeps
+ * a small admission window and a main area, both in access order, so the eviction candidate is
+ * always the eldest entry and eviction is O(1). An entry leaving the window is admitted to a full
+ * main area only if its estimated access frequency is higher than the frequency of the main area's
+ * eviction victim. Frequencies are estimated by a small count-min sketch which is periodically
+ * halved, so the cache adapts when the working set changes.
+ * <p>
+ * Evicted statements are marked as not cached, and closed unless they are just used by
+ * the application. In that case they are closed by the application.
+ */
+public class TinyLFUCacheImpl implements Cache {
+
+    private static final Logger LOG = LogDomains.getLogger(TinyLFUCacheImpl.class, LogDomains.RSR_LOGGER);
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_CAPACITY = 8;
+
+    private final PoolInfo poolInfo;
+    private final int maxSize;
+    private final Segment[] segments;
+    private final int segmentMask;
+    private StatementCacheProbeProvider probeProvider;
+
+    public TinyLFUCacheImpl(PoolInfo poolInfo, int maxSize) {
+        this.poolInfo = poolInfo;
+        this.maxSize = maxSize;
+
+        int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(Math.max(1, maxSize / MIN_SEGMENT_CAPACITY)));
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        for (int i = 0; i < segmentCount; i++) {
+            int capacity = maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0);
+            segments[i] = new Segment(Math.max(1, capacity));
+        }
+
+        try {
+            probeProvider = new StatementCacheProbeProvider();
+        } catch (Exception ex) {
+            LOG.log(Level.FINE, "Statement cache probe provider is not available", ex);
+        }
+    }
+
+    @Override
+    public Object checkAndUpdateCache(CacheObjectKey key) {
+        Object result = segmentFor(key).get(key);
+        if (probeProvider != null) {
+            if (result == null) {
+                probeProvider.statementCacheMissEvent(poolInfo.getName().toString(), poolInfo.getApplicationName(),
+                    poolInfo.getModuleName());
+            } else {
+                probeProvider.statementCacheHitEvent(poolInfo.getName().toString(), poolInfo.getApplicationName(),
+                    poolInfo.getModuleName());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void addToCache(CacheObjectKey key, Object entry, boolean force) {
+        List<Object> evicted = new ArrayList<>(1);
+        Object replaced = segmentFor(key).put(key, entry, force, evicted);
+        if (replaced != null && replaced != entry) {
+            release(replaced);
+        }
+        for (Object statement : evicted) {
+            if (probeProvider != null) {
+                probeProvider.statementCacheEvictionEvent(poolInfo.getName().toString(), poolInfo.getApplicationName(),
+                    poolInfo.getModuleName());
+            }
+            release(statement);
+        }
+    }
+
+    @Override
+    public void clearCache() {
+        LOG.fine("clearing objects in cache");
+        for (Segment segment : segments) {
+            segment.removeAll();
+        }
+    }
+
+    @Override
+    public void purge() {
+        for (Segment segment : segments) {
+            Object statement = segment.removeEldest();
+            if (statement != null) {
+                close(statement);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void flushCache() {
+        for (Segment segment : segments) {
+            for (Object statement : segment.removeAll()) {
+                close(statement);
+            }
+        }
+    }
+
+    @Override
+    public int getSize() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isSynchronized() {
+        return true;
+    }
+
+    @Override
+    public void purge(Object entry) {
+        for (Segment segment : segments) {
+            if (segment.remove(entry)) {
+                LOG.log(Level.FINEST, "Purging an entry from cache");
+                close(entry);
+                return;
+            }
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private Segment segmentFor(CacheObjectKey key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    /**
+     * Releases a statement which left the cache by eviction or replacement.
+     */
+    private void release(Object statement) {
+        if (isBusy(statement)) {
+            // The application closes it.
+            ((PreparedStatementWrapper) statement).setCached(false);
+            return;
+        }
+        close(statement);
+    }
+
+    boolean isBusy(Object statement) {
+        return ((PreparedStatementWrapper) statement).isBusy();
+    }
+
+    void close(Object statement) {
+        PreparedStatementWrapper preparedStatement = (PreparedStatementWrapper) statement;
+        try {
+            preparedStatement.setCached(false);
+            preparedStatement.close();
+        } catch (SQLException e) {
+            LOG.log(Level.FINEST, "Failed to close the statement removed from the cache", e);
+        }
+    }
+
+    /**
+     * Independent part of the cache guarded by its own lock.
+     */
+    private static final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<CacheObjectKey, Object> window = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<CacheObjectKey, Object> main = new LinkedHashMap<>(16, 0.75f, true);
+        private final Map<Object, CacheObjectKey> keysByStatement = new IdentityHashMap<>();
+        private final FrequencySketch sketch;
+        private final int windowCapacity;
+        private final int mainCapacity;
+
+        Segment(int capacity) {
+            this.windowCapacity = Math.max(1, capacity / 100);
+            this.mainCapacity = capacity - windowCapacity;
+            this.sketch = new FrequencySketch(capacity);
+        }
+
+        Object get(CacheObjectKey key) {
+            lock.lock();
+            try {
+                sketch.increment(key);
+                Object statement = window.get(key);
+                return statement == null ? main.get(key) : statement;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Adds the statement, the statements evicted to make room for it are added to the evicted list.
+         *
+         * @return the statement which was replaced under the same key, null if there was none
+         */
+        Object put(CacheObjectKey key, Object statement, boolean force, List<Object> evicted) {
+            lock.lock();
+            try {
+                if (!force && (window.containsKey(key) || main.containsKey(key))) {
+                    return null;
+                }
+                Object replaced = window.remove(key);
+                if (replaced == null) {
+                    replaced = main.remove(key);
+                }
+                if (replaced != null) {
+                    keysByStatement.remove(replaced);
+                }
+
+                window.put(key, statement);
+                keysByStatement.put(statement, key);
+                if (window.size() <= windowCapacity) {
+                    return replaced;
+                }
+
+                Iterator<Map.Entry<CacheObjectKey, Object>> windowIterator = window.entrySet().iterator();
+                Map.Entry<CacheObjectKey, Object> candidate = windowIterator.next();
+                windowIterator.remove();
+                if (main.size() < mainCapacity) {
+                    main.put(candidate.getKey(), candidate.getValue());
+                    return replaced;
+                }
+
+                Iterator<Map.Entry<CacheObjectKey, Object>> mainIterator = main.entrySet().iterator();
+                if (mainIterator.hasNext()) {
+                    Map.Entry<CacheObjectKey, Object> victim = mainIterator.next();
+                    if (sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey())) {
+                        mainIterator.remove();
+                        main.put(candidate.getKey(), candidate.getValue());
+                        keysByStatement.remove(victim.getValue());
+                        evicted.add(victim.getValue());
+                        return replaced;
+                    }
+                }
+                keysByStatement.remove(candidate.getValue());
+                evicted.add(candidate.getValue());
+                return replaced;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean remove(Object statement) {
+            lock.lock();
+            try {
+                CacheObjectKey key = keysByStatement.remove(statement);
+                if (key == null) {
+                    return false;
+                }
+                if (window.remove(key) == null) {
+                    main.remove(key);
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Object removeEldest() {
+            lock.lock();
+            try {
+                Map<CacheObjectKey, Object> area = main.isEmpty() ? window : main;
+                Iterator<Object> iterator = area.values().iterator();
+                if (!iterator.hasNext()) {
+                    return null;
+                }
+                Object statement = iterator.next();
+                iterator.remove();
+                keysByStatement.remove(statement);
+                return statement;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<Object> removeAll() {
+            lock.lock();
+            try {
+                List<Object> statements = new ArrayList<>(keysByStatement.keySet());
+                window.clear();
+                main.clear();
+                keysByStatement.clear();
+                return statements;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return window.size() + main.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Count-min sketch with 4 rows of saturating 4-bit counters. All counters are halved after
+     * a sample of additions, so the old popularity fades out.
+     */
+    static final class FrequencySketch {
+
+        private static final int[] SEEDS = {0x97cb3127, 0x0ba3bb59, 0x8e6a3f35, 0x5bd1e995};
+        private static final int MAX_FREQUENCY = 15;
+
+        private final byte[] table;
+        private final int shift;
+        private final int width;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int capacity) {
+            this.width = Integer.highestOneBit(Math.max(16, capacity * 2) - 1) << 1;
+            this.shift = 32 - Integer.numberOfTrailingZeros(width);
+            this.table = new byte[width * SEEDS.length];
+            this.sampleSize = 10 * Math.max(capacity, 16);
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = MAX_FREQUENCY;
+            for (int i = 0; i < SEEDS.length; i++) {
+                frequency = Math.min(frequency, table[indexOf(hash, i)]);
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            for (int i = 0; i < SEEDS.length; i++) {
+                int index = indexOf(hash, i);
+                if (table[index] < MAX_FREQUENCY) {
+                    table[index]++;
+                }
+            }
+            if (++additions >= sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] >>= 1;
+                }
+                additions /= 2;
+            }
+        }
+
+        private int indexOf(int hash, int row) {
+            return row * width + ((hash * SEEDS[row]) >>> shift);
+        }
+
+        private static int spread(int hash) {
+            hash ^= hash >>> 17;
+            hash *= 0xed5ad4bb;
+            return hash ^ (hash >>> 11);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.gjc.spi.base.datastructure;
+
+import com.sun.gjc.spi.base.CacheObjectKey;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class StatementMetaDataCacheTest {
+
+    @Test
+    public void sameMetaDataIsSharedAndUsesAreCounted() {
+        StatementMetaDataCache cache = new StatementMetaDataCache(4);
+        StatementMetaData first = cache.get(key("select 1"));
+        StatementMetaData second = cache.get(key("select 1"));
+        assertSame(first, second);
+        assertEquals(2, first.getUses());
+
+        assertSame(first, cache.peek(key("select 1")));
+        assertEquals(2, first.getUses());
+        assertNull(cache.peek(key("select 2")));
+    }
+
+    @Test
+    public void unusedEntryIsEvicted() {
+        StatementMetaDataCache cache = new StatementMetaDataCache(3);
+        cache.get(key("select 1"));
+        cache.get(key("select 2"));
+        cache.get(key("select 3"));
+        // The first visit of the clock clears the references, the used entries get a second chance
+        cache.get(key("select 4"));
+        assertEquals(3, cache.getSize());
+        assertNull(cache.peek(key("select 1")));
+
+        cache.get(key("select 3"));
+        cache.get(key("select 5"));
+        assertEquals(3, cache.getSize());
+        assertNull(cache.peek(key("select 2")));
+        assertNotNull(cache.peek(key("select 3")));
+        assertNotNull(cache.peek(key("select 4")));
+        assertNotNull(cache.peek(key("select 5")));
+    }
+
+    @Test
+    public void mostUsedFirst() {
+        StatementMetaDataCache cache = new StatementMetaDataCache(10);
+        use(cache, "select 1", 1);
+        use(cache, "select 2", 5);
+        use(cache, "select 3", 3);
+        use(cache, "select 4", 2);
+
+        assertEquals(List.of(key("select 2"), key("select 3")), cache.getMostUsed(2, 2));
+        assertEquals(List.of(key("select 2"), key("select 3"), key("select 4")), cache.getMostUsed(10, 2));
+    }
+
+    @Test
+    public void clearedWhenLastConnectionIsDestroyed() {
+        StatementMetaDataCache cache = new StatementMetaDataCache(10);
+        cache.connectionCreated();
+        cache.connectionCreated();
+        cache.get(key("select 1"));
+
+        cache.connectionDestroyed();
+        assertEquals(1, cache.getSize());
+        cache.connectionDestroyed();
+        assertEquals(0, cache.getSize());
+
+        cache.get(key("select 2"));
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    public void invalidatedMetaDataIsCopiedAgain() throws Exception {
+        AtomicInteger columnCount = new AtomicInteger(1);
+        PreparedStatement statement = statement(columnCount);
+        StatementMetaData metaData = new StatementMetaDataCache(10).get(key("select * from t"));
+        assertEquals(1, metaData.getResultSetMetaData(statement).getColumnCount());
+
+        columnCount.set(2);
+        assertEquals(1, metaData.getResultSetMetaData(statement).getColumnCount());
+        metaData.invalidate();
+        assertEquals(2, metaData.getResultSetMetaData(statement).getColumnCount());
+    }
+
+    @Test
+    public void changedColumnsOfResultSetAreCopiedAgain() throws Exception {
+        AtomicInteger columnCount = new AtomicInteger(1);
+        PreparedStatement statement = statement(columnCount);
+        StatementMetaData metaData = new StatementMetaDataCache(10).get(key("select * from t"));
+        ResultSetMetaData shared = metaData.getResultSetMetaData(statement);
+
+        // A column was added to the table, the query still succeeds
+        columnCount.set(2);
+        metaData.validate(proxy(ResultSetMetaData.class, new AtomicInteger(1)));
+        assertSame(shared, metaData.getResultSetMetaData(statement));
+
+        metaData.validate(proxy(ResultSetMetaData.class, columnCount));
+        assertEquals(2, metaData.getResultSetMetaData(statement).getColumnCount());
+    }
+
+    private static PreparedStatement statement(AtomicInteger columnCount) {
+        ResultSetMetaData metaData = proxy(ResultSetMetaData.class, columnCount);
+        return (PreparedStatement) Proxy.newProxyInstance(StatementMetaDataCacheTest.class.getClassLoader(),
+            new Class<?>[] {PreparedStatement.class},
+            (proxy, method, args) -> "getMetaData".equals(method.getName()) ? metaData : null);
+    }
+
+    private static <T> T proxy(Class<T> type, AtomicInteger columnCount) {
+        return type.cast(Proxy.newProxyInstance(StatementMetaDataCacheTest.class.getClassLoader(),
+            new Class<?>[] {type}, (proxy, method, args) -> {
+                Class<?> returnType = method.getReturnType();
+                if ("getColumnCount".equals(method.getName())) {
+                    return columnCount.get();
+                } else if (returnType == boolean.class) {
+                    return false;
+                } else if (returnType == int.class) {
+                    return 0;
+                }
+                return null;
+            }));
+    }
+
+    private static void use(StatementMetaDataCache cache, String sql, int uses) {
+        for (int i = 0; i < uses; i++) {
+            cache.get(key(sql));
+        }
+    }
+
+    private static CacheObjectKey key(String sql) {
+        return new CacheObjectKey(sql, CacheObjectKey.PREPARED_STATEMENT, ResultSet.TYPE_FORWARD_ONLY,
+            ResultSet.CONCUR_READ_ONLY);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.gjc.spi.base.datastructure;
+
+import com.sun.gjc.spi.base.CacheObjectKey;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.glassfish.api.naming.SimpleJndiName;
+import org.glassfish.resourcebase.resources.api.PoolInfo;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TinyLFUCacheImplTest {
+
+    @Test
+    public void frequentlyUsedStatementsSurviveScan() {
+        TestCache cache = new TestCache(10);
+        List<CacheObjectKey> hotKeys = new ArrayList<>();
+        // Fills the main area, the admission window is left for the one-off statements
+        for (int i = 0; i < 9; i++) {
+            hotKeys.add(lookupOrAdd(cache, "select hot" + i));
+        }
+        for (int round = 0; round < 14; round++) {
+            for (CacheObjectKey key : hotKeys) {
+                lookupOrAdd(cache, key);
+            }
+        }
+
+        for (int i = 0; i < 100; i++) {
+            lookupOrAdd(cache, "select once" + i);
+        }
+
+        int hits = 0;
+        for (CacheObjectKey key : hotKeys) {
+            if (cache.checkAndUpdateCache(key) != null) {
+                hits++;
+            }
+        }
+        // The sketch is approximate, a one-off colliding with the hot statements may displace one of them
+        assertTrue(hits >= 8, "hits: " + hits);
+        assertEquals(10, cache.getSize());
+    }
+
+    @Test
+    public void evictedStatementsAreClosed() {
+        TestCache cache = new TestCache(10);
+        for (int i = 0; i < 25; i++) {
+            lookupOrAdd(cache, "select " + i);
+        }
+
+        assertEquals(10, cache.getSize());
+        assertEquals(15, cache.closed.size());
+        for (Object statement : cache.closed) {
+            assertNull(cache.checkAndUpdateCache(((TestStatement) statement).key));
+        }
+    }
+
+    @Test
+    public void forcedReplacementClosesReplacedStatement() {
+        TestCache cache = new TestCache(10);
+        CacheObjectKey key = key("select 1");
+        TestStatement first = new TestStatement(key);
+        TestStatement second = new TestStatement(key);
+        cache.addToCache(key, first, false);
+
+        cache.addToCache(key, second, false);
+        assertSame(first, cache.checkAndUpdateCache(key));
+        assertTrue(cache.closed.isEmpty());
+
+        cache.addToCache(key, second, true);
+        assertSame(second, cache.checkAndUpdateCache(key));
+        assertEquals(List.of(first), cache.closed);
+        assertEquals(1, cache.getSize());
+
+        cache.addToCache(key, second, true);
+        assertEquals(List.of(first), cache.closed);
+    }
+
+    @Test
+    public void purgeAndFlushCloseStatements() {
+        TestCache cache = new TestCache(10);
+        for (int i = 0; i < 3; i++) {
+            lookupOrAdd(cache, "select " + i);
+        }
+        Object purged = cache.checkAndUpdateCache(key("select 1"));
+        cache.purge(purged);
+        assertEquals(List.of(purged), cache.closed);
+        assertEquals(2, cache.getSize());
+
+        cache.flushCache();
+        assertEquals(3, cache.closed.size());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void frequenciesDecay() {
+        int capacity = 16;
+        TinyLFUCacheImpl.FrequencySketch sketch = new TinyLFUCacheImpl.FrequencySketch(capacity);
+        CacheObjectKey hot = key("select hot");
+        for (int i = 0; i < 15; i++) {
+            sketch.increment(hot);
+        }
+        assertEquals(15, sketch.frequency(hot));
+
+        // The sketch is halved after 10 * capacity additions
+        int additions = 15;
+        for (int i = 0; additions < 10 * capacity; i++, additions++) {
+            sketch.increment(key("select other" + i));
+        }
+        assertTrue(sketch.frequency(hot) <= 8);
+
+        // A newly popular key overtakes the formerly popular one
+        CacheObjectKey rising = key("select rising");
+        for (int i = 0; i < 12; i++) {
+            sketch.increment(rising);
+        }
+        assertTrue(sketch.frequency(rising) > sketch.frequency(hot));
+    }
+
+    private static CacheObjectKey lookupOrAdd(TestCache cache, String sql) {
+        return lookupOrAdd(cache, key(sql));
+    }
+
+    private static CacheObjectKey lookupOrAdd(TestCache cache, CacheObjectKey key) {
+        if (cache.checkAndUpdateCache(key) == null) {
+            cache.addToCache(key, new TestStatement(key), false);
+        }
+        return key;
+    }
+
+    private static CacheObjectKey key(String sql) {
+        return new CacheObjectKey(sql, CacheObjectKey.PREPARED_STATEMENT, ResultSet.TYPE_FORWARD_ONLY,
+            ResultSet.CONCUR_READ_ONLY);
+    }
+
+    private static final class TestStatement {
+        private final CacheObjectKey key;
+
+        TestStatement(CacheObjectKey key) {
+            this.key = key;
+        }
+    }
+
+    private static final class TestCache extends TinyLFUCacheImpl {
+        private final List<Object> closed = new ArrayList<>();
+
+        TestCache(int maxSize) {
+            super(new PoolInfo(SimpleJndiName.of("jdbc/test")), maxSize);
+        }
+
+        @Override
+        boolean isBusy(Object statement) {
+            return false;
+        }
+
+        @Override
+        void close(Object statement) {
+            closed.add(statement);
+        }
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -653,9 +654,17 @@ public class PreparedStatementWrapper40 extends PreparedStatementWrapper {
      */
     @Override
     public ResultSet executeQuery() throws SQLException {
-        ResultSet resultSet = preparedStatement.executeQuery();
+        ResultSet resultSet;
+        try {
+            resultSet = preparedStatement.executeQuery();
+        } catch (SQLException e) {
+            executionFailed();
+            throw e;
+        }
         incrementResultSetReferenceCount();
-        return new ResultSetWrapper40(this, resultSet);
+        ResultSetWrapper40 resultSetWrapper = new ResultSetWrapper40(this, resultSet);
+        resultSetWrapper.setSharedMetaData(getSharedMetaData());
+        return resultSetWrapper;
     }
 
     /**
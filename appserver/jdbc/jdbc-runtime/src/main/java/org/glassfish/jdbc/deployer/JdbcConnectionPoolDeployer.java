@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -504,6 +504,10 @@ public class JdbcConnectionPoolDeployer implements ResourceDeployer<JdbcConnecti
                     configProperties.add(new ConnectorConfigProperty("TimeToKeepQueriesInMinutes", adminPoolProperty.getValue(), "TimeToKeepQueriesInMinutes",
                             String.class.getName()));
 
+                } else if ("STATEMENT-METADATA-CACHE-SIZE".equals(name.toUpperCase(Locale.getDefault()))) {
+                    configProperties.add(new ConnectorConfigProperty("StatementMetaDataCacheSize", adminPoolProperty.getValue(), "StatementMetaDataCacheSize",
+                            String.class.getName()));
+
                 } else if (mcfConPropKeys.containsKey(name.toUpperCase(Locale.getDefault()))) {
                     configProperties.add(new ConnectorConfigProperty(mcfConPropKeys.get(name.toUpperCase(Locale.getDefault())),
                             adminPoolProperty.getValue() == null ? "" : adminPoolProperty.getValue(), "Some property", String.class.getName()));
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -204,6 +205,10 @@ public interface TransactionService extends ConfigBeanProxy, PropertyBag, Config
             description="Enables last agent optimization, which improves the throughput of transactions. " +
                 "If one non-XA resource is used with XA resources in the same transaction, the non XA resource is the last agent"),
 
+        @PropertyDesc(name="last-resource-commit", defaultValue="none", values={"none", "last-enlisted", "first-enlisted"},
+            description="When no last agent is used, commits one of the XA resources in one phase instead of preparing it: " +
+                "none, the last enlisted or the first enlisted resource"),
+
         @PropertyDesc(name="wait-time-before-recovery-insec", defaultValue="60", dataType=PositiveInteger.class,
             description="Wait time in seconds after which an instance starts the recovery for a dead instance"),
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Contributors to the Eclipse Foundation
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -20,6 +20,8 @@ package com.sun.enterprise.transaction;
 import com.sun.enterprise.transaction.api.JavaEETransaction;
 import com.sun.enterprise.transaction.api.JavaEETransactionManager;
 import com.sun.enterprise.transaction.api.SimpleResource;
+import com.sun.enterprise.transaction.monitoring.TransactionCostTrace;
+import com.sun.enterprise.transaction.monitoring.TransactionCostTrace.Phase;
 import com.sun.enterprise.transaction.spi.TransactionInternal;
 import com.sun.enterprise.transaction.spi.TransactionalResource;
 import com.sun.enterprise.util.Utility;
@@ -122,6 +124,7 @@ public final class JavaEETransactionImpl extends TimerTask implements JavaEETran
     private Map<EntityManagerFactory, SimpleResource> extendedEntityManagerMap;
     private String componentName = null;
     private ArrayList<String> resourceNames = null;
+    private TransactionCostTrace costTrace = null;
 
     // tx-specific ejb container info associated with this tx
     private Object containerData = null;
@@ -302,6 +305,17 @@ public final class JavaEETransactionImpl extends TimerTask implements JavaEETran
         return resourceNames;
     }
 
+    synchronized TransactionCostTrace getCostTrace() {
+        if (costTrace == null) {
+            costTrace = new TransactionCostTrace();
+        }
+        return costTrace;
+    }
+
+    synchronized TransactionCostTrace getCostTraceIfPresent() {
+        return costTrace;
+    }
+
     @Override
     public void addTxEntityManagerMapping(EntityManagerFactory emf, SimpleResource em) {
         getTxEntityManagerMap().put(emf, em);
@@ -515,8 +529,15 @@ public final class JavaEETransactionImpl extends TimerTask implements JavaEETran
 
                 // check if there is a jtsTx active, in case any of the
                 // beforeCompletions registered the first XA resource.
+                TransactionCostTrace trace = getCostTraceIfPresent();
                 if (jtsTx != null) {
-                    jtsTx.commit();
+                    // Let the XA resources and the transaction log record their costs
+                    TransactionCostTrace previous = TransactionCostTrace.setCurrent(trace);
+                    try {
+                        jtsTx.commit();
+                    } finally {
+                        TransactionCostTrace.setCurrent(previous);
+                    }
 
                     // Note: JTS will not call afterCompletions in this case,
                     // because no syncs have been registered with JTS.
@@ -525,7 +546,11 @@ public final class JavaEETransactionImpl extends TimerTask implements JavaEETran
                 } else {
                     // do single-phase commit on nonXA resource
                     if (nonXAResource != null) {
+                        long start = System.nanoTime();
                         nonXAResource.getXAResource().commit(xid, true);
+                        if (trace != null) {
+                            trace.record(nonXAResource.getName(), Phase.COMMIT, System.nanoTime() - start);
+                        }
                     }
 
                 }
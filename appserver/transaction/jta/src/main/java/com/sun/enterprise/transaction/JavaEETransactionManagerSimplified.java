@@ -24,6 +24,9 @@ import com.sun.enterprise.transaction.api.JavaEETransactionManager;
 import com.sun.enterprise.transaction.api.TransactionAdminBean;
 import com.sun.enterprise.transaction.api.XAResourceWrapper;
 import com.sun.enterprise.transaction.config.TransactionService;
+import com.sun.enterprise.transaction.monitoring.TransactionCostTrace;
+import com.sun.enterprise.transaction.monitoring.TransactionCostTrace.Cost;
+import com.sun.enterprise.transaction.monitoring.TransactionCostTrace.Phase;
 import com.sun.enterprise.transaction.monitoring.TransactionServiceProbeProvider;
 import com.sun.enterprise.transaction.monitoring.TransactionServiceStatsProvider;
 import com.sun.enterprise.transaction.spi.JavaEETransactionManagerDelegate;
@@ -49,13 +52,14 @@ import jakarta.transaction.TransactionManager;
 import java.rmi.RemoteException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -123,7 +127,7 @@ public class JavaEETransactionManagerSimplified implements JavaEETransactionMana
 
     // admin and monitoring related parameters
     private static final Hashtable<Integer, String> statusMap = new Hashtable<>();
-    private final List<Transaction> activeTransactions = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Transaction> activeTransactions = ConcurrentHashMap.newKeySet();
     private boolean monitoringEnabled = false;
 
     private TransactionServiceProbeProvider monitor;
@@ -309,10 +313,25 @@ public class JavaEETransactionManagerSimplified implements JavaEETransactionMana
         if (monitoringEnabled) {
             JavaEETransaction tx = getDelegate().getJavaEETransaction(tran);
             if (tx != null) {
-                ((JavaEETransactionImpl) tx).addResourceName(h.getName());
+                JavaEETransactionImpl txImpl = (JavaEETransactionImpl) tx;
+                txImpl.addResourceName(h.getName());
+
+                TransactionCostTrace trace = txImpl.getCostTrace();
+                trace.register(h.getXAResource(), h.getName());
+                long start = System.nanoTime();
+                try {
+                    return enlistTransactionalResource(tran, h);
+                } finally {
+                    trace.record(h.getName(), Phase.ENLIST, System.nanoTime() - start);
+                }
             }
         }
 
+        return enlistTransactionalResource(tran, h);
+    }
+
+    private boolean enlistTransactionalResource(Transaction tran, TransactionalResource h)
+            throws RollbackException, IllegalStateException, SystemException {
         if (!(tran instanceof JavaEETransaction)) {
             return enlistXAResource(tran, h);
         }
@@ -1187,13 +1206,20 @@ public class JavaEETransactionManagerSimplified implements JavaEETransactionMana
 
     private void _monitorTxCompleted(Object obj, boolean committed) {
         if (obj != null) {
+            TransactionCostTrace trace = null;
             if (obj instanceof JavaEETransactionImpl) {
                 JavaEETransactionImpl t = (JavaEETransactionImpl) obj;
+                trace = t.getCostTraceIfPresent();
                 if (!t.isLocalTx()) {
                     obj = t.getJTSTx();
                 }
             }
             if (activeTransactions.remove(obj)) {
+                if (trace != null) {
+                    for (Cost cost : trace.getCosts()) {
+                        monitor.resourceCostEvent(cost.resourceName(), cost.phase().displayName(), cost.nanos());
+                    }
+                }
                 if (committed) {
                     monitor.transactionCommittedEvent();
                 } else {
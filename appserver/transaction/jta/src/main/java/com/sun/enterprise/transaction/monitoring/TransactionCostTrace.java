@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.enterprise.transaction.monitoring;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.transaction.xa.XAResource;
+
+/**
+ * Per-transaction record of the time spent in each resource during enlistment and completion.
+ * <p>
+ * A trace is attached to a transaction only while monitoring is enabled. The code which drives
+ * completion installs the trace as the {@link #current() current} one for the calling thread, so
+ * that the transaction manager internals (XA prepare/commit and the transaction log) can record
+ * their costs without having to know about the owning transaction.
+ */
+public final class TransactionCostTrace {
+
+    /** Name under which forced transaction log writes are reported. */
+    public static final String TRANSACTION_LOG = "transaction-log";
+
+    private static final ThreadLocal<TransactionCostTrace> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The traced phases of a resource.
+     */
+    public enum Phase {
+        ENLIST, PREPARE, COMMIT, LOG_FORCE;
+
+        /**
+         * @return the name used in the monitoring output.
+         */
+        public String displayName() {
+            return name().toLowerCase().replace('_', '-');
+        }
+    }
+
+    /**
+     * Time spent by one resource in one phase.
+     *
+     * @param resourceName the resource name, or {@link #TRANSACTION_LOG}
+     * @param phase the traced phase
+     * @param nanos elapsed time in nanoseconds
+     */
+    public record Cost(String resourceName, Phase phase, long nanos) {
+    }
+
+    private final Map<XAResource, String> names = new IdentityHashMap<>();
+    private final List<Cost> costs = new ArrayList<>();
+
+    /**
+     * Associates the XA resource with the name used when its costs are recorded.
+     *
+     * @param xaRes the enlisted XA resource
+     * @param resourceName name of the resource, usually the JNDI name of the pool
+     */
+    public synchronized void register(XAResource xaRes, String resourceName) {
+        if (xaRes != null && resourceName != null) {
+            names.put(xaRes, resourceName);
+        }
+    }
+
+    /**
+     * Records the time spent by a resource registered by {@link #register(XAResource, String)}.
+     * Resources which were not registered are recorded under their class name.
+     *
+     * @param xaRes the XA resource
+     * @param phase the traced phase
+     * @param nanos elapsed time in nanoseconds
+     */
+    public synchronized void record(XAResource xaRes, Phase phase, long nanos) {
+        String resourceName = names.get(xaRes);
+        if (resourceName == null) {
+            resourceName = xaRes.getClass().getName();
+        }
+        costs.add(new Cost(resourceName, phase, nanos));
+    }
+
+    /**
+     * Records the time spent by a named resource.
+     *
+     * @param resourceName the resource name
+     * @param phase the traced phase
+     * @param nanos elapsed time in nanoseconds
+     */
+    public synchronized void record(String resourceName, Phase phase, long nanos) {
+        costs.add(new Cost(resourceName, phase, nanos));
+    }
+
+    /**
+     * @return a snapshot of the costs recorded so far, in the order they were recorded.
+     */
+    public synchronized List<Cost> getCosts() {
+        return new ArrayList<>(costs);
+    }
+
+    /**
+     * @return the trace installed for the calling thread, or null if completion is not being traced.
+     */
+    public static TransactionCostTrace current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Installs the trace for the calling thread.
+     *
+     * @param trace the trace to install, null to remove the current one
+     * @return the previously installed trace, to be restored when the traced call completes
+     */
+    public static TransactionCostTrace setCurrent(TransactionCostTrace trace) {
+        TransactionCostTrace previous = CURRENT.get();
+        if (trace == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(trace);
+        }
+        return previous;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2009, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -45,6 +45,11 @@ public class TransactionServiceProbeProvider {
     public void transactionRolledbackEvent() {
     }
 
+    @Probe(name = "resource-cost")
+    public void resourceCostEvent(@ProbeParam("resourceName") String resourceName, @ProbeParam("phase") String phase,
+            @ProbeParam("nanos") long nanos) {
+    }
+
     @Probe(name = "freeze")
     public void freezeEvent(@ProbeParam("isFrozen") boolean b) {
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 2009, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -21,6 +21,8 @@ import com.sun.enterprise.transaction.api.JavaEETransactionManager;
 import com.sun.enterprise.transaction.api.TransactionAdminBean;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.logging.Logger;
 
 import org.glassfish.external.probe.provider.annotations.ProbeListener;
@@ -60,6 +62,15 @@ public class TransactionServiceStatsProvider {
             "Provides the IDs of the transactions that are currently active a.k.a. in-flight "
                     + "transactions. Every such transaction can be rolled back after freezing the transaction " + "service.");
 
+    private StringStatisticImpl resourceCosts = new StringStatisticImpl("ResourceCosts", "List",
+            "Provides the time spent by every resource in the enlist, prepare and commit phases "
+                    + "and by the forced transaction log writes of the completed transactions.");
+
+    /**
+     * Cost aggregates keyed by resource name and phase, sorted to keep the output stable.
+     */
+    private final Map<String, CostStats> costs = new ConcurrentSkipListMap<>();
+
     private StringStatisticImpl state = new StringStatisticImpl("State", "String", "Indicates if the transaction service has been frozen.");
 
     private boolean isFrozen = false;
@@ -163,6 +174,40 @@ public class TransactionServiceStatsProvider {
         return inflightTransactions;
     }
 
+    @ManagedAttribute(id = "resourcecosts")
+    @Description("Time spent per resource and transaction phase.")
+    public StringStatistic getResourceCosts() {
+        StringBuffer strBuf = new StringBuffer(1024);
+        if (!costs.isEmpty()) {
+            int resourceNameLength = COLUMN_LENGTH;
+            for (CostStats stats : costs.values()) {
+                if (stats.resourceName.length() >= resourceNameLength) {
+                    resourceNameLength = stats.resourceName.length() + 1;
+                }
+            }
+
+            strBuf.append(LINE_BREAK).append(LINE_BREAK);
+            appendColumn(strBuf, "ResourceName", resourceNameLength);
+            appendColumn(strBuf, "Phase", COLUMN_LENGTH);
+            appendColumn(strBuf, "Count", COLUMN_LENGTH);
+            appendColumn(strBuf, "AverageTime(ms)", COLUMN_LENGTH);
+            strBuf.append("MaxTime(ms) ").append(LINE_BREAK);
+
+            for (CostStats stats : costs.values()) {
+                synchronized (stats) {
+                    appendColumn(strBuf, stats.resourceName, resourceNameLength);
+                    appendColumn(strBuf, stats.phase, COLUMN_LENGTH);
+                    appendColumn(strBuf, String.valueOf(stats.count), COLUMN_LENGTH);
+                    appendColumn(strBuf, String.format("%.3f", stats.totalNanos / 1_000_000.0d / stats.count), COLUMN_LENGTH);
+                    strBuf.append(String.format("%.3f", stats.maxNanos / 1_000_000.0d)).append(LINE_BREAK);
+                }
+            }
+        }
+
+        resourceCosts.setCurrent(strBuf.toString());
+        return resourceCosts;
+    }
+
     @ProbeListener("glassfish:transaction:transaction-service:activated")
     public void transactionActivatedEvent() {
         _logger.fine("=== transaction-service active ++");
@@ -189,11 +234,35 @@ public class TransactionServiceStatsProvider {
         activeCount.decrement();
     }
 
+    @ProbeListener("glassfish:transaction:transaction-service:resource-cost")
+    public void resourceCostEvent(@ProbeParam("resourceName") String resourceName, @ProbeParam("phase") String phase,
+            @ProbeParam("nanos") long nanos) {
+        CostStats stats = costs.computeIfAbsent(resourceName + '\u0000' + phase, k -> new CostStats(resourceName, phase));
+        synchronized (stats) {
+            stats.count++;
+            stats.totalNanos += nanos;
+            stats.maxNanos = Math.max(stats.maxNanos, nanos);
+        }
+    }
+
     @ProbeListener("glassfish:transaction:transaction-service:freeze")
     public void freezeEvent(@ProbeParam("isFrozen") boolean b) {
         isFrozen = b;
     }
 
+    private static final class CostStats {
+        private final String resourceName;
+        private final String phase;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        CostStats(String resourceName, String phase) {
+            this.resourceName = resourceName;
+            this.phase = phase;
+        }
+    }
+
     private void appendColumn(StringBuffer buf, String text, int length) {
         buf.append(text);
         for (int i = text.length(); i < length; i++) {
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.enterprise.transaction.monitoring;
+
+import com.sun.enterprise.transaction.monitoring.TransactionCostTrace.Cost;
+import com.sun.enterprise.transaction.monitoring.TransactionCostTrace.Phase;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.transaction.xa.XAResource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class TransactionCostTraceTest {
+
+    private final TransactionCostTrace trace = new TransactionCostTrace();
+
+    @AfterEach
+    public void removeCurrent() {
+        TransactionCostTrace.setCurrent(null);
+    }
+
+
+    @Test
+    public void recordsCostsInOrderUnderResourceNames() {
+        XAResource first = xaResource();
+        XAResource second = xaResource();
+        trace.register(first, "jdbc/first");
+        trace.register(second, "jdbc/second");
+
+        trace.record(first, Phase.ENLIST, 1L);
+        trace.record(second, Phase.PREPARE, 2L);
+        trace.record(TransactionCostTrace.TRANSACTION_LOG, Phase.LOG_FORCE, 3L);
+        trace.record(first, Phase.COMMIT, 4L);
+
+        assertThat(trace.getCosts(), contains(
+            new Cost("jdbc/first", Phase.ENLIST, 1L),
+            new Cost("jdbc/second", Phase.PREPARE, 2L),
+            new Cost(TransactionCostTrace.TRANSACTION_LOG, Phase.LOG_FORCE, 3L),
+            new Cost("jdbc/first", Phase.COMMIT, 4L)));
+    }
+
+    @Test
+    public void unregisteredResourceIsRecordedUnderItsClassName() {
+        XAResource xaRes = xaResource();
+        trace.register(xaRes, null);
+        trace.register(null, "jdbc/ignored");
+
+        trace.record(xaRes, Phase.PREPARE, 5L);
+
+        assertThat(trace.getCosts(), contains(new Cost(xaRes.getClass().getName(), Phase.PREPARE, 5L)));
+    }
+
+    @Test
+    public void costsAreSnapshots() {
+        List<Cost> costs = trace.getCosts();
+        trace.record("jdbc/first", Phase.ENLIST, 1L);
+
+        assertThat(costs, empty());
+        assertEquals(1, trace.getCosts().size());
+    }
+
+    @Test
+    public void currentTraceIsPerThreadAndRestorable() throws Exception {
+        assertNull(TransactionCostTrace.current());
+
+        assertNull(TransactionCostTrace.setCurrent(trace));
+        assertSame(trace, TransactionCostTrace.current());
+        assertNull(CompletableFuture.supplyAsync(TransactionCostTrace::current).get());
+
+        TransactionCostTrace nested = new TransactionCostTrace();
+        assertSame(trace, TransactionCostTrace.setCurrent(nested));
+        assertSame(nested, TransactionCostTrace.setCurrent(trace));
+        assertSame(trace, TransactionCostTrace.setCurrent(null));
+        assertNull(TransactionCostTrace.current());
+    }
+
+    @Test
+    public void phaseDisplayNames() {
+        assertEquals("enlist", Phase.ENLIST.displayName());
+        assertEquals("log-force", Phase.LOG_FORCE.displayName());
+    }
+
+    private static XAResource xaResource() {
+        return (XAResource) Proxy.newProxyInstance(TransactionCostTraceTest.class.getClassLoader(),
+            new Class<?>[] {XAResource.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Contributors to the Eclipse Foundation
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -528,6 +528,12 @@ public class JavaEETransactionManagerJTSDelegate implements JavaEETransactionMan
                     }
                 }
 
+                value = transactionService.getPropertyValue("last-resource-commit");
+                if (value != null && !Configuration.setLastResourceCommit(value)) {
+                    logger.log(Level.WARNING, "enterprise_distributedtx.invalid_last_resource_commit",
+                            new Object[] {value, Configuration.getLastResourceCommit()});
+                }
+
                 value = transactionService.getPropertyValue("oracle-xa-recovery-workaround");
                 if (value == null || "true".equals(value)) {
                     xaresourcewrappers.put("oracle.jdbc.xa.client.OracleXADataSource", new OracleXAResource());
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1995-1997 IBM Corp. All rights reserved.
  *
@@ -78,6 +79,14 @@ public class Configuration extends Object {
     public static final String COMMIT_ONE_PHASE_DURING_RECOVERY = "commit-one-phase-during-recovery";
     public static final int LAO_PREPARE_OK = TransactionConstants.LAO_PREPARE_OK;
     public final static long COMMIT_RETRY_WAIT = 60000;
+
+    // Values of the last-resource-commit property: which XA resource, if any, is
+    // committed in one phase instead of being prepared when there is no LAO resource
+    public static final String LRC_NONE = "none";
+    public static final String LRC_LAST_ENLISTED = "last-enlisted";
+    public static final String LRC_FIRST_ENLISTED = "first-enlisted";
+    private static volatile String lastResourceCommit =
+        Boolean.getBoolean("com.sun.jts.lastagentcommit") ? LRC_LAST_ENLISTED : LRC_NONE;
     private static boolean isAppClient = true;
 
 /**
@@ -633,6 +642,27 @@ public class Configuration extends Object {
         return retries;
     }
 
+    /**
+     * Sets the last resource commit strategy.
+     *
+     * @param strategy one of {@link #LRC_NONE}, {@link #LRC_LAST_ENLISTED}
+     *   or {@link #LRC_FIRST_ENLISTED}
+     * @return false if the strategy is not known, in which case the current
+     *   one is kept
+     */
+    public static boolean setLastResourceCommit(String strategy) {
+        if (LRC_NONE.equals(strategy) || LRC_LAST_ENLISTED.equals(strategy) ||
+                LRC_FIRST_ENLISTED.equals(strategy)) {
+            lastResourceCommit = strategy;
+            return true;
+        }
+        return false;
+    }
+
+    public static String getLastResourceCommit() {
+        return lastResourceCommit;
+    }
+
     public static void setAsAppClientConatiner(boolean value) {
         isAppClient = value;
     }
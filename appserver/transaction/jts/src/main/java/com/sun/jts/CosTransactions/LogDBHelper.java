@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -16,6 +17,8 @@
 
 package com.sun.jts.CosTransactions;
 
+import com.sun.enterprise.transaction.monitoring.TransactionCostTrace;
+import com.sun.enterprise.transaction.monitoring.TransactionCostTrace.Phase;
 import com.sun.logging.LogDomains;
 
 import java.lang.reflect.Method;
@@ -23,7 +26,9 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -33,6 +38,11 @@ import javax.sql.DataSource;
 
 /** The LogDBHelper class takes care of writing the transaction logs
   *  into database.
+  * <p>
+  * If the {@code com.sun.jts.dblogging.batch.size} system property is greater than one,
+  * records added by concurrent transactions are written together in a single JDBC batch
+  * and database transaction on a non transactional connection, and the deletes of
+  * completed transactions are deferred and purged in batches as well.
   * @author Sun Micro Systems, Inc
 */
 
@@ -63,14 +73,24 @@ class LogDBHelper {
     private static final String createTableStatement =
                  "create table txn_log_table (localtid varchar(20), servername varchar(150), instancename varchar(150), gtrid blob)";
     private static final boolean useNonTxConnectionForAddRecord = Boolean.getBoolean("com.sun.jts.dblogging.use.nontx.connection.for.add");
+    private static final int BATCH_SIZE = Integer.getInteger("com.sun.jts.dblogging.batch.size", 0);
+    private static final int recoveryFetchSize = Integer.getInteger("com.sun.jts.dblogging.recovery.fetchsize", 500);
     private static Logger _logger = LogDomains.getLogger(LogDBHelper.class, LogDomains.TRANSACTION_LOGGER);
     private static LogDBHelper _instance = new LogDBHelper();
 
+    private final int batchSize;
+
+    // Records and deletes waiting for the next batch, guarded by the list of records.
+    private final List<PendingRecord> pendingRecords = new ArrayList<>();
+    private final List<Long> pendingDeletes = new ArrayList<>();
+    private boolean batchInProgress;
+
     static LogDBHelper getInstance() {
         return _instance;
     }
 
     LogDBHelper() {
+        batchSize = BATCH_SIZE;
         instanceName = Configuration.getPropertyValue(Configuration.INSTANCE_NAME);
         if (Configuration.getPropertyValue(Configuration.DB_LOG_RESOURCE) != null) {
             resName = Configuration.getPropertyValue(Configuration.DB_LOG_RESOURCE);
@@ -94,6 +114,17 @@ class LogDBHelper {
         }
     }
 
+    /**
+     * Uses the given data source, which must have a public {@code getNonTxConnection} method.
+     */
+    LogDBHelper(DataSource ds, String serverName, String instanceName, int batchSize) throws NoSuchMethodException {
+        this.ds = ds;
+        this.serverName = serverName;
+        this.instanceName = instanceName;
+        this.batchSize = batchSize;
+        getNonTxConnectionMethod = ds.getClass().getMethod("getNonTxConnection");
+    }
+
     void setServerName() {
         // Add a mapping between the serverName and the instanceName
         String serverName0 = Configuration.getServerName();
@@ -125,6 +156,21 @@ class LogDBHelper {
     }
 
     boolean addRecord(long localTID, byte[] data) {
+        TransactionCostTrace trace = TransactionCostTrace.current();
+        long start = trace != null ? System.nanoTime() : 0L;
+        boolean result;
+        if (ds != null && batchSize > 1) {
+            result = addRecordBatched(new PendingRecord(localTID, data));
+        } else {
+            result = addRecordDirect(localTID, data);
+        }
+        if (trace != null) {
+            trace.record(TransactionCostTrace.TRANSACTION_LOG, Phase.LOG_FORCE, System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    private boolean addRecordDirect(long localTID, byte[] data) {
         if (ds != null) {
             if (_logger.isLoggable(Level.FINE)) {
                 _logger.fine("LogDBHelper.addRecord for localTID: " + localTID);
@@ -167,6 +213,20 @@ class LogDBHelper {
     }
 
     boolean deleteRecord(long localTID) {
+        if (ds != null && batchSize > 1) {
+            // The record of a completed transaction is only needed by the recovery
+            // of a crashed server, which ignores records without in-doubt branches.
+            // Purge it with the next batch instead.
+            boolean purge;
+            synchronized (pendingRecords) {
+                pendingDeletes.add(localTID);
+                purge = pendingDeletes.size() >= batchSize && !batchInProgress;
+            }
+            if (purge) {
+                writeBatches(null);
+            }
+            return true;
+        }
         return deleteRecord(localTID, serverName);
     }
 
@@ -202,6 +262,38 @@ class LogDBHelper {
         return false;
     }
 
+    /**
+     * Writes the deferred deletes, waiting for a batch in progress. Called on shutdown, so that
+     * the records of completed transactions are not left behind.
+     */
+    void flushPendingDeletes() {
+        if (ds == null || batchSize <= 1) {
+            return;
+        }
+        boolean interrupted = false;
+        try {
+            while (true) {
+                synchronized (pendingRecords) {
+                    while (batchInProgress) {
+                        try {
+                            pendingRecords.wait();
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                        }
+                    }
+                    if (pendingDeletes.isEmpty()) {
+                        return;
+                    }
+                }
+                writeBatches(null);
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
 
     Map getGlobalTIDMap() {
         return getGlobalTIDMap(serverName);
@@ -220,7 +312,9 @@ class LogDBHelper {
             try {
                 //conn = ds.getConnection();
                 conn = (Connection)(getNonTxConnectionMethod.invoke(ds, null));
-                prepStmt1 = conn.prepareStatement(selectStatement);
+                prepStmt1 = conn.prepareStatement(selectStatement,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                prepStmt1.setFetchSize(recoveryFetchSize);
                 prepStmt1.setString(1,serverName0); //Configuration.getServerName());
                 rs = prepStmt1.executeQuery();
                 while (rs.next()) {
@@ -309,6 +403,161 @@ class LogDBHelper {
         return serverName0;
     }
 
+    /**
+     * Queues the record and returns when the batch containing it was written, either
+     * by this thread or by the thread writing the batch in progress.
+     */
+    private boolean addRecordBatched(PendingRecord record) {
+        if (_logger.isLoggable(Level.FINE)) {
+            _logger.fine("LogDBHelper.addRecordBatched for localTID: " + record.localTID);
+        }
+        synchronized (pendingRecords) {
+            pendingRecords.add(record);
+        }
+        writeBatches(record);
+        return record.written;
+    }
+
+    /**
+     * Writes batches of pending records and deletes until the given record was written.
+     * Without a record writes one batch, unless another thread is writing one already.
+     */
+    private void writeBatches(PendingRecord record) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                List<PendingRecord> records;
+                List<Long> deletes;
+                synchronized (pendingRecords) {
+                    while (batchInProgress && (record == null || !record.completed)) {
+                        if (record == null) {
+                            return;
+                        }
+                        try {
+                            pendingRecords.wait();
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                        }
+                    }
+                    if (record != null && record.completed) {
+                        return;
+                    }
+                    batchInProgress = true;
+                    List<PendingRecord> head = pendingRecords.subList(0, Math.min(batchSize, pendingRecords.size()));
+                    records = new ArrayList<>(head);
+                    head.clear();
+                    deletes = new ArrayList<>(pendingDeletes);
+                    pendingDeletes.clear();
+                }
+                try {
+                    writeBatch(records, deletes);
+                } finally {
+                    synchronized (pendingRecords) {
+                        for (PendingRecord written : records) {
+                            written.completed = true;
+                        }
+                        batchInProgress = false;
+                        pendingRecords.notifyAll();
+                    }
+                }
+                if (record == null || record.completed) {
+                    return;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void writeBatch(List<PendingRecord> records, List<Long> deletes) {
+        if (records.isEmpty() && deletes.isEmpty()) {
+            return;
+        }
+        if (_logger.isLoggable(Level.FINE)) {
+            _logger.fine("LogDBHelper.writeBatch of " + records.size() + " records and " + deletes.size() + " deletes");
+        }
+        Connection conn = null;
+        PreparedStatement insertStmt = null;
+        PreparedStatement deleteStmt = null;
+        boolean autoCommit = true;
+        try {
+            // The batch is shared by many transactions, so it cannot be part of any of them
+            conn = (Connection)(getNonTxConnectionMethod.invoke(ds, null));
+            autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            if (!records.isEmpty()) {
+                insertStmt = conn.prepareStatement(insertStatement);
+                for (PendingRecord record : records) {
+                    insertStmt.setString(1,Long.toString(record.localTID));
+                    insertStmt.setString(2,serverName);
+                    insertStmt.setString(3,instanceName);
+                    insertStmt.setBytes(4,record.data);
+                    insertStmt.addBatch();
+                }
+                insertStmt.executeBatch();
+            }
+            if (!deletes.isEmpty()) {
+                deleteStmt = conn.prepareStatement(deleteStatement);
+                for (Long localTID : deletes) {
+                    deleteStmt.setString(1,localTID.toString());
+                    deleteStmt.setString(2,serverName);
+                    deleteStmt.addBatch();
+                }
+                deleteStmt.executeBatch();
+            }
+            conn.commit();
+            for (PendingRecord record : records) {
+                record.written = true;
+            }
+            return;
+        } catch (Throwable ex) {
+            _logger.log(Level.SEVERE,"jts.exception_in_db_log_resource",ex);
+            try {
+                if (conn != null)
+                    conn.rollback();
+            } catch (Exception ex1) {
+                _logger.log(Level.SEVERE,"jts.exception_in_db_log_resource",ex1);
+            }
+        } finally {
+            try {
+                if (insertStmt != null)
+                    insertStmt.close();
+                if (deleteStmt != null)
+                    deleteStmt.close();
+                if (conn != null) {
+                    conn.setAutoCommit(autoCommit);
+                    conn.close();
+                }
+            } catch (Exception ex1) {
+                _logger.log(Level.SEVERE,"jts.exception_in_db_log_resource",ex1);
+            }
+        }
+
+        // The batch failed as a whole. Write the records and deletes one by one, so that
+        // a single bad record does not roll back the other transactions.
+        for (PendingRecord record : records) {
+            record.written = addRecordDirect(record.localTID, record.data);
+        }
+        for (Long localTID : deletes) {
+            deleteRecord(localTID, serverName);
+        }
+    }
+
+    private static final class PendingRecord {
+        final long localTID;
+        final byte[] data;
+        // Both guarded by the list of pending records after the batch was written
+        boolean written;
+        boolean completed;
+
+        PendingRecord(long localTID, byte[] data) {
+            this.localTID = localTID;
+            this.data = data;
+        }
+    }
+
     private void createTable() {
         if (ds != null) {
             if (_logger.isLoggable(Level.FINE)) {
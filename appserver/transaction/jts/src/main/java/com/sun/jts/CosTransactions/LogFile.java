@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1995-1997 IBM Corp. All rights reserved.
  *
@@ -30,6 +31,8 @@
 
 package com.sun.jts.CosTransactions;
 
+import com.sun.enterprise.transaction.monitoring.TransactionCostTrace;
+import com.sun.enterprise.transaction.monitoring.TransactionCostTrace.Phase;
 import com.sun.jts.utils.LogFormatter;
 import com.sun.logging.LogDomains;
 
@@ -103,6 +106,9 @@ class LogFile {
      * <p>
      * Returns true if the write completed successfully and false if the write
      * did not complete.
+     * <p>
+     * Not synchronized, the log handle serializes the writes itself and a forced
+     * write must not block other writers while waiting for a group commit.
      *
      * @param writeType   Forced/non-forced write indicator.
      * @param record      Log record data.
@@ -111,21 +117,25 @@ class LogFile {
      *
      *
      */
-    synchronized boolean write( int    writeType,
-                                byte[] record,
-                                int    recordType,
-                                LogLSN recordLSN ) {
+    boolean write( int    writeType,
+                   byte[] record,
+                   int    recordType,
+                   LogLSN recordLSN ) {
 
         boolean result = true;
 
         // Write the record.
         // Set the result based on return code from log write.
 
+        TransactionCostTrace trace = writeType == LogFile.FORCED ? TransactionCostTrace.current() : null;
+        long start = trace != null ? System.nanoTime() : 0L;
         try {
             LogLSN resultLSN = handle.writeRecord(record,recordType,
                                                   (writeType==LogFile.FORCED ? LogHandle.FORCE : LogHandle.BUFFER));
             if( recordLSN != null )
                 recordLSN.copy(resultLSN);
+            if( trace != null )
+                trace.record(TransactionCostTrace.TRANSACTION_LOG, Phase.LOG_FORCE, System.nanoTime() - start);
         } catch( LogException le ) {
             _logger.log(Level.SEVERE,"jts.log_error",le.toString());
              String msg = LogFormatter.getLocalizedMessage(_logger,"jts.log_error",
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1995-1997 IBM Corp. All rights reserved.
  *
@@ -35,7 +36,10 @@ import com.sun.enterprise.util.i18n.StringManager;
 
 import java.io.File;
 import java.io.FileDescriptor;
+import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.channels.ClosedChannelException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**This class encapsulates file I/O operations and the file handle.
  *
@@ -105,14 +109,20 @@ class LogFileHandle {
 
     /**Instance information.
      */
-    private RandomAccessFile fhandle = null;
+    private volatile RandomAccessFile fhandle = null;
     private FileDescriptor   fd      = null;
     private byte[] bufferData = null;
+    private int bufferLength = 0;
     boolean buffered = false;
     int bufferUpdateStart = -1;
     int bufferUpdateEnd   = -1;
     int buffPos = 0;
 
+    // Number of buffer updates written by fileFlush, and how many of them are known
+    // to be on the storage device. The difference is written but not forced yet.
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong forcedFlushes = new AtomicLong();
+
     static {
         dsyncProp = System.getProperty(DSYNC_PROPERTY);
         if (dsyncProp != null) {
@@ -212,15 +222,15 @@ class LogFileHandle {
 
                     // If the current position is beyond the end of the buffer then the read fails.
 
-                    if( buffPos >= bufferData.length )
+                    if( buffPos >= bufferLength )
                         bytesRead = -1;
 
                     // Otherwise if the buffer is not big enough for all the bytes, return those that
                     // it does contain, else return all the bytes asked for.
 
                     else {
-                        if( buffPos + buffer.length >= bufferData.length )
-                            bytesRead = bufferData.length - buffPos;
+                        if( buffPos + buffer.length >= bufferLength )
+                            bytesRead = bufferLength - buffPos;
                         else
                             bytesRead = buffer.length;
 
@@ -263,14 +273,20 @@ class LogFileHandle {
                 if( buffered ) {
 
                     // If the array copy requires more bytes than exist in the buffer, then the
-                    // buffer must be extended to the required size.
-
-                    if( buffPos + buffer.length >= bufferData.length ) {
-                        byte[] newBufferData = new byte[buffPos+buffer.length];
-                        if( bufferData.length > 0 )
-                            System.arraycopy(bufferData,0,newBufferData,0,bufferData.length);
+                    // buffer must be extended. The capacity grows geometrically so that an
+                    // extent being filled record by record is not copied on every allocation.
+
+                    int requiredLength = buffPos + buffer.length;
+                    if( requiredLength > bufferData.length ) {
+                        int newCapacity = Math.max(requiredLength,
+                                                   Math.max(bufferData.length*2, FILESYSTEM_BLOCKSIZE));
+                        byte[] newBufferData = new byte[newCapacity];
+                        if( bufferLength > 0 )
+                            System.arraycopy(bufferData,0,newBufferData,0,bufferLength);
                         bufferData = newBufferData;
                     }
+                    if( requiredLength > bufferLength )
+                        bufferLength = requiredLength;
 
                     // Copy the data.
 
@@ -331,9 +347,12 @@ class LogFileHandle {
                 if( fhandle.length() > 0 ) {
                     bufferData = new byte[(int)fhandle.length()];
                     fhandle.readFully(bufferData);
+                    bufferLength = bufferData.length;
                 }
-                else
+                else {
                     bufferData = new byte[0];
+                    bufferLength = 0;
+                }
         } catch( Throwable e ) {
             throw new LogException(LogException.LOG_OPEN_FAILURE,1,
                 sm.getString("jts.log_open_failed", file), e);
@@ -356,7 +375,7 @@ class LogFileHandle {
             // If buffered, then ensure that the buffer is stored and synced with the
             // file system.
 
-            if( bufferUpdateStart != -1 )
+            if( bufferUpdateStart != -1 || isUnforced() )
                 fileSync();
 
             // Close the file.
@@ -425,18 +444,21 @@ class LogFileHandle {
      */
     void fileSync() throws LogException {
 
-        // Synchronization is only done for buffered files which have been updated.
+        // Synchronization is only done for buffered files which have been updated,
+        // or flushed without being forced.
         // Non-buffered files have every write synchronized with the file system.
 
-        if( bufferUpdateStart != -1 )
+        long flushed = flushes.get();
+        if( bufferUpdateStart != -1 || forcedFlushes.get() < flushed )
             try {
-                fhandle.seek(bufferUpdateStart);
-                fhandle.write(bufferData,bufferUpdateStart,bufferUpdateEnd-bufferUpdateStart);
+                if( bufferUpdateStart != -1 )
+                    writeBufferUpdate();
                 if (dsyncProp == null)
                     fd.sync();
 
                 bufferUpdateStart = -1;
                 bufferUpdateEnd   = -1;
+                forcedFlushes.accumulateAndGet(flushed, Math::max);
             } catch (Throwable e) {
                 throw new LogException(LogException.LOG_READ_FAILURE,1,
                         sm.getString("jts.log_file_sync_failed"), e);
@@ -444,6 +466,73 @@ class LogFileHandle {
 
     }
 
+    /**Writes the updated part of the buffer to the file without synchronizing it
+     * with the file system.
+     * <p>
+     * Used by group commit, which flushes under the log latch and forces the file
+     * later, outside of it, with {@link #fileForce()}.
+     *
+     * @exception LogException The write failed
+     *
+     */
+    void fileFlush() throws LogException {
+        if( bufferUpdateStart != -1 )
+            try {
+                writeBufferUpdate();
+                if (dsyncProp == null)
+                    flushes.incrementAndGet();
+
+                bufferUpdateStart = -1;
+                bufferUpdateEnd   = -1;
+            } catch (Throwable e) {
+                throw new LogException(LogException.LOG_WRITE_FAILURE,1,
+                        sm.getString("jts.log_write_failed"), e);
+            }
+    }
+
+    /**Forces everything written to the file so far to the storage device.
+     * <p>
+     * May be called without holding the log latch. A file closed in the meantime
+     * counts as forced only if {@link #fileClose()} synchronized the flushed updates.
+     *
+     * @exception LogException The force failed
+     *
+     */
+    void fileForce() throws LogException {
+        if( dsyncProp != null )
+            return;
+        long flushed = flushes.get();
+        RandomAccessFile file = fhandle;
+        if( file != null )
+            try {
+                file.getChannel().force(false);
+                forcedFlushes.accumulateAndGet(flushed, Math::max);
+                return;
+            } catch (ClosedChannelException e) {
+                // Closed in the meantime, checked below.
+            } catch (Throwable e) {
+                throw new LogException(LogException.LOG_ERROR_FORCING_LOG,1,
+                        sm.getString("jts.log_file_sync_failed"), e);
+            }
+        if( forcedFlushes.get() < flushed )
+            throw new LogException(LogException.LOG_ERROR_FORCING_LOG,2,
+                    sm.getString("jts.log_file_sync_failed"), null);
+    }
+
+    /**Returns whether buffer updates written by {@link #fileFlush()} are not forced yet.
+     *
+     * @return  true if a flushed update may not be on the storage device.
+     *
+     */
+    boolean isUnforced() {
+        return forcedFlushes.get() < flushes.get();
+    }
+
+    private void writeBufferUpdate() throws IOException {
+        fhandle.seek(bufferUpdateStart);
+        fhandle.write(bufferData,bufferUpdateStart,bufferUpdateEnd-bufferUpdateStart);
+    }
+
     /**Reads a vector of records from the file.
      *
      * @param vector  The vector to contain the records to be read.
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.jts.CosTransactions;
+
+import com.sun.enterprise.util.i18n.StringManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Group commit for forced log writes.
+ * <p>
+ * A committer appends its record to the extent buffers under the log latch, takes a ticket and
+ * waits in {@link #awaitForced(long)} after releasing the latch. The first waiter becomes the
+ * leader: it flushes every record appended so far under the latch, forces the written files
+ * outside of it and then releases all waiters covered by the batch at once. Committers arriving
+ * while the leader is forcing append their records in the meantime and are picked up by the next
+ * batch, so appends and the force of the previous batch overlap.
+ * <p>
+ * Enabled by the {@value #GROUP_COMMIT_PROPERTY} system property. Has no effect with
+ * {@value LogFileHandle#DSYNC_PROPERTY}, where each write is synchronous anyway.
+ */
+final class LogGroupCommit {
+    private static final StringManager sm = StringManager.getManager(LogGroupCommit.class);
+
+    static final String GROUP_COMMIT_PROPERTY = "com.sun.appserv.transaction.groupcommit";
+
+    static final boolean ENABLED = Boolean.getBoolean(GROUP_COMMIT_PROPERTY) && LogFileHandle.dsyncProp == null;
+
+    /**
+     * Flushes the appended records.
+     */
+    interface Source {
+
+        /**
+         * Called with the log latch held. Writes the buffered records of all extents written since
+         * the last force to the file system, without forcing them.
+         *
+         * @return the files to be forced
+         * @throws LogException the write failed
+         */
+        Collection<LogFileHandle> flush() throws LogException;
+    }
+
+    private final Object latch;
+    private final Source source;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchCompleted = lock.newCondition();
+
+    /** Guarded by the latch. */
+    private long lastTicket;
+
+    /** Guarded by the lock. Tickets up to this one were either forced or failed. */
+    private long settledTicket;
+    /** Guarded by the lock. Failed batches by their first ticket, failures are rare. */
+    private final NavigableMap<Long, FailedBatch> failedBatches = new TreeMap<>();
+    private boolean forcing;
+
+    /**
+     * @param latch the monitor guarding appends to the log
+     * @param source flushes the appended records
+     */
+    LogGroupCommit(Object latch, Source source) {
+        this.latch = latch;
+        this.source = source;
+    }
+
+    /**
+     * Must be called with the latch held, right after the record was appended.
+     *
+     * @return ticket to pass to {@link #awaitForced(long)}
+     */
+    long nextTicket() {
+        return ++lastTicket;
+    }
+
+    /**
+     * Returns when the record with the given ticket was forced to the storage device, either by
+     * a batch led by this thread or by another one. Must be called without holding the latch.
+     *
+     * @param ticket the ticket obtained by {@link #nextTicket()}
+     * @throws LogException the batch containing the record could not be forced
+     */
+    void awaitForced(long ticket) throws LogException {
+        lock.lock();
+        try {
+            while (settledTicket < ticket) {
+                if (forcing) {
+                    batchCompleted.awaitUninterruptibly();
+                } else {
+                    forcing = true;
+                    lock.unlock();
+                    try {
+                        forceBatch();
+                    } finally {
+                        lock.lock();
+                        forcing = false;
+                        batchCompleted.signalAll();
+                    }
+                }
+            }
+            // A later batch might have succeeded already, the batch of the ticket decides.
+            Map.Entry<Long, FailedBatch> failed = failedBatches.floorEntry(ticket);
+            if (failed != null && ticket <= failed.getValue().lastTicket) {
+                throw new LogException(LogException.LOG_ERROR_FORCING_LOG, 1,
+                    sm.getString("jts.log_file_sync_failed"), failed.getValue().failure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void forceBatch() {
+        long batchTicket;
+        try {
+            Collection<LogFileHandle> files;
+            synchronized (latch) {
+                batchTicket = lastTicket;
+                files = source.flush();
+            }
+            for (LogFileHandle file : files) {
+                file.fileForce();
+            }
+        } catch (LogException | RuntimeException e) {
+            // Records appended up to now might be lost, fail all of them.
+            long appended;
+            synchronized (latch) {
+                appended = lastTicket;
+            }
+            LogException failure = e instanceof LogException ? (LogException) e
+                : new LogException(LogException.LOG_ERROR_FORCING_LOG, 2, e.getMessage(), e);
+            lock.lock();
+            try {
+                if (appended > settledTicket) {
+                    failedBatches.put(settledTicket + 1, new FailedBatch(appended, failure));
+                    settledTicket = appended;
+                }
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+        lock.lock();
+        try {
+            if (batchTicket > settledTicket) {
+                settledTicket = batchTicket;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tickets from the key in {@link #failedBatches} up to the last ticket, whose force failed.
+     */
+    private static final class FailedBatch {
+        final long lastTicket;
+        final LogException failure;
+
+        FailedBatch(long lastTicket, LogException failure) {
+            this.lastTicket = lastTicket;
+            this.failure = failure;
+        }
+    }
+}
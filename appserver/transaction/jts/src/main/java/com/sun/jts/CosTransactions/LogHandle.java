@@ -22,6 +22,7 @@ import com.sun.enterprise.util.i18n.StringManager;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.Enumeration;
 import java.util.Hashtable;
@@ -186,6 +187,7 @@ class LogHandle {
     LogFileHandle        logFileHandle = null;
     LogControlDescriptor logControlDescriptor = null;
     LogControl           logControl = null;
+    LogGroupCommit       groupCommit = null;
 
 
     /**Creates a LogHandle object for the given log instance.
@@ -215,6 +217,9 @@ class LogHandle {
         logControlDescriptor = new LogControlDescriptor();
         cursors = new ArrayList();
         extentTable = new Hashtable(EXTENT_TABLE_SIZE);
+        if( LogGroupCommit.ENABLED ) {
+            groupCommit = new LogGroupCommit(this,this::flushExtents);
+        }
 
     }
 
@@ -229,9 +234,42 @@ class LogHandle {
      * @exception LogException The write failed.
      *
      */
-    synchronized LogLSN writeRecord( byte[] record,
-                                     int    recordType,
-                                     int    writeMode )
+    LogLSN writeRecord( byte[] record,
+                        int    recordType,
+                        int    writeMode )
+        throws LogException {
+
+        // With group commit, a forced record is appended like a buffered one and
+        // the force is shared with the other committers, outside of the log latch.
+
+        if( writeMode == FORCE && groupCommit != null ) {
+            LogLSN result;
+            long ticket;
+            synchronized( this ) {
+                result = appendRecord(record,recordType,BUFFER);
+                ticket = groupCommit.nextTicket();
+            }
+            groupCommit.awaitForced(ticket);
+            return result;
+        }
+
+        return appendRecord(record,recordType,writeMode);
+    }
+
+    /**Appends a record to the log, forcing the log if requested.
+     *
+     * @param record      The log record.
+     * @param recordType  The log record type.
+     * @param writeMode   The write mode.
+     *
+     * @return  The LSN of the written record
+     *
+     * @exception LogException The write failed.
+     *
+     */
+    private synchronized LogLSN appendRecord( byte[] record,
+                                              int    recordType,
+                                              int    writeMode )
         throws LogException {
 
         // Check BlockValid field in Log_FileDescriptor block pointed to
@@ -571,6 +609,35 @@ class LogHandle {
         return result;
     }
 
+    /**Writes the buffered records of all extents written since the last force to
+     * the file system, without forcing them. Called by group commit with the log
+     * latch held.
+     *
+     * @return  The files to be forced.
+     *
+     * @exception LogException The write failed.
+     *
+     */
+    private Collection<LogFileHandle> flushExtents()
+        throws LogException {
+        Collection<LogFileHandle> written = new ArrayList<>();
+        Enumeration extents = extentTable.elements();
+        while( extents.hasMoreElements() ) {
+            LogExtent nextEDP = (LogExtent)extents.nextElement();
+            if( nextEDP.writtenSinceLastForce ) {
+                try {
+                    nextEDP.fileHandle.fileFlush();
+                    nextEDP.writtenSinceLastForce = false;
+                    written.add(nextEDP.fileHandle);
+                } catch (LogException le) {
+                    throw new LogException(LogException.LOG_ERROR_FORCING_LOG, 14,
+                            sm.getString("jts.log_file_sync_failed"), le);
+                }
+            }
+        }
+        return written;
+    }
+
     /**Reads a record from the log.
      *
      * @param readLSN  The LSN of the record to be read.
@@ -930,7 +997,7 @@ class LogHandle {
             //   IF not successful
             //     Return LOG_WRITE_FAILURE
 
-            if( logEDP.writtenSinceLastForce ) {
+            if( logEDP.writtenSinceLastForce || logEDP.fileHandle.isUnforced() ) {
                 logEDP.fileHandle.fileSync();
                 logEDP.writtenSinceLastForce = false;
                 forced = true;
@@ -1366,7 +1433,7 @@ class LogHandle {
 
             LogExtent logEDP = (LogExtent)extentTable.get(extent);
             if( logEDP != null &&
-                logEDP.writtenSinceLastForce ) {
+                (logEDP.writtenSinceLastForce || logEDP.fileHandle.isUnforced()) ) {
                 logEDP.fileHandle.fileSync();
                 logEDP.writtenSinceLastForce = false;
             }
@@ -1675,7 +1742,8 @@ class LogHandle {
         Enumeration extents = extentTable.elements();
         while (extents.hasMoreElements()) {
             LogExtent nextEDP = (LogExtent) extents.nextElement();
-            if (nextEDP.writtenSinceLastForce) {
+            // Extents flushed by group commit may not be forced yet.
+            if (nextEDP.writtenSinceLastForce || nextEDP.fileHandle.isUnforced()) {
                 try {
                     nextEDP.fileHandle.fileSync();
                     nextEDP.writtenSinceLastForce = false;
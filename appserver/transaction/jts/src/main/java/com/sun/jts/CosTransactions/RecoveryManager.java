@@ -720,6 +720,11 @@ public class RecoveryManager {
         // COMMENT(Ram J) not needed anymore.
         //JTSXA.shutdown(immediate);
 
+        // Write the deletes deferred to the next batch of the transaction log table.
+        if (Configuration.isDBLoggingEnabled()) {
+            LogDBHelper.getInstance().flushPendingDeletes();
+        }
+
         // If not immediate shutdown, keypoint and close the log.
         // Only do this if the process is recoverable!
 
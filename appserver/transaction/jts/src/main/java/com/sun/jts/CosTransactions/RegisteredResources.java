@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1995-1997 IBM Corp. All rights reserved.
  *
@@ -93,7 +94,6 @@ class RegisteredResources {
     private java.lang.Object heuristicLogSection = null;
     private Resource laoResource = null;
     private CoordinatorImpl coord = null;
-    private static boolean lastXAResCommit = Boolean.getBoolean("com.sun.jts.lastagentcommit");
     // START IASRI 4662745
     //private int commitRetries = -1;
     // private static int commitRetries = -1;
@@ -418,6 +418,9 @@ class RegisteredResources {
         Vote result = Vote.VoteReadOnly;
         int laoIndex = -1;
         boolean rmErr = false;
+        String lastResourceCommit = Configuration.getLastResourceCommit();
+        boolean onePhaseLast = !Configuration.LRC_NONE.equals(lastResourceCommit);
+        boolean firstEnlistedLast = Configuration.LRC_FIRST_ENLISTED.equals(lastResourceCommit) && nRes > 1;
 
         // Browse through the participants, preparing them, and obtain
         // a consolidated result.  The following is intended to be done
@@ -429,24 +432,27 @@ class RegisteredResources {
             i < nRes && result != Vote.VoteRollback;
             i++) {
             boolean isProxy = false;
-            Resource currResource = (Resource) resourceObjects.get(i);
+            // With the first-enlisted strategy the first resource is visited last,
+            // so that it is the one committed in one phase.
+            int index = firstEnlistedLast ? (i + 1) % nRes : i;
+            Resource currResource = (Resource) resourceObjects.get(index);
 
 
-            if ((i == nRes - 1) && lastXAResCommit && (laoResource == null) && result == Vote.VoteCommit) {
+            if ((i == nRes - 1) && onePhaseLast && (laoResource == null) && result == Vote.VoteCommit) {
                 try {
                     if (_logger.isLoggable(Level.FINER)) {
                         _logger.logp(Level.FINER, "RegisteredResources", "distributePrepare()",
                             "Before invoking commit on LA resource = " + currResource);
                     }
                     currResource.commit_one_phase();
-                    resourceStates.set(i, ResourceStatus.Completed);
+                    resourceStates.set(index, ResourceStatus.Completed);
                     if (_logger.isLoggable(Level.FINER)) {
                         _logger.logp(Level.FINER, "RegisteredResources", "distributePrepare()",
                             "After invoking commit on LA resource = " + currResource);
                     }
                 } catch (Throwable exc) {
                     result = Vote.VoteRollback;
-                    resourceStates.set(i,ResourceStatus.Completed);
+                    resourceStates.set(index,ResourceStatus.Completed);
                 }
                 return result;
             }
@@ -480,7 +486,7 @@ class RegisteredResources {
                             "Marking the current resource as LAO:" + currResource);
                     }
                     laoResource = currResource;
-                    laoIndex = i;
+                    laoIndex = index;
                     continue;
                 }
                 if (_logger.isLoggable(Level.FINER)) {
@@ -508,7 +514,7 @@ class RegisteredResources {
                         // heuristic so that we do not
                         // try to roll it back, but we do send it a forget.
 
-                        resourceStates.set(i,ResourceStatus.Heuristic);
+                        resourceStates.set(index,ResourceStatus.Heuristic);
                     }
 
                     try {
@@ -575,7 +581,7 @@ class RegisteredResources {
                 // replies.  The consolidated vote does not change.
 
                 if (!rmErr) {
-                    resourceStates.set(i,ResourceStatus.Completed);
+                    resourceStates.set(index,ResourceStatus.Completed);
                 }
                 if (isProxy) {
                     currResource._release();
@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1995-1997 IBM Corp. All rights reserved.
- * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -34,10 +34,13 @@ package com.sun.jts.CosTransactions;
 import com.sun.jts.jtsxa.XID;
 import com.sun.logging.LogDomains;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Enumeration;
-import java.util.Hashtable;
+import java.util.List;
 import java.util.Vector;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -74,12 +77,21 @@ class TimeoutManager {
      */
     private static boolean initialised = false;
 
-    private static Hashtable     pendingTimeouts = new Hashtable();
-    private static Hashtable     indoubtTimeouts = new Hashtable();
+    /**
+     * Resolution of the timeout wheels, the timeout thread checks them less often.
+     */
+    private static final long TIMEOUT_TICK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final int TIMEOUT_STRIPES = Runtime.getRuntime().availableProcessors() * 2;
+
+    private static final TimeoutWheel pendingTimeouts =
+        new TimeoutWheel(TIMEOUT_TICK_NANOS, TIMEOUT_STRIPES, System.nanoTime());
+    private static final TimeoutWheel indoubtTimeouts =
+        new TimeoutWheel(TIMEOUT_TICK_NANOS, TIMEOUT_STRIPES, System.nanoTime());
     private static TimeoutThread timeoutThread = null;
-    private static boolean       timeoutActive = false;
-    private static boolean       quiescing = false;
-    private static boolean       isSetTimeout = false;
+    private static volatile boolean timeoutActive = false;
+    private static volatile boolean quiescing = false;
+    private static volatile boolean isSetTimeout = false;
 
     /*
         Logger to log transaction messages
@@ -153,22 +165,16 @@ class TimeoutManager {
                     if (!isSetTimeout) {
                         initSetTimeout();
                     }
-                    timeoutInfo = new TimeoutInfo();
-                    timeoutInfo.expireTime = new Date().getTime() + seconds * 1000L;
-                    timeoutInfo.localTID = localTID;
-                    timeoutInfo.timeoutType = timeoutType;
-                    pendingTimeouts.put(localTID, timeoutInfo);
+                    timeoutInfo = new TimeoutInfo(localTID, timeoutType, seconds);
+                    pendingTimeouts.schedule(timeoutInfo);
                     break;
                 case TimeoutManager.IN_DOUBT_TIMEOUT:
                     if (!isSetTimeout) {
                         initSetTimeout();
                         // isSetTimeout = true;
                     }
-                    timeoutInfo = new TimeoutInfo();
-                    timeoutInfo.expireTime = new Date().getTime() + seconds * 1000L;
-                    timeoutInfo.localTID = localTID;
-                    timeoutInfo.timeoutType = timeoutType;
-                    indoubtTimeouts.put(localTID, timeoutInfo);
+                    timeoutInfo = new TimeoutInfo(localTID, timeoutType, seconds);
+                    indoubtTimeouts.schedule(timeoutInfo);
                     break;
 
                 // For any other type, remove the timeout if there is one.
@@ -177,9 +183,9 @@ class TimeoutManager {
                     if (!isSetTimeout) {
                         break;
                     }
-                    result = (pendingTimeouts.remove(localTID) != null);
+                    result = pendingTimeouts.cancel(localTID);
                     if (!result) {
-                        result = (indoubtTimeouts.remove(localTID) != null);
+                        result = indoubtTimeouts.cancel(localTID);
                     }
 
                     // If the transaction service is quiescing and
@@ -337,67 +343,19 @@ class TimeoutManager {
 
         Enumeration result = null;
 
-        // When woken up, go through all current timeouts and identify those
-        // which have expired.
-
-        if (timeoutActive && (pendingTimeouts.size() != 0 || indoubtTimeouts.size() != 0)) {
-            Vector timedOut = null;
-
-            Enumeration timeouts = null;
-
-            synchronized (pendingTimeouts) {
-                timeouts = pendingTimeouts.elements();
-
-                while (timeouts.hasMoreElements()) {
-
-                    TimeoutInfo timeoutInfo = (TimeoutInfo)timeouts.nextElement();
-
-                    // For each timeout in the list, check whether it has expired.
-                    // If so, look up the Coordinator and roll it back.
-
-                    if (new Date().getTime() > timeoutInfo.expireTime) {
-
-                       // Add the TimeoutInfo to the queue of
-                       //those that have timed out.
-
-                       if (timedOut == null) {
-                           timedOut = new Vector();
-                       }
-
-                       timedOut.addElement(timeoutInfo);
-                    }
-               }
-            }
-
-            synchronized (indoubtTimeouts) {
-
-                timeouts = indoubtTimeouts.elements();
+        // When woken up, advance the timeout wheels to the current time,
+        // collecting the timeouts which have expired.
 
-                while (timeouts.hasMoreElements()) {
+        if (timeoutActive && (!pendingTimeouts.isEmpty() || !indoubtTimeouts.isEmpty())) {
+            List<TimeoutInfo> timedOut = new ArrayList<>();
+            long now = System.nanoTime();
+            pendingTimeouts.advance(now, timedOut);
+            indoubtTimeouts.advance(now, timedOut);
 
-                    TimeoutInfo timeoutInfo = (TimeoutInfo)timeouts.nextElement();
-
-                    // For each timeout in the list, check whether it has expired.
-                    // If so, look up the Coordinator and roll it back.
-
-                    if (new Date().getTime() > timeoutInfo.expireTime) {
-
-                        // Add the TimeoutInfo to the queue of
-                        //those that have timed out.
-
-                        if (timedOut == null) {
-                            timedOut = new Vector();
-                        }
-
-                        timedOut.addElement(timeoutInfo);
-                    }
-                }
-
-            }
             // Enumerate the transactions which have timed out.
 
-            if (timedOut != null) {
-                result = timedOut.elements();
+            if (!timedOut.isEmpty()) {
+                result = Collections.enumeration(timedOut);
             }
         }
 
@@ -415,31 +373,25 @@ class TimeoutManager {
      */
      static XID[] getInDoubtXids() {
 
-         synchronized (indoubtTimeouts) {
-             Vector inDoubtList = new Vector();
-
-             Enumeration timeouts = indoubtTimeouts.elements();
+         Vector inDoubtList = new Vector();
 
-             while (timeouts.hasMoreElements()) {
+         for (TimeoutInfo timeoutInfo : indoubtTimeouts.values()) {
 
-                 TimeoutInfo timeoutInfo = (TimeoutInfo) timeouts.nextElement();
+             // Look up the Coordinator for the transaction.
+             // If there is none, then the transaction has already gone.
+             // Otherwise do something with the transaction.
 
-                 // Look up the Coordinator for the transaction.
-                 // If there is none, then the transaction has already gone.
-                 // Otherwise do something with the transaction.
+             CoordinatorImpl coord =
+                 RecoveryManager.getLocalCoordinator(timeoutInfo.localTID);
 
-                 CoordinatorImpl coord =
-                     RecoveryManager.getLocalCoordinator(timeoutInfo.localTID);
-
-                 if (coord != null) {
-                     XID xid = new XID();
-                     xid.copy(coord.getGlobalTID());
-                     inDoubtList.addElement(xid);
-                 }
+             if (coord != null) {
+                 XID xid = new XID();
+                 xid.copy(coord.getGlobalTID());
+                 inDoubtList.addElement(xid);
              }
-
-             return (XID[]) inDoubtList.toArray(new XID[] {});
          }
+
+         return (XID[]) inDoubtList.toArray(new XID[] {});
      }
 
     /**
@@ -454,9 +406,9 @@ class TimeoutManager {
      */
     static long timeLeft(Long localTID) {
 
-        TimeoutInfo timeoutInfo = (TimeoutInfo) pendingTimeouts.get(localTID);
+        TimeoutInfo timeoutInfo = pendingTimeouts.get(localTID);
         if (timeoutInfo == null) {
-            timeoutInfo = (TimeoutInfo) indoubtTimeouts.get(localTID);
+            timeoutInfo = indoubtTimeouts.get(localTID);
         }
         long result = -1;
         if (timeoutInfo != null) {
@@ -488,17 +440,13 @@ class TimeoutManager {
         // timeouts, there is nothing to quiesce so
         // shutdown immediately regardless.
 
-        if (immediate ||
-            pendingTimeouts == null || pendingTimeouts.isEmpty()) {
+        if (immediate || pendingTimeouts.isEmpty()) {
             if (timeoutThread != null) {
                 timeoutThread.stop();
             }
 
-            if (pendingTimeouts != null) {
-                pendingTimeouts.clear();
-            }
+            pendingTimeouts.clear();
 
-            pendingTimeouts = null;
             timeoutThread = null;
             timeoutActive = false;
         } else {
@@ -568,6 +516,21 @@ class TimeoutInfo extends Object {
     Long localTID = null;
     long expireTime = 0;
     int  timeoutType = TimeoutManager.NO_TIMEOUT;
+
+    // Position in the TimeoutWheel, guarded by its stripe.
+    long deadlineNanos;
+    long deadlineTick;
+    TimeoutInfo prev;
+    TimeoutInfo next;
+    int level = -1;
+    int slot;
+
+    TimeoutInfo(Long localTID, int timeoutType, int seconds) {
+        this.localTID = localTID;
+        this.timeoutType = timeoutType;
+        this.expireTime = new Date().getTime() + seconds * 1000L;
+        this.deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    }
 }
 
 /**
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.jts.CosTransactions;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped hierarchical timing wheel tracking transaction timeouts.
+ * <p>
+ * Each stripe owns a part of the transactions, selected by the local transaction id, and its own
+ * lock, so transactions beginning and completing concurrently rarely contend. Within a stripe
+ * a timeout is linked into a bucket of one of {@value #LEVELS} wheels of {@value #SLOTS} slots,
+ * each level covering {@value #SLOTS} times the range of the previous one, so scheduling and
+ * cancelling a timeout takes constant time. Advancing the wheel only visits the slots of the
+ * elapsed ticks and cascades the timeouts of a higher level bucket to the lower levels when
+ * its range is reached.
+ * <p>
+ * A timeout which expired stays registered and is reported by every following
+ * {@link #advance(long, List)} until it is cancelled, as the transaction may survive the first
+ * attempt to time it out.
+ */
+final class TimeoutWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    /** Level of a timeout linked into the list of expired timeouts. */
+    private static final int EXPIRED = LEVELS;
+
+    private final long tickNanos;
+    private final long startNanos;
+    private final Stripe[] stripes;
+    private final ConcurrentHashMap<Long, TimeoutInfo> timeouts = new ConcurrentHashMap<>();
+
+    /**
+     * @param tickNanos the resolution of the wheel
+     * @param stripeCount the number of stripes, rounded up to a power of two
+     * @param startNanos the current {@link System#nanoTime()}
+     */
+    TimeoutWheel(long tickNanos, int stripeCount, long startNanos) {
+        this.tickNanos = tickNanos;
+        this.startNanos = startNanos;
+        int count = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Schedules the timeout at its {@link TimeoutInfo#deadlineNanos}, replacing any timeout
+     * scheduled for the same transaction.
+     *
+     * @param timeoutInfo the timeout
+     */
+    void schedule(TimeoutInfo timeoutInfo) {
+        long deadlineTick = Math.floorDiv(timeoutInfo.deadlineNanos - startNanos + tickNanos - 1, tickNanos);
+        Stripe stripe = stripeFor(timeoutInfo.localTID);
+        stripe.lock.lock();
+        try {
+            TimeoutInfo previous = timeouts.put(timeoutInfo.localTID, timeoutInfo);
+            if (previous != null) {
+                stripe.unlink(previous);
+            }
+            timeoutInfo.deadlineTick = deadlineTick;
+            stripe.place(timeoutInfo);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Cancels the timeout of the transaction.
+     *
+     * @param localTID the local transaction id
+     * @return true if there was a timeout for the transaction
+     */
+    boolean cancel(Long localTID) {
+        Stripe stripe = stripeFor(localTID);
+        stripe.lock.lock();
+        try {
+            TimeoutInfo timeoutInfo = timeouts.remove(localTID);
+            if (timeoutInfo == null) {
+                return false;
+            }
+            stripe.unlink(timeoutInfo);
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * @param localTID the local transaction id
+     * @return the timeout of the transaction or null
+     */
+    TimeoutInfo get(Long localTID) {
+        return timeouts.get(localTID);
+    }
+
+    /**
+     * @return a weakly consistent view of all registered timeouts
+     */
+    Collection<TimeoutInfo> values() {
+        return timeouts.values();
+    }
+
+    boolean isEmpty() {
+        return timeouts.isEmpty();
+    }
+
+    void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.clear();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        timeouts.clear();
+    }
+
+    /**
+     * Processes all ticks elapsed until the given time.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @param timedOut receives all timeouts expired so far and not cancelled yet
+     */
+    void advance(long nowNanos, List<TimeoutInfo> timedOut) {
+        long targetTick = Math.floorDiv(nowNanos - startNanos, tickNanos);
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.advance(targetTick);
+                for (TimeoutInfo info = stripe.expired; info != null; info = info.next) {
+                    timedOut.add(info);
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    private Stripe stripeFor(Long localTID) {
+        int h = localTID.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+
+    /**
+     * One independent set of wheels, guarded by its lock.
+     */
+    private static final class Stripe {
+
+        final ReentrantLock lock = new ReentrantLock();
+        final TimeoutInfo[][] buckets = new TimeoutInfo[LEVELS][SLOTS];
+        TimeoutInfo expired;
+
+        /** The next tick to be processed. */
+        long currentTick;
+
+        void place(TimeoutInfo info) {
+            long delta = info.deadlineTick - currentTick;
+            int level = 0;
+            long slotTick = Math.max(info.deadlineTick, currentTick);
+            while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+                level++;
+            }
+            if (level == LEVELS - 1 && delta >= 1L << (SLOT_BITS * LEVELS)) {
+                // Beyond the range of the wheel, cascaded again when the last bucket is reached.
+                slotTick = currentTick + (1L << (SLOT_BITS * LEVELS)) - 1;
+            }
+            int slot = (int) (slotTick >>> (SLOT_BITS * level)) & SLOT_MASK;
+            link(info, level, slot);
+        }
+
+        void advance(long targetTick) {
+            while (currentTick <= targetTick) {
+                int level = 0;
+                while (level < LEVELS - 1 && (currentTick & ((1L << (SLOT_BITS * (level + 1))) - 1)) == 0) {
+                    level++;
+                }
+                for (; level > 0; level--) {
+                    int slot = (int) (currentTick >>> (SLOT_BITS * level)) & SLOT_MASK;
+                    TimeoutInfo info = buckets[level][slot];
+                    buckets[level][slot] = null;
+                    while (info != null) {
+                        TimeoutInfo next = info.next;
+                        info.level = -1;
+                        place(info);
+                        info = next;
+                    }
+                }
+                int slot = (int) currentTick & SLOT_MASK;
+                TimeoutInfo info = buckets[0][slot];
+                buckets[0][slot] = null;
+                while (info != null) {
+                    TimeoutInfo next = info.next;
+                    info.level = -1;
+                    link(info, EXPIRED, 0);
+                    info = next;
+                }
+                currentTick++;
+            }
+        }
+
+        void link(TimeoutInfo info, int level, int slot) {
+            TimeoutInfo head = level == EXPIRED ? expired : buckets[level][slot];
+            info.level = level;
+            info.slot = slot;
+            info.prev = null;
+            info.next = head;
+            if (head != null) {
+                head.prev = info;
+            }
+            if (level == EXPIRED) {
+                expired = info;
+            } else {
+                buckets[level][slot] = info;
+            }
+        }
+
+        void unlink(TimeoutInfo info) {
+            if (info.level < 0) {
+                return;
+            }
+            if (info.prev != null) {
+                info.prev.next = info.next;
+            } else if (info.level == EXPIRED) {
+                expired = info.next;
+            } else {
+                buckets[info.level][info.slot] = info.next;
+            }
+            if (info.next != null) {
+                info.next.prev = info.prev;
+            }
+            info.prev = null;
+            info.next = null;
+            info.level = -1;
+        }
+
+        void clear() {
+            for (TimeoutInfo[] wheel : buckets) {
+                for (int i = 0; i < SLOTS; i++) {
+                    wheel[i] = null;
+                }
+            }
+            expired = null;
+        }
+    }
+}
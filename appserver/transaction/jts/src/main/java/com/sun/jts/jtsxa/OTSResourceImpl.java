@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -16,6 +17,8 @@
 
 package com.sun.jts.jtsxa;
 
+import com.sun.enterprise.transaction.monitoring.TransactionCostTrace;
+import com.sun.enterprise.transaction.monitoring.TransactionCostTrace.Phase;
 import com.sun.jts.CosTransactions.Configuration;
 import com.sun.jts.codegen.jtsxa.OTSResource;
 import com.sun.jts.codegen.jtsxa.OTSResourceHelper;
@@ -104,9 +107,12 @@ public class OTSResourceImpl extends OTSResourcePOA implements OTSResource {
 
         //ensureInitialized();
 
+        long start = System.nanoTime();
         try {
             xaRes.commit(xid, false);
+            recordCost(Phase.COMMIT, start);
         } catch (Exception ex) {
+            recordCost(Phase.COMMIT, start);
             destroy();
             if (!(ex instanceof XAException)) {
                 INTERNAL internal =  new INTERNAL(0,CompletionStatus.COMPLETED_MAYBE);
@@ -165,9 +171,12 @@ public class OTSResourceImpl extends OTSResourcePOA implements OTSResource {
 
         //ensureInitialized();
 
+        long start = System.nanoTime();
         try {
             xaRes.commit(xid, true);
+            recordCost(Phase.COMMIT, start);
         } catch (Exception ex) {
+            recordCost(Phase.COMMIT, start);
             destroy();
             if (!(ex instanceof XAException)) {
                 INTERNAL internal =  new INTERNAL(0,CompletionStatus.COMPLETED_MAYBE);
@@ -264,9 +273,12 @@ public class OTSResourceImpl extends OTSResourcePOA implements OTSResource {
 
         // Perform the XA operation.
 
+        long start = System.nanoTime();
         try {
             rc = xaRes.prepare(xid); // xa_prepare()
+            recordCost(Phase.PREPARE, start);
         } catch (XAException e) {
+            recordCost(Phase.PREPARE, start);
             if (_logger.isLoggable(Level.FINE))
                 _logger.log(Level.FINE,"An XAException occurred in prepare", e);
             // currently do nothing..
@@ -299,6 +311,17 @@ public class OTSResourceImpl extends OTSResourcePOA implements OTSResource {
         return Vote.VoteRollback; // Any other return code is rollback
     }
 
+    /**
+     * Records the time spent in the XA call into the cost trace of the transaction
+     * being completed by the calling thread, if it is traced.
+     */
+    private void recordCost(Phase phase, long start) {
+        TransactionCostTrace trace = TransactionCostTrace.current();
+        if (trace != null) {
+            trace.record(xaRes, phase, System.nanoTime() - start);
+        }
+    }
+
     /**
      * Rollback a transaction.
      *
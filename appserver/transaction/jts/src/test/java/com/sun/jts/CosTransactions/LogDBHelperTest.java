@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.jts.CosTransactions;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogDBHelperTest {
+
+    private static final String SERVER = "server1";
+
+    private final FakeDataSource ds = new FakeDataSource();
+
+    @Test
+    public void waitingRecordsAreWrittenInOneBatch() throws Exception {
+        LogDBHelper helper = new LogDBHelper(ds, SERVER, "instance1", 4);
+        CountDownLatch batchBlocker = new CountDownLatch(1);
+        ds.batchBlocker = batchBlocker;
+
+        List<Boolean> results = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (long localTID = 1; localTID <= 4; localTID++) {
+            long tid = localTID;
+            Thread thread = new Thread(() -> {
+                boolean written = helper.addRecord(tid, new byte[] {(byte) tid});
+                synchronized (results) {
+                    results.add(written);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+            if (localTID == 1) {
+                // The leader writes its record alone, the others queue up behind it
+                assertTrue(ds.batchStarted.await(10, TimeUnit.SECONDS));
+            } else {
+                awaitWaiting(thread);
+            }
+        }
+        batchBlocker.countDown();
+        for (Thread thread : threads) {
+            thread.join(10_000);
+        }
+
+        assertEquals(List.of(true, true, true, true), results);
+        assertEquals(List.of(1, 3), ds.insertBatches);
+        assertEquals(Set.of(SERVER + "/1", SERVER + "/2", SERVER + "/3", SERVER + "/4"), ds.rows);
+    }
+
+    @Test
+    public void failedBatchFallsBackToSingleRecordsAndDeletes() throws Exception {
+        LogDBHelper helper = new LogDBHelper(ds, SERVER, "instance1", 4);
+        ds.rows.add(SERVER + "/5");
+        ds.failBatches.set(true);
+
+        assertTrue(helper.deleteRecord(5));
+        assertTrue(helper.addRecord(1, new byte[] {1}));
+
+        assertEquals(1, ds.rollbacks);
+        assertEquals(1, ds.singleInserts);
+        assertEquals(Set.of(SERVER + "/1"), ds.rows);
+    }
+
+    @Test
+    public void flushWritesDeferredDeletes() throws Exception {
+        LogDBHelper helper = new LogDBHelper(ds, SERVER, "instance1", 4);
+        ds.rows.add(SERVER + "/1");
+        ds.rows.add(SERVER + "/2");
+
+        assertTrue(helper.deleteRecord(1));
+        assertTrue(helper.deleteRecord(2));
+        assertEquals(0, ds.connections);
+
+        helper.flushPendingDeletes();
+        assertEquals(Set.of(), ds.rows);
+        assertEquals(1, ds.connections);
+
+        helper.flushPendingDeletes();
+        assertEquals(1, ds.connections);
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (thread.getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline, "Thread did not start waiting for the batch");
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * A table of "serverName/localTID" rows behind connections which support just
+     * the statements of the {@link LogDBHelper}.
+     */
+    public static class FakeDataSource implements DataSource {
+
+        final Set<String> rows = new HashSet<>();
+        final List<Integer> insertBatches = new ArrayList<>();
+        final AtomicBoolean failBatches = new AtomicBoolean();
+        final CountDownLatch batchStarted = new CountDownLatch(1);
+        volatile CountDownLatch batchBlocker;
+        int connections;
+        int rollbacks;
+        int singleInserts;
+
+        public Connection getNonTxConnection() {
+            return newConnection();
+        }
+
+        @Override
+        public Connection getConnection() {
+            return newConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return newConnection();
+        }
+
+        private synchronized Connection newConnection() {
+            connections++;
+            List<Runnable> uncommitted = new ArrayList<>();
+            boolean[] autoCommit = {true};
+            InvocationHandler handler = (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getAutoCommit":
+                        return autoCommit[0];
+                    case "setAutoCommit":
+                        autoCommit[0] = (Boolean) args[0];
+                        return null;
+                    case "prepareStatement":
+                        return newStatement((String) args[0], uncommitted, autoCommit);
+                    case "commit":
+                        synchronized (this) {
+                            uncommitted.forEach(Runnable::run);
+                        }
+                        uncommitted.clear();
+                        return null;
+                    case "rollback":
+                        synchronized (this) {
+                            rollbacks++;
+                        }
+                        uncommitted.clear();
+                        return null;
+                    case "close":
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            };
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {Connection.class}, handler);
+        }
+
+        private PreparedStatement newStatement(String sql, List<Runnable> uncommitted, boolean[] autoCommit) {
+            boolean insert = sql.startsWith("insert");
+            Map<Integer, Object> parameters = new HashMap<>();
+            List<String> batch = new ArrayList<>();
+            InvocationHandler handler = (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "setString":
+                    case "setBytes":
+                        parameters.put((Integer) args[0], args[1]);
+                        return null;
+                    case "addBatch":
+                        batch.add(parameters.get(2) + "/" + parameters.get(1));
+                        return null;
+                    case "executeBatch":
+                        if (insert) {
+                            synchronized (this) {
+                                insertBatches.add(batch.size());
+                            }
+                            batchStarted.countDown();
+                            CountDownLatch blocker = batchBlocker;
+                            if (blocker != null) {
+                                blocker.await();
+                            }
+                        }
+                        if (failBatches.getAndSet(false)) {
+                            throw new SQLException("Batch failed");
+                        }
+                        List<String> executed = new ArrayList<>(batch);
+                        uncommitted.add(() -> {
+                            if (insert) {
+                                rows.addAll(executed);
+                            } else {
+                                rows.removeAll(executed);
+                            }
+                        });
+                        return new int[executed.size()];
+                    case "executeUpdate":
+                        String row = parameters.get(2) + "/" + parameters.get(1);
+                        synchronized (this) {
+                            if (insert) {
+                                singleInserts++;
+                                rows.add(row);
+                            } else {
+                                rows.remove(row);
+                            }
+                        }
+                        return 1;
+                    case "close":
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            };
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {PreparedStatement.class}, handler);
+        }
+
+        @Override
+        public PrintWriter getLogWriter() {
+            return null;
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) {
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) {
+        }
+
+        @Override
+        public int getLoginTimeout() {
+            return 0;
+        }
+
+        @Override
+        public Logger getParentLogger() {
+            return Logger.getGlobal();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            throw new SQLException("Not a wrapper");
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) {
+            return false;
+        }
+    }
+}
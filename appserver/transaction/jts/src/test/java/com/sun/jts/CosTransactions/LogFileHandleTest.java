@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.jts.CosTransactions;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogFileHandleTest {
+
+    private static final byte[] RECORD = {1, 2, 3, 4};
+
+    private File file;
+
+    @BeforeEach
+    public void createFile() throws IOException {
+        file = File.createTempFile("extent", ".log");
+    }
+
+    @AfterEach
+    public void deleteFile() {
+        file.delete();
+    }
+
+    @Test
+    public void flushedUpdateIsUnforcedUntilForced() throws Exception {
+        LogFileHandle handle = open();
+        handle.fileWrite(RECORD);
+        assertFalse(handle.isUnforced());
+        handle.fileFlush();
+        assertTrue(handle.isUnforced());
+        handle.fileForce();
+        assertFalse(handle.isUnforced());
+        handle.fileClose();
+        assertArrayEquals(RECORD, Files.readAllBytes(file.toPath()));
+    }
+
+    @Test
+    public void closeSynchronizesFlushedUpdate() throws Exception {
+        LogFileHandle handle = open();
+        handle.fileWrite(RECORD);
+        handle.fileFlush();
+        handle.fileClose();
+        assertFalse(handle.isUnforced());
+        // the force of the group commit leader which lost the race with the close
+        handle.fileForce();
+        assertArrayEquals(RECORD, Files.readAllBytes(file.toPath()));
+    }
+
+    @Test
+    public void syncForcesFlushedUpdate() throws Exception {
+        LogFileHandle handle = open();
+        handle.fileWrite(RECORD);
+        handle.fileFlush();
+        handle.fileSync();
+        assertFalse(handle.isUnforced());
+        handle.fileClose();
+    }
+
+    private LogFileHandle open() throws LogException {
+        return new LogFileHandle(file, LogFileHandle.OPEN_RDWR | LogFileHandle.OPEN_CREAT);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.jts.CosTransactions;
+
+import java.io.File;
+import java.lang.System.Logger;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static java.lang.System.Logger.Level.INFO;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * Compares commits per second of forced log writes synchronizing the file on every write with
+ * the {@link LogGroupCommit}, for an increasing number of concurrent committers.
+ */
+@State(Scope.Benchmark)
+public class LogGroupCommitBenchmarkTest {
+    private static final Logger LOG = System.getLogger(LogGroupCommitBenchmarkTest.class.getName());
+
+    private static final int WRAP_POSITION = 1024 * 1024;
+
+    @Param({"sync", "group"})
+    public String commitMode;
+
+    private final byte[] record = new byte[128];
+    private final Object latch = new Object();
+    private File file;
+    private LogFileHandle fileHandle;
+    private LogGroupCommit groupCommit;
+
+
+    @Test
+    public void forcedWrite_benchmark() throws Exception {
+        Map<String, Double> scores = new TreeMap<>();
+        for (int threads : new int[] {1, 4, 16}) {
+            Options options = new OptionsBuilder().include(getClass().getName() + ".*")
+                .warmupIterations(1).warmupTime(TimeValue.milliseconds(500L))
+                .measurementIterations(3).measurementTime(TimeValue.milliseconds(500L))
+                .forks(1).threads(threads).shouldFailOnError(true)
+                .timeout(TimeValue.seconds(10L)).timeUnit(TimeUnit.SECONDS).mode(Mode.Throughput)
+                .build();
+            for (RunResult result : new Runner(options).run()) {
+                String key = String.format("%02d threads, %s", threads, result.getParams().getParam("commitMode"));
+                scores.put(key, result.getPrimaryResult().getScore());
+            }
+        }
+        LOG.log(INFO, "Commits per second: {0}", scores);
+        double ratio = scores.get("16 threads, group") / scores.get("16 threads, sync");
+        LOG.log(INFO, "Group commit/sync with 16 threads: {0}", ratio);
+        // Devices with a cheap force (tmpfs, write back caches) leave little to batch.
+        assertThat("Expected ratio", ratio, greaterThan(0.5d));
+    }
+
+
+    @Setup
+    public void openLog() throws Exception {
+        file = Files.createTempFile("extent", ".log").toFile();
+        fileHandle = new LogFileHandle(file, LogFileHandle.OPEN_RDWR | LogFileHandle.OPEN_CREAT);
+        groupCommit = new LogGroupCommit(latch, () -> {
+            fileHandle.fileFlush();
+            return List.of(fileHandle);
+        });
+    }
+
+
+    @TearDown
+    public void closeLog() throws Exception {
+        fileHandle.destroy();
+        file.delete();
+    }
+
+
+    @Benchmark
+    public void forcedWrite() throws Exception {
+        if ("group".equals(commitMode)) {
+            long ticket;
+            synchronized (latch) {
+                append();
+                ticket = groupCommit.nextTicket();
+            }
+            groupCommit.awaitForced(ticket);
+        } else {
+            synchronized (latch) {
+                append();
+                fileHandle.fileSync();
+            }
+        }
+    }
+
+
+    private void append() throws LogException {
+        if (fileHandle.buffPos > WRAP_POSITION) {
+            fileHandle.fileSeek(0, LogFileHandle.SEEK_ABSOLUTE);
+        }
+        fileHandle.fileWrite(record);
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.jts.CosTransactions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogGroupCommitTest {
+
+    private final Object latch = new Object();
+    private final AtomicInteger flushes = new AtomicInteger();
+    private final List<Long> flushedUpTo = new ArrayList<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private volatile CountDownLatch flushBlocker;
+    private volatile LogException flushFailure;
+    // Guarded by the latch
+    private long lastTicket;
+
+    private final LogGroupCommit groupCommit = new LogGroupCommit(latch, this::flush);
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void leaderForcesTheRecordsOfWaitingFollowers() throws Exception {
+        flushBlocker = new CountDownLatch(1);
+        long first = append();
+        long second = append();
+        long third = append();
+
+        Future<?> leader = executor.submit(() -> awaitForced(first));
+        awaitFlushes(1);
+        Future<?> follower1 = executor.submit(() -> awaitForced(second));
+        Future<?> follower2 = executor.submit(() -> awaitForced(third));
+        Thread.sleep(50L);
+        assertAll(
+            () -> assertFalse(leader.isDone()),
+            () -> assertFalse(follower1.isDone()),
+            () -> assertFalse(follower2.isDone())
+        );
+
+        flushBlocker.countDown();
+        leader.get(10, TimeUnit.SECONDS);
+        follower1.get(10, TimeUnit.SECONDS);
+        follower2.get(10, TimeUnit.SECONDS);
+
+        assertEquals(1, flushes.get());
+        assertEquals(List.of(3L), flushedUpTo);
+    }
+
+    @Test
+    public void forcedRecordReturnsWithoutAnotherBatch() throws Exception {
+        long first = append();
+        long second = append();
+        groupCommit.awaitForced(second);
+        groupCommit.awaitForced(first);
+        assertEquals(1, flushes.get());
+
+        groupCommit.awaitForced(append());
+        assertEquals(List.of(2L, 3L), flushedUpTo);
+    }
+
+    @Test
+    public void followerLeadsTheNextBatch() throws Exception {
+        flushBlocker = new CountDownLatch(1);
+        long first = append();
+        Future<?> leader = executor.submit(() -> awaitForced(first));
+        awaitFlushes(1);
+        flushBlocker.countDown();
+        leader.get(10, TimeUnit.SECONDS);
+
+        // appended after the batch of the leader was flushed
+        long second = append();
+        Future<?> follower = executor.submit(() -> awaitForced(second));
+        follower.get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of(1L, 2L), flushedUpTo);
+    }
+
+    @Test
+    public void failedForceFailsTheCoveredRecords() throws Exception {
+        long forced = append();
+        groupCommit.awaitForced(forced);
+
+        LogException failure = new LogException(LogException.LOG_WRITE_FAILURE, 1, "disk full", null);
+        flushFailure = failure;
+        long first = append();
+        long second = append();
+        LogException thrown = assertThrows(LogException.class, () -> groupCommit.awaitForced(first));
+        assertSame(failure, thrown.getCause());
+
+        // the batch after the failed one succeeds
+        flushFailure = null;
+        long later = append();
+        groupCommit.awaitForced(later);
+
+        assertAll(
+            // appended before the failed force, but waiting only now
+            () -> assertSame(failure, assertThrows(LogException.class, () -> groupCommit.awaitForced(second)).getCause()),
+            () -> assertSame(failure, assertThrows(LogException.class, () -> groupCommit.awaitForced(first)).getCause()),
+            () -> groupCommit.awaitForced(forced),
+            () -> groupCommit.awaitForced(later),
+            () -> assertEquals(3, flushes.get())
+        );
+    }
+
+    @Test
+    public void runtimeExceptionOfTheFlushFailsTheBatch() throws Exception {
+        LogGroupCommit failing = new LogGroupCommit(latch, () -> {
+            throw new IllegalStateException("closed");
+        });
+        long ticket;
+        synchronized (latch) {
+            ticket = failing.nextTicket();
+        }
+        LogException thrown = assertThrows(LogException.class, () -> failing.awaitForced(ticket));
+        assertTrue(thrown.getCause().getCause() instanceof IllegalStateException);
+    }
+
+    private Collection<LogFileHandle> flush() throws LogException {
+        flushes.incrementAndGet();
+        CountDownLatch blocker = flushBlocker;
+        if (blocker != null) {
+            try {
+                blocker.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        LogException failure = flushFailure;
+        if (failure != null) {
+            throw failure;
+        }
+        flushedUpTo.add(lastTicket);
+        return List.of();
+    }
+
+    private long append() {
+        synchronized (latch) {
+            lastTicket = groupCommit.nextTicket();
+            return lastTicket;
+        }
+    }
+
+    private Void awaitForced(long ticket) throws LogException {
+        groupCommit.awaitForced(ticket);
+        return null;
+    }
+
+    private void awaitFlushes(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000L;
+        while (flushes.get() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1L);
+        }
+        assertEquals(count, flushes.get());
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.jts.CosTransactions;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.omg.CosTransactions.Resource;
+import org.omg.CosTransactions.Vote;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class RegisteredResourcesTest {
+
+    private final List<String> calls = new ArrayList<>();
+    private final RegisteredResources resources = new RegisteredResources(null, null);
+    private String lastResourceCommit;
+
+    @BeforeEach
+    public void setUp() {
+        lastResourceCommit = Configuration.getLastResourceCommit();
+        Configuration.setProxyChecker(obj -> false);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Configuration.setLastResourceCommit(lastResourceCommit);
+        Configuration.setProxyChecker(null);
+    }
+
+
+    @Test
+    public void noneStrategyPreparesEveryResource() throws Exception {
+        Configuration.setLastResourceCommit(Configuration.LRC_NONE);
+        add("a", Vote.VoteCommit);
+        add("b", Vote.VoteCommit);
+        add("c", Vote.VoteCommit);
+
+        assertSame(Vote.VoteCommit, resources.distributePrepare());
+        assertThat(calls, contains("a.prepare", "b.prepare", "c.prepare"));
+    }
+
+    @Test
+    public void lastEnlistedStrategyCommitsLastResourceInOnePhase() throws Exception {
+        Configuration.setLastResourceCommit(Configuration.LRC_LAST_ENLISTED);
+        add("a", Vote.VoteCommit);
+        add("b", Vote.VoteCommit);
+        add("c", Vote.VoteCommit);
+
+        assertSame(Vote.VoteCommit, resources.distributePrepare());
+        assertThat(calls, contains("a.prepare", "b.prepare", "c.commit_one_phase"));
+    }
+
+    @Test
+    public void firstEnlistedStrategyCommitsFirstResourceInOnePhase() throws Exception {
+        Configuration.setLastResourceCommit(Configuration.LRC_FIRST_ENLISTED);
+        add("a", Vote.VoteCommit);
+        add("b", Vote.VoteCommit);
+        add("c", Vote.VoteCommit);
+
+        assertSame(Vote.VoteCommit, resources.distributePrepare());
+        assertThat(calls, contains("b.prepare", "c.prepare", "a.commit_one_phase"));
+    }
+
+    @Test
+    public void lastEnlistedStrategyPreparesEveryResourceWithLao() throws Exception {
+        Configuration.setLastResourceCommit(Configuration.LRC_LAST_ENLISTED);
+        Resource lao = add("a", null);
+        add("b", Vote.VoteCommit);
+        add("c", Vote.VoteCommit);
+
+        assertSame(Vote.VoteCommit, resources.distributePrepare());
+        assertThat(calls, contains("a.prepare", "b.prepare", "c.prepare"));
+        assertSame(lao, resources.getLAOResource());
+    }
+
+    @Test
+    public void firstEnlistedStrategyPreparesEveryResourceWithLao() throws Exception {
+        Configuration.setLastResourceCommit(Configuration.LRC_FIRST_ENLISTED);
+        add("a", Vote.VoteCommit);
+        Resource lao = add("b", null);
+        add("c", Vote.VoteCommit);
+
+        assertSame(Vote.VoteCommit, resources.distributePrepare());
+        assertThat(calls, contains("b.prepare", "c.prepare", "a.prepare"));
+        assertSame(lao, resources.getLAOResource());
+    }
+
+    @Test
+    public void rollbackVoteStopsBeforeOnePhaseCommit() throws Exception {
+        Configuration.setLastResourceCommit(Configuration.LRC_LAST_ENLISTED);
+        add("a", Vote.VoteRollback);
+        add("b", Vote.VoteCommit);
+
+        assertSame(Vote.VoteRollback, resources.distributePrepare());
+        assertThat(calls, contains("a.prepare"));
+        assertNull(resources.getLAOResource());
+    }
+
+    @Test
+    public void failedOnePhaseCommitVotesRollback() throws Exception {
+        Configuration.setLastResourceCommit(Configuration.LRC_FIRST_ENLISTED);
+        add("a", null, new IllegalStateException("Commit failed"));
+        add("b", Vote.VoteCommit);
+
+        assertSame(Vote.VoteRollback, resources.distributePrepare());
+        assertThat(calls, contains("b.prepare", "a.commit_one_phase"));
+    }
+
+    @Test
+    public void unknownStrategyIsIgnored() {
+        Configuration.setLastResourceCommit(Configuration.LRC_FIRST_ENLISTED);
+
+        assertFalse(Configuration.setLastResourceCommit("middle-enlisted"));
+        assertEquals(Configuration.LRC_FIRST_ENLISTED, Configuration.getLastResourceCommit());
+    }
+
+    private Resource add(String name, Vote vote) {
+        return add(name, vote, null);
+    }
+
+    private Resource add(String name, Vote vote, RuntimeException commitFailure) {
+        Resource resource = (Resource) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] {Resource.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "prepare":
+                        calls.add(name + ".prepare");
+                        return vote;
+                    case "commit_one_phase":
+                        calls.add(name + ".commit_one_phase");
+                        if (commitFailure != null) {
+                            throw commitFailure;
+                        }
+                        return null;
+                    case "toString":
+                        return name;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        resources.addRes(resource);
+        return resource;
+    }
+}
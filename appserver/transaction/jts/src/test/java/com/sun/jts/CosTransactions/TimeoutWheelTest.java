@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.jts.CosTransactions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimeoutWheelTest {
+
+    private static final long TICK = 1_000L;
+    private static final long START = 5_000_000L;
+
+    private final TimeoutWheel wheel = new TimeoutWheel(TICK, 4, START);
+
+
+    @Test
+    public void expiresAfterDeadline() {
+        TimeoutInfo info = schedule(1L, 10 * TICK);
+        assertThat(advance(9 * TICK), empty());
+        assertThat(advance(10 * TICK), contains(info));
+    }
+
+
+    @Test
+    public void expiredTimeoutIsReportedUntilCancelled() {
+        TimeoutInfo info = schedule(1L, TICK);
+        assertThat(advance(2 * TICK), contains(info));
+        assertThat(advance(3 * TICK), contains(info));
+        assertSame(info, wheel.get(1L));
+        assertTrue(wheel.cancel(1L));
+        assertThat(advance(4 * TICK), empty());
+        assertNull(wheel.get(1L));
+        assertTrue(wheel.isEmpty());
+    }
+
+
+    @Test
+    public void cancelledTimeoutDoesNotExpire() {
+        schedule(1L, 5 * TICK);
+        TimeoutInfo other = schedule(2L, 5 * TICK);
+        assertTrue(wheel.cancel(1L));
+        assertFalse(wheel.cancel(1L));
+        assertThat(advance(5 * TICK), contains(other));
+    }
+
+
+    @Test
+    public void rescheduleReplacesTimeout() {
+        schedule(1L, 5 * TICK);
+        TimeoutInfo replacement = schedule(1L, 100 * TICK);
+        assertThat(advance(50 * TICK), empty());
+        assertThat(advance(100 * TICK), contains(replacement));
+    }
+
+
+    @Test
+    public void cascadesFromHigherLevels() {
+        // 64 ticks per slot on the second level, 4096 on the third, 262144 on the last
+        TimeoutInfo second = schedule(1L, 70 * TICK);
+        TimeoutInfo third = schedule(2L, 5_000 * TICK);
+        TimeoutInfo fourth = schedule(3L, 300_000 * TICK);
+        TimeoutInfo beyond = schedule(4L, 20_000_000 * TICK);
+        assertThat(advance(69 * TICK), empty());
+        assertThat(advance(70 * TICK), contains(second));
+        wheel.cancel(1L);
+        assertThat(advance(4_999 * TICK), empty());
+        assertThat(advance(5_000 * TICK), contains(third));
+        wheel.cancel(2L);
+        assertThat(advance(299_999 * TICK), empty());
+        assertThat(advance(300_000 * TICK), contains(fourth));
+        wheel.cancel(3L);
+        assertThat(advance(19_999_999 * TICK), empty());
+        assertThat(advance(20_000_000 * TICK), contains(beyond));
+    }
+
+
+    @Test
+    public void timeoutsOfAllStripesExpire() {
+        List<TimeoutInfo> infos = new ArrayList<>();
+        for (long tid = 0; tid < 100; tid++) {
+            infos.add(schedule(tid, (tid % 7 + 1) * TICK));
+        }
+        assertThat(advance(7 * TICK), containsInAnyOrder(infos.toArray()));
+    }
+
+
+    private TimeoutInfo schedule(long localTID, long delayNanos) {
+        TimeoutInfo info = new TimeoutInfo(localTID, TimeoutManager.ACTIVE_TIMEOUT, 0);
+        info.deadlineNanos = START + delayNanos;
+        wheel.schedule(info);
+        return info;
+    }
+
+
+    private List<TimeoutInfo> advance(long elapsedNanos) {
+        List<TimeoutInfo> timedOut = new ArrayList<>();
+        wheel.advance(START + elapsedNanos, timedOut);
+        return timedOut;
+    }
+}
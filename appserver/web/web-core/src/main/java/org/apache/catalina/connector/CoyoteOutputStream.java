@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -21,6 +22,7 @@ import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.WriteListener;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ResourceBundle;
 
 import org.apache.catalina.LogFacade;
@@ -115,6 +117,22 @@ public class CoyoteOutputStream
     }
 
 
+    /**
+     * Writes the remaining bytes of the buffer.
+     * Read-only buffers are sent to the client without copying.
+     */
+    @Override
+    public void write(ByteBuffer buffer)
+        throws IOException {
+        // Disallow operation if the object has gone out of scope
+        if (ob == null) {
+            throw new IllegalStateException(rb.getString(LogFacade.OBJECT_INVALID_SCOPE_EXCEPTION));
+        }
+
+        ob.write(buffer);
+    }
+
+
     /**
      * Will send the buffer to the client.
      */
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -23,6 +24,7 @@ import jakarta.servlet.http.HttpServletRequest;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.nio.channels.InterruptedByTimeoutException;
 import java.util.Map;
 import java.util.ResourceBundle;
@@ -254,6 +256,42 @@ public class OutputBuffer extends Writer implements ByteChunk.ByteOutputChannel
 
     }
 
+    /**
+     * Writes the remaining bytes of the buffer and moves its position to its limit.
+     * <p>
+     * The content of a read-only buffer is passed to Grizzly without copying, so it must not change
+     * until the response is completed. Other buffers are copied.
+     *
+     * @param buffer bytes to be written to the response
+     * @throws IOException An underlying IOException occurred
+     */
+    public void write(ByteBuffer buffer) throws IOException {
+        if (suspended)
+            return;
+
+        if (grizzlyOutputBuffer.isClosed())
+            return;
+
+        log.log(FINE, "write(ByteBuffer)");
+
+        int len = buffer.remaining();
+        if (buffer.isReadOnly()) {
+            grizzlyOutputBuffer.writeByteBuffer(buffer.slice());
+        } else if (buffer.hasArray()) {
+            grizzlyOutputBuffer.write(buffer.array(), buffer.arrayOffset() + buffer.position(), len);
+        } else {
+            ByteBuffer source = buffer.duplicate();
+            byte[] chunk = new byte[Math.min(len, 8192)];
+            while (source.hasRemaining()) {
+                int count = Math.min(chunk.length, source.remaining());
+                source.get(chunk, 0, count);
+                grizzlyOutputBuffer.write(chunk, 0, count);
+            }
+        }
+        buffer.position(buffer.limit());
+        bytesWritten += len;
+    }
+
     // XXX Char or byte ?
     public void writeByte(int b) throws IOException {
         if (suspended)
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -48,10 +49,6 @@ final class ApplicationFilterChain implements FilterChain {
     private static final Logger log = LogFacade.getLogger();
     private static final ResourceBundle rb = log.getResourceBundle();
 
-    // -------------------------------------------------------------- Constants
-
-    public static final int INCREMENT = 10;
-
     // ----------------------------------------------------------- Constructors
 
     /**
@@ -64,9 +61,9 @@ final class ApplicationFilterChain implements FilterChain {
     // ----------------------------------------------------- Instance Variables
 
     /**
-     * Filters.
+     * Filters, shared with other chains and never modified.
      */
-    private ApplicationFilterConfig[] filters = new ApplicationFilterConfig[0];
+    private ApplicationFilterConfig[] filters = FilterChainCache.NO_FILTERS;
 
     /**
      * The int which is used to maintain the current position in the filter chain.
@@ -158,23 +155,21 @@ final class ApplicationFilterChain implements FilterChain {
     // -------------------------------------------------------- Package Methods
 
     /**
-     * Add a filter to the set of filters that will be executed in this chain.
+     * Sets the filters that will be executed in this chain and rewinds the chain to the first of them.
      *
-     * @param filterConfig The FilterConfig for the servlet to be executed
+     * @param filters The resolved filters, the array is not copied and must not be modified
      */
-    void addFilter(ApplicationFilterConfig filterConfig) {
-        if (n == filters.length) {
-            ApplicationFilterConfig[] newFilters = new ApplicationFilterConfig[n + INCREMENT];
-            System.arraycopy(filters, 0, newFilters, 0, n);
-            filters = newFilters;
-        }
-        filters[n++] = filterConfig;
+    void setFilters(ApplicationFilterConfig[] filters) {
+        this.filters = filters;
+        n = filters.length;
+        pos = 0;
     }
 
     /**
      * Release references to the filters and wrapper executed by this chain.
      */
     void release() {
+        filters = FilterChainCache.NO_FILTERS;
         n = 0;
         pos = 0;
         servlet = null;
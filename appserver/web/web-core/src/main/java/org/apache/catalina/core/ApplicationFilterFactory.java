@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -21,7 +22,7 @@ import jakarta.servlet.DispatcherType;
 import jakarta.servlet.Servlet;
 import jakarta.servlet.ServletRequest;
 
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 
@@ -64,6 +65,9 @@ public final class ApplicationFilterFactory {
     /**
      * Construct and return a FilterChain implementation that will wrap the execution of the specified servlet instance. If
      * we should not execute a filter chain at all, return <code>null</code>.
+     * <p>
+     * The filters are resolved once per wrapper, dispatcher type and request path and cached by the wrapper, see
+     * {@link FilterChainCache}. The returned chain only iterates over the cached filters.
      *
      * @param request The servlet request we are processing
      * @param servlet The servlet instance to be wrapped
@@ -73,16 +77,12 @@ public final class ApplicationFilterFactory {
         if (servlet == null)
             return null;
 
-        // Create and initialize a filter chain object
-        ApplicationFilterChain filterChain = null;
-
         // Acquire the filter mappings for this Context
         StandardContext context = (StandardContext) wrapper.getParent();
-        List<FilterMap> filterMaps = context.findFilterMaps();
 
         // If there are no filter mappings, we are done
-        if (filterMaps.isEmpty()) {
-            return (filterChain);
+        if (context.findFilterMaps().isEmpty()) {
+            return null;
         }
 
         // get the dispatcher type
@@ -93,15 +93,38 @@ public final class ApplicationFilterFactory {
             requestPath = attribute.toString();
         }
 
-        // Acquire the information we will need to match filter mappings
-        String servletName = wrapper.getName();
+        ApplicationFilterConfig[] filters = ((StandardWrapper) wrapper).getFilterChainCache(context)
+            .getFilters(dispatcher, requestPath);
+
+        // START IASRI 4665318
+        // Create a filter chain only when there are filters to add
+        if (filters.length == 0) {
+            return null;
+        }
+        // END IASRI 4665318
+
+        ApplicationFilterChain filterChain = internalCreateFilterChain(request, wrapper, servlet);
+        filterChain.setFilters(filters);
+        return filterChain;
+    }
 
-        int n = 0;
+    /**
+     * Resolve the filters to be executed for a request, the path-mapped filters first and then the filters mapped to
+     * the servlet name.
+     *
+     * @param context The context of the servlet
+     * @param servletName Name of the servlet to be executed
+     * @param dispatcher The dispatcher type of the request
+     * @param requestPath Context-relative request path, may be null
+     * @return the filters in the order they should be executed, empty if there are none
+     */
+    ApplicationFilterConfig[] resolveFilters(StandardContext context, String servletName, DispatcherType dispatcher,
+        String requestPath) {
+        List<FilterMap> filterMaps = context.findFilterMaps();
+        List<ApplicationFilterConfig> filters = new ArrayList<>();
 
         // Add the relevant path-mapped filters to this filter chain
-        Iterator<FilterMap> i = filterMaps.iterator();
-        while (i.hasNext()) {
-            FilterMap filterMap = i.next();
+        for (FilterMap filterMap : filterMaps) {
             if (!filterMap.getDispatcherTypes().contains(dispatcher)) {
                 continue;
             }
@@ -117,19 +140,11 @@ public final class ApplicationFilterFactory {
                 // FIXME - log configuration problem
                 continue;
             }
-            // START IASRI 4665318
-            // Create a filter chain only when there are filters to add
-            if (filterChain == null)
-                filterChain = internalCreateFilterChain(request, wrapper, servlet);
-            // END IASRI 4665318
-            filterChain.addFilter(filterConfig);
-            n++;
+            filters.add(filterConfig);
         }
 
         // Add filters that match on servlet name second
-        i = filterMaps.iterator();
-        while (i.hasNext()) {
-            FilterMap filterMap = i.next();
+        for (FilterMap filterMap : filterMaps) {
             if (!filterMap.getDispatcherTypes().contains(dispatcher)) {
                 continue;
             }
@@ -140,18 +155,13 @@ public final class ApplicationFilterFactory {
                 // FIXME - log configuration problem
                 continue;
             }
-            // START IASRI 4665318
-            // Create a filter chain only when there are filters to add
-            if (filterChain == null)
-                filterChain = internalCreateFilterChain(request, wrapper, servlet);
-            // END IASRI 4665318
-            filterChain.addFilter(filterConfig);
-            n++;
+            filters.add(filterConfig);
         }
 
-        // Return the completed filter chain
-        return (filterChain);
-
+        if (filters.isEmpty()) {
+            return FilterChainCache.NO_FILTERS;
+        }
+        return filters.toArray(new ApplicationFilterConfig[filters.size()]);
     }
 
     // -------------------------------------------------------- Private Methods
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.apache.catalina.core;
+
+import jakarta.servlet.DispatcherType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.catalina.deploy.FilterMap;
+
+/**
+ * The filter chains of one wrapper, resolved once per dispatcher type and request path and shared by all requests.
+ * <p>
+ * A cache instance is valid for one generation of the filter configuration of its context, see
+ * {@link StandardContext#getFilterChainGeneration()}. When filters or filter mappings change, the wrapper replaces
+ * the cache with a new, empty one.
+ * <p>
+ * If the URL patterns of the filter mappings for a dispatcher type do not depend on the request path, the chain is
+ * resolved once for that dispatcher type. Otherwise the chains are cached per request path, up to
+ * {@link #MAX_CACHED_PATHS} paths, further paths are resolved per request.
+ */
+final class FilterChainCache {
+
+    static final ApplicationFilterConfig[] NO_FILTERS = new ApplicationFilterConfig[0];
+
+    static final int MAX_CACHED_PATHS = 1024;
+
+    private static final DispatcherType[] DISPATCHER_TYPES = DispatcherType.values();
+
+    private final StandardContext context;
+    private final StandardWrapper wrapper;
+    private final int generation;
+
+    /**
+     * Resolved chains indexed by dispatcher type ordinal, created lazily. Races only resolve the same chains twice.
+     */
+    private final DispatcherChains[] dispatcherChains = new DispatcherChains[DISPATCHER_TYPES.length];
+
+    FilterChainCache(StandardContext context, StandardWrapper wrapper, int generation) {
+        this.context = context;
+        this.wrapper = wrapper;
+        this.generation = generation;
+    }
+
+    int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the filters to execute for a request. The returned array is shared and must not be modified.
+     *
+     * @param dispatcher the dispatcher type of the request
+     * @param requestPath the context relative request path, may be null
+     * @return the filters, empty if there are none
+     */
+    ApplicationFilterConfig[] getFilters(DispatcherType dispatcher, String requestPath) {
+        DispatcherChains chains = dispatcherChains[dispatcher.ordinal()];
+        if (chains == null) {
+            boolean pathDependent = isPathDependent(dispatcher);
+            // Any path resolves the same chain when only "/*" patterns are mapped
+            chains = new DispatcherChains(pathDependent, pathDependent ? null : resolve(dispatcher, "/"));
+            dispatcherChains[dispatcher.ordinal()] = chains;
+        }
+
+        if (requestPath == null) {
+            // Only servlet name mappings can match
+            return resolve(dispatcher, null);
+        }
+        if (!chains.pathDependent) {
+            return chains.chain;
+        }
+
+        ApplicationFilterConfig[] filters = chains.chainsByPath.get(requestPath);
+        if (filters == null) {
+            filters = resolve(dispatcher, requestPath);
+            if (chains.chainsByPath.size() < MAX_CACHED_PATHS) {
+                chains.chainsByPath.put(requestPath, filters);
+            }
+        }
+        return filters;
+    }
+
+    private ApplicationFilterConfig[] resolve(DispatcherType dispatcher, String requestPath) {
+        return ApplicationFilterFactory.getInstance().resolveFilters(context, wrapper.getName(), dispatcher, requestPath);
+    }
+
+    /**
+     * Returns true if a URL pattern other than <code>/*</code> is mapped for the dispatcher type, in which case the
+     * matching filters differ between request paths.
+     */
+    private boolean isPathDependent(DispatcherType dispatcher) {
+        List<FilterMap> filterMaps = context.findFilterMaps();
+        for (FilterMap filterMap : filterMaps) {
+            String urlPattern = filterMap.getURLPattern();
+            if (urlPattern != null && !"/*".equals(urlPattern) && filterMap.getDispatcherTypes().contains(dispatcher)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class DispatcherChains {
+
+        private final boolean pathDependent;
+
+        /**
+         * The chain for all request paths if the chain does not depend on the path.
+         */
+        private final ApplicationFilterConfig[] chain;
+
+        private final Map<String, ApplicationFilterConfig[]> chainsByPath;
+
+        DispatcherChains(boolean pathDependent, ApplicationFilterConfig[] chain) {
+            this.pathDependent = pathDependent;
+            this.chain = chain;
+            this.chainsByPath = pathDependent ? new ConcurrentHashMap<>() : null;
+        }
+    }
+}
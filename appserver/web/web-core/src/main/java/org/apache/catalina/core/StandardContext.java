@@ -427,6 +427,12 @@ public class StandardContext extends ContainerBase implements Context, ServletCo
      */
     private final List<FilterMap> filterMaps = new ArrayList<>();
 
+    /**
+     * Incremented whenever the filter mappings or filter configurations change, invalidates the filter chains cached
+     * by the wrappers.
+     */
+    private final AtomicInteger filterChainGeneration = new AtomicInteger();
+
     /**
      * The list of classnames of InstanceListeners that will be added to each newly created Wrapper by
      * <code>createWrapper()</code>.
@@ -847,6 +853,7 @@ public class StandardContext extends ContainerBase implements Context, ServletCo
      */
     public void setCaseSensitiveMapping(boolean caseSensitiveMap) {
         caseSensitiveMapping = caseSensitiveMap;
+        invalidateFilterChains();
     }
 
     /**
@@ -2084,6 +2091,7 @@ public class StandardContext extends ContainerBase implements Context, ServletCo
         } else {
             filterMaps.add(0, filterMap);
         }
+        invalidateFilterChains();
 
         if (notifyContainerListeners) {
             fireContainerEvent("addFilterMap", filterMap);
@@ -3588,6 +3596,7 @@ public class StandardContext extends ContainerBase implements Context, ServletCo
         }
 
         filterMaps.clear();
+        invalidateFilterChains();
     }
 
     @Override
@@ -3864,6 +3873,7 @@ public class StandardContext extends ContainerBase implements Context, ServletCo
                 }
             }
         }
+        invalidateFilterChains();
 
         return ok;
     }
@@ -3886,6 +3896,7 @@ public class StandardContext extends ContainerBase implements Context, ServletCo
             }
             filterConfigs.clear();
         }
+        invalidateFilterChains();
 
         return true;
     }
@@ -3901,6 +3912,20 @@ public class StandardContext extends ContainerBase implements Context, ServletCo
         return filterConfigs.get(name);
     }
 
+    /**
+     * @return the generation of the filter mappings and filter configurations, see {@link FilterChainCache}
+     */
+    int getFilterChainGeneration() {
+        return filterChainGeneration.get();
+    }
+
+    /**
+     * Discards the filter chains cached by the wrappers of this context.
+     */
+    private void invalidateFilterChains() {
+        filterChainGeneration.incrementAndGet();
+    }
+
     /**
      * Notifies all ServletContextListeners at their contextInitialized method.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Contributors to the Eclipse Foundation.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation.
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -266,6 +266,11 @@ public class StandardWrapper extends ContainerBase implements ServletConfig, Wra
 
     private boolean osgi;
 
+    /**
+     * The filter chains of this servlet, see {@link ApplicationFilterFactory#createFilterChain}.
+     */
+    private volatile FilterChainCache filterChainCache;
+
     // ------------------------------------------------------------- Properties
 
     /**
@@ -1600,6 +1605,22 @@ public class StandardWrapper extends ContainerBase implements ServletConfig, Wra
 
     // -------------------------------------------------------- Package Methods
 
+    /**
+     * Return the filter chains of this servlet, replacing them if the filters of the given context have changed since
+     * they were resolved.
+     *
+     * @param context The context of this servlet
+     */
+    FilterChainCache getFilterChainCache(StandardContext context) {
+        int generation = context.getFilterChainGeneration();
+        FilterChainCache cache = filterChainCache;
+        if (cache == null || cache.getGeneration() != generation) {
+            cache = new FilterChainCache(context, this, generation);
+            filterChainCache = cache;
+        }
+        return cache;
+    }
+
     // -------------------------------------------------------- Private Methods
 
     /**
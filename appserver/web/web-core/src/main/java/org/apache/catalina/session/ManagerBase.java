@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -161,6 +162,11 @@ public abstract class ManagerBase implements Manager {
      */
     protected Map<String, Session> sessions = new ConcurrentHashMap<String, Session>();
 
+    /**
+     * Expiration times of the active Sessions.
+     */
+    protected final SessionExpirationWheel expirationWheel = new SessionExpirationWheel();
+
     // Number of sessions created by this manager
     protected int sessionCounter = 0;
 
@@ -594,6 +600,9 @@ public abstract class ManagerBase implements Manager {
     @Override
     public void add(Session session) {
         sessions.put(session.getIdInternal(), session);
+        if (session instanceof StandardSession) {
+            expirationWheel.schedule((StandardSession) session);
+        }
         int size = sessions.size();
         if (size > maxActive) {
             synchronized (maxActiveUpdateLock) {
@@ -755,6 +764,7 @@ public abstract class ManagerBase implements Manager {
      */
     public void clearSessions() {
         sessions.clear();
+        expirationWheel.clear();
     }
 
     /**
@@ -780,6 +790,9 @@ public abstract class ManagerBase implements Manager {
     @Override
     public void remove(Session session) {
         sessions.remove(session.getIdInternal());
+        if (session instanceof StandardSession) {
+            expirationWheel.unschedule((StandardSession) session);
+        }
     }
 
     @Override
@@ -809,6 +822,39 @@ public abstract class ManagerBase implements Manager {
 
     // ------------------------------------------------------ Protected Methods
 
+    /**
+     * Return the expiration times of the active Sessions.
+     */
+    public SessionExpirationWheel getExpirationWheel() {
+        return expirationWheel;
+    }
+
+    /**
+     * Return the active sessions whose expiration time has come. They are
+     * removed from the expiration wheel, those which are still valid must be
+     * scheduled again by {@link #rescheduleExpiration(StandardSession)}.
+     *
+     * @param timeNow current time in milliseconds
+     */
+    protected List<StandardSession> findExpiringSessions(long timeNow) {
+        List<StandardSession> expiring = expirationWheel.advance(timeNow);
+        // sessions removed from this manager meanwhile
+        expiring.removeIf(session -> sessions.get(session.getIdInternal()) != session);
+        return expiring;
+    }
+
+    /**
+     * Schedule the expiration of the session again if it is still active.
+     *
+     * @param session session returned by {@link #findExpiringSessions(long)}
+     */
+    protected void rescheduleExpiration(StandardSession session) {
+        String id = session.getIdInternal();
+        if (id != null && sessions.get(id) == session) {
+            expirationWheel.schedule(session);
+        }
+    }
+
     /**
      * Get new session class to be used in the doLoad() method.
      */
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.apache.catalina.session;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.text.MessageFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.catalina.Container;
+import org.apache.catalina.LogFacade;
+import org.apache.catalina.Session;
+import org.apache.catalina.Store;
+
+/**
+ * Implementation of the <b>Manager</b> interface which keeps in the heap only
+ * the sessions held by requests.
+ * <p>
+ * When the last request holding a session ends, the session is serialized to
+ * the store, usually the {@link OffHeapStore}, and removed from the heap. The
+ * next request inflates it back. Sessions which nobody released, e.g. those
+ * created outside of a request, are swapped out by the background processing
+ * once they are idle for <code>maxIdleSwap</code> seconds.
+ */
+public final class OffHeapManager extends PersistentManagerBase {
+
+    private static final Logger log = LogFacade.getLogger();
+
+    /**
+     * The descriptive information about this implementation.
+     */
+    private static final String info = "OffHeapManager/1.0";
+
+    /**
+     * The descriptive name of this Manager implementation (for logging).
+     */
+    private static final String name = "OffHeapManager";
+
+    // swapping of a session in and out is serialized by these locks
+    private final Object[] locks = new Object[64];
+
+    // sessions moved to the store which a request may still hold, a request
+    // inflating the session takes such instance back instead of loading a copy
+    private final ConcurrentHashMap<String, DetachedSession> detached = new ConcurrentHashMap<>();
+
+    private final ReferenceQueue<OffHeapSession> detachedQueue = new ReferenceQueue<>();
+
+    public OffHeapManager() {
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        setSaveOnRestart(false);
+    }
+
+    // ------------------------------------------------------------- Properties
+
+    /**
+     * Return descriptive information about this Manager implementation and
+     * the corresponding version number, in the format
+     * <code>&lt;description&gt;/&lt;version&gt;</code>.
+     */
+    @Override
+    public String getInfo() {
+        return info;
+    }
+
+    /**
+     * Return the descriptive short name of this Manager implementation.
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    // ------------------------------------------------------ Protected Methods
+
+    @Override
+    protected StandardSession getNewSession() {
+        return new OffHeapSession(this);
+    }
+
+    /**
+     * Look for a session in the Store and, if found, move it to the Manager's
+     * list of active sessions. The session returns from the store, so unlike
+     * the other persistent managers no session created event is fired.
+     *
+     * @param id The session id
+     * @param version The requested session version
+     */
+    @Override
+    protected Session swapIn(String id, String version) throws IOException {
+        synchronized (lock(id)) {
+            // other request could inflate the session meanwhile
+            Session session = sessions.get(id);
+            if (session != null) {
+                return session;
+            }
+
+            // a request still holds the instance moved to the store
+            DetachedSession reference = detached.remove(id);
+            OffHeapSession held = reference == null ? null : reference.get();
+            if (held != null) {
+                synchronized (held) {
+                    if (held.isSwappedOut() && held.isValid()) {
+                        attach(held);
+                        return held;
+                    }
+                }
+            }
+
+            Store store = getStore();
+            if (store == null) {
+                return null;
+            }
+            session = load(store, id, version);
+            if (session == null) {
+                return null;
+            }
+            store.remove(id);
+            if (!session.isValid()) {
+                log.log(Level.SEVERE, LogFacade.INVALID_EXPIRED_SESSION_EXCEPTION);
+                return null;
+            }
+            if (log.isLoggable(Level.FINE)) {
+                log.log(Level.FINE, LogFacade.SWAPPING_SESSION_FROM_STORE, id);
+            }
+            session.setManager(this);
+            add(session);
+            ((StandardSession) session).activate();
+            return session;
+        }
+    }
+
+    /**
+     * Remove the session from the Manager's list of active sessions and write
+     * it out to the Store, unless a request holds it.
+     *
+     * @param session The Session to write out.
+     */
+    @Override
+    protected void swapOut(Session session) throws IOException {
+        if (!(session instanceof OffHeapSession)) {
+            super.swapOut(session);
+            return;
+        }
+
+        OffHeapSession offHeapSession = (OffHeapSession) session;
+        synchronized (lock(session.getIdInternal())) {
+            synchronized (offHeapSession) {
+                if (getStore() == null || offHeapSession.isHeld() || offHeapSession.isSwappedOut()
+                        || !offHeapSession.isValid()) {
+                    return;
+                }
+                offHeapSession.passivate();
+                writeSession(offHeapSession);
+                removeSuper(offHeapSession);
+                // not recycled, a request which has just found it can take it back
+                offHeapSession.setSwappedOut(true);
+                expungeDetached();
+                detached.put(session.getIdInternal(), new DetachedSession(offHeapSession, detachedQueue));
+            }
+        }
+    }
+
+    // -------------------------------------------------------- Package Methods
+
+    /**
+     * Called when the last request holding the session ended.
+     */
+    void release(OffHeapSession session) {
+        if (!isStarted()) {
+            return;
+        }
+        try {
+            swapOut(session);
+        } catch (IOException e) {
+            // This is logged in writeSession(), the session stays in the heap
+        }
+    }
+
+    /**
+     * Called when a request accessed the session it found just before the
+     * session was moved to the store.
+     */
+    void reattach(OffHeapSession session) {
+        String id = session.getIdInternal();
+        synchronized (lock(id)) {
+            synchronized (session) {
+                if (!session.isSwappedOut()) {
+                    return;
+                }
+                DetachedSession reference = detached.get(id);
+                if (reference != null && reference.get() == session) {
+                    detached.remove(id, reference);
+                }
+                if (sessions.get(id) != null) {
+                    // swapIn() takes back the held instance, so no other copy
+                    // is inflated while a request holds this one
+                    if (log.isLoggable(Level.FINE)) {
+                        log.log(Level.FINE, "Session {0} was inflated concurrently, changes of this copy are not kept", id);
+                    }
+                    return;
+                }
+                attach(session);
+            }
+        }
+    }
+
+    // -------------------------------------------------------- Private Methods
+
+    private Object lock(String id) {
+        return locks[(id.hashCode() & Integer.MAX_VALUE) % locks.length];
+    }
+
+    /**
+     * Return the session moved to the store back to the list of active
+     * sessions, the caller holds the locks of the session.
+     */
+    private void attach(OffHeapSession session) {
+        try {
+            Store store = getStore();
+            if (store != null) {
+                store.remove(session.getIdInternal());
+            }
+        } catch (IOException e) {
+            log.log(Level.WARNING, LogFacade.REMOVING_SESSION_EXCEPTION, e);
+        }
+        session.setSwappedOut(false);
+        add(session);
+        session.activate();
+    }
+
+    private Session load(Store store, String id, String version) throws IOException {
+        Thread thread = Thread.currentThread();
+        ClassLoader oldCl = thread.getContextClassLoader();
+        Container container = getContainer();
+        if (container != null && container.getLoader() != null) {
+            thread.setContextClassLoader(container.getLoader().getClassLoader());
+        }
+        try {
+            if (version != null) {
+                return ((StoreBase) store).load(id, version);
+            }
+            return store.load(id);
+        } catch (ClassNotFoundException e) {
+            String msg = MessageFormat.format(rb.getString(LogFacade.DESERILIZING_SESSION_EXCEPTION), new Object[] { id, e });
+            log.log(Level.SEVERE, msg);
+            throw new IllegalStateException(msg);
+        } finally {
+            thread.setContextClassLoader(oldCl);
+        }
+    }
+
+    private void expungeDetached() {
+        Reference<? extends OffHeapSession> reference;
+        while ((reference = detachedQueue.poll()) != null) {
+            DetachedSession detachedSession = (DetachedSession) reference;
+            detached.remove(detachedSession.id, detachedSession);
+        }
+    }
+
+    /**
+     * Weak reference to the session moved to the store.
+     */
+    private static final class DetachedSession extends WeakReference<OffHeapSession> {
+
+        final String id;
+
+        DetachedSession(OffHeapSession session, ReferenceQueue<OffHeapSession> queue) {
+            super(session, queue);
+            this.id = session.getIdInternal();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.apache.catalina.session;
+
+import org.apache.catalina.Manager;
+
+/**
+ * Session of the {@link OffHeapManager}.
+ * <p>
+ * The session counts the requests holding it. When the last of them ends,
+ * the manager moves the session to its store, and when a request accesses
+ * the session again after that, it is returned to the manager.
+ */
+public class OffHeapSession extends StandardSession {
+
+    private static final long serialVersionUID = 1L;
+
+    // count of requests holding this session, guarded by this
+    private transient int accessCount;
+
+    // the session was moved to the store, guarded by this
+    private transient boolean swappedOut;
+
+    /**
+     * Construct a new Session associated with the specified Manager.
+     *
+     * @param manager The manager with which this Session is associated
+     */
+    public OffHeapSession(Manager manager) {
+        super(manager);
+    }
+
+    /**
+     * Update the accessed time information for this session and hold it in
+     * the heap until {@link #endAccess()}.
+     */
+    @Override
+    public void access() {
+        boolean reattach;
+        synchronized (this) {
+            accessCount++;
+            reattach = swappedOut;
+        }
+        if (reattach && manager instanceof OffHeapManager) {
+            // the session was moved to the store after the request found it
+            ((OffHeapManager) manager).reattach(this);
+        }
+        super.access();
+    }
+
+    /**
+     * End the access, the session is moved to the store when no other
+     * request holds it.
+     */
+    @Override
+    public void endAccess() {
+        super.endAccess();
+        boolean idle;
+        synchronized (this) {
+            idle = accessCount > 0 && --accessCount == 0;
+        }
+        if (idle && manager instanceof OffHeapManager) {
+            ((OffHeapManager) manager).release(this);
+        }
+    }
+
+    /**
+     * @return true if any request holds this session
+     */
+    synchronized boolean isHeld() {
+        return accessCount > 0;
+    }
+
+    synchronized boolean isSwappedOut() {
+        return swappedOut;
+    }
+
+    synchronized void setSwappedOut(boolean swappedOut) {
+        this.swappedOut = swappedOut;
+    }
+}
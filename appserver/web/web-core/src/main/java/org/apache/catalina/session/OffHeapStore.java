@@ -0,0 +1,471 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.apache.catalina.session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.catalina.Container;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.Session;
+import org.apache.catalina.core.StandardContext;
+
+/**
+ * Implementation of the <b>Store</b> interface which keeps serialized sessions
+ * in the direct memory, out of the reach of the garbage collector.
+ * <p>
+ * The memory is allocated in slabs and split to blocks of power of two sizes,
+ * released blocks are reused by sessions of the same size class. Sessions
+ * larger than a slab get their own buffer. The content of the store does not
+ * survive a restart.
+ * <p>
+ * Expiration of the stored sessions is driven by a timing wheel with a slot per
+ * second, so {@link #processExpires()} looks only at sessions which expire
+ * since the previous run instead of loading every stored session.
+ */
+public final class OffHeapStore extends StoreBase {
+
+    /**
+     * Default size of the direct memory slab.
+     */
+    public static final int DEFAULT_SLAB_SIZE = 1024 * 1024;
+
+    private static final int MIN_BLOCK_SIZE = 256;
+
+    /**
+     * Count of the timing wheel slots, each covers one second.
+     */
+    private static final int WHEEL_SIZE = 4096;
+
+    // ----------------------------------------------------- Instance Variables
+
+    private final ConcurrentHashMap<String, StoredSession> sessions = new ConcurrentHashMap<>();
+
+    // free blocks by the size class, MIN_BLOCK_SIZE << index bytes each
+    private final ConcurrentLinkedQueue<ByteBuffer>[] freeBlocks;
+
+    private final Set<String>[] wheel;
+
+    // the last second already processed by processExpires()
+    private volatile long wheelTime;
+
+    private final int slabSize;
+
+    // the slab new blocks are cut from, guarded by this
+    private ByteBuffer slab;
+
+    private final AtomicLong allocatedMemory = new AtomicLong();
+
+    private final AtomicLong usedMemory = new AtomicLong();
+
+    private long maxMemory = -1;
+
+    // ----------------------------------------------------------- Constructors
+
+    public OffHeapStore() {
+        this(DEFAULT_SLAB_SIZE);
+    }
+
+    /**
+     * @param slabSize size of the direct memory slabs, at least 256 bytes,
+     * rounded down to a power of two
+     */
+    @SuppressWarnings("unchecked")
+    public OffHeapStore(int slabSize) {
+        if (slabSize < MIN_BLOCK_SIZE) {
+            throw new IllegalArgumentException("Slab size " + slabSize + " is smaller than " + MIN_BLOCK_SIZE);
+        }
+        this.slabSize = Integer.highestOneBit(slabSize);
+        this.freeBlocks = new ConcurrentLinkedQueue[sizeClass(this.slabSize) + 1];
+        for (int i = 0; i < freeBlocks.length; i++) {
+            freeBlocks[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.wheel = new Set[WHEEL_SIZE];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.wheelTime = System.currentTimeMillis() / 1000L - 1;
+        info = "OffHeapStore/1.0";
+        storeName = "offHeapStore";
+    }
+
+    // ------------------------------------------------------------- Properties
+
+    /**
+     * Return the maximal size of the direct memory used by this store in
+     * bytes, -1 if unlimited.
+     */
+    public long getMaxMemory() {
+        return maxMemory;
+    }
+
+    /**
+     * Set the maximal size of the direct memory used by this store. Sessions
+     * which do not fit fail to be saved and stay in the heap.
+     *
+     * @param maxMemory size in bytes, -1 if unlimited
+     */
+    public void setMaxMemory(long maxMemory) {
+        long oldMaxMemory = this.maxMemory;
+        this.maxMemory = maxMemory;
+        support.firePropertyChange("maxMemory", Long.valueOf(oldMaxMemory), Long.valueOf(this.maxMemory));
+    }
+
+    /**
+     * Return the size of the direct memory allocated by this store in bytes.
+     */
+    public long getAllocatedMemory() {
+        return allocatedMemory.get();
+    }
+
+    /**
+     * Return the size of the direct memory occupied by stored sessions in
+     * bytes, including the unused ends of their blocks.
+     */
+    public long getUsedMemory() {
+        return usedMemory.get();
+    }
+
+    /**
+     * Return the number of Sessions present in this Store.
+     */
+    @Override
+    public int getSize() {
+        return sessions.size();
+    }
+
+    // --------------------------------------------------------- Public Methods
+
+    /**
+     * Remove all of the Sessions in this Store.
+     */
+    @Override
+    public void clear() {
+        for (String id : sessions.keySet()) {
+            remove(id);
+        }
+    }
+
+    /**
+     * Return an array containing the session identifiers of all Sessions
+     * currently saved in this Store.
+     */
+    @Override
+    public String[] keys() {
+        return sessions.keySet().toArray(new String[0]);
+    }
+
+    /**
+     * Load and return the Session associated with the specified session
+     * identifier from this Store, without removing it. If there is no
+     * such stored Session, return <code>null</code>.
+     *
+     * @param id Session identifier of the session to load
+     *
+     * @exception ClassNotFoundException if a deserialization error occurs
+     * @exception IOException if an input/output error occurs
+     */
+    @Override
+    public Session load(String id) throws ClassNotFoundException, IOException {
+        byte[] bytes = read(id);
+        if (bytes == null) {
+            return null;
+        }
+        if (debug >= 1) {
+            log("Loading session " + id + " from the direct memory");
+        }
+
+        ObjectInputStream ois;
+        ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
+        Container container = manager.getContainer();
+        if (container != null) {
+            ois = ((StandardContext) container).createObjectInputStream(bais);
+        } else {
+            ois = new ObjectInputStream(bais);
+        }
+        try {
+            StandardSession session = StandardSession.deserialize(ois, manager);
+            session.setManager(manager);
+            return session;
+        } finally {
+            ois.close();
+        }
+    }
+
+    /**
+     * Remove the Session with the specified session identifier from
+     * this Store, if present. If no such Session is present, this method
+     * takes no action.
+     *
+     * @param id Session identifier of the Session to be removed
+     */
+    @Override
+    public void remove(String id) {
+        StoredSession stored = sessions.remove(id);
+        if (stored != null) {
+            unschedule(id, stored);
+            release(stored);
+        }
+    }
+
+    /**
+     * Save the specified Session into this Store. Any previously saved
+     * information for the associated session identifier is replaced.
+     *
+     * @param session Session to be saved
+     *
+     * @exception IOException if the session is not serializable or if the
+     * configured maximal memory is exhausted
+     */
+    @Override
+    public void save(Session session) throws IOException {
+        String id = session.getIdInternal();
+        if (debug >= 1) {
+            log("Saving session " + id + " to the direct memory");
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(2 * MIN_BLOCK_SIZE);
+        ObjectOutputStream oos;
+        Container container = manager.getContainer();
+        if (container != null) {
+            oos = ((StandardContext) container).createObjectOutputStream(baos);
+        } else {
+            oos = new ObjectOutputStream(baos);
+        }
+        try {
+            oos.writeObject(session);
+        } finally {
+            oos.close();
+        }
+        byte[] bytes = baos.toByteArray();
+
+        ByteBuffer block = allocate(bytes.length);
+        block.put(0, bytes);
+        long expireTime = getExpireTime(session);
+        // sessions already expired are processed next time
+        long wheelSecond = Math.max(expireTime / 1000L, wheelTime + 1);
+        StoredSession stored = new StoredSession(block, bytes.length, expireTime, wheelSecond);
+        StoredSession oldStored = sessions.put(id, stored);
+        if (oldStored != null) {
+            unschedule(id, oldStored);
+            release(oldStored);
+        }
+        if (expireTime >= 0) {
+            wheel[slot(wheelSecond)].add(id);
+        }
+    }
+
+    /**
+     * Expire the stored sessions whose time has come since the previous run.
+     * Called by the manager's background thread.
+     */
+    @Override
+    public void processExpires() {
+        if (!started) {
+            return;
+        }
+
+        long timeNow = System.currentTimeMillis();
+        long from;
+        long to;
+        synchronized (wheel) {
+            // the current second is not over yet, it is processed next time
+            to = timeNow / 1000L - 1;
+            from = Math.max(wheelTime + 1, to - WHEEL_SIZE + 1);
+            wheelTime = to;
+        }
+
+        for (long second = from; second <= to; second++) {
+            for (String id : wheel[slot(second)]) {
+                StoredSession stored = sessions.get(id);
+                // sessions of later rounds of the wheel stay in the slot
+                if (stored != null && stored.expireTime <= timeNow) {
+                    expire(id);
+                }
+            }
+        }
+    }
+
+    /**
+     * Release the direct memory.
+     */
+    @Override
+    public void stop() throws LifecycleException {
+        super.stop();
+        clear();
+        synchronized (this) {
+            slab = null;
+        }
+        for (ConcurrentLinkedQueue<ByteBuffer> blocks : freeBlocks) {
+            blocks.clear();
+        }
+        allocatedMemory.set(0);
+    }
+
+    // -------------------------------------------------------- Private Methods
+
+    private void expire(String id) {
+        try {
+            StandardSession session = (StandardSession) load(id);
+            if (session != null) {
+                if (((PersistentManagerBase) manager).isLoaded(id)) {
+                    // recycle old backup session
+                    session.recycle();
+                } else {
+                    // expire swapped out session
+                    session.expire();
+                }
+            }
+        } catch (ClassNotFoundException | IOException e) {
+            log("Error during processExpires: " + e);
+        }
+        remove(id);
+    }
+
+    /**
+     * Copy the bytes of the stored session to the heap. Blocks are reused as
+     * soon as they are released, so the copy is valid only if the session was
+     * not replaced while it was being copied.
+     */
+    private byte[] read(String id) {
+        while (true) {
+            StoredSession stored = sessions.get(id);
+            if (stored == null) {
+                return null;
+            }
+            byte[] bytes = new byte[stored.length];
+            stored.block.get(0, bytes);
+            if (sessions.get(id) == stored) {
+                return bytes;
+            }
+        }
+    }
+
+    private static long getExpireTime(Session session) {
+        int maxInactiveInterval = session.getMaxInactiveInterval();
+        if (maxInactiveInterval < 0) {
+            return -1;
+        }
+        long accessedTime = session instanceof StandardSession
+            ? ((StandardSession) session).thisAccessedTime : session.getLastAccessedTime();
+        return accessedTime + maxInactiveInterval * 1000L;
+    }
+
+    private void unschedule(String id, StoredSession stored) {
+        if (stored.expireTime >= 0) {
+            wheel[slot(stored.wheelSecond)].remove(id);
+        }
+    }
+
+    private static int slot(long second) {
+        return (int) (second & (WHEEL_SIZE - 1));
+    }
+
+    /**
+     * @return index of the smallest size class the given length fits
+     */
+    private static int sizeClass(int length) {
+        if (length <= MIN_BLOCK_SIZE) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros((length - 1) / MIN_BLOCK_SIZE);
+    }
+
+    private ByteBuffer allocate(int length) throws IOException {
+        if (length > slabSize) {
+            reserve(length);
+            usedMemory.addAndGet(length);
+            return ByteBuffer.allocateDirect(length);
+        }
+
+        int sizeClass = sizeClass(length);
+        int blockSize = MIN_BLOCK_SIZE << sizeClass;
+        ByteBuffer block = freeBlocks[sizeClass].poll();
+        if (block == null) {
+            block = cut(blockSize);
+        }
+        usedMemory.addAndGet(blockSize);
+        return block;
+    }
+
+    private synchronized ByteBuffer cut(int blockSize) throws IOException {
+        if (slab == null || slab.remaining() < blockSize) {
+            reserve(slabSize);
+            if (slab != null) {
+                // the rest of the old slab is split to blocks of the smaller classes
+                while (slab.remaining() >= MIN_BLOCK_SIZE) {
+                    int rest = Integer.highestOneBit(slab.remaining());
+                    freeBlocks[sizeClass(rest)].add(slice(slab, rest));
+                }
+            }
+            slab = ByteBuffer.allocateDirect(slabSize);
+        }
+        return slice(slab, blockSize);
+    }
+
+    private static ByteBuffer slice(ByteBuffer slab, int size) {
+        ByteBuffer block = slab.slice(slab.position(), size);
+        slab.position(slab.position() + size);
+        return block;
+    }
+
+    private void reserve(int size) throws IOException {
+        long allocated = allocatedMemory.addAndGet(size);
+        if (maxMemory >= 0 && allocated > maxMemory) {
+            allocatedMemory.addAndGet(-size);
+            throw new IOException("The direct memory of the session store is exhausted, maximal size is " + maxMemory);
+        }
+    }
+
+    private void release(StoredSession stored) {
+        ByteBuffer block = stored.block;
+        int size = block.capacity();
+        usedMemory.addAndGet(-size);
+        if (size > slabSize) {
+            // the buffer of its own is freed by the garbage collector
+            allocatedMemory.addAndGet(-size);
+        } else {
+            freeBlocks[sizeClass(size)].add(block);
+        }
+    }
+
+    /**
+     * Serialized session in the direct memory.
+     */
+    private static final class StoredSession {
+
+        final ByteBuffer block;
+        final int length;
+        final long expireTime;
+        final long wheelSecond;
+
+        StoredSession(ByteBuffer block, int length, long expireTime, long wheelSecond) {
+            this.block = block;
+            this.length = length;
+            this.expireTime = expireTime;
+            this.wheelSecond = wheelSecond;
+        }
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -470,10 +471,7 @@ public abstract class PersistentManagerBase extends ManagerBase implements Lifec
         if (!started)
             return;
 
-        Session sessions[] = findSessions();
-
-        for (int i = 0; i < sessions.length; i++) {
-            StandardSession session = (StandardSession) sessions[i];
+        for (StandardSession session : findExpiringSessions(System.currentTimeMillis())) {
             if (!session.getIsValid() || session.hasExpired()) {
                 if (session.lockBackground()) {
                     try {
@@ -483,6 +481,8 @@ public abstract class PersistentManagerBase extends ManagerBase implements Lifec
                     }
                 }
             }
+            // accessed since it was scheduled, or locked by a request
+            rescheduleExpiration(session);
         }
     }
 
@@ -646,6 +646,7 @@ public abstract class PersistentManagerBase extends ManagerBase implements Lifec
     public void load() {
         // Initialize our internal data structures
         sessions.clear();
+        expirationWheel.clear();
 
         if (store == null)
             return;
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.apache.catalina.session;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel of session expirations.
+ * <p>
+ * The first level has a slot per second, each next level has slots covering
+ * 64 times longer periods. When the wheel turns to a slot of a higher level,
+ * its sessions are moved to the lower levels, so the cost of the expiration
+ * processing is proportional to the count of sessions whose time has come,
+ * not to the count of all sessions.
+ * <p>
+ * The scheduled time is moved only if the session expires sooner than
+ * scheduled. A session accessed later is returned by {@link #advance(long)}
+ * at its original time and the manager schedules it again, so the requests
+ * do not need to touch the wheel.
+ */
+public final class SessionExpirationWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    // index of the slot of sessions expiring beyond the last level
+    private static final int OVERFLOW = LEVELS * SLOTS;
+
+    // all slots guarded by this
+    private final Set<StandardSession>[] slots;
+
+    // the last processed second
+    private long currentSecond;
+
+    private int size;
+
+    public SessionExpirationWheel() {
+        this(System.currentTimeMillis());
+    }
+
+    /**
+     * @param timeNow time of the start of the wheel in milliseconds
+     */
+    @SuppressWarnings("unchecked")
+    SessionExpirationWheel(long timeNow) {
+        slots = new Set[OVERFLOW + 1];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new HashSet<>();
+        }
+        currentSecond = timeNow / 1000L;
+    }
+
+    /**
+     * Schedule the expiration of the session by its last access time and
+     * maximal inactive interval, unless it is already scheduled sooner.
+     *
+     * @param session session to schedule
+     */
+    public void schedule(StandardSession session) {
+        long second = getExpirationSecond(session);
+        long scheduledSecond = session.expirationSecond;
+        if (scheduledSecond != 0 && second != 0 && scheduledSecond <= second) {
+            // checked again at the scheduled time
+            return;
+        }
+        synchronized (this) {
+            place(session, second, currentSecond + 1);
+        }
+    }
+
+    /**
+     * Remove the session from the wheel.
+     *
+     * @param session session which does not expire in this wheel anymore
+     */
+    public void unschedule(StandardSession session) {
+        if (session.expirationSecond == 0) {
+            return;
+        }
+        synchronized (this) {
+            place(session, 0, 0);
+        }
+    }
+
+    /**
+     * Turn the wheel to the given time.
+     *
+     * @param timeNow current time in milliseconds
+     * @return sessions scheduled to expire till now, they are removed from
+     * the wheel and must be scheduled again if they have not expired yet
+     */
+    public synchronized List<StandardSession> advance(long timeNow) {
+        List<StandardSession> due = new ArrayList<>();
+        long targetSecond = timeNow / 1000L;
+        while (currentSecond < targetSecond) {
+            currentSecond++;
+
+            // the higher levels first, they may move sessions to the slot
+            // of a lower level which comes now
+            for (int level = LEVELS; level > 0; level--) {
+                if ((currentSecond & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level == LEVELS ? OVERFLOW : slotIndex(level, currentSecond));
+                }
+            }
+
+            Set<StandardSession> slot = slots[slotIndex(0, currentSecond)];
+            for (StandardSession session : slot) {
+                session.expirationSlot = 0;
+                session.expirationSecond = 0;
+                due.add(session);
+            }
+            size -= slot.size();
+            slot.clear();
+        }
+        return due;
+    }
+
+    /**
+     * @return count of scheduled sessions
+     */
+    public synchronized int getSize() {
+        return size;
+    }
+
+    /**
+     * Remove all sessions from the wheel.
+     */
+    public synchronized void clear() {
+        for (Set<StandardSession> slot : slots) {
+            for (StandardSession session : slot) {
+                session.expirationSlot = 0;
+                session.expirationSecond = 0;
+            }
+            slot.clear();
+        }
+        size = 0;
+    }
+
+    private void cascade(int index) {
+        Set<StandardSession> slot = slots[index];
+        if (slot.isEmpty()) {
+            return;
+        }
+        List<StandardSession> sessions = new ArrayList<>(slot);
+        slot.clear();
+        size -= sessions.size();
+        for (StandardSession session : sessions) {
+            long second = session.expirationSecond;
+            session.expirationSlot = 0;
+            session.expirationSecond = 0;
+            // the slot of the current second is processed after the cascade
+            place(session, second, currentSecond);
+        }
+    }
+
+    /**
+     * Move the session to the slot of the given second.
+     *
+     * @param second second of the expiration, 0 to remove the session
+     * @param earliestSecond the first second whose slot is not processed yet
+     */
+    private void place(StandardSession session, long second, long earliestSecond) {
+        if (session.expirationSlot != 0) {
+            slots[session.expirationSlot - 1].remove(session);
+            size--;
+        }
+        if (second == 0) {
+            session.expirationSlot = 0;
+            session.expirationSecond = 0;
+            return;
+        }
+
+        // already expired sessions are returned at the next turn
+        if (second < earliestSecond) {
+            second = earliestSecond;
+        }
+        long delay = second - currentSecond;
+        int index = OVERFLOW;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delay < 1L << (SLOT_BITS * (level + 1))) {
+                index = slotIndex(level, second);
+                break;
+            }
+        }
+        slots[index].add(session);
+        size++;
+        session.expirationSlot = index + 1;
+        session.expirationSecond = second;
+    }
+
+    private static int slotIndex(int level, long second) {
+        return level * SLOTS + (int) ((second >> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    /**
+     * @return the first second when the session is expired, 0 if it never expires
+     */
+    private static long getExpirationSecond(StandardSession session) {
+        int maxInactiveInterval = session.maxInactiveInterval;
+        if (maxInactiveInterval < 0) {
+            return 0;
+        }
+        long expirationTime = session.thisAccessedTime + maxInactiveInterval * 1000L;
+        // rounded up, the session must not be returned before its time
+        return (expirationTime + 999L) / 1000L;
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -367,6 +368,7 @@ public class StandardManager extends ManagerBase implements Lifecycle, PropertyC
 
         // Initialize our internal data structures
         sessions.clear();
+        expirationWheel.clear();
 
         ObjectInputStream ois = null;
         try {
@@ -402,6 +404,7 @@ public class StandardManager extends ManagerBase implements Lifecycle, PropertyC
                     StandardSession session = StandardSession.deserialize(ois, this);
                     session.setManager(this);
                     sessions.put(session.getIdInternal(), session);
+                    rescheduleExpiration(session);
                     session.activate();
                 }
             } catch (ClassNotFoundException e) {
@@ -796,18 +799,16 @@ public class StandardManager extends ManagerBase implements Lifecycle, PropertyC
     public void processExpires() {
         long timeNow = System.currentTimeMillis();
 
-        Session[] sessions = findSessions();
-        if (sessions != null) {
-            for (Session session : sessions) {
-                StandardSession sess = (StandardSession) session;
-                if (sess.lockBackground()) {
-                    try {
-                        sess.isValid();
-                    } finally {
-                        sess.unlockBackground();
-                    }
+        for (StandardSession sess : findExpiringSessions(timeNow)) {
+            if (sess.lockBackground()) {
+                try {
+                    sess.isValid();
+                } finally {
+                    sess.unlockBackground();
                 }
             }
+            // accessed since it was scheduled, or locked by a request
+            rescheduleExpiration(sess);
         }
 
         long timeEnd = System.currentTimeMillis();
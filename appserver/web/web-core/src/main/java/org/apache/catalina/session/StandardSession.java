@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997-2018 Oracle and/or its affiliates. All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -266,6 +267,16 @@ public class StandardSession implements HttpSession, Session, Serializable {
      */
     protected long thisAccessedTime = creationTime;
 
+    /**
+     * The slot of the manager's expiration wheel this session is in, 0 if none, guarded by the wheel.
+     */
+    transient int expirationSlot;
+
+    /**
+     * The second this session is scheduled to expire at by the manager's expiration wheel, 0 if not scheduled.
+     */
+    transient volatile long expirationSecond;
+
     /**
      * The session version, incremented and used by in-memory-replicating session managers
      */
@@ -547,6 +558,8 @@ public class StandardSession implements HttpSession, Session, Serializable {
         this.maxInactiveInterval = interval;
         if (isValid && interval == 0) {
             expire();
+        } else if (id != null) {
+            scheduleExpiration();
         }
 
     }
@@ -655,6 +668,7 @@ public class StandardSession implements HttpSession, Session, Serializable {
         this.thisAccessedTime = System.currentTimeMillis();
 
         evaluateIfValid();
+        scheduleExpiration();
     }
 
     /**
@@ -663,6 +677,7 @@ public class StandardSession implements HttpSession, Session, Serializable {
     @Override
     public void endAccess() {
         isNew = false;
+        scheduleExpiration();
     }
 
     /**
@@ -1907,6 +1922,15 @@ public class StandardSession implements HttpSession, Session, Serializable {
 
     }
 
+    /**
+     * Let the manager's expiration wheel know about the current expiration time of this session.
+     */
+    protected void scheduleExpiration() {
+        if (this.isValid && !expiring && manager instanceof ManagerBase) {
+            ((ManagerBase) manager).getExpirationWheel().schedule(this);
+        }
+    }
+
     // ------------------------------------------------------ Protected Methods
 
     /**
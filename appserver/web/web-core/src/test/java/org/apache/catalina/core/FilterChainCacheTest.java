@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package org.apache.catalina.core;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+import org.apache.catalina.deploy.FilterDef;
+import org.apache.catalina.deploy.FilterMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class FilterChainCacheTest {
+
+    private final StandardContext context = new StandardContext();
+    private final StandardWrapper wrapper = new StandardWrapper();
+
+    @BeforeEach
+    public void setUp() {
+        context.setName("testContext");
+        wrapper.setName("testServlet");
+        addFilter("all", "/*");
+    }
+
+
+    @Test
+    public void slashStarMappingsShareOneChainForAllPaths() {
+        context.filterStart();
+        FilterChainCache cache = wrapper.getFilterChainCache(context);
+
+        ApplicationFilterConfig[] filters = cache.getFilters(DispatcherType.REQUEST, "/a");
+        assertArrayEquals(configs("all"), filters);
+        assertSame(filters, cache.getFilters(DispatcherType.REQUEST, "/b/c"));
+        assertSame(FilterChainCache.NO_FILTERS, cache.getFilters(DispatcherType.FORWARD, "/a"));
+    }
+
+    @Test
+    public void pathDependentChainsAreCachedPerPath() {
+        addFilter("admin", "/admin/*");
+        context.filterStart();
+        FilterChainCache cache = wrapper.getFilterChainCache(context);
+
+        ApplicationFilterConfig[] admin = cache.getFilters(DispatcherType.REQUEST, "/admin/users");
+        ApplicationFilterConfig[] other = cache.getFilters(DispatcherType.REQUEST, "/public");
+        assertArrayEquals(configs("all", "admin"), admin);
+        assertArrayEquals(configs("all"), other);
+        assertSame(admin, cache.getFilters(DispatcherType.REQUEST, "/admin/users"));
+        assertSame(other, cache.getFilters(DispatcherType.REQUEST, "/public"));
+    }
+
+    @Test
+    public void cachedPathsAreCapped() {
+        addFilter("admin", "/admin/*");
+        context.filterStart();
+        FilterChainCache cache = wrapper.getFilterChainCache(context);
+
+        ApplicationFilterConfig[] first = cache.getFilters(DispatcherType.REQUEST, "/path0");
+        for (int i = 1; i < FilterChainCache.MAX_CACHED_PATHS; i++) {
+            cache.getFilters(DispatcherType.REQUEST, "/path" + i);
+        }
+
+        assertSame(first, cache.getFilters(DispatcherType.REQUEST, "/path0"));
+        ApplicationFilterConfig[] uncached = cache.getFilters(DispatcherType.REQUEST, "/uncached");
+        assertArrayEquals(configs("all"), uncached);
+        assertNotSame(uncached, cache.getFilters(DispatcherType.REQUEST, "/uncached"));
+    }
+
+    @Test
+    public void addingFilterMapInvalidatesCache() {
+        FilterDef filterDef = filterDef("admin");
+        context.addFilterDef(filterDef);
+        context.filterStart();
+        FilterChainCache cache = wrapper.getFilterChainCache(context);
+        assertArrayEquals(configs("all"), cache.getFilters(DispatcherType.REQUEST, "/admin/users"));
+        assertSame(cache, wrapper.getFilterChainCache(context));
+
+        context.addFilterMap(filterMap("admin", "/admin/*"));
+
+        FilterChainCache changed = wrapper.getFilterChainCache(context);
+        assertNotSame(cache, changed);
+        assertArrayEquals(configs("all", "admin"), changed.getFilters(DispatcherType.REQUEST, "/admin/users"));
+    }
+
+    @Test
+    public void removingFilterMapsInvalidatesCache() {
+        context.filterStart();
+        FilterChainCache cache = wrapper.getFilterChainCache(context);
+        assertArrayEquals(configs("all"), cache.getFilters(DispatcherType.REQUEST, "/a"));
+
+        context.removeFilterMaps();
+
+        FilterChainCache changed = wrapper.getFilterChainCache(context);
+        assertNotSame(cache, changed);
+        assertSame(FilterChainCache.NO_FILTERS, changed.getFilters(DispatcherType.REQUEST, "/a"));
+    }
+
+    @Test
+    public void stoppingFiltersInvalidatesCache() {
+        context.filterStart();
+        FilterChainCache cache = wrapper.getFilterChainCache(context);
+        assertArrayEquals(configs("all"), cache.getFilters(DispatcherType.REQUEST, "/a"));
+
+        context.filterStop();
+
+        FilterChainCache changed = wrapper.getFilterChainCache(context);
+        assertNotSame(cache, changed);
+        assertSame(FilterChainCache.NO_FILTERS, changed.getFilters(DispatcherType.REQUEST, "/a"));
+    }
+
+    private void addFilter(String filterName, String urlPattern) {
+        context.addFilterDef(filterDef(filterName));
+        context.addFilterMap(filterMap(filterName, urlPattern));
+    }
+
+    private ApplicationFilterConfig[] configs(String... filterNames) {
+        ApplicationFilterConfig[] configs = new ApplicationFilterConfig[filterNames.length];
+        for (int i = 0; i < filterNames.length; i++) {
+            configs[i] = (ApplicationFilterConfig) context.findFilterConfig(filterNames[i]);
+        }
+        return configs;
+    }
+
+    private static FilterDef filterDef(String filterName) {
+        FilterDef filterDef = new FilterDef();
+        filterDef.setFilterName(filterName);
+        filterDef.setFilterClass(TestFilter.class);
+        return filterDef;
+    }
+
+    private static FilterMap filterMap(String filterName, String urlPattern) {
+        FilterMap filterMap = new FilterMap();
+        filterMap.setFilterName(filterName);
+        filterMap.setURLPattern(urlPattern);
+        return filterMap;
+    }
+
+    public static class TestFilter implements Filter {
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) {
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.apache.catalina.session;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OffHeapStoreTest {
+
+    private static final int SLAB_SIZE = 4096;
+
+    @Test
+    public void savedSessionIsLoadedBack() throws Exception {
+        OffHeapStore store = createStore();
+        store.save(createSession(store, "a", "value"));
+
+        StandardSession loaded = (StandardSession) store.load("a");
+        assertEquals("a", loaded.getIdInternal());
+        assertEquals("value", loaded.attributes.get("attribute"));
+        assertEquals(1, store.getSize());
+        assertArrayEquals(new String[] {"a"}, store.keys());
+
+        store.remove("a");
+        assertNull(store.load("a"));
+        assertEquals(0, store.getSize());
+        assertEquals(0, store.getUsedMemory());
+    }
+
+    @Test
+    public void replacedSessionKeepsTheLastContent() throws Exception {
+        OffHeapStore store = createStore();
+        store.save(createSession(store, "a", "first"));
+        store.save(createSession(store, "a", "second"));
+
+        assertEquals(1, store.getSize());
+        assertEquals("second", ((StandardSession) store.load("a")).attributes.get("attribute"));
+    }
+
+    @Test
+    public void releasedBlocksAreReused() throws Exception {
+        OffHeapStore store = createStore();
+        for (int i = 0; i < 8; i++) {
+            store.save(createSession(store, "s" + i, "value"));
+        }
+        long allocated = store.getAllocatedMemory();
+        long used = store.getUsedMemory();
+
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 8; i++) {
+                store.remove("s" + i);
+            }
+            assertEquals(0, store.getUsedMemory());
+            for (int i = 0; i < 8; i++) {
+                store.save(createSession(store, "s" + i, "value"));
+            }
+        }
+        assertEquals(allocated, store.getAllocatedMemory());
+        assertEquals(used, store.getUsedMemory());
+    }
+
+    @Test
+    public void sessionLargerThanSlabGetsItsOwnBuffer() throws Exception {
+        OffHeapStore store = createStore();
+        String value = "x".repeat(2 * SLAB_SIZE);
+        store.save(createSession(store, "large", value));
+
+        assertEquals(value, ((StandardSession) store.load("large")).attributes.get("attribute"));
+        assertEquals(store.getUsedMemory(), store.getAllocatedMemory());
+
+        store.remove("large");
+        assertEquals(0, store.getUsedMemory());
+        assertEquals(0, store.getAllocatedMemory());
+    }
+
+    @Test
+    public void sessionOverMaxMemoryIsNotSaved() throws Exception {
+        OffHeapStore store = createStore();
+        store.setMaxMemory(SLAB_SIZE);
+        store.save(createSession(store, "small", "value"));
+
+        String value = "x".repeat(2 * SLAB_SIZE);
+        assertThrows(IOException.class, () -> store.save(createSession(store, "large", value)));
+        assertNull(store.load("large"));
+        assertEquals(SLAB_SIZE, store.getAllocatedMemory());
+        assertEquals("value", ((StandardSession) store.load("small")).attributes.get("attribute"));
+    }
+
+    private static OffHeapStore createStore() {
+        OffHeapStore store = new OffHeapStore(SLAB_SIZE);
+        store.setManager(new OffHeapManager());
+        return store;
+    }
+
+    private static StandardSession createSession(OffHeapStore store, String id, String value) {
+        StandardSession session = new OffHeapSession(store.getManager());
+        session.id = id;
+        session.maxInactiveInterval = 60;
+        session.thisAccessedTime = System.currentTimeMillis();
+        session.attributes.put("attribute", value);
+        return session;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.apache.catalina.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SessionExpirationWheelTest {
+
+    private static final long START = 1_700_000_000_000L + 345L;
+
+    @Test
+    public void sessionsAreReturnedInTheSecondTheyExpire() {
+        SessionExpirationWheel wheel = new SessionExpirationWheel(START);
+        Random random = new Random(1);
+        List<StandardSession> sessions = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            StandardSession session = createSession(START, random.nextInt(400_000));
+            wheel.schedule(session);
+            sessions.add(session);
+        }
+        assertEquals(sessions.size(), wheel.getSize());
+
+        int returned = 0;
+        for (long time = START; time < START + 401_000_000L; time += 1000L) {
+            for (StandardSession session : wheel.advance(time)) {
+                assertEquals(expirationSecond(session), time / 1000L);
+                returned++;
+            }
+        }
+        assertEquals(sessions.size(), returned);
+        assertEquals(0, wheel.getSize());
+    }
+
+    @Test
+    public void sessionsAreNeverReturnedEarly() {
+        SessionExpirationWheel wheel = new SessionExpirationWheel(START);
+        Random random = new Random(2);
+        for (int i = 0; i < 10_000; i++) {
+            wheel.schedule(createSession(START + random.nextInt(5000), random.nextInt(20_000_000)));
+        }
+
+        int returned = 0;
+        long time = START;
+        while (time < START + 21_000_000_000L) {
+            time += random.nextInt(200_000);
+            for (StandardSession session : wheel.advance(time)) {
+                assertTrue(expirationSecond(session) <= time / 1000L);
+                returned++;
+            }
+        }
+        assertEquals(10_000, returned);
+    }
+
+    @Test
+    public void laterAccessDoesNotMoveTheSession() {
+        SessionExpirationWheel wheel = new SessionExpirationWheel(START);
+        StandardSession session = createSession(START, 100);
+        wheel.schedule(session);
+        long scheduled = session.expirationSecond;
+
+        session.thisAccessedTime = START + 50_000L;
+        wheel.schedule(session);
+        assertEquals(scheduled, session.expirationSecond);
+
+        // returned at the original time, then scheduled again by the manager
+        List<StandardSession> due = wheel.advance(START + 101_000L);
+        assertEquals(List.of(session), due);
+        wheel.schedule(session);
+        assertEquals(expirationSecond(session), session.expirationSecond);
+    }
+
+    @Test
+    public void shorterIntervalMovesTheSession() {
+        SessionExpirationWheel wheel = new SessionExpirationWheel(START);
+        StandardSession session = createSession(START, 1000);
+        wheel.schedule(session);
+
+        session.maxInactiveInterval = 10;
+        wheel.schedule(session);
+        assertEquals(List.of(session), wheel.advance(START + 11_000L));
+    }
+
+    @Test
+    public void neverExpiringAndUnscheduledSessionsAreNotReturned() {
+        SessionExpirationWheel wheel = new SessionExpirationWheel(START);
+        StandardSession never = createSession(START, -1);
+        StandardSession removed = createSession(START, 10);
+        wheel.schedule(never);
+        wheel.schedule(removed);
+        wheel.unschedule(removed);
+
+        assertEquals(0, wheel.getSize());
+        assertTrue(wheel.advance(START + 100_000L).isEmpty());
+    }
+
+    private static StandardSession createSession(long accessedTime, int maxInactiveInterval) {
+        StandardSession session = new StandardSession(new StandardManager());
+        session.thisAccessedTime = accessedTime;
+        session.maxInactiveInterval = maxInactiveInterval;
+        return session;
+    }
+
+    private static long expirationSecond(StandardSession session) {
+        return (session.thisAccessedTime + session.maxInactiveInterval * 1000L + 999L) / 1000L;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.apache.catalina.session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import org.apache.catalina.core.StandardContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StandardManagerTest {
+
+    @Test
+    public void restoredSessionsAreScheduledForExpiration() throws Exception {
+        long now = System.currentTimeMillis();
+        StandardManager manager = createManager();
+        manager.add(createSession(manager, "a", now, 10));
+        manager.add(createSession(manager, "b", now, 20));
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        manager.writeSessions(os, false);
+
+        StandardManager restored = createManager();
+        restored.add(createSession(restored, "old", now, 10));
+        restored.readSessions(new ByteArrayInputStream(os.toByteArray()));
+
+        assertEquals(2, restored.getExpirationWheel().getSize());
+        assertTrue(restored.findExpiringSessions(now + 5_000L).isEmpty());
+        List<StandardSession> expiring = restored.findExpiringSessions(now + 21_000L);
+        assertEquals(2, expiring.size());
+        for (StandardSession session : expiring) {
+            assertTrue(session.getManager() == restored);
+        }
+    }
+
+    @Test
+    public void clearedSessionsAreUnscheduled() {
+        long now = System.currentTimeMillis();
+        StandardManager manager = createManager();
+        manager.add(createSession(manager, "a", now, 10));
+        manager.add(createSession(manager, "b", now, 20));
+        assertEquals(2, manager.getExpirationWheel().getSize());
+
+        manager.clearSessions();
+        assertEquals(0, manager.getExpirationWheel().getSize());
+        assertTrue(manager.findExpiringSessions(now + 21_000L).isEmpty());
+    }
+
+    private static StandardManager createManager() {
+        StandardManager manager = new StandardManager();
+        manager.setContainer(new StandardContext());
+        return manager;
+    }
+
+    private static StandardSession createSession(StandardManager manager, String id, long accessedTime,
+            int maxInactiveInterval) {
+        StandardSession session = (StandardSession) manager.createEmptySession();
+        session.id = id;
+        session.setValid(true);
+        session.thisAccessedTime = accessedTime;
+        session.maxInactiveInterval = maxInactiveInterval;
+        return session;
+    }
+}
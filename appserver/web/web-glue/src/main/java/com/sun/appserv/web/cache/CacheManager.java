@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -48,6 +49,17 @@ public class CacheManager {
     public static final String DEFAULT_CACHE_CLASSNAME =
         "com.sun.appserv.util.cache.LruCache";
 
+    /**
+     * cache used when the cache size is limited in bytes
+     * by the <code>MaxSize</code> property
+     */
+    public static final String BYTE_BOUNDED_CACHE_CLASSNAME =
+        "com.sun.appserv.util.cache.BoundedMultiLruCache";
+
+    public static final String MAX_SIZE_PROPERTY = "MaxSize";
+
+    public static final int DEFAULT_COMPRESSION_MIN_SIZE = 1024;
+
     private static final Logger _logger = LogFacade.getLogger();
 
     /**
@@ -60,6 +72,11 @@ public class CacheManager {
     int defaultTimeout = DEFAULT_CACHE_TIMEOUT;
     String cacheClassName = DEFAULT_CACHE_CLASSNAME;
 
+    // cached response bodies in the direct memory, optionally gzipped too
+    boolean offHeapStorage = false;
+    boolean compressionEnabled = false;
+    int compressionMinSize = DEFAULT_COMPRESSION_MIN_SIZE;
+
     boolean enabled = false;
 
     // application servlet context
@@ -125,6 +142,51 @@ public class CacheManager {
         return enabled;
     }
 
+    /**
+     * set whether the cached response bodies are stored in the direct memory
+     * @param offHeapStorage store the bodies off the java heap?
+     */
+    public void setOffHeapStorage(boolean offHeapStorage) {
+        this.offHeapStorage = offHeapStorage;
+    }
+
+    /**
+     * @return whether the cached response bodies are stored in the direct memory
+     */
+    public boolean isOffHeapStorage() {
+        return offHeapStorage;
+    }
+
+    /**
+     * set whether a gzipped variant of textual responses is cached too
+     * @param compressionEnabled cache the gzipped variant?
+     */
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    /**
+     * @return whether a gzipped variant of textual responses is cached too
+     */
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    /**
+     * set the minimal size of responses to be compressed
+     * @param compressionMinSize size in bytes
+     */
+    public void setCompressionMinSize(int compressionMinSize) {
+        this.compressionMinSize = compressionMinSize;
+    }
+
+    /**
+     * @return the minimal size of responses to be compressed, in bytes
+     */
+    public int getCompressionMinSize() {
+        return compressionMinSize;
+    }
+
     /**
      * add generic property
      * @param name named property
@@ -133,6 +195,17 @@ public class CacheManager {
     public void addProperty(String name, String value) {
         if (name.equalsIgnoreCase("cacheClassName")) {
            cacheClassName = value;
+        } else if (name.equalsIgnoreCase("offHeapStorage")) {
+            offHeapStorage = Boolean.parseBoolean(value);
+        } else if (name.equalsIgnoreCase("compressResponses")) {
+            compressionEnabled = Boolean.parseBoolean(value);
+        } else if (name.equalsIgnoreCase("compressionMinSize")) {
+            try {
+                compressionMinSize = Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                _logger.log(Level.WARNING, LogFacade.INVALID_CACHE_COMPRESSION_MIN_SIZE,
+                    new Object[] {value, compressionMinSize});
+            }
         } else {
             if (cacheProps == null) {
                 cacheProps = new Properties();
@@ -193,6 +266,13 @@ public class CacheManager {
         if (!enabled)
             return;
 
+        // the size of the default LRU cache is limited by entries only;
+        // the bounded cache evicts also when the responses take too many bytes
+        if (cacheProps != null && cacheProps.getProperty(MAX_SIZE_PROPERTY) != null
+                && DEFAULT_CACHE_CLASSNAME.equals(cacheClassName)) {
+            cacheClassName = BYTE_BOUNDED_CACHE_CLASSNAME;
+        }
+
         // create the default cache
         try {
             defaultCache = createCache(maxEntries, cacheClassName);
@@ -253,11 +333,11 @@ public class CacheManager {
 
     /**
      * create the designated cache object
-     * @return the Cache implementation
+     * @return the Cache implementation of the configured class
      * @throws Exception
      */
     public Cache createCache() throws Exception {
-        return createCache(maxEntries, DEFAULT_CACHE_CLASSNAME);
+        return createCache(maxEntries, cacheClassName);
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Contributors to Eclipse Foundation.
+ * Copyright (c) 2024, 2026 Contributors to Eclipse Foundation.
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -22,6 +22,7 @@ import com.sun.appserv.web.cache.CacheHelper;
 import com.sun.appserv.web.cache.CacheManager;
 import com.sun.appserv.web.cache.CacheManagerListener;
 import com.sun.appserv.web.cache.DefaultCacheHelper;
+import com.sun.appserv.web.cache.mapping.CacheMapping;
 
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
@@ -36,8 +37,11 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -58,6 +62,16 @@ public class CachingFilter implements Filter, CacheManagerListener {
     CacheHelper helper;
     Cache cache;
 
+    // null when the cached bodies are kept on the heap
+    OffHeapBodyAllocator offHeapAllocator;
+
+    // seconds an expired entry is served while one request regenerates it
+    int staleTimeout;
+    // seconds before the expiration when one request regenerates the entry
+    int refreshAhead;
+    // keys being regenerated while the other requests are served the old entry
+    final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
     boolean isEnabled = false;
 
     private static final Logger _logger = LogFacade.getLogger();
@@ -83,6 +97,14 @@ public class CachingFilter implements Filter, CacheManagerListener {
         if (manager != null && manager.isEnabled()) {
             this.cache = manager.getDefaultCache();
             this.helper = manager.getCacheHelperByFilterName(filterName);
+            if (manager.isOffHeapStorage()) {
+                this.offHeapAllocator = new OffHeapBodyAllocator();
+            }
+            CacheMapping mapping = manager.getCacheMapping(filterName);
+            if (mapping != null) {
+                this.staleTimeout = mapping.getStaleTimeout();
+                this.refreshAhead = mapping.getRefreshAhead();
+            }
 
             // add filter as a listener so caching can be disabled at runtime.
             manager.addCacheManagerListener(this);
@@ -148,6 +170,8 @@ public class CachingFilter implements Filter, CacheManagerListener {
 
             HttpCacheEntry entry = null;
             boolean entryReady = false, waitForRefresh = true;
+            // this request regenerates the entry the others are still served
+            boolean claimed = false;
 
             // if refresh is not needed then check the cache first
             if (!helper.isRefreshNeeded(request)) {
@@ -155,11 +179,15 @@ public class CachingFilter implements Filter, CacheManagerListener {
                     // lookup cache
                     entry = (HttpCacheEntry) cache.get(key);
 
-                    if (entry != null && entry.isValid()) {
-                        // see if there is cached entry and is valid
+                    CachedEntryUse use = useCachedEntry(key, entry);
+                    if (use == CachedEntryUse.SERVE) {
                         entryReady = true;
                         break;
                     }
+                    else if (use == CachedEntryUse.REGENERATE) {
+                        claimed = true;
+                        break;
+                    }
                     else {
                         /**
                          *  a cache entry needs to be generated or refreshed.
@@ -188,12 +216,13 @@ public class CachingFilter implements Filter, CacheManagerListener {
                 if (isFine) {
                     _logger.log(Level.FINE, LogFacade.CACHING_FILTER_SERVING_RESPONSE, new Object[]{request.getServletPath(), key});
                 }
-                sendCachedResponse(entry, response);
+                sendCachedResponse(entry, request, response);
             } else {
                 // call the target servlet
 
                 CachingResponseWrapper wrapper = null;
-                boolean needNotify = true;
+                // a claimed entry is not guarded by the bucket refresh flag
+                boolean needNotify = !claimed;
 
                 try {
                     // setup the response wrapper (and the output stream)
@@ -211,6 +240,12 @@ public class CachingFilter implements Filter, CacheManagerListener {
 
                         // previous entry gets replaced
                         entry = wrapper.cacheResponse();
+                        if (manager.isCompressionEnabled()) {
+                            entry.compress(manager.getCompressionMinSize());
+                        }
+                        if (offHeapAllocator != null) {
+                            entry.moveOffHeap(offHeapAllocator);
+                        }
 
                         if (timeout == CacheHelper.TIMEOUT_VALUE_NOT_SET) {
                             // extracts this from the Expires: date header
@@ -231,11 +266,16 @@ public class CachingFilter implements Filter, CacheManagerListener {
 
                         cache.put(key, entry, entry.getSize());
 
-                        cache.notifyRefresh(index);
-                        needNotify = false;
+                        if (needNotify) {
+                            cache.notifyRefresh(index);
+                            needNotify = false;
+                        }
 
                         // transmit the response body content
-                        writeBody(entry, response);
+                        if (entry.hasGzippedBody() && !response.isCommitted()) {
+                            response.addHeader("Vary", "Accept-Encoding");
+                        }
+                        writeBody(entry, response, false);
                     } else {
                         /** either there was an error or response from this
                          *  resource is not cacheable anymore; so, remove the
@@ -248,6 +288,9 @@ public class CachingFilter implements Filter, CacheManagerListener {
                     if (needNotify) {
                         cache.notifyRefresh(index);
                     }
+                    if (claimed) {
+                        refreshDone(key);
+                    }
 
                     // clear the wrapper (XXX: cache these??)
                     if (wrapper != null) {
@@ -281,13 +324,17 @@ public class CachingFilter implements Filter, CacheManagerListener {
     /**
      * called by doFilter to send out the cached response
      * @param entry cached response entry
+     * @param request request object to choose the response encoding
      * @param response response object to write out the response
      * @throws IOException and ServletException.
      */
     private void sendCachedResponse(HttpCacheEntry entry,
+                                    HttpServletRequest request,
                                     HttpServletResponse response)
             throws IOException {
 
+        boolean gzipped = entry.hasGzippedBody() && acceptsGzip(request);
+
         // status code/message
         if (entry.statusCode != HttpCacheEntry.VALUE_NOT_SET) {
             response.setStatus(entry.statusCode);
@@ -299,8 +346,17 @@ public class CachingFilter implements Filter, CacheManagerListener {
             String name = (String)iter.next();
             ArrayList values = (ArrayList)entry.responseHeaders.get(name);
 
+            // length of the gzipped body is set below
+            if (gzipped && name.equalsIgnoreCase("Content-Length")) {
+                continue;
+            }
+
+            // the gzipped variant is a different representation
+            boolean etag = gzipped && name.equalsIgnoreCase("ETag");
             for (int i = 0; i < values.size(); i++) {
-                response.addHeader(name, (String)values.get(i));
+                String value = (String)values.get(i);
+                response.addHeader(name,
+                    etag ? HttpCacheEntry.toGzippedETag(value) : value);
             }
         }
 
@@ -320,8 +376,17 @@ public class CachingFilter implements Filter, CacheManagerListener {
             response.addCookie(entry.cookies.get(i));
         }
 
+        if (entry.hasGzippedBody()) {
+            response.addHeader("Vary", "Accept-Encoding");
+        }
+        if (gzipped) {
+            response.setHeader("Content-Encoding", "gzip");
+        }
+
         // content type, length and locale
-        if (entry.contentLength != HttpCacheEntry.VALUE_NOT_SET) {
+        if (gzipped) {
+            response.setContentLength(entry.gzippedBody.remaining());
+        } else if (entry.contentLength != HttpCacheEntry.VALUE_NOT_SET) {
             response.setContentLength(entry.contentLength);
         }
         if (entry.contentType != null) {
@@ -332,20 +397,97 @@ public class CachingFilter implements Filter, CacheManagerListener {
         }
 
         // the response body
-        writeBody(entry, response);
+        writeBody(entry, response, gzipped);
     }
 
     /**
-     * called by doFilter/sendCachedResponse to write the body content
+     * called by doFilter/sendCachedResponse to write the body content;
+     * the body in the direct memory is a read-only buffer, so the container
+     * may send it out without copying.
      * @param entry cached response entry
      * @param response response object to write out the response
+     * @param gzipped whether to write out the gzipped body
      * @throws IOException and ServletException.
      */
     private void writeBody(HttpCacheEntry entry,
-                           HttpServletResponse response)
+                           HttpServletResponse response,
+                           boolean gzipped)
                            throws IOException {
         ServletOutputStream out = response.getOutputStream();
-        out.write(entry.bytes);
+        out.write(entry.getBody(gzipped));
+    }
+
+    /**
+     * does the client accept gzipped responses?
+     * @param request the runtime request
+     * @return true if gzip is one of accepted encodings with non-zero quality
+     */
+    private boolean acceptsGzip(HttpServletRequest request) {
+        Enumeration<String> headers = request.getHeaders("Accept-Encoding");
+        while (headers != null && headers.hasMoreElements()) {
+            for (String coding : headers.nextElement().split(",")) {
+                String[] params = coding.split(";");
+                if (!params[0].trim().equalsIgnoreCase("gzip")) {
+                    continue;
+                }
+                for (int i = 1; i < params.length; i++) {
+                    String param = params[i].trim();
+                    if (param.startsWith("q=") && param.substring(2).trim().matches("0(\\.0*)?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * How a request uses the entry it found in the cache.
+     */
+    enum CachedEntryUse {
+        // the entry is sent to the client
+        SERVE,
+        // this request regenerates the entry, the others are still served it
+        REGENERATE,
+        // the entry is missing or expired; it is regenerated by the request
+        // which takes the bucket refresh flag, the others wait for it
+        WAIT
+    }
+
+    /**
+     * Decide how a request uses the cached entry. Only the first request for
+     * an expiring or a stale entry regenerates it; the key stays claimed
+     * until {@link #refreshDone(String)} is called.
+     * @param key cache key of the entry
+     * @param entry cached entry, may be null
+     */
+    CachedEntryUse useCachedEntry(String key, HttpCacheEntry entry) {
+        if (entry == null) {
+            return CachedEntryUse.WAIT;
+        }
+        if (entry.isValid()) {
+            // refresh ahead: the first request regenerates the entry before
+            // it expires, the others are served it
+            if (entry.isExpiring(refreshAhead) && refreshing.add(key)) {
+                return CachedEntryUse.REGENERATE;
+            }
+            return CachedEntryUse.SERVE;
+        }
+        if (entry.isStale(staleTimeout)) {
+            // stale while regenerating: the first request regenerates the
+            // entry, the others are served it
+            return refreshing.add(key) ? CachedEntryUse.REGENERATE : CachedEntryUse.SERVE;
+        }
+        return CachedEntryUse.WAIT;
+    }
+
+    /**
+     * release the key claimed by {@link #useCachedEntry(String, HttpCacheEntry)}
+     * @param key cache key of the regenerated entry
+     */
+    void refreshDone(String key) {
+        refreshing.remove(key);
     }
 
     /**
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -18,9 +19,13 @@ package com.sun.appserv.web.cache.filter;
 
 import jakarta.servlet.http.Cookie;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
 
 /** HttpCacheEntry
  *  Each entry holds cached (HTTP) response:
@@ -28,6 +33,10 @@ import java.util.Locale;
  *  d) parameterEncoding used e) entryKey this entry represents,
  *  to match the entry within the hash bucket.
  *
+ *  The response bytes may be moved to the direct memory and a gzipped
+ *  variant of them may be kept too; the direct buffers are read-only,
+ *  so they can be written to the response without copying.
+ *
  *  XXX: should implement methods to enable serialization of cached response?
  */
 public class HttpCacheEntry {
@@ -47,6 +56,10 @@ public class HttpCacheEntry {
     // XXX: other cacheable response info
     byte[] bytes;
 
+    // response bytes and their gzipped variant in the direct memory
+    ByteBuffer body;
+    ByteBuffer gzippedBody;
+
     volatile long expireTime = 0;
 
     /**
@@ -76,24 +89,153 @@ public class HttpCacheEntry {
         return (expireTime > System.currentTimeMillis() || expireTime == -1);
     }
 
+    /**
+     * is this expired response still allowed to be served while it is
+     * being regenerated?
+     * @param staleTimeout seconds after the expiration
+     */
+    public boolean isStale(int staleTimeout) {
+        long expire = expireTime;
+        return expire != -1 && staleTimeout > 0 &&
+               System.currentTimeMillis() < expire + (staleTimeout * 1000L);
+    }
+
+    /**
+     * is this response about to expire, so it should be regenerated ahead?
+     * @param refreshAhead seconds before the expiration
+     */
+    public boolean isExpiring(int refreshAhead) {
+        long expire = expireTime;
+        return expire != -1 && refreshAhead > 0 &&
+               System.currentTimeMillis() >= expire - (refreshAhead * 1000L);
+    }
+
+    /**
+     * keep also gzipped response bytes, if the response is worth compressing
+     * @param minSize responses smaller than this are not compressed
+     * @throws IOException if the compression failed
+     */
+    void compress(int minSize) throws IOException {
+        if (bytes == null || bytes.length < minSize || !isCompressible()) {
+            return;
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(baos)) {
+            gzip.write(bytes);
+        }
+        if (baos.size() < bytes.length) {
+            gzippedBody = ByteBuffer.wrap(baos.toByteArray());
+        }
+    }
+
+    /**
+     * move the response bytes to the direct memory
+     * @param allocator allocator of the direct memory
+     */
+    void moveOffHeap(OffHeapBodyAllocator allocator) {
+        if (bytes != null) {
+            body = allocator.allocate(bytes);
+            bytes = null;
+        }
+        if (gzippedBody != null && !gzippedBody.isDirect()) {
+            byte[] gzipped = new byte[gzippedBody.remaining()];
+            gzippedBody.duplicate().get(gzipped);
+            gzippedBody = allocator.allocate(gzipped);
+        }
+    }
+
+    /**
+     * @return true if there is the gzipped variant of the response bytes
+     */
+    boolean hasGzippedBody() {
+        return gzippedBody != null;
+    }
+
+    /**
+     * get the response bytes to write out
+     * @param gzipped whether the gzipped variant is requested
+     * @return buffer with the response bytes, read-only if it is in the direct memory
+     */
+    ByteBuffer getBody(boolean gzipped) {
+        if (gzipped && gzippedBody != null) {
+            return gzippedBody.duplicate();
+        }
+        if (body != null) {
+            return body.duplicate();
+        }
+        return ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * get the entity tag of the gzipped variant; it must differ from
+     * the tag of the response bytes, both strong and weak tags are
+     * compared by their opaque value.
+     * @param etag entity tag of the response bytes
+     * @return entity tag of the gzipped variant
+     */
+    static String toGzippedETag(String etag) {
+        if (etag.length() > 1 && etag.endsWith("\"")) {
+            return etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+        return etag + "-gzip";
+    }
+
+    /**
+     * only successful responses of textual content types, which are not
+     * encoded already, are compressed.
+     */
+    private boolean isCompressible() {
+        if (statusCode != VALUE_NOT_SET && statusCode != 200) {
+            return false;
+        }
+        if (contentType == null || hasHeader("Content-Encoding")) {
+            return false;
+        }
+
+        String type = contentType.toLowerCase(Locale.ENGLISH);
+        int index = type.indexOf(';');
+        if (index != -1) {
+            type = type.substring(0, index).trim();
+        }
+        return type.startsWith("text/") || type.endsWith("/json") || type.endsWith("+json")
+            || type.endsWith("/xml") || type.endsWith("+xml") || type.endsWith("/javascript");
+    }
+
+    private boolean hasHeader(String name) {
+        for (String header : responseHeaders.keySet()) {
+            if (header.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * clear the contents
      */
     public void clear() {
         bytes = null;
+        body = null;
+        gzippedBody = null;
         responseHeaders = null;
         cookies = null;
     }
 
     /**
      * get the size
-     * @return size of this entry in bytes
+     * @return size of this entry in bytes, including the direct memory
      * Note: this is only approximate
      */
     public int getSize() {
         int size = 0;
         if (bytes != null) {
             size = bytes.length;
+        } else if (body != null) {
+            size = body.capacity();
+        }
+        if (gzippedBody != null) {
+            size += gzippedBody.capacity();
         }
 
         // size of response bytes plus headers (each approx 20 chars or 40 bytes)
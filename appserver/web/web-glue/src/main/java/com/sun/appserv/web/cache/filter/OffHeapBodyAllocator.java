@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.appserv.web.cache.filter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Allocates cached response bodies outside of the java heap.
+ * <p>
+ * Every body gets its own direct buffer of its exact size, so the size accounted by the cache is
+ * the memory really used. The memory is not freed explicitly: the buffer is released by the garbage
+ * collector when its entry was dropped from the cache and no response is written from it anymore.
+ * Bodies are not cut from shared slabs, one live body would keep the whole slab in the memory.
+ */
+final class OffHeapBodyAllocator {
+
+    /**
+     * Copies the bytes to the direct memory.
+     *
+     * @param bytes response body
+     * @return read-only direct buffer with the bytes
+     */
+    ByteBuffer allocate(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+}
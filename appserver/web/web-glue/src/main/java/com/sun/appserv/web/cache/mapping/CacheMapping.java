@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -35,6 +36,12 @@ public class CacheMapping {
     // a field to force caching engine to refresh entry
     private Field refreshField = null;
 
+    // seconds an expired entry may still be served while it is regenerated
+    private int staleTimeout = 0;
+
+    // seconds before the expiration when the entry is regenerated ahead
+    private int refreshAhead = 0;
+
     // set of standard HTTP methods eligible for caching
     private String methods[] = new String[0];
 
@@ -101,6 +108,36 @@ public class CacheMapping {
         return refreshField;
     }
 
+    /** set the stale timeout
+     * @param staleTimeout seconds an expired entry may be served to other
+     * requests while one request regenerates it
+     */
+    public void setStaleTimeout(int staleTimeout) {
+        this.staleTimeout = staleTimeout;
+    }
+
+    /** get the stale timeout
+     * @return stale timeout in seconds, 0 if expired entries are not served
+     */
+    public int getStaleTimeout() {
+        return staleTimeout;
+    }
+
+    /** set the refresh ahead time
+     * @param refreshAhead seconds before the expiration when one request
+     * regenerates the entry while others are still served the cached one
+     */
+    public void setRefreshAhead(int refreshAhead) {
+        this.refreshAhead = refreshAhead;
+    }
+
+    /** get the refresh ahead time
+     * @return refresh ahead time in seconds, 0 if entries are not refreshed ahead
+     */
+    public int getRefreshAhead() {
+        return refreshAhead;
+    }
+
     /** set allowable HTTP methods
      * @param methods allowable methods
      */
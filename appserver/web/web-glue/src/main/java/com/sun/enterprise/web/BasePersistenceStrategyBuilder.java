@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -52,6 +53,7 @@ public abstract class BasePersistenceStrategyBuilder
     protected String _persistenceScope = null;
     protected String _passedInPersistenceType = null;
     protected int maxSessions = -1;
+    protected long maxMemory = -1;
     protected static final int DEFAULT_REAP_INTERVAL = 60;   // 1 minute
     protected int reapInterval = DEFAULT_REAP_INTERVAL;
     protected int storeReapInterval = DEFAULT_REAP_INTERVAL;
@@ -114,6 +116,9 @@ public abstract class BasePersistenceStrategyBuilder
         storeReapInterval = DEFAULT_REAP_INTERVAL;
 
         directory = ((StandardContext) ctx).getWorkDir();
+
+        // Default settings for persistence-type = 'off-heap'
+        maxMemory = -1;
     }
 
 
@@ -308,6 +313,12 @@ public abstract class BasePersistenceStrategyBuilder
                         _persistenceScope = value;
                     } else if (name.equalsIgnoreCase("cookieName")) {
                         persistentCookieName = value;
+                    } else if (name.equalsIgnoreCase("maxMemoryMB")) {
+                        try {
+                            maxMemory = Long.parseLong(value) * 1024 * 1024;
+                        } catch (NumberFormatException e) {
+                            // XXX need error message
+                        }
                     } else {
                         if (_logger.isLoggable(Level.INFO)) {
                             Object[] params = { name };
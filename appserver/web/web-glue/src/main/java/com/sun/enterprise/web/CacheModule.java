@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -287,6 +288,27 @@ public final class CacheModule {
             mapping.setRefreshField(refreshField);
         }
 
+        /**
+         * <stale-timeout>10</stale-timeout>
+         * <refresh-ahead>5</refresh-ahead>
+         */
+        value = mapConfig.getStaleTimeout();
+        if (value != null) {
+            try {
+                mapping.setStaleTimeout(Integer.parseInt(value.trim()));
+            } catch (NumberFormatException e) {
+                throw new Exception("invalid stale-timeout", e);
+            }
+        }
+        value = mapConfig.getRefreshAhead();
+        if (value != null) {
+            try {
+                mapping.setRefreshAhead(Integer.parseInt(value.trim()));
+            } catch (NumberFormatException e) {
+                throw new Exception("invalid refresh-ahead", e);
+            }
+        }
+
         /** <http-method> GET </http-method>
          *  <http-method> POST </http-method>
          */
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.enterprise.web;
+
+import java.util.logging.Level;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.core.StandardContext;
+import org.apache.catalina.session.OffHeapManager;
+import org.apache.catalina.session.OffHeapStore;
+import org.glassfish.web.LogFacade;
+import org.glassfish.web.deployment.runtime.SessionManager;
+import org.jvnet.hk2.annotations.Service;
+
+@Service(name="off-heap")
+public class OffHeapStrategyBuilder extends BasePersistenceStrategyBuilder {
+
+    public void initializePersistenceStrategy(
+            Context ctx,
+            SessionManager smBean,
+            ServerConfigLookup serverConfigLookup) {
+
+        if (_logger.isLoggable(Level.INFO)) {
+            _logger.log(Level.INFO, LogFacade.OFF_HEAP_PERSISTENCE, ctx.getPath());
+        }
+
+        super.initializePersistenceStrategy(ctx, smBean, serverConfigLookup);
+
+        OffHeapManager mgr = new OffHeapManager();
+        mgr.setMaxActiveSessions(maxSessions);
+        mgr.setMaxIdleBackup(-1);
+        // sessions which were not released by a request
+        mgr.setMaxIdleSwap(0);
+
+        OffHeapStore store = new OffHeapStore();
+        store.setMaxMemory(maxMemory);
+        mgr.setStore(store);
+
+        mgr.setSessionLocker(new PESessionLocker(ctx));
+
+        ctx.setManager(mgr);
+
+        if(!((StandardContext)ctx).isSessionTimeoutOveridden()) {
+            mgr.setMaxInactiveInterval(sessionMaxInactiveInterval);
+        }
+
+        // Special code for Java Server Faces
+        if (ctx.findParameter(JSF_HA_ENABLED) == null) {
+            ctx.addParameter(JSF_HA_ENABLED, "true");
+        }
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -61,6 +62,7 @@ public class PersistenceStrategyBuilderFactory {
 
         if (persistenceType.equalsIgnoreCase(PersistenceType.MEMORY.getType()) ||
                 persistenceType.equalsIgnoreCase(PersistenceType.FILE.getType()) ||
+                persistenceType.equalsIgnoreCase(PersistenceType.OFF_HEAP.getType()) ||
                 persistenceType.equalsIgnoreCase(PersistenceType.COOKIE.getType())) {
             // Deliberately leaving frequency & scope null
         } else {
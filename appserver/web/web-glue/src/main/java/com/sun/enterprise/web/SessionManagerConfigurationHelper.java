@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -153,6 +154,7 @@ protected WebModule _ctx = null;
         String scope = null;
         if ( persistence == PersistenceType.MEMORY
             || persistence == PersistenceType.FILE
+            || persistence == PersistenceType.OFF_HEAP
             || persistence == PersistenceType.CUSTOM) {
             // Deliberately leaving frequency & scope null
         } else {
@@ -192,6 +194,7 @@ protected WebModule _ctx = null;
 
         // If availability-enabled is false, reset to "memory"
         if (!isAvailabilityEnabled && (persistence != PersistenceType.FILE &&
+                persistence != PersistenceType.OFF_HEAP &&
                 persistence != PersistenceType.COOKIE &&
                 persistence != PersistenceType.COHERENCE_WEB)) {
             // Set back to memory option
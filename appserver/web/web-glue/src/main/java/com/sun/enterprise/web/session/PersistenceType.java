@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -36,6 +37,12 @@ public final class PersistenceType {
     public static final PersistenceType FILE =
         new PersistenceType("file");
 
+    /**
+     * Serialized sessions in the direct memory.
+     */
+    public static final PersistenceType OFF_HEAP =
+        new PersistenceType("off-heap");
+
     /**
      * Cookie-based persistence
      */
@@ -136,6 +143,8 @@ public final class PersistenceType {
                 pType = MEMORY;
             else if (type.equalsIgnoreCase(FILE.getType()))
                 pType = FILE;
+            else if (type.equalsIgnoreCase(OFF_HEAP.getType()))
+                pType = OFF_HEAP;
             else if (type.equalsIgnoreCase(COOKIE.getType()))
                 pType = COOKIE;
             else if (type.equalsIgnoreCase(CUSTOM.getType()))
@@ -1,6 +1,6 @@
 /*
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
- * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -534,6 +534,16 @@ public class LogFacade {
             level = "INFO")
     public static final String FILE_PERSISTENCE = prefix + "00093";
 
+    @LogMessageInfo(
+            message = "Enabling off-heap persistence for web module [{0}]''s sessions",
+            level = "INFO")
+    public static final String OFF_HEAP_PERSISTENCE = prefix + "00286";
+
+    @LogMessageInfo(
+            message = "Invalid compressionMinSize value [{0}] of the cache, using {1} bytes",
+            level = "WARNING")
+    public static final String INVALID_CACHE_COMPRESSION_MIN_SIZE = prefix + "00287";
+
     @LogMessageInfo(
             message = "Exception during invocation of PreDestroy-annotated method on JSP tag handler [{0}]",
             level = "WARNING")
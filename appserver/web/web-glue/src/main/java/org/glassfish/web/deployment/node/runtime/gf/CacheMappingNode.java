@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -68,6 +69,8 @@ public class CacheMappingNode extends RuntimeDescriptorNode<CacheMapping> {
         dispatchTable.put(RuntimeTagNames.TIMEOUT, "setTimeout");
         dispatchTable.put(RuntimeTagNames.HTTP_METHOD, "addNewHttpMethod");
         dispatchTable.put(RuntimeTagNames.DISPATCHER, "addNewDispatcher");
+        dispatchTable.put(RuntimeTagNames.STALE_TIMEOUT, "setStaleTimeout");
+        dispatchTable.put(RuntimeTagNames.REFRESH_AHEAD, "setRefreshAhead");
         return dispatchTable;
     }
 
@@ -190,6 +193,10 @@ public class CacheMappingNode extends RuntimeDescriptorNode<CacheMapping> {
             cfn.writeDescriptor(cacheMapping, RuntimeTagNames.CONSTRAINT_FIELD, constraintFields);
         }
 
+        // stale-timeout?, refresh-ahead?
+        appendTextChild(cacheMapping, RuntimeTagNames.STALE_TIMEOUT, descriptor.getStaleTimeout());
+        appendTextChild(cacheMapping, RuntimeTagNames.REFRESH_AHEAD, descriptor.getRefreshAhead());
+
         return cacheMapping;
     }
 }
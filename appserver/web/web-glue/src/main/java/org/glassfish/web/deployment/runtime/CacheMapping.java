@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -39,6 +40,8 @@ public class CacheMapping extends RuntimeDescriptor
     static public final String DISPATCHER = "Dispatcher";    // NOI18N
     static public final String KEY_FIELD = "KeyField";    // NOI18N
     static public final String CONSTRAINT_FIELD = "ConstraintField";    // NOI18N
+    static public final String STALE_TIMEOUT = "StaleTimeout";    // NOI18N
+    static public final String REFRESH_AHEAD = "RefreshAhead";    // NOI18N
 
     public CacheMapping(CacheMapping other) {
         super(other);
@@ -99,6 +102,30 @@ public class CacheMapping extends RuntimeDescriptor
     }
 
 
+    // This attribute is optional
+    public void setStaleTimeout(String value) {
+        this.setValue(STALE_TIMEOUT, value);
+    }
+
+
+    //
+    public String getStaleTimeout() {
+        return (String) this.getValue(STALE_TIMEOUT);
+    }
+
+
+    // This attribute is optional
+    public void setRefreshAhead(String value) {
+        this.setValue(REFRESH_AHEAD, value);
+    }
+
+
+    //
+    public String getRefreshAhead() {
+        return (String) this.getValue(REFRESH_AHEAD);
+    }
+
+
     // This attribute is optional
     public void setRefreshField(boolean value) {
         this.setValue(REFRESH_FIELD, Boolean.valueOf(value));
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.appserv.web.cache.filter;
+
+import com.sun.appserv.web.cache.filter.CachingFilter.CachedEntryUse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CachingFilterTest {
+
+    @Test
+    public void missingOrExpiredEntryWaitsByDefault() {
+        CachingFilter filter = new CachingFilter();
+
+        assertEquals(CachedEntryUse.WAIT, filter.useCachedEntry("k", null));
+        assertEquals(CachedEntryUse.WAIT, filter.useCachedEntry("k", entry(-1000L)));
+        assertEquals(CachedEntryUse.SERVE, filter.useCachedEntry("k", entry(1000L)));
+        assertEquals(CachedEntryUse.SERVE, filter.useCachedEntry("k", entry(1000L)));
+    }
+
+    @Test
+    public void staleEntryIsServedWhileOneRequestRegeneratesIt() {
+        CachingFilter filter = new CachingFilter();
+        filter.staleTimeout = 10;
+        HttpCacheEntry stale = entry(-1000L);
+
+        assertEquals(CachedEntryUse.REGENERATE, filter.useCachedEntry("k", stale));
+        assertEquals(CachedEntryUse.SERVE, filter.useCachedEntry("k", stale));
+        assertEquals(CachedEntryUse.SERVE, filter.useCachedEntry("k", stale));
+        assertEquals(CachedEntryUse.REGENERATE, filter.useCachedEntry("other", stale));
+
+        filter.refreshDone("k");
+        assertEquals(CachedEntryUse.REGENERATE, filter.useCachedEntry("k", stale));
+
+        // expired past the stale timeout
+        assertEquals(CachedEntryUse.WAIT, filter.useCachedEntry("old", entry(-11000L)));
+    }
+
+    @Test
+    public void expiringEntryIsRefreshedAheadByOneRequest() {
+        CachingFilter filter = new CachingFilter();
+        filter.refreshAhead = 10;
+
+        assertEquals(CachedEntryUse.SERVE, filter.useCachedEntry("k", entry(60000L)));
+
+        HttpCacheEntry expiring = entry(5000L);
+        assertEquals(CachedEntryUse.REGENERATE, filter.useCachedEntry("k", expiring));
+        assertEquals(CachedEntryUse.SERVE, filter.useCachedEntry("k", expiring));
+
+        filter.refreshDone("k");
+        assertEquals(CachedEntryUse.REGENERATE, filter.useCachedEntry("k", expiring));
+    }
+
+    @Test
+    public void concurrentRequestsRegenerateOnce() throws Exception {
+        CachingFilter filter = new CachingFilter();
+        filter.staleTimeout = 10;
+        HttpCacheEntry stale = entry(-1000L);
+
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<CachedEntryUse>> requests = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            requests.add(() -> {
+                start.await();
+                return filter.useCachedEntry("k", stale);
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<CachedEntryUse>> results = new ArrayList<>();
+            for (Callable<CachedEntryUse> request : requests) {
+                results.add(executor.submit(request));
+            }
+            start.countDown();
+
+            int regenerating = 0;
+            for (Future<CachedEntryUse> result : results) {
+                if (result.get() == CachedEntryUse.REGENERATE) {
+                    regenerating++;
+                } else {
+                    assertEquals(CachedEntryUse.SERVE, result.get());
+                }
+            }
+            assertEquals(1, regenerating);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static HttpCacheEntry entry(long expiresIn) {
+        HttpCacheEntry entry = new HttpCacheEntry();
+        entry.setExpireTime(System.currentTimeMillis() + expiresIn);
+        return entry;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package com.sun.appserv.web.cache.filter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpCacheEntryTest {
+
+    private static final String TEXT = "Lorem ipsum dolor sit amet. ".repeat(100);
+
+    @Test
+    public void allocatedBodyIsReadOnlyDirectCopy() {
+        byte[] bytes = bytes(TEXT);
+        ByteBuffer body = new OffHeapBodyAllocator().allocate(bytes);
+
+        assertTrue(body.isDirect());
+        assertTrue(body.isReadOnly());
+        assertEquals(bytes.length, body.capacity());
+        assertArrayEquals(bytes, toArray(body));
+    }
+
+    @Test
+    public void textualResponseIsCompressed() throws IOException {
+        HttpCacheEntry entry = entry("text/html; charset=UTF-8", TEXT);
+        entry.compress(1024);
+
+        assertTrue(entry.hasGzippedBody());
+        assertArrayEquals(bytes(TEXT), gunzip(toArray(entry.getBody(true))));
+        assertArrayEquals(bytes(TEXT), toArray(entry.getBody(false)));
+    }
+
+    @Test
+    public void smallEncodedOrBinaryResponsesAreNotCompressed() throws IOException {
+        HttpCacheEntry small = entry("text/plain", "short");
+        small.compress(1024);
+        assertFalse(small.hasGzippedBody());
+
+        HttpCacheEntry binary = entry("image/png", TEXT);
+        binary.compress(1024);
+        assertFalse(binary.hasGzippedBody());
+
+        HttpCacheEntry encoded = entry("text/plain", TEXT);
+        encoded.responseHeaders.put("content-encoding", new ArrayList<>(List.of("br")));
+        encoded.compress(1024);
+        assertFalse(encoded.hasGzippedBody());
+
+        HttpCacheEntry error = entry("text/plain", TEXT);
+        error.statusCode = 500;
+        error.compress(1024);
+        assertFalse(error.hasGzippedBody());
+    }
+
+    @Test
+    public void offHeapEntryIsSizedByItsBuffers() throws IOException {
+        HttpCacheEntry entry = entry("application/json", TEXT);
+        entry.compress(1024);
+        int gzippedSize = entry.getBody(true).remaining();
+        int heapSize = entry.getSize();
+
+        entry.moveOffHeap(new OffHeapBodyAllocator());
+        assertNull(entry.bytes);
+        assertTrue(entry.getBody(false).isDirect());
+        assertTrue(entry.getBody(true).isDirect());
+        assertEquals(heapSize, entry.getSize());
+        assertEquals(bytes(TEXT).length + gzippedSize, entry.getSize());
+        assertArrayEquals(bytes(TEXT), toArray(entry.getBody(false)));
+        assertArrayEquals(bytes(TEXT), gunzip(toArray(entry.getBody(true))));
+    }
+
+    @Test
+    public void gzippedVariantHasItsOwnETag() {
+        assertEquals("\"abc-gzip\"", HttpCacheEntry.toGzippedETag("\"abc\""));
+        assertEquals("W/\"abc-gzip\"", HttpCacheEntry.toGzippedETag("W/\"abc\""));
+        assertEquals("abc-gzip", HttpCacheEntry.toGzippedETag("abc"));
+    }
+
+    @Test
+    public void staleAndExpiringWindows() {
+        HttpCacheEntry entry = new HttpCacheEntry();
+        entry.setExpireTime(System.currentTimeMillis() - 1000L);
+        assertFalse(entry.isValid());
+        assertTrue(entry.isStale(10));
+        assertFalse(entry.isStale(0));
+
+        entry.setExpireTime(System.currentTimeMillis() + 5000L);
+        assertTrue(entry.isValid());
+        assertTrue(entry.isExpiring(10));
+        assertFalse(entry.isExpiring(1));
+
+        entry.computeExpireTime(-1);
+        assertTrue(entry.isValid());
+        assertFalse(entry.isStale(10));
+        assertFalse(entry.isExpiring(10));
+    }
+
+    private static HttpCacheEntry entry(String contentType, String body) {
+        HttpCacheEntry entry = new HttpCacheEntry();
+        entry.statusCode = 200;
+        entry.contentType = contentType;
+        entry.bytes = bytes(body);
+        return entry;
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static byte[] gunzip(byte[] gzipped) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -23,6 +24,7 @@ import java.util.logging.Logger;
 
 import org.apache.catalina.Session;
 import org.apache.catalina.session.PersistentManagerBase;
+import org.apache.catalina.session.StandardSession;
 import org.glassfish.ha.store.api.BackingStore;
 import org.glassfish.ha.store.api.BackingStoreException;
 import org.glassfish.ha.store.api.Storeable;
@@ -171,6 +173,9 @@ public abstract class ReplicationManagerBase<T extends Storeable> extends Persis
         }
         Session removed = null;
         removed = sessions.remove(session.getIdInternal());
+        if (removed instanceof StandardSession) {
+            expirationWheel.unschedule((StandardSession) removed);
+        }
         if (removed != null && _logger.isLoggable(Level.FINE)){
             _logger.fine("Remove from manager cache id=" + session.getId());
         }
@@ -0,0 +1,841 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.appserv.util.cache;
+
+import com.sun.enterprise.util.CULoggerInfo;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ConcurrentCache
+ * In-memory bounded cache for read-mostly workloads.
+ * <p>
+ * Items are kept in a {@link ConcurrentHashMap}, so reads do not take any lock; a read just
+ * records the access time or the frequency of the item. The time is logical, it is the count of
+ * writes to the cache, and the frequency of an item decreases by one whenever the item stays idle
+ * for <code>maxEntries</code> writes. When the cache holds more than
+ * <code>maxEntries</code> items or more than <code>MaxSize</code> bytes, the writer evicts
+ * items: it samples a few of them and evicts the least recently used (LRU policy) or the least
+ * frequently used one (LFU policy). Only one thread evicts at a time, other writers do not wait
+ * for it, so the cache may exceed its bounds by the items added meanwhile. Listeners are notified
+ * about the evicted items after each eviction round, outside of the eviction lock.
+ * <p>
+ * With a timeout, items not accessed for the timeout are removed by {@link #trimExpiredEntries(int)},
+ * which is to be called periodically by the container. Reads then record the wall clock time of the
+ * access too.
+ * <p>
+ * Properties:
+ * <ul>
+ * <li><code>EvictionPolicy</code> - <code>LRU</code> (default) or <code>LFU</code>
+ * <li><code>SampleSize</code> - count of items compared to select one to evict, 8 by default
+ * <li><code>MaxSize</code> - maximal size of the items in bytes, KB or MB, unlimited by default
+ * <li><code>Timeout</code> - idle time in milliseconds after which an item expires, no timeout by default
+ * </ul>
+ */
+public class ConcurrentCache<K, V> implements Cache<K, V> {
+
+    public static final String PROP_EVICTION_POLICY = "EvictionPolicy";
+    public static final String PROP_SAMPLE_SIZE = "SampleSize";
+    public static final String PROP_MAX_SIZE = "MaxSize";
+    public static final String PROP_TIMEOUT = "Timeout";
+    public static final long NO_TIMEOUT = -1;
+
+    static final int DEFAULT_SAMPLE_SIZE = 8;
+    static final int MAX_REFRESH_STRIPES = 1 << 16;
+    private static final int MAX_FREQUENCY = 255;
+
+    /** Policy selecting the item to evict from the sampled ones */
+    public enum EvictionPolicy {
+        /** evict the least recently used item */
+        LRU,
+        /** evict the least frequently used item, the least recently used of them */
+        LFU
+    }
+
+    // maximum number of entries this cache may hold
+    protected int maxEntries;
+    // maximum size in bytes of the entries this cache may hold
+    protected long maxSize = Constants.DEFAULT_MAX_CACHE_SIZE;
+    // idle time in milliseconds after which the items expire
+    protected volatile long timeout = NO_TIMEOUT;
+
+    private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+    private int sampleSize = DEFAULT_SAMPLE_SIZE;
+
+    // values with the same key are chained, the first value is the head
+    private ConcurrentHashMap<K, Item<K, V>> items;
+
+    // logical time, it advances with every write, so reads do not write shared memory
+    private final AtomicLong clock = new AtomicLong();
+
+    private final AtomicInteger entryCount = new AtomicInteger();
+    private final AtomicLong currentSize = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder removalCount = new LongAdder();
+    private final LongAdder refreshCount = new LongAdder();
+    private final LongAdder addCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder trimCount = new LongAdder();
+
+    // the eviction lock guards the sampling iterator
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private Iterator<Item<K, V>> sampler;
+
+    // striped status and locks for item thread-safe refreshes
+    private Object[] refreshLocks;
+    private boolean[] refreshFlags;
+
+    private final List<CacheListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * default constructor for the concurrent cache
+     */
+    public ConcurrentCache() { }
+
+    /**
+     * initialize the cache with the default load factor (0.75)
+     * @param maxEntries maximum number of entries in the cache
+     * @param props opaque list of properties for a given cache implementation
+     * @throws a generic Exception if the initialization failed
+     */
+    @Override
+    public void init(int maxEntries, Properties props) throws Exception {
+        init(maxEntries, BaseCache.DEFAULT_LOAD_FACTOR, props);
+    }
+
+    /**
+     * initialize the cache
+     * @param maxEntries maximum number of entries in the cache
+     * @param loadFactor the load factor of the underlying hash table
+     * @param props opaque list of properties for a given cache implementation
+     * @throws a generic Exception if the initialization failed
+     */
+    @Override
+    public void init(int maxEntries, float loadFactor, Properties props) {
+        if (maxEntries <= 0) {
+            String msg = CULoggerInfo.getString(CULoggerInfo.illegalMaxEntries);
+            Object[] params = { Integer.valueOf(maxEntries) };
+            throw new IllegalArgumentException(MessageFormat.format(msg, params));
+        }
+        this.maxEntries = Math.min(maxEntries, BaseCache.MAX_ENTRIES);
+
+        if (props != null) {
+            String policy = props.getProperty(PROP_EVICTION_POLICY);
+            if (policy != null) {
+                evictionPolicy = EvictionPolicy.valueOf(policy.trim().toUpperCase(Locale.ENGLISH));
+            }
+            String samples = props.getProperty(PROP_SAMPLE_SIZE);
+            if (samples != null) {
+                sampleSize = Math.max(1, Integer.parseInt(samples.trim()));
+            }
+            String size = props.getProperty(PROP_MAX_SIZE);
+            if (size != null) {
+                maxSize = parseSize(size);
+            }
+            String idleTimeout = props.getProperty(PROP_TIMEOUT);
+            if (idleTimeout != null) {
+                setTimeout(Long.parseLong(idleTimeout.trim()));
+            }
+        }
+
+        if (loadFactor <= 0) {
+            loadFactor = BaseCache.DEFAULT_LOAD_FACTOR;
+        }
+        int initialCapacity = Math.min(this.maxEntries, MAX_REFRESH_STRIPES);
+        items = new ConcurrentHashMap<>(initialCapacity, loadFactor);
+        sampler = items.values().iterator();
+
+        // find a power of 2 >= initial capacity
+        int stripes = 1;
+        while (stripes < initialCapacity) {
+            stripes <<= 1;
+        }
+        refreshLocks = new Object[stripes];
+        refreshFlags = new boolean[stripes];
+        for (int i = 0; i < stripes; i++) {
+            refreshLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * sets the timeout value
+     * @param timeout idle time in milliseconds after which the items expire
+     */
+    public void setTimeout(long timeout) {
+        // accept a positive timeout
+        if (timeout > 0) {
+            this.timeout = timeout;
+        }
+    }
+
+    private static long parseSize(String value) {
+        String prop = value.trim().toUpperCase(Locale.ENGLISH);
+        long multiplier = 1;
+        // look for 200KB or 80Kb or 1MB or 2Mb like suffixes
+        if (prop.endsWith("KB")) {
+            multiplier = Constants.KB;
+            prop = prop.substring(0, prop.length() - 2);
+        } else if (prop.endsWith("MB")) {
+            multiplier = Constants.MB;
+            prop = prop.substring(0, prop.length() - 2);
+        }
+
+        long size = -1;
+        try {
+            size = Long.parseLong(prop.trim());
+        } catch (NumberFormatException nfe) {
+            // reported below
+        }
+        if (size <= 0) {
+            String msg = CULoggerInfo.getString(CULoggerInfo.boundedMultiLruCacheIllegalMaxSize);
+            Object[] params = { value };
+            throw new IllegalArgumentException(MessageFormat.format(msg, params));
+        }
+        return size * multiplier;
+    }
+
+    /**
+     * add the cache module listener
+     * @param listener <code>CacheListener</code> implementation
+     */
+    @Override
+    public void addCacheListener(CacheListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * get the index of the item given a key
+     * @param key of the entry
+     * @return the index to be used with <code>waitRefresh</code> and <code>notifyRefresh</code>
+     */
+    @Override
+    public int getIndex(K key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (refreshLocks.length - 1);
+    }
+
+    /**
+     * get the item stored at the key.
+     * @param key lookup key
+     * @returns the item stored at the key; null if not found.
+     */
+    @Override
+    public V get(K key) {
+        Item<K, V> item = items.get(key);
+        if (item == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        item.accessed(clock.get(), evictionPolicy, maxEntries);
+        if (timeout != NO_TIMEOUT) {
+            item.touched(System.currentTimeMillis());
+        }
+        return item.value;
+    }
+
+    /**
+     * get all the items stored at the key.
+     * @param key lookup key
+     * @returns an Iterator over the items with the given key.
+     */
+    @Override
+    public Iterator<V> getAll(K key) {
+        ArrayList<V> valueList = new ArrayList<>();
+        long now = clock.get();
+        long currentTime = timeout == NO_TIMEOUT ? 0L : System.currentTimeMillis();
+        for (Item<K, V> item = items.get(key); item != null; item = item.next) {
+            hitCount.increment();
+            item.accessed(now, evictionPolicy, maxEntries);
+            if (currentTime != 0L) {
+                item.touched(currentTime);
+            }
+            valueList.add(item.value);
+        }
+        return valueList.iterator();
+    }
+
+    /**
+     * check if the cache contains the item at the key
+     * @param key lookup key
+     * @returns true if there is an item stored at the key; false if not.
+     */
+    @Override
+    public boolean contains(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * get an Iterator for the keys stored in the cache
+     * @returns an Iterator
+     */
+    @Override
+    public Iterator<K> keys() {
+        ArrayList<K> keyList = new ArrayList<>(entryCount.get());
+        for (Item<K, V> head : items.values()) {
+            for (Item<K, V> item = head; item != null; item = item.next) {
+                keyList.add(item.key);
+            }
+        }
+        return keyList.iterator();
+    }
+
+    /**
+     * get an Enumeration for the keys stored in the cache
+     * @returns an Enumeration
+     */
+    @Override
+    public Enumeration<K> elements() {
+        ArrayList<K> keyList = new ArrayList<>(entryCount.get());
+        keys().forEachRemaining(keyList::add);
+        return Collections.enumeration(keyList);
+    }
+
+    /**
+     * get an Iterator for the values stored in the cache
+     * @returns an Iterator
+     */
+    @Override
+    public Iterator<V> values() {
+        ArrayList<V> valueList = new ArrayList<>(entryCount.get());
+        for (Item<K, V> head : items.values()) {
+            for (Item<K, V> item = head; item != null; item = item.next) {
+                valueList.add(item.value);
+            }
+        }
+        return valueList.iterator();
+    }
+
+    /**
+     * cache the given value at the specified key and return previous value
+     * @param key lookup key
+     * @param object item value to be stored
+     * @returns the previous item stored at the key; null if not found.
+     */
+    @Override
+    public V put(K key, V value) {
+        return put(key, value, -1);
+    }
+
+    /**
+     * cache the given value at the specified key and return previous value
+     * @param key lookup key
+     * @param object item value to be stored
+     * @param size in bytes of the value being cached
+     * @returns the previous item stored at the key; null if not found.
+     */
+    @Override
+    public V put(K key, V value, int size) {
+        @SuppressWarnings("unchecked")
+        Item<K, V>[] replaced = new Item[1];
+        long now = clock.incrementAndGet();
+        items.compute(key, (k, head) -> {
+            replaced[0] = head;
+            Item<K, V> item = new Item<>(k, value, size, head == null ? null : head.next, now);
+            if (head != null) {
+                item.inherit(head);
+            }
+            return item;
+        });
+
+        Item<K, V> oldItem = replaced[0];
+        addSize(size);
+        if (oldItem == null) {
+            entryCount.incrementAndGet();
+            addCount.increment();
+            evictIfNeeded();
+            return null;
+        }
+        subtractSize(oldItem.size);
+        refreshCount.increment();
+        evictIfNeeded();
+        return oldItem.value;
+    }
+
+    /**
+     * add the given value to the cache at the specified key
+     * @param key lookup key
+     * @param object item value to be stored
+     */
+    @Override
+    public void add(K key, V value) {
+        add(key, value, -1);
+    }
+
+    /**
+     * add the given value with specified size to the cache at specified key
+     * @param key lookup key
+     * @param object item value to be stored
+     * @param size in bytes of the value being added
+     *
+     * This function is suitable for multi-valued keys.
+     */
+    @Override
+    public void add(K key, V value, int size) {
+        long now = clock.incrementAndGet();
+        items.compute(key, (k, head) -> new Item<>(k, value, size, head, now));
+        addSize(size);
+        entryCount.incrementAndGet();
+        addCount.increment();
+        evictIfNeeded();
+    }
+
+    /**
+     * remove the item stored at the key.
+     * @param key lookup key
+     * @returns the item stored at the key; null if not found.
+     */
+    @Override
+    public V remove(K key) {
+        @SuppressWarnings("unchecked")
+        Item<K, V>[] removed = new Item[1];
+        items.computeIfPresent(key, (k, head) -> {
+            removed[0] = head;
+            return head.next;
+        });
+        return removed(removed[0]);
+    }
+
+    /**
+     * remove the given value stored at the key; value-specific removals.
+     * @param key lookup key
+     * @param value to match (for a multi-valued keys)
+     * @returns the item stored at the key; null if not found.
+     */
+    @Override
+    public V remove(K key, V value) {
+        @SuppressWarnings("unchecked")
+        Item<K, V>[] removed = new Item[1];
+        items.computeIfPresent(key, (k, head) -> {
+            for (Item<K, V> item = head; item != null; item = item.next) {
+                if (value == null || item.value == value) {
+                    removed[0] = item;
+                    return without(head, item);
+                }
+            }
+            return head;
+        });
+        return removed(removed[0]);
+    }
+
+    /**
+     * remove all the item with the given key.
+     * @param key lookup key
+     */
+    @Override
+    public void removeAll(K key) {
+        Item<K, V> head = items.remove(key);
+        for (Item<K, V> item = head; item != null; item = item.next) {
+            removed(item);
+        }
+    }
+
+    private V removed(Item<K, V> item) {
+        if (item == null) {
+            return null;
+        }
+        entryCount.decrementAndGet();
+        subtractSize(item.size);
+        removalCount.increment();
+        return item.value;
+    }
+
+    /**
+     * @return the chain of items without the given one
+     */
+    private static <K, V> Item<K, V> without(Item<K, V> head, Item<K, V> removed) {
+        if (head == removed) {
+            return head.next;
+        }
+        Item<K, V> copy = new Item<>(head.key, head.value, head.size, without(head.next, removed), head.accessTime);
+        copy.inherit(head);
+        copy.lastAccessed = head.lastAccessed;
+        return copy;
+    }
+
+    // a negative size of the item means the size is unknown
+    private void addSize(int size) {
+        if (size > 0) {
+            currentSize.addAndGet(size);
+        }
+    }
+
+    private void subtractSize(int size) {
+        if (size > 0) {
+            currentSize.addAndGet(-size);
+        }
+    }
+
+    private boolean isOverflowing() {
+        return entryCount.get() > maxEntries || currentSize.get() > maxSize;
+    }
+
+    /**
+     * evict items until the cache fits its bounds; if another thread evicts, let it do the job.
+     */
+    private void evictIfNeeded() {
+        if (!isOverflowing() || !evictionLock.tryLock()) {
+            return;
+        }
+
+        List<Item<K, V>> evicted = new ArrayList<>();
+        try {
+            while (isOverflowing()) {
+                Item<K, V> victim = selectVictim();
+                if (victim == null) {
+                    break;
+                }
+                if (evict(victim)) {
+                    evicted.add(victim);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+
+        for (CacheListener listener : listeners) {
+            for (Item<K, V> item : evicted) {
+                listener.trimEvent(item.key, item.value);
+            }
+        }
+    }
+
+    /**
+     * compare the next sampled items and choose the victim
+     * Eviction lock is already held by the caller
+     */
+    private Item<K, V> selectVictim() {
+        Item<K, V> victim = null;
+        long now = clock.get();
+        boolean restarted = false;
+        for (int i = 0; i < sampleSize; i++) {
+            if (!sampler.hasNext()) {
+                if (restarted) {
+                    break;
+                }
+                sampler = items.values().iterator();
+                restarted = true;
+                if (!sampler.hasNext()) {
+                    break;
+                }
+            }
+            Item<K, V> candidate = sampler.next();
+            if (victim == null || candidate.isColderThan(victim, now, evictionPolicy, maxEntries)) {
+                victim = candidate;
+            }
+        }
+        return victim;
+    }
+
+    private boolean evict(Item<K, V> victim) {
+        if (detach(victim)) {
+            evictionCount.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * remove the item unless it was removed or replaced meanwhile
+     */
+    private boolean detach(Item<K, V> victim) {
+        boolean[] evicted = new boolean[1];
+        items.computeIfPresent(victim.key, (k, head) -> {
+            for (Item<K, V> item = head; item != null; item = item.next) {
+                if (item == victim) {
+                    evicted[0] = true;
+                    return without(head, victim);
+                }
+            }
+            return head;
+        });
+        if (evicted[0]) {
+            entryCount.decrementAndGet();
+            subtractSize(victim.size);
+        }
+        return evicted[0];
+    }
+
+    /**
+     * wait for a refresh on the object associated with the key
+     * @param index index of the entry
+     * @returns true on successful notification, or false if there is
+     *  no thread refreshing this entry.
+     */
+    @Override
+    public boolean waitRefresh(int index) {
+        synchronized (refreshLocks[index]) {
+            if (!refreshFlags[index]) {
+                refreshFlags[index] = true;
+                return false;
+            }
+
+            // wait till refresh is finished
+            try {
+                while (refreshFlags[index]) {
+                    refreshLocks[index].wait();
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * notify threads waiting for a refresh on the object associated with the key
+     * @param index index of the entry
+     */
+    @Override
+    public void notifyRefresh(int index) {
+        synchronized (refreshLocks[index]) {
+            refreshFlags[index] = false;
+            refreshLocks[index].notifyAll();
+        }
+    }
+
+    /**
+     * clear all the entries from the cache.
+     * @returns the number of entries cleared from the cache
+     */
+    @Override
+    public int clear() {
+        int count = 0;
+        for (K key : items.keySet()) {
+            Item<K, V> head = items.remove(key);
+            for (Item<K, V> item = head; item != null; item = item.next) {
+                entryCount.decrementAndGet();
+                subtractSize(item.size);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * is this cache empty?
+     * @returns true if the cache is empty; false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return entryCount.get() == 0;
+    }
+
+    /**
+     * get the number of entries in the cache
+     * @return the number of entries the cache currently holds
+     */
+    @Override
+    public int getEntryCount() {
+        return entryCount.get();
+    }
+
+    /**
+     * @return the policy selecting the items to evict
+     */
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    /**
+     * get the desired statistic counter
+     * @param key to corresponding stat
+     * @return an Object corresponding to the stat
+     * See also: Constant.java for the key
+     */
+    @Override
+    public Object getStatByName(String key) {
+        if (key == null) {
+            return null;
+        }
+        return getStats().get(key);
+    }
+
+    /**
+     * get the stats snapshot
+     * @return a Map of stats
+     * See also: Constant.java for the keys
+     */
+    @Override
+    public Map<String, Object> getStats() {
+        HashMap<String, Object> stats = new HashMap<>();
+        stats.put(Constants.STAT_BASECACHE_MAX_ENTRIES, Integer.valueOf(maxEntries));
+        stats.put(Constants.STAT_BASECACHE_ENTRY_COUNT, Integer.valueOf(entryCount.get()));
+        stats.put(Constants.STAT_BASECACHE_HIT_COUNT, Integer.valueOf(hitCount.intValue()));
+        stats.put(Constants.STAT_BASECACHE_MISS_COUNT, Integer.valueOf(missCount.intValue()));
+        stats.put(Constants.STAT_BASECACHE_REMOVAL_COUNT, Integer.valueOf(removalCount.intValue()));
+        stats.put(Constants.STAT_BASECACHE_REFRESH_COUNT, Integer.valueOf(refreshCount.intValue()));
+        stats.put(Constants.STAT_BASECACHE_ADD_COUNT, Integer.valueOf(addCount.intValue()));
+        stats.put(Constants.STAT_CONCURRENTCACHE_EVICTION_COUNT, Long.valueOf(evictionCount.sum()));
+        stats.put(Constants.STAT_CONCURRENTCACHE_TRIM_COUNT, Long.valueOf(trimCount.sum()));
+        stats.put(Constants.STAT_CONCURRENTCACHE_CURRENT_SIZE, Long.valueOf(currentSize.get()));
+        stats.put(Constants.STAT_CONCURRENTCACHE_MAX_SIZE, Long.valueOf(maxSize));
+        return stats;
+    }
+
+    /**
+     * clear the stats
+     */
+    @Override
+    public void clearStats() {
+        hitCount.reset();
+        missCount.reset();
+        removalCount.reset();
+        refreshCount.reset();
+        addCount.reset();
+        evictionCount.reset();
+        trimCount.reset();
+    }
+
+    /**
+     * trim the expired entries from the cache.
+     * @param maxCount maximum number of invalid entries to trim
+     *        specify Integer.MAX_VALUE to trim all timedout entries
+     *
+     * This call is to be scheduled by a thread managed by the container.
+     */
+    @Override
+    public void trimExpiredEntries(int maxCount) {
+        long idleTimeout = timeout;
+        if (idleTimeout == NO_TIMEOUT || maxCount <= 0) {
+            return;
+        }
+
+        long currentTime = System.currentTimeMillis();
+        List<Item<K, V>> trimmed = new ArrayList<>();
+        for (Item<K, V> head : items.values()) {
+            for (Item<K, V> item = head; item != null && trimmed.size() < maxCount; item = item.next) {
+                if (item.lastAccessed + idleTimeout <= currentTime && detach(item)) {
+                    trimmed.add(item);
+                }
+            }
+            if (trimmed.size() >= maxCount) {
+                break;
+            }
+        }
+        trimCount.add(trimmed.size());
+
+        for (CacheListener listener : listeners) {
+            for (Item<K, V> item : trimmed) {
+                listener.trimEvent(item.key, item.value);
+            }
+        }
+    }
+
+    /**
+     * Clears the cache and removes the listeners.
+     */
+    @Override
+    public void destroy() {
+        if (items != null) {
+            clear();
+        }
+        listeners.clear();
+    }
+
+    /**
+     * Immutable cached value with its access statistics; the statistics are updated without
+     * any synchronization, so concurrent updates may be lost, which is fine for sampling.
+     */
+    private static final class Item<K, V> {
+
+        final K key;
+        final V value;
+        final int size;
+        final Item<K, V> next;
+
+        // logical time of the last access
+        volatile long accessTime;
+        // logarithmic counter of accesses, decreasing while the item is idle
+        volatile int frequency;
+        // wall clock time of the last access, kept only with a timeout
+        volatile long lastAccessed;
+
+        Item(K key, V value, int size, Item<K, V> next, long now) {
+            this.key = key;
+            this.value = value;
+            this.size = size;
+            this.next = next;
+            this.accessTime = now;
+            this.frequency = 1;
+            this.lastAccessed = System.currentTimeMillis();
+        }
+
+        void inherit(Item<K, V> item) {
+            this.frequency = item.frequency;
+        }
+
+        void accessed(long now, EvictionPolicy policy, int decayPeriod) {
+            if (policy == EvictionPolicy.LFU) {
+                int count = getFrequency(now, decayPeriod);
+                // the more frequent the item is, the less likely the counter grows
+                if (count < MAX_FREQUENCY && ThreadLocalRandom.current().nextInt(count + 1) == 0) {
+                    count++;
+                }
+                if (frequency != count) {
+                    frequency = count;
+                }
+            }
+            // avoid the write of the shared field if possible
+            if (accessTime != now) {
+                accessTime = now;
+            }
+        }
+
+        void touched(long currentTime) {
+            // avoid the write of the shared field if possible
+            if (lastAccessed != currentTime) {
+                lastAccessed = currentTime;
+            }
+        }
+
+        int getFrequency(long now, int decayPeriod) {
+            int count = frequency;
+            long idle = (now - accessTime) / decayPeriod;
+            return idle >= count ? 0 : count - (int) idle;
+        }
+
+        boolean isColderThan(Item<K, V> other, long now, EvictionPolicy policy, int decayPeriod) {
+            if (policy == EvictionPolicy.LFU) {
+                int count = getFrequency(now, decayPeriod);
+                int otherCount = other.getFrequency(now, decayPeriod);
+                if (count != otherCount) {
+                    return count < otherCount;
+                }
+            }
+            return accessTime - other.accessTime < 0;
+        }
+    }
+}
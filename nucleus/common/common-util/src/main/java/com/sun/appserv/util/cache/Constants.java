@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
  * Copyright (c) 1997, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -52,4 +53,9 @@ public class Constants {
 
     public final static String STAT_BOUNDEDMULTILRUCACHE_CURRENT_SIZE="cache.BoundedMultiLruCache.stat_currentSize";
     public final static String STAT_BOUNDEDMULTILRUCACHE_MAX_SIZE="cache.BoundedMultiLruCache.stat_maxSize";
+
+    public final static String STAT_CONCURRENTCACHE_EVICTION_COUNT="cache.ConcurrentCache.stat_evictionCount";
+    public final static String STAT_CONCURRENTCACHE_TRIM_COUNT="cache.ConcurrentCache.stat_trimCount";
+    public final static String STAT_CONCURRENTCACHE_CURRENT_SIZE="cache.ConcurrentCache.stat_currentSize";
+    public final static String STAT_CONCURRENTCACHE_MAX_SIZE="cache.ConcurrentCache.stat_maxSize";
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.appserv.util.cache;
+
+import java.lang.System.Logger;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static java.lang.System.Logger.Level.INFO;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Compares throughput of {@link LruCache} and {@link ConcurrentCache} under the read-mostly
+ * workload: 95% of operations are reads, 5% are writes, keys are chosen randomly from a set
+ * twice as big as the cache, so the writes also evict.
+ */
+public class CacheBenchmarkTest {
+    private static final Logger LOG = System.getLogger(CacheBenchmarkTest.class.getName());
+
+    private static final int[] THREAD_COUNTS = {1, 8, 64};
+
+    @Test
+    public void readMostly_benchmark() throws Exception {
+        for (int threads : THREAD_COUNTS) {
+            runBenchmark(threads);
+        }
+    }
+
+
+    private void runBenchmark(int threads) throws Exception {
+        Options options = new OptionsBuilder().include(getClass().getName() + ".*")
+            .warmupIterations(1).warmupTime(TimeValue.milliseconds(200L))
+            .measurementIterations(1).measurementTime(TimeValue.milliseconds(500L))
+            .forks(1).threads(threads).shouldFailOnError(true).timeout(TimeValue.seconds(10L))
+            .timeUnit(TimeUnit.MILLISECONDS).mode(Mode.Throughput)
+            .build();
+        Collection<RunResult> results = new Runner(options).run();
+        assertThat(results, hasSize(2));
+        for (RunResult result : results) {
+            LOG.log(INFO, "Threads: {0}, cache: {1}, score: {2} ops/ms", threads,
+                result.getParams().getParam("cacheType"), result.getPrimaryResult().getScore());
+            assertThat(result.getPrimaryResult().getScore(), greaterThan(0d));
+        }
+    }
+
+
+    @Benchmark
+    public void readMostly(CacheState state, Blackhole blackhole) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = random.nextInt(CacheState.KEY_COUNT);
+        if (random.nextInt(100) < 5) {
+            blackhole.consume(state.cache.put(key, key));
+        } else {
+            blackhole.consume(state.cache.get(key));
+        }
+    }
+
+
+    @State(Scope.Benchmark)
+    public static class CacheState {
+
+        private static final int CACHE_SIZE = 4096;
+        private static final int KEY_COUNT = CACHE_SIZE * 2;
+
+        @Param({"LruCache", "ConcurrentCache"})
+        public String cacheType;
+
+        private Cache<Integer, Integer> cache;
+
+        @Setup(Level.Trial)
+        @SuppressWarnings("unchecked")
+        public void createCache() throws Exception {
+            String className = Cache.class.getPackageName() + "." + cacheType;
+            cache = (Cache<Integer, Integer>) Class.forName(className).getDeclaredConstructor().newInstance();
+            cache.init(CACHE_SIZE, null);
+            for (int i = 0; i < CACHE_SIZE; i++) {
+                cache.put(i, i);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void destroyCache() {
+            cache.destroy();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package com.sun.appserv.util.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentCacheTest {
+
+    @Test
+    public void putGetRemove() throws Exception {
+        ConcurrentCache<String, String> cache = createCache(10, null);
+        assertThat(cache.put("a", "1"), nullValue());
+        assertThat(cache.put("a", "2"), equalTo("1"));
+        assertAll(
+            () -> assertThat(cache.get("a"), equalTo("2")),
+            () -> assertThat(cache.get("b"), nullValue()),
+            () -> assertThat(cache.getEntryCount(), equalTo(1)),
+            () -> assertThat(cache.getStatByName(Constants.STAT_BASECACHE_HIT_COUNT), equalTo(1)),
+            () -> assertThat(cache.getStatByName(Constants.STAT_BASECACHE_MISS_COUNT), equalTo(1)),
+            () -> assertThat(cache.getStatByName(Constants.STAT_BASECACHE_REFRESH_COUNT), equalTo(1))
+        );
+        assertThat(cache.remove("a"), equalTo("2"));
+        assertTrue(cache.isEmpty());
+    }
+
+    @Test
+    public void multiValuedKeys() throws Exception {
+        ConcurrentCache<String, String> cache = createCache(10, null);
+        cache.add("a", "1");
+        cache.add("a", "2");
+        cache.add("a", "3");
+        assertThat(toList(cache.getAll("a")), containsInAnyOrder("1", "2", "3"));
+        assertThat(cache.remove("a", "2"), equalTo("2"));
+        assertThat(toList(cache.getAll("a")), containsInAnyOrder("1", "3"));
+        assertThat(toList(cache.keys()), contains("a", "a"));
+        cache.removeAll("a");
+        assertAll(
+            () -> assertTrue(cache.isEmpty()),
+            () -> assertThat(cache.get("a"), nullValue())
+        );
+    }
+
+    @Test
+    public void lruEvictsTheOldest() throws Exception {
+        ConcurrentCache<Integer, Integer> cache = createCache(100, policy("LRU", 1000));
+        List<Object> trimmed = new ArrayList<>();
+        cache.addCacheListener((key, value) -> trimmed.add(key));
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i);
+        }
+        Thread.sleep(5L);
+        // all but the first one are recently used
+        for (int i = 1; i < 100; i++) {
+            cache.get(i);
+        }
+        cache.put(100, 100);
+        assertAll(
+            () -> assertThat(cache.getEntryCount(), equalTo(100)),
+            () -> assertThat(cache.get(0), nullValue()),
+            () -> assertThat(trimmed, contains(0)),
+            () -> assertThat(cache.getStatByName(Constants.STAT_CONCURRENTCACHE_EVICTION_COUNT), equalTo(1L))
+        );
+    }
+
+    @Test
+    public void lfuKeepsTheFrequent() throws Exception {
+        ConcurrentCache<Integer, Integer> cache = createCache(100, policy("LFU", 1000));
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i);
+        }
+        for (int round = 0; round < 1000; round++) {
+            for (int i = 0; i < 10; i++) {
+                cache.get(i);
+            }
+        }
+        for (int i = 100; i < 200; i++) {
+            cache.put(i, i);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertThat("Frequently used " + i, cache.get(i), notNullValue());
+        }
+        assertThat(cache.getEntryCount(), equalTo(100));
+    }
+
+    @Test
+    public void sizeBound() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(ConcurrentCache.PROP_MAX_SIZE, "1KB");
+        ConcurrentCache<Integer, Integer> cache = createCache(1000, props);
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i, 100);
+        }
+        assertAll(
+            () -> assertThat(cache.getEntryCount(), equalTo(10)),
+            () -> assertThat(cache.getStatByName(Constants.STAT_CONCURRENTCACHE_CURRENT_SIZE), equalTo(1000L))
+        );
+        cache.clear();
+        assertThat(cache.getStatByName(Constants.STAT_CONCURRENTCACHE_CURRENT_SIZE), equalTo(0L));
+    }
+
+    @Test
+    public void invalidConfiguration() {
+        Properties props = new Properties();
+        props.setProperty(ConcurrentCache.PROP_MAX_SIZE, "-1");
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> createCache(0, null)),
+            () -> assertThrows(IllegalArgumentException.class, () -> createCache(10, props))
+        );
+    }
+
+    @Test
+    public void refreshFlags() throws Exception {
+        ConcurrentCache<String, String> cache = createCache(10, null);
+        int index = cache.getIndex("a");
+        assertFalse(cache.waitRefresh(index));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> waiting = executor.submit(() -> cache.waitRefresh(index));
+            Thread.sleep(50L);
+            assertFalse(waiting.isDone());
+            cache.notifyRefresh(index);
+            assertTrue(waiting.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void concurrentWritersKeepTheBound() throws Exception {
+        ConcurrentCache<Integer, Integer> cache = createCache(1000, null);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int offset = t * 100_000;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        cache.put(offset + i, i);
+                        cache.get(offset + i / 2);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // the last writer evicts the overflow of the others
+        cache.put(-1, -1);
+        assertThat(cache.getEntryCount(), lessThanOrEqualTo(1000));
+        assertThat(toList(cache.keys()).size(), equalTo(cache.getEntryCount()));
+    }
+
+    @Test
+    public void idleItemsAreTrimmed() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(ConcurrentCache.PROP_TIMEOUT, "100");
+        ConcurrentCache<String, String> cache = createCache(10, props);
+        List<Object> trimmed = new ArrayList<>();
+        cache.addCacheListener((key, value) -> trimmed.add(key));
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("c", "3");
+        cache.put("d", "4");
+
+        cache.trimExpiredEntries(Integer.MAX_VALUE);
+        assertThat(cache.getEntryCount(), equalTo(4));
+
+        Thread.sleep(150L);
+        cache.get("a");
+        cache.trimExpiredEntries(2);
+        assertThat(cache.getEntryCount(), equalTo(2));
+        assertThat(trimmed.size(), equalTo(2));
+        assertThat(cache.get("a"), equalTo("1"));
+
+        cache.trimExpiredEntries(Integer.MAX_VALUE);
+        assertAll(
+            () -> assertThat(toList(cache.keys()), contains("a")),
+            () -> assertThat(trimmed, containsInAnyOrder("b", "c", "d")),
+            () -> assertThat(cache.getStatByName(Constants.STAT_CONCURRENTCACHE_TRIM_COUNT), equalTo(3L))
+        );
+    }
+
+    @Test
+    public void itemsDoNotExpireWithoutTimeout() throws Exception {
+        ConcurrentCache<String, String> cache = createCache(10, null);
+        cache.put("a", "1");
+        Thread.sleep(20L);
+        cache.trimExpiredEntries(Integer.MAX_VALUE);
+        assertThat(cache.get("a"), equalTo("1"));
+    }
+
+    private static <K, V> ConcurrentCache<K, V> createCache(int maxEntries, Properties props) throws Exception {
+        ConcurrentCache<K, V> cache = new ConcurrentCache<>();
+        cache.init(maxEntries, props);
+        return cache;
+    }
+
+    private static Properties policy(String policy, int sampleSize) {
+        Properties props = new Properties();
+        props.setProperty(ConcurrentCache.PROP_EVICTION_POLICY, policy);
+        props.setProperty(ConcurrentCache.PROP_SAMPLE_SIZE, Integer.toString(sampleSize));
+        return props;
+    }
+
+    private static <T> List<T> toList(java.util.Iterator<T> iterator) {
+        List<T> list = new ArrayList<>();
+        iterator.forEachRemaining(list::add);
+        return list;
+    }
+}